@@ -0,0 +1,80 @@
+package org.jboss.resteasy.benchmark;
+
+import jakarta.xml.bind.annotation.XmlRootElement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity of the provider and serialization benchmarks.
+ */
+@XmlRootElement
+public class Customer
+{
+   private long id;
+   private String name;
+   private String email;
+   private boolean active;
+   private List<String> tags = new ArrayList<String>();
+
+   public static Customer create(long id)
+   {
+      Customer customer = new Customer();
+      customer.setId(id);
+      customer.setName("Customer " + id);
+      customer.setEmail("customer" + id + "@example.com");
+      customer.setActive(true);
+      customer.getTags().add("gold");
+      customer.getTags().add("newsletter");
+      return customer;
+   }
+
+   public long getId()
+   {
+      return id;
+   }
+
+   public void setId(long id)
+   {
+      this.id = id;
+   }
+
+   public String getName()
+   {
+      return name;
+   }
+
+   public void setName(String name)
+   {
+      this.name = name;
+   }
+
+   public String getEmail()
+   {
+      return email;
+   }
+
+   public void setEmail(String email)
+   {
+      this.email = email;
+   }
+
+   public boolean isActive()
+   {
+      return active;
+   }
+
+   public void setActive(boolean active)
+   {
+      this.active = active;
+   }
+
+   public List<String> getTags()
+   {
+      return tags;
+   }
+
+   public void setTags(List<String> tags)
+   {
+      this.tags = tags;
+   }
+}
@@ -0,0 +1,43 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Deployments driven through the {@link org.jboss.resteasy.core.SynchronousDispatcher} with mock requests.
+ */
+final class Deployments
+{
+   static final Class<?>[] NO_PROVIDERS = {};
+
+   private Deployments()
+   {
+   }
+
+   static ResteasyDeployment start(boolean registerBuiltin, Class<?>[] providers, Class<?>... resources)
+   {
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      deployment.setRegisterBuiltin(registerBuiltin);
+      deployment.getActualProviderClasses().addAll(Arrays.asList(providers));
+      deployment.getActualResourceClasses().addAll(Arrays.asList(resources));
+      deployment.start();
+      return deployment;
+   }
+
+   static MockHttpResponse invoke(ResteasyDeployment deployment, MockHttpRequest request) throws IOException
+   {
+      MockHttpResponse response = new MockHttpResponse();
+      deployment.getDispatcher().invoke(request, response);
+      if (response.getStatus() >= 300)
+      {
+         throw new IllegalStateException(request.getHttpMethod() + " " + request.getUri().getPath() + " returned "
+               + response.getStatus() + ": " + response.getContentAsString());
+      }
+      return response;
+   }
+}
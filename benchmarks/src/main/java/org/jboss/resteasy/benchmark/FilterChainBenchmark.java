@@ -0,0 +1,143 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.ReaderInterceptor;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole requests through the {@link org.jboss.resteasy.core.SynchronousDispatcher}, without and with a chain of
+ * container filters and reader/writer interceptors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterChainBenchmark
+{
+   @Path("/echo")
+   public static class EchoResource
+   {
+      @GET
+      @Produces("text/plain")
+      public String get()
+      {
+         return "hello";
+      }
+
+      @POST
+      @Produces("text/plain")
+      @Consumes("text/plain")
+      public String post(String body)
+      {
+         return body;
+      }
+   }
+
+   @Provider
+   public static class RequestFilter implements ContainerRequestFilter
+   {
+      @Override
+      public void filter(ContainerRequestContext requestContext)
+      {
+         requestContext.setProperty("filtered", Boolean.TRUE);
+      }
+   }
+
+   @Provider
+   public static class ResponseFilter implements ContainerResponseFilter
+   {
+      @Override
+      public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+      {
+         responseContext.getHeaders().putSingle("X-Filtered", "true");
+      }
+   }
+
+   @Provider
+   public static class ReaderInterceptorImpl implements ReaderInterceptor
+   {
+      @Override
+      public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException
+      {
+         return context.proceed();
+      }
+   }
+
+   @Provider
+   public static class WriterInterceptorImpl implements WriterInterceptor
+   {
+      @Override
+      public void aroundWriteTo(WriterInterceptorContext context) throws IOException
+      {
+         context.proceed();
+      }
+   }
+
+   private static final byte[] BODY = "hello".getBytes(StandardCharsets.UTF_8);
+
+   @Param({"false", "true"})
+   public boolean filters;
+
+   private ResteasyDeployment deployment;
+
+   @Setup
+   public void setup()
+   {
+      Class<?>[] providers = filters
+            ? new Class<?>[]{RequestFilter.class, ResponseFilter.class,
+                  ReaderInterceptorImpl.class, WriterInterceptorImpl.class}
+            : Deployments.NO_PROVIDERS;
+      deployment = Deployments.start(true, providers, EchoResource.class);
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      deployment.stop();
+   }
+
+   @Benchmark
+   public Object get() throws Exception
+   {
+      return Deployments.invoke(deployment, MockHttpRequest.get("/echo").accept(MediaType.TEXT_PLAIN));
+   }
+
+   @Benchmark
+   public Object post() throws Exception
+   {
+      return Deployments.invoke(deployment, MockHttpRequest.post("/echo")
+            .contentType(MediaType.TEXT_PLAIN_TYPE).accept(MediaType.TEXT_PLAIN).content(BODY));
+   }
+}
@@ -0,0 +1,113 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.core.GeneratedInvokers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reflection with the {@link GeneratedInvokers} used by the injectors when
+ * <code>resteasy.generated.invokers.enabled</code> is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokerBenchmark
+{
+   public static class Resource
+   {
+      private int count;
+
+      public Resource()
+      {
+      }
+
+      public Resource(final String name, final int count)
+      {
+         this.count = count;
+      }
+
+      public String get(String name, int times)
+      {
+         return name;
+      }
+
+      public void setCount(int count)
+      {
+         this.count = count;
+      }
+   }
+
+   private final Resource resource = new Resource();
+   private final Object[] methodArgs = {"bill", 42};
+   private final Object[] constructorArgs = {"bill", 42};
+   private final Integer value = 42;
+
+   private Method method;
+   private Method setter;
+   private Constructor<Resource> constructor;
+   private GeneratedInvokers.MethodInvoker methodInvoker;
+   private GeneratedInvokers.SetterInvoker setterInvoker;
+   private GeneratedInvokers.ConstructorInvoker constructorInvoker;
+
+   @Setup
+   public void setup() throws Exception
+   {
+      method = Resource.class.getMethod("get", String.class, int.class);
+      setter = Resource.class.getMethod("setCount", int.class);
+      constructor = Resource.class.getConstructor(String.class, int.class);
+      methodInvoker = GeneratedInvokers.forMethod(method);
+      setterInvoker = GeneratedInvokers.forSetter(setter);
+      constructorInvoker = GeneratedInvokers.forConstructor(constructor);
+   }
+
+   @Benchmark
+   public Object reflectionMethod() throws Exception
+   {
+      return method.invoke(resource, methodArgs);
+   }
+
+   @Benchmark
+   public Object generatedMethod() throws Throwable
+   {
+      return methodInvoker.invoke(resource, methodArgs);
+   }
+
+   @Benchmark
+   public Object reflectionSetter() throws Exception
+   {
+      return setter.invoke(resource, value);
+   }
+
+   @Benchmark
+   public void generatedSetter() throws Throwable
+   {
+      setterInvoker.set(resource, value);
+   }
+
+   @Benchmark
+   public Object reflectionConstructor() throws Exception
+   {
+      return constructor.newInstance(constructorArgs);
+   }
+
+   @Benchmark
+   public Object generatedConstructor() throws Throwable
+   {
+      return constructorInvoker.newInstance(constructorArgs);
+   }
+}
@@ -0,0 +1,94 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.plugins.server.netty.NettyJaxrsServer;
+import org.jboss.resteasy.plugins.server.netty.NettyTransport;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a {@link NettyJaxrsServer} with each {@link NettyTransport}, for small and large (multi-chunk)
+ * responses, requested over keep-alive HTTP/1.1 connections by concurrent clients. The transports which are not
+ * available fall back to the next one, as logged at the start of the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class NettyTransportBenchmark
+{
+   @Path("/bytes")
+   public static class BytesResource
+   {
+      @GET
+      @Path("{size}")
+      public byte[] get(@PathParam("size") int size)
+      {
+         byte[] bytes = new byte[size];
+         Arrays.fill(bytes, (byte) 'x');
+         return bytes;
+      }
+   }
+
+   @Param({"NIO", "EPOLL", "IO_URING"})
+   public NettyTransport transport;
+
+   @Param({"100", "65536"})
+   public int size;
+
+   private NettyJaxrsServer server;
+   private HttpClient client;
+   private HttpRequest request;
+
+   @Setup
+   public void setup()
+   {
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      server = new NettyJaxrsServer();
+      server.setDeployment(deployment);
+      server.setHostname("localhost");
+      server.setPort(0);
+      server.setTransport(transport);
+      server.start();
+      deployment.getRegistry().addPerRequestResource(BytesResource.class);
+      client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+      request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/bytes/" + size)).build();
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      server.stop();
+   }
+
+   @Benchmark
+   public byte[] get() throws Exception
+   {
+      return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+   }
+}
@@ -0,0 +1,137 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.core.StringParameterInjector;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of parameter strings by {@link StringParameterInjector}, for the usual kinds of parameter types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterInjectionBenchmark
+{
+   public enum Color
+   {
+      RED, GREEN, BLUE
+   }
+
+   public static class Name
+   {
+      private final String value;
+
+      private Name(final String value)
+      {
+         this.value = value;
+      }
+
+      public static Name fromString(String value)
+      {
+         return new Name(value);
+      }
+
+      @Override
+      public String toString()
+      {
+         return value;
+      }
+   }
+
+   public static class Holder
+   {
+      public List<Integer> list;
+   }
+
+   private final String uuid = UUID.randomUUID().toString();
+   private final List<String> values = Arrays.asList("1", "2", "3", "4");
+
+   private StringParameterInjector intInjector;
+   private StringParameterInjector integerInjector;
+   private StringParameterInjector stringInjector;
+   private StringParameterInjector enumInjector;
+   private StringParameterInjector uuidInjector;
+   private StringParameterInjector fromStringInjector;
+   private StringParameterInjector listInjector;
+
+   @Setup
+   public void setup() throws Exception
+   {
+      ResteasyProviderFactory factory = ResteasyProviderFactory.newInstance();
+      intInjector = injector(int.class, int.class, factory);
+      integerInjector = injector(Integer.class, Integer.class, factory);
+      stringInjector = injector(String.class, String.class, factory);
+      enumInjector = injector(Color.class, Color.class, factory);
+      uuidInjector = injector(UUID.class, UUID.class, factory);
+      fromStringInjector = injector(Name.class, Name.class, factory);
+      listInjector = injector(List.class, Holder.class.getField("list").getGenericType(), factory);
+   }
+
+   private static StringParameterInjector injector(Class<?> type, Type genericType, ResteasyProviderFactory factory)
+   {
+      return new StringParameterInjector(type, genericType, "param", QueryParam.class, null, null, new Annotation[0],
+            factory);
+   }
+
+   @Benchmark
+   public Object primitive()
+   {
+      return intInjector.extractValue("42");
+   }
+
+   @Benchmark
+   public Object wrapper()
+   {
+      return integerInjector.extractValue("42");
+   }
+
+   @Benchmark
+   public Object string()
+   {
+      return stringInjector.extractValue("bill");
+   }
+
+   @Benchmark
+   public Object enumeration()
+   {
+      return enumInjector.extractValue("GREEN");
+   }
+
+   @Benchmark
+   public Object uuid()
+   {
+      return uuidInjector.extractValue(uuid);
+   }
+
+   @Benchmark
+   public Object fromString()
+   {
+      return fromStringInjector.extractValue("bill");
+   }
+
+   @Benchmark
+   public Object list()
+   {
+      return listInjector.extractValues(values);
+   }
+}
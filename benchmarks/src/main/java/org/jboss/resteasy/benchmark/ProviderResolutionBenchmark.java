@@ -0,0 +1,82 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.core.MediaType;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolution of MessageBodyReaders and MessageBodyWriters with all the builtin providers registered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderResolutionBenchmark
+{
+   private static final Annotation[] ANNOTATIONS = {};
+   private static final MediaType UNKNOWN = new MediaType("application", "x-unknown");
+
+   private ResteasyDeployment deployment;
+   private ResteasyProviderFactory factory;
+
+   @Setup
+   public void setup()
+   {
+      deployment = Deployments.start(true, Deployments.NO_PROVIDERS);
+      factory = deployment.getProviderFactory();
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      deployment.stop();
+   }
+
+   @Benchmark
+   public Object stringWriter()
+   {
+      return factory.getMessageBodyWriter(String.class, String.class, ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+   }
+
+   @Benchmark
+   public Object streamReader()
+   {
+      return factory.getMessageBodyReader(InputStream.class, InputStream.class, ANNOTATIONS,
+            MediaType.APPLICATION_OCTET_STREAM_TYPE);
+   }
+
+   @Benchmark
+   public Object jsonWriter()
+   {
+      return factory.getMessageBodyWriter(Customer.class, Customer.class, ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+   }
+
+   @Benchmark
+   public Object xmlReader()
+   {
+      return factory.getMessageBodyReader(Customer.class, Customer.class, ANNOTATIONS, MediaType.APPLICATION_XML_TYPE);
+   }
+
+   @Benchmark
+   public Object noWriter()
+   {
+      return factory.getMessageBodyWriter(Customer.class, Customer.class, ANNOTATIONS, UNKNOWN);
+   }
+}
@@ -0,0 +1,163 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching of requests to resource methods by the registry, i.e. {@link org.jboss.resteasy.core.registry.RootNode}.
+ * <p>
+ * Every match needs a new request, as matching populates the path parameters of the request, so {@link #request()}
+ * gives the share of the request creation.  The match cache and the compiled router are configured with system
+ * properties, e.g. <code>-Djmh.args="-jvmArgsAppend -Dresteasy.match.compiled.router.enabled=true"</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark
+{
+   @Path("/customers")
+   public static class CustomerResource
+   {
+      @GET
+      public String list()
+      {
+         return "customers";
+      }
+
+      @POST
+      public String create(String customer)
+      {
+         return customer;
+      }
+
+      @GET
+      @Path("search")
+      public String search()
+      {
+         return "search";
+      }
+
+      @GET
+      @Path("{id}")
+      public String get(@PathParam("id") String id)
+      {
+         return id;
+      }
+
+      @GET
+      @Path("{id}/orders")
+      public String orders(@PathParam("id") String id)
+      {
+         return id;
+      }
+
+      @GET
+      @Path("{id}/orders/{order}")
+      public String order(@PathParam("id") String id, @PathParam("order") String order)
+      {
+         return order;
+      }
+   }
+
+   @Path("/products")
+   public static class ProductResource
+   {
+      @GET
+      @Path("{id: [0-9]+}")
+      public String get(@PathParam("id") long id)
+      {
+         return Long.toString(id);
+      }
+
+      @GET
+      @Path("{name}")
+      public String byName(@PathParam("name") String name)
+      {
+         return name;
+      }
+
+      @GET
+      @Path("categories/{category}/top")
+      public String top(@PathParam("category") String category)
+      {
+         return category;
+      }
+   }
+
+   @Path("/status")
+   public static class StatusResource
+   {
+      @GET
+      public String status()
+      {
+         return "ok";
+      }
+
+      @GET
+      @Path("health")
+      public String health()
+      {
+         return "ok";
+      }
+   }
+
+   private ResteasyDeployment deployment;
+
+   @Setup
+   public void setup()
+   {
+      deployment = Deployments.start(true, Deployments.NO_PROVIDERS,
+            CustomerResource.class, ProductResource.class, StatusResource.class);
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      deployment.stop();
+   }
+
+   @Benchmark
+   public Object request() throws Exception
+   {
+      return MockHttpRequest.get("/customers/42/orders/7");
+   }
+
+   @Benchmark
+   public ResourceInvoker literal() throws Exception
+   {
+      return deployment.getRegistry().getResourceInvoker(MockHttpRequest.get("/status/health"));
+   }
+
+   @Benchmark
+   public ResourceInvoker templated() throws Exception
+   {
+      return deployment.getRegistry().getResourceInvoker(MockHttpRequest.get("/customers/42/orders/7"));
+   }
+
+   @Benchmark
+   public ResourceInvoker regex() throws Exception
+   {
+      return deployment.getRegistry().getResourceInvoker(MockHttpRequest.get("/products/42"));
+   }
+}
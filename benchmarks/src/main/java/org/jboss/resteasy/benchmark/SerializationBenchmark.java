@@ -0,0 +1,115 @@
+package org.jboss.resteasy.benchmark;
+
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.plugins.providers.StringTextStar;
+import org.jboss.resteasy.plugins.providers.jackson.ResteasyJackson2Provider;
+import org.jboss.resteasy.plugins.providers.jaxb.JAXBXmlRootElementProvider;
+import org.jboss.resteasy.plugins.providers.jaxb.XmlJAXBContextFinder;
+import org.jboss.resteasy.plugins.providers.jsonb.JsonBindingProvider;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing of an entity through the {@link org.jboss.resteasy.core.SynchronousDispatcher}, with only the
+ * provider of the benchmarked format, and the one of the text/plain responses of {@link #read()}, registered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark
+{
+   @Path("/customers")
+   public static class CustomerResource
+   {
+      private final Customer customer = Customer.create(42);
+
+      @GET
+      @Produces({"application/json", "application/xml"})
+      public Customer get()
+      {
+         return customer;
+      }
+
+      @POST
+      @Consumes({"application/json", "application/xml"})
+      @Produces("text/plain")
+      public String post(Customer customer)
+      {
+         return customer.getName();
+      }
+   }
+
+   @Param({"jackson", "json-b", "jaxb"})
+   public String provider;
+
+   private ResteasyDeployment deployment;
+   private MediaType mediaType;
+   private byte[] body;
+
+   @Setup
+   public void setup() throws Exception
+   {
+      Class<?>[] providers;
+      switch (provider)
+      {
+         case "jackson":
+            providers = new Class<?>[]{StringTextStar.class, ResteasyJackson2Provider.class};
+            mediaType = MediaType.APPLICATION_JSON_TYPE;
+            break;
+         case "json-b":
+            providers = new Class<?>[]{StringTextStar.class, JsonBindingProvider.class};
+            mediaType = MediaType.APPLICATION_JSON_TYPE;
+            break;
+         case "jaxb":
+            providers = new Class<?>[]{StringTextStar.class, JAXBXmlRootElementProvider.class,
+                  XmlJAXBContextFinder.class};
+            mediaType = MediaType.APPLICATION_XML_TYPE;
+            break;
+         default:
+            throw new IllegalArgumentException(provider);
+      }
+      deployment = Deployments.start(false, providers, CustomerResource.class);
+      body = Deployments.invoke(deployment, MockHttpRequest.get("/customers").accept(mediaType)).getOutput();
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      deployment.stop();
+   }
+
+   @Benchmark
+   public Object write() throws Exception
+   {
+      return Deployments.invoke(deployment, MockHttpRequest.get("/customers").accept(mediaType));
+   }
+
+   @Benchmark
+   public Object read() throws Exception
+   {
+      return Deployments.invoke(deployment, MockHttpRequest.post("/customers")
+            .contentType(mediaType).accept(MediaType.TEXT_PLAIN).content(body));
+   }
+}
@@ -10,6 +10,8 @@ import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.Consumes;
@@ -21,13 +23,15 @@ import jakarta.ws.rs.ext.Provider;
 import org.jboss.resteasy.annotations.providers.jackson.Formatted;
 import org.jboss.resteasy.core.interception.jaxrs.DecoratorMatcher;
 import org.jboss.resteasy.core.messagebody.AsyncBufferedMessageBodyWriter;
-import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.plugins.providers.jackson.i18n.LogMessages;
+import org.jboss.resteasy.spi.config.ConfigurationFactory;
 import org.jboss.resteasy.util.DelegatingOutputStream;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -51,8 +55,11 @@ import com.fasterxml.jackson.jaxrs.util.ClassKey;
 @Produces({"application/json", "application/*+json", "text/json"})
 public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements AsyncBufferedMessageBodyWriter<Object>
 {
+   private static final String OPTIMIZER_MODULE_PROP = "resteasy.jackson.optimizer.module";
 
    DecoratorMatcher decoratorMatcher = new DecoratorMatcher();
+   private volatile Module optimizerModule;
+   private volatile boolean optimizerModuleResolved;
 
 
    @Override
@@ -147,6 +154,51 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
       }
    }
 
+   // ClassAnnotationKey of a generic type
+   private static class TypeAnnotationKey
+   {
+      private final ClassAnnotationKey key;
+      private final Type genericType;
+      private final int hash;
+
+      private TypeAnnotationKey(final ClassAnnotationKey key, final Type genericType)
+      {
+         this.key = key;
+         this.genericType = genericType;
+         this.hash = 31 * key.hashCode() + Objects.hashCode(genericType);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object object)
+      {
+         if (this == object) return true;
+         if (object == null || getClass() != object.getClass()) return false;
+         TypeAnnotationKey that = (TypeAnnotationKey) object;
+         return hash == that.hash && key.equals(that.key) && Objects.equals(genericType, that.genericType);
+      }
+   }
+
+   // ObjectWriter bound to the root type of a generic type
+   private static class BoundWriter
+   {
+      private final JsonEndpointConfig endpoint;
+      private final ObjectWriter writer;
+      private final boolean indentOutput;
+
+      private BoundWriter(final JsonEndpointConfig endpoint, final ObjectWriter writer, final boolean indentOutput)
+      {
+         this.endpoint = endpoint;
+         this.writer = writer;
+         this.indentOutput = indentOutput;
+      }
+   }
+
    protected final ConcurrentHashMap<ClassAnnotationKey, JsonEndpointConfig> _readers
          = new ConcurrentHashMap<ClassAnnotationKey, JsonEndpointConfig>();
    protected final ConcurrentHashMap<ClassAnnotationKey, Boolean> decorators
@@ -158,21 +210,29 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
    {
       LogMessages.LOGGER.debugf("Provider : %s,  Method : readFrom", getClass().getName());
       ClassAnnotationKey key = new ClassAnnotationKey(type, annotations);
-      JsonEndpointConfig endpoint;
-      endpoint = _readers.get(key);
-      // not yet resolved (or not cached any more)? Resolve!
-      if (endpoint == null) {
-         ObjectMapper mapper = locateMapper(type, mediaType);
-         PolymorphicTypeValidator ptv = mapper.getPolymorphicTypeValidator();
-         //the check is protected by test org.jboss.resteasy.test.providers.jackson2.whitelist.JacksonConfig,
-         //be sure to keep that in synch if changing anything here.
-         if (ptv == null || ptv instanceof LaissezFaireSubTypeValidator) {
-            mapper.setPolymorphicTypeValidator(new WhiteListPolymorphicTypeValidatorBuilder().build());
+      TypeAnnotationKey typeKey = new TypeAnnotationKey(key, genericType);
+      ObjectReader boundReader = _boundReaders.get(typeKey);
+      if (boundReader == null) {
+         JsonEndpointConfig endpoint;
+         endpoint = _readers.get(key);
+         // not yet resolved (or not cached any more)? Resolve!
+         if (endpoint == null) {
+            ObjectMapper mapper = locateMapper(type, mediaType);
+            PolymorphicTypeValidator ptv = mapper.getPolymorphicTypeValidator();
+            //the check is protected by test org.jboss.resteasy.test.providers.jackson2.whitelist.JacksonConfig,
+            //be sure to keep that in synch if changing anything here.
+            if (ptv == null || ptv instanceof LaissezFaireSubTypeValidator) {
+               mapper.setPolymorphicTypeValidator(new WhiteListPolymorphicTypeValidatorBuilder().build());
+            }
+            registerOptimizerModule(mapper);
+            endpoint = _configForReading(mapper, annotations, null);
+            _readers.put(key, endpoint);
          }
-         endpoint = _configForReading(mapper, annotations, null);
-         _readers.put(key, endpoint);
+         ObjectReader endpointReader = endpoint.getReader();
+         boundReader = endpointReader.forType(endpointReader.getTypeFactory().constructType(genericType));
+         _boundReaders.put(typeKey, boundReader);
       }
-      final ObjectReader reader = endpoint.getReader();
+      final ObjectReader reader = boundReader;
       final JsonParser jp = _createParser(reader, entityStream);
       // If null is returned, considered to be empty stream
       if (jp == null) {
@@ -190,12 +250,12 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
       Object result = null;
       try {
          if (System.getSecurityManager() == null) {
-            result = reader.forType(reader.getTypeFactory().constructType(genericType)).readValue(jp);
+            result = reader.readValue(jp);
          } else {
             result = AccessController.doPrivileged(new PrivilegedExceptionAction<Object>() {
                @Override
                public Object run() throws Exception {
-                  return reader.forType(reader.getTypeFactory().constructType(genericType)).readValue(jp);
+                  return reader.readValue(jp);
                }
             });
          }
@@ -209,6 +269,8 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
 
    protected final ConcurrentHashMap<ClassAnnotationKey, JsonEndpointConfig> _writers
          = new ConcurrentHashMap<ClassAnnotationKey, JsonEndpointConfig>();
+   private final ConcurrentHashMap<TypeAnnotationKey, ObjectReader> _boundReaders = new ConcurrentHashMap<>();
+   private final ConcurrentHashMap<TypeAnnotationKey, BoundWriter> _boundWriters = new ConcurrentHashMap<>();
 
    @Override
    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
@@ -224,36 +286,14 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
          }
       };
       ClassAnnotationKey key = new ClassAnnotationKey(type, annotations);
-      JsonEndpointConfig endpoint;
-      endpoint = _writers.get(key);
-
-      // not yet resolved (or not cached any more)? Resolve!
-      if (endpoint == null) {
-         ObjectMapper mapper = locateMapper(type, mediaType);
-         PolymorphicTypeValidator ptv = mapper.getPolymorphicTypeValidator();
-         //the check is protected by test org.jboss.resteasy.test.providers.jackson2.whitelist.JacksonConfig,
-         //be sure to keep that in synch if changing anything here.
-         if (ptv == null || ptv instanceof LaissezFaireSubTypeValidator) {
-            mapper.setPolymorphicTypeValidator(new WhiteListPolymorphicTypeValidatorBuilder().build());
-         }
-         endpoint = _configForWriting(mapper, annotations, null);
-
-         // and cache for future reuse
-         _writers.put(key, endpoint);
-      }
-
-      ObjectWriter writer = endpoint.getWriter();
-      boolean withIndentOutput = false; // no way to replace _serializationConfig
-
-      // we can't cache this.
-      if (annotations != null) {
-         for (Annotation annotation : annotations) {
-            if (annotation.annotationType().equals(Formatted.class)) {
-               withIndentOutput = true;
-               break;
-            }
-         }
+      TypeAnnotationKey typeKey = new TypeAnnotationKey(key, genericType);
+      BoundWriter boundWriter = _boundWriters.get(typeKey);
+      if (boundWriter == null) {
+         boundWriter = bindWriter(key, type, genericType, annotations, mediaType);
+         _boundWriters.put(typeKey, boundWriter);
       }
+      JsonEndpointConfig endpoint = boundWriter.endpoint;
+      ObjectWriter writer = boundWriter.writer;
 
       /* 27-Feb-2009, tatu: Where can we find desired encoding? Within
        *   HTTP headers?
@@ -264,38 +304,12 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
 
       try {
          // Want indentation?
-         if (writer.isEnabled(SerializationFeature.INDENT_OUTPUT) || withIndentOutput) {
+         if (boundWriter.indentOutput) {
             jg.useDefaultPrettyPrinter();
          }
-         // 04-Mar-2010, tatu: How about type we were given? (if any)
-         JavaType rootType = null;
-
-         if (genericType != null && value != null) {
-            /* 10-Jan-2011, tatu: as per [JACKSON-456], it's not safe to just force root
-            *    type since it prevents polymorphic type serialization. Since we really
-            *    just need this for generics, let's only use generic type if it's truly
-            *    generic.
-            */
-            if (genericType.getClass() != Class.class) { // generic types are other impls of 'java.lang.reflect.Type'
-               /* This is still not exactly right; should root type be further
-               * specialized with 'value.getClass()'? Let's see how well this works before
-               * trying to come up with more complete solution.
-               */
-               rootType = writer.getTypeFactory().constructType(genericType);
-               /* 26-Feb-2011, tatu: To help with [JACKSON-518], we better recognize cases where
-               *    type degenerates back into "Object.class" (as is the case with plain TypeVariable,
-               *    for example), and not use that.
-               */
-               if (rootType.getRawClass() == Object.class) {
-                  rootType = null;
-               }
-            }
-         }
-
-         // Most of the configuration now handled through EndpointConfig, ObjectWriter
-         // but we may need to force root type:
-         if (rootType != null) {
-            writer = writer.forType(rootType);
+         // the root type is only forced for a value
+         if (value == null) {
+            writer = endpoint.getWriter();
          }
          value = endpoint.modifyBeforeWrite(value);
          ObjectWriterModifier mod = ObjectWriterInjector.getAndClear();
@@ -361,4 +375,112 @@ public class ResteasyJackson2Provider extends JacksonJaxbJsonProvider implements
          jg.close();
       }
    }
+
+   private BoundWriter bindWriter(ClassAnnotationKey key, Class<?> type, Type genericType, Annotation[] annotations,
+                                  MediaType mediaType)
+   {
+      JsonEndpointConfig endpoint;
+      endpoint = _writers.get(key);
+
+      // not yet resolved (or not cached any more)? Resolve!
+      if (endpoint == null) {
+         ObjectMapper mapper = locateMapper(type, mediaType);
+         PolymorphicTypeValidator ptv = mapper.getPolymorphicTypeValidator();
+         //the check is protected by test org.jboss.resteasy.test.providers.jackson2.whitelist.JacksonConfig,
+         //be sure to keep that in synch if changing anything here.
+         if (ptv == null || ptv instanceof LaissezFaireSubTypeValidator) {
+            mapper.setPolymorphicTypeValidator(new WhiteListPolymorphicTypeValidatorBuilder().build());
+         }
+         registerOptimizerModule(mapper);
+         endpoint = _configForWriting(mapper, annotations, null);
+
+         // and cache for future reuse
+         _writers.put(key, endpoint);
+      }
+
+      ObjectWriter writer = endpoint.getWriter();
+      boolean withIndentOutput = false; // no way to replace _serializationConfig
+
+      if (annotations != null) {
+         for (Annotation annotation : annotations) {
+            if (annotation.annotationType().equals(Formatted.class)) {
+               withIndentOutput = true;
+               break;
+            }
+         }
+      }
+      boolean indentOutput = writer.isEnabled(SerializationFeature.INDENT_OUTPUT) || withIndentOutput;
+
+      // 04-Mar-2010, tatu: How about type we were given? (if any)
+      JavaType rootType = null;
+
+      if (genericType != null) {
+         /* 10-Jan-2011, tatu: as per [JACKSON-456], it's not safe to just force root
+         *    type since it prevents polymorphic type serialization. Since we really
+         *    just need this for generics, let's only use generic type if it's truly
+         *    generic.
+         */
+         if (genericType.getClass() != Class.class) { // generic types are other impls of 'java.lang.reflect.Type'
+            /* This is still not exactly right; should root type be further
+            * specialized with 'value.getClass()'? Let's see how well this works before
+            * trying to come up with more complete solution.
+            */
+            rootType = writer.getTypeFactory().constructType(genericType);
+            /* 26-Feb-2011, tatu: To help with [JACKSON-518], we better recognize cases where
+            *    type degenerates back into "Object.class" (as is the case with plain TypeVariable,
+            *    for example), and not use that.
+            */
+            if (rootType.getRawClass() == Object.class) {
+               rootType = null;
+            }
+         }
+      }
+
+      // Most of the configuration now handled through EndpointConfig, ObjectWriter
+      // but we may need to force root type:
+      if (rootType != null) {
+         writer = writer.forType(rootType);
+      }
+      return new BoundWriter(endpoint, writer, indentOutput);
+   }
+
+   /**
+    * Registers the module configured by the {@code resteasy.jackson.optimizer.module} property, {@code blackbird},
+    * {@code afterburner} or the class name of a module, which replaces reflection by generated code. The module is
+    * only registered on the default mapper of the provider, the mappers of the application, set on the provider or
+    * given by a {@code ContextResolver}, are left as they are.
+    */
+   private void registerOptimizerModule(ObjectMapper mapper)
+   {
+      if (!optimizerModuleResolved) {
+         String name = ConfigurationFactory.getInstance().getConfiguration()
+               .getOptionalValue(OPTIMIZER_MODULE_PROP, String.class).orElse(null);
+         if (name != null) {
+            String className;
+            switch (name.toLowerCase(Locale.ROOT)) {
+               case "blackbird":
+                  className = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+                  break;
+               case "afterburner":
+                  className = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+                  break;
+               default:
+                  className = name;
+            }
+            try {
+               ClassLoader loader = Thread.currentThread().getContextClassLoader();
+               optimizerModule = (Module) Class.forName(className, true,
+                     loader == null ? ResteasyJackson2Provider.class.getClassLoader() : loader)
+                     .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+               LogMessages.LOGGER.unableToRegisterModule(e, name);
+            }
+         }
+         optimizerModuleResolved = true;
+      }
+      if (optimizerModule != null && mapper == _mapperConfig.getDefaultMapper()) {
+         // ignored if already registered
+         mapper.registerModule(optimizerModule);
+      }
+   }
 }
@@ -0,0 +1,20 @@
+package org.jboss.resteasy.plugins.providers.jackson.i18n;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "RESTEASY")
+public interface LogMessages extends BasicLogger
+{
+   LogMessages LOGGER = Logger.getMessageLogger(LogMessages.class, LogMessages.class.getPackage().getName());
+   int BASE = 23500;
+
+   @LogMessage(level = Level.WARN)
+   @Message(id = BASE, value = "Unable to register the Jackson module %s")
+   void unableToRegisterModule(@Cause Throwable cause, String module);
+}
@@ -0,0 +1,158 @@
+package org.jboss.resteasy.plugins.providers.jackson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+
+import org.jboss.resteasy.annotations.providers.jackson.Formatted;
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+public class ResteasyJackson2ProviderTest {
+
+   private static final String OPTIMIZER_MODULE_PROP = "resteasy.jackson.optimizer.module";
+   private static final Annotation[] NONE = new Annotation[0];
+
+   public static class Item {
+      private String name;
+
+      public Item() {
+      }
+
+      public Item(final String name) {
+         this.name = name;
+      }
+
+      public String getName() {
+         return name;
+      }
+
+      public void setName(String name) {
+         this.name = name;
+      }
+   }
+
+   public static class CountingModule extends SimpleModule {
+      static final AtomicInteger SETUPS = new AtomicInteger();
+
+      public CountingModule() {
+         super("counting");
+      }
+
+      @Override
+      public void setupModule(SetupContext context) {
+         SETUPS.incrementAndGet();
+         super.setupModule(context);
+      }
+   }
+
+   @Formatted
+   private static final class Annotated {
+   }
+
+   @After
+   public void cleanup() {
+      System.clearProperty(OPTIMIZER_MODULE_PROP);
+   }
+
+   private static String write(ResteasyJackson2Provider provider, Object value, Class<?> type, Type genericType,
+                               Annotation[] annotations) throws IOException {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      provider.writeTo(value, type, genericType, annotations, MediaType.APPLICATION_JSON_TYPE,
+            new MultivaluedHashMap<>(), os);
+      return os.toString(StandardCharsets.UTF_8);
+   }
+
+   @SuppressWarnings({"unchecked", "rawtypes"})
+   private static Object read(ResteasyJackson2Provider provider, String json, Class<?> type, Type genericType)
+         throws IOException {
+      return provider.readFrom((Class) type, genericType, NONE, MediaType.APPLICATION_JSON_TYPE,
+            new MultivaluedHashMap<>(), new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+   }
+
+   @Test
+   public void testGenericTypeRoundTrip() throws Exception {
+      ResteasyJackson2Provider provider = new ResteasyJackson2Provider();
+      Type listOfItems = new GenericType<List<Item>>() {
+      }.getType();
+      String json = write(provider, Arrays.asList(new Item("a"), new Item("b")), List.class, listOfItems, NONE);
+      assertEquals("[{\"name\":\"a\"},{\"name\":\"b\"}]", json);
+
+      // read twice, the second time with the reader bound to the generic type by the first one
+      for (int i = 0; i < 2; i++) {
+         List<?> items = (List<?>) read(provider, json, List.class, listOfItems);
+         assertEquals(2, items.size());
+         assertEquals("b", ((Item) items.get(1)).getName());
+      }
+      // the raw type is not bound to the element type of the generic type
+      List<?> raw = (List<?>) read(provider, json, List.class, List.class);
+      assertFalse(raw.get(0) instanceof Item);
+   }
+
+   @Test
+   public void testFormatted() throws Exception {
+      ResteasyJackson2Provider provider = new ResteasyJackson2Provider();
+      Annotation[] formatted = Annotated.class.getAnnotations();
+      Item item = new Item("a");
+      assertEquals("{\"name\":\"a\"}", write(provider, item, Item.class, Item.class, NONE));
+      assertTrue(write(provider, item, Item.class, Item.class, formatted).contains("\n"));
+      // the formatted writer is cached apart from the plain one
+      assertEquals("{\"name\":\"a\"}", write(provider, item, Item.class, Item.class, NONE));
+   }
+
+   @Test
+   public void testNullValues() throws Exception {
+      ResteasyJackson2Provider provider = new ResteasyJackson2Provider();
+      Type listOfItems = new GenericType<List<Item>>() {
+      }.getType();
+      assertEquals("null", write(provider, null, List.class, listOfItems, NONE));
+      assertEquals("{\"name\":null}", write(provider, new Item(), Item.class, Item.class, NONE));
+      assertNull(((Item) read(provider, "{\"name\":null}", Item.class, Item.class)).getName());
+      assertNull(read(provider, "", Item.class, Item.class));
+   }
+
+   @Test
+   public void testOptimizerModule() throws Exception {
+      System.setProperty(OPTIMIZER_MODULE_PROP, CountingModule.class.getName());
+      CountingModule.SETUPS.set(0);
+      ResteasyJackson2Provider provider = new ResteasyJackson2Provider();
+      write(provider, new Item("a"), Item.class, Item.class, NONE);
+      read(provider, "{\"name\":\"a\"}", Item.class, Item.class);
+      assertEquals(1, CountingModule.SETUPS.get());
+      assertTrue(provider.locateMapper(Item.class, MediaType.APPLICATION_JSON_TYPE).getRegisteredModuleIds()
+            .contains(CountingModule.class.getName()));
+
+      // the mapper of the application is left as it is
+      ObjectMapper mapper = new ObjectMapper();
+      ResteasyJackson2Provider configured = new ResteasyJackson2Provider();
+      configured.setMapper(mapper);
+      write(configured, new Item("a"), Item.class, Item.class, NONE);
+      assertEquals(1, CountingModule.SETUPS.get());
+      assertFalse(mapper.getRegisteredModuleIds().contains(CountingModule.class.getName()));
+   }
+
+   @Test
+   public void testMissingOptimizerModule() throws Exception {
+      System.setProperty(OPTIMIZER_MODULE_PROP, "org.example.MissingModule");
+      assertEquals("{\"name\":\"a\"}", write(new ResteasyJackson2Provider(), new Item("a"), Item.class, Item.class,
+            NONE));
+   }
+}
@@ -39,6 +39,8 @@ import java.util.Set;
 public class ClientConfiguration implements Configuration, Configurable<ClientConfiguration>, Providers, HeaderValueProcessor
 {
    protected ResteasyProviderFactory providerFactory;
+   // the provider factory is shared with the parent or a child configuration, and copied before a modification
+   private volatile boolean shared;
 
    public ClientConfiguration(final ResteasyProviderFactory factory)
    {
@@ -50,17 +52,24 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
       }
    }
 
+   /**
+    * Create a configuration with the providers and properties of its parent. Both share the same provider factory
+    * until one of them is modified.
+    *
+    * @param parent parent configuration
+    */
    public ClientConfiguration(final ClientConfiguration parent)
    {
-      this(parent.getProviderFactory());
-      setProperties(parent.getProperties());
+      this.providerFactory = parent.providerFactory;
+      this.shared = true;
+      parent.shared = true;
    }
 
    public void setProperties(Map<String, Object> newProps)
    {
       if (newProps != null && !newProps.isEmpty())
       {
-         providerFactory.setProperties(newProps);
+         getLocalProviderFactory().setProperties(newProps);
       }
    }
 
@@ -69,9 +78,28 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
       return providerFactory;
    }
 
+   /**
+    * @return the provider factory of this configuration, copied first if it is shared with another configuration
+    */
+   private ResteasyProviderFactory getLocalProviderFactory()
+   {
+      if (shared)
+      {
+         ResteasyProviderFactory factory = new LocalResteasyProviderFactory(providerFactory);
+         Map<String, Object> properties = providerFactory.getProperties();
+         if (properties != null && !properties.isEmpty())
+         {
+            factory.setProperties(properties);
+         }
+         providerFactory = factory;
+         shared = false;
+      }
+      return providerFactory;
+   }
+
    public Map<String, Object> getMutableProperties()
    {
-      return providerFactory.getMutableProperties();
+      return getLocalProviderFactory().getMutableProperties();
    }
 
    /**
@@ -193,35 +221,35 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
    @Override
    public ClientConfiguration register(Class<?> providerClass)
    {
-      providerFactory.register(providerClass);
+      getLocalProviderFactory().register(providerClass);
       return this;
    }
 
    @Override
    public ClientConfiguration register(Object provider)
    {
-      providerFactory.register(provider);
+      getLocalProviderFactory().register(provider);
       return this;
    }
 
    @Override
    public ClientConfiguration register(Class<?> providerClass, int priority)
    {
-      providerFactory.register(providerClass, priority);
+      getLocalProviderFactory().register(providerClass, priority);
       return this;
    }
 
    @Override
    public ClientConfiguration register(Object provider, int Priority)
    {
-      providerFactory.register(provider, Priority);
+      getLocalProviderFactory().register(provider, Priority);
       return this;
    }
 
    @Override
    public ClientConfiguration property(String name, Object value)
    {
-      providerFactory.property(name, value);
+      getLocalProviderFactory().property(name, value);
       return this;
    }
 
@@ -234,28 +262,28 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
    @Override
    public ClientConfiguration register(Class<?> componentClass, Class<?>... contracts)
    {
-      providerFactory.register(componentClass, contracts);
+      getLocalProviderFactory().register(componentClass, contracts);
       return this;
    }
 
    @Override
    public ClientConfiguration register(Class<?> componentClass, Map<Class<?>, Integer> contracts)
    {
-      providerFactory.register(componentClass, contracts);
+      getLocalProviderFactory().register(componentClass, contracts);
       return this;
    }
 
    @Override
    public ClientConfiguration register(Object component, Class<?>... contracts)
    {
-      providerFactory.register(component, contracts);
+      getLocalProviderFactory().register(component, contracts);
       return this;
    }
 
    @Override
    public ClientConfiguration register(Object component, Map<Class<?>, Integer> contracts)
    {
-      providerFactory.register(component, contracts);
+      getLocalProviderFactory().register(component, contracts);
       return this;
    }
 
@@ -318,6 +346,6 @@ public class ClientConfiguration implements Configuration, Configurable<ClientCo
 
    public void addHeaderDelegate(Class<?> clazz, HeaderDelegate header)
    {
-      providerFactory.addHeaderDelegate(clazz, header);
+      getLocalProviderFactory().addHeaderDelegate(clazz, header);
    }
 }
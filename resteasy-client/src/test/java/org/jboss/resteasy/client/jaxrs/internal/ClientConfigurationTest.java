@@ -0,0 +1,49 @@
+package org.jboss.resteasy.client.jaxrs.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+
+public class ClientConfigurationTest {
+
+    public static class FilterA implements ClientRequestFilter {
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+        }
+    }
+
+    public static class FilterB implements ClientRequestFilter {
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+        }
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        ClientConfiguration client = new ClientConfiguration(new LocalResteasyProviderFactory());
+        client.register(FilterA.class).property("a", "1");
+
+        ClientConfiguration target = new ClientConfiguration(client);
+        ClientConfiguration invocation = new ClientConfiguration(target);
+        Assert.assertSame(client.getProviderFactory(), invocation.getProviderFactory());
+        Assert.assertTrue(invocation.isRegistered(FilterA.class));
+        Assert.assertEquals("1", invocation.getProperty("a"));
+
+        // a child is copied when it is modified
+        invocation.register(FilterB.class).property("b", "2");
+        Assert.assertNotSame(client.getProviderFactory(), invocation.getProviderFactory());
+        Assert.assertTrue(invocation.isRegistered(FilterA.class));
+        Assert.assertEquals("1", invocation.getProperty("a"));
+        Assert.assertFalse(client.isRegistered(FilterB.class));
+        Assert.assertNull(target.getProperty("b"));
+
+        // and so is a parent, its children keeping the configuration they were created with
+        client.property("a", "3").register(FilterB.class);
+        Assert.assertEquals("1", target.getProperty("a"));
+        Assert.assertFalse(target.isRegistered(FilterB.class));
+        Assert.assertEquals("3", client.getProperty("a"));
+        Assert.assertTrue(client.isRegistered(FilterB.class));
+    }
+}
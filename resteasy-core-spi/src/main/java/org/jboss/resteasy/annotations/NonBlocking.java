@@ -0,0 +1,16 @@
+package org.jboss.resteasy.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Use on resource methods, or their class, which never block, so that the containers dispatching requests on
+ * I/O event loops may invoke them directly on the event loop rather than on a worker thread.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NonBlocking
+{
+}
@@ -19,6 +19,9 @@
 
 package org.jboss.resteasy.concurrent;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collection;
@@ -32,6 +35,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -82,17 +86,68 @@ public class ContextualExecutors {
      * In a Jakarta EE container the JNDI lookup name can be overridden with the {@code resteasy.async.executor.service.jndi}
      * configuration property. By default the JNDI lookup name is {@code java:comp/DefaultManagedExecutorService}.
      * </p>
+     * <p>
+     * Outside of a Jakarta EE container, if {@linkplain #isVirtualThreads() virtual threads are enabled} a
+     * {@linkplain #virtualThreadPerTask() virtual thread per task executor} is wrapped instead of the cached thread pool.
+     * </p>
      *
      * @return a new contextual executor
      */
     public static ContextualExecutorService threadPool() {
         ExecutorService delegate = lookup(EXECUTOR_SERVICE_JNDI);
-        boolean managed = true;
-        if (delegate == null) {
-            delegate = Executors.newCachedThreadPool(new ContextualThreadFactory("contextual-pool"));
-            managed = false;
+        if (delegate != null) {
+            return wrap(delegate, true);
         }
-        return wrap(delegate, managed);
+        if (isVirtualThreads()) {
+            return virtualThreadPerTask();
+        }
+        return wrap(Executors.newCachedThreadPool(new ContextualThreadFactory("contextual-pool")), false);
+    }
+
+    /**
+     * Creates a new {@link ContextualExecutorService} which executes each task in a new virtual thread, when the Java
+     * runtime supports them (Java 21 and later). The executor is not said to be managed, it must be shut down.
+     *
+     * @return a new contextual executor or {@code null} if the Java runtime does not support virtual threads
+     *
+     * @since 6.1
+     */
+    public static ContextualExecutorService virtualThreadPerTask() {
+        final MethodHandle factory = VirtualThreads.FACTORY;
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return wrap((ExecutorService) factory.invokeExact(), false);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Indicates whether the blocking tasks of RESTEasy are executed by virtual threads, which is the case when the
+     * {@code resteasy.virtual.threads} configuration property is {@code true} and the Java runtime supports virtual
+     * threads. A warning is logged if the property is {@code true} on a Java runtime which does not support them.
+     *
+     * @return {@code true} if virtual threads are enabled and supported
+     *
+     * @since 6.1
+     */
+    public static boolean isVirtualThreads() {
+        final Configuration config = ConfigurationFactory.getInstance().getConfiguration();
+        // ResteasyContextParameters.RESTEASY_VIRTUAL_THREADS, which this module cannot see
+        if (!config.getOptionalValue("resteasy.virtual.threads", Boolean.class).orElse(false)) {
+            return false;
+        }
+        if (VirtualThreads.FACTORY == null) {
+            if (VirtualThreads.WARNED.compareAndSet(false, true)) {
+                LogMessages.LOGGER.virtualThreadsNotSupported("resteasy.virtual.threads");
+            }
+            return false;
+        }
+        return true;
     }
 
     /**
@@ -385,6 +440,24 @@ public class ContextualExecutors {
         return null;
     }
 
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}, looked up reflectively as it is only available on Java 21 and
+     * later.
+     */
+    private static class VirtualThreads {
+        static final MethodHandle FACTORY = findFactory();
+        static final AtomicBoolean WARNED = new AtomicBoolean();
+
+        private static MethodHandle findFactory() {
+            try {
+                return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                        MethodType.methodType(ExecutorService.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
     private static class ContextualThreadFactory implements ThreadFactory {
         private static final AtomicInteger POOL_COUNTER = new AtomicInteger(0);
         private final AtomicInteger threadCounter = new AtomicInteger(0);
@@ -321,6 +321,18 @@ public interface LogMessages extends BasicLogger
    @Message(id = BASE + 370, value = "Failed to load: %s")
    void failedToLoad(@Cause Throwable cause, String resourceName);
 
+   @LogMessage(level = Level.WARN)
+   @Message(id = BASE + 380, value = "Virtual threads are not supported by this Java runtime, %s is ignored.")
+   void virtualThreadsNotSupported(String property);
+
+   @LogMessage(level = Level.DEBUG)
+   @Message(id = BASE + 385, value = "Deployment started in %d ms with %d resource invokers: %s")
+   void deploymentStarted(long millis, int invokers, String phases);
+
+   @LogMessage(level = Level.WARN)
+   @Message(id = BASE + 390, value = "Unable to read the deployment index %s, the resource classes are introspected.")
+   void unableToReadDeploymentIndex(@Cause Throwable cause, String location);
+
 
 
    ///////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,25 @@
+package org.jboss.resteasy.spi;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Implemented by the response output streams of the containers which can send a region of a file to the client
+ * without copying it through the JVM, e.g. with {@code sendfile}. Writers of file entities try it before writing the
+ * file to the stream.
+ */
+public interface FileTransfer {
+
+    /**
+     * Sends a region of a file as the whole response body, nothing else being written to the stream.
+     *
+     * @param file the file to send
+     * @param position the position of the region in the file
+     * @param count the length of the region, which is the length of the response body
+     * @return a {@link CompletionStage} notified when the region is sent, or null if the region can't be sent this
+     * way, in which case nothing was written and the caller writes the region to the stream instead
+     * @throws IOException if the file can't be read
+     */
+    CompletionStage<Void> transferFile(Path file, long position, long count) throws IOException;
+}
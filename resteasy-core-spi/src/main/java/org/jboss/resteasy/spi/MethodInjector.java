@@ -1,5 +1,7 @@
 package org.jboss.resteasy.spi;
 
+import org.jboss.resteasy.spi.statistics.MethodStatisticsLogger;
+
 /**
  * Will invoke a method in the context of an HTTP request.  Does all the parameter injection for you.
  *
@@ -19,6 +21,23 @@ public interface MethodInjector
     */
    Object invoke(HttpRequest request, HttpResponse response, Object target) throws Failure, ApplicationException;
 
+   /**
+    * Invoke on a method in the context of an HTTP request, recording the time spent injecting the parameters and
+    * invoking the method.
+    *
+    * @param request http request
+    * @param response http response
+    * @param target target object
+    * @param statistics statistics of the method
+    * @return returned object or CompletionStage<Object> if arguments need async
+    * @throws Failure if application failure occurred
+    */
+   default Object invoke(HttpRequest request, HttpResponse response, Object target, MethodStatisticsLogger statistics)
+         throws Failure, ApplicationException
+   {
+      return invoke(request, response, target);
+   }
+
    /**
     * Create the arguments that would be used to invoke the method in the context of an HTTP request.
     *
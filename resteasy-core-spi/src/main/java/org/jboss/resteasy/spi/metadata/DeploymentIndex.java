@@ -0,0 +1,521 @@
+package org.jboss.resteasy.spi.metadata;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Index of the resource and provider classes of a deployment, computed at build time by the
+ * {@code org.jboss.resteasy.core.DeploymentIndexer} and stored in {@link #LOCATION}. It holds the resource methods
+ * and locators of the resource classes, each with the method carrying its annotations, so that the
+ * {@link ResourceBuilder} does not have to search the class hierarchy of every public method at startup.
+ * <p>
+ * An entry is ignored, and its class introspected, when the class does not match it anymore: each entry holds a
+ * digest of the CRC32 of the class files of the class and of its superclasses and interfaces, which is taken from the
+ * central directory of their jar at runtime, without reading the class files nor introspecting the classes. The
+ * classes of the Java runtime are not part of the digest.
+ * </p>
+ */
+public final class DeploymentIndex
+{
+   public static final String LOCATION = "META-INF/resteasy/deployment.idx";
+
+   private static final int MAGIC = 0x52494458;
+   private static final int VERSION = 3;
+   // the digest of a class whose class file can not be read, which matches no entry
+   private static final long UNKNOWN = -1L;
+   private static final Map<Method, Method> NOT_MATCHING = Collections.emptyMap();
+
+   private final List<String> resourceClasses;
+   private final List<String> providerClasses;
+   // signatures of the implementation and annotated methods of each class: declaring class, name, parameter types
+   private final Map<String, List<String[]>> resourceMethods;
+   private final Map<String, Long> fingerprints;
+   private final Map<Class<?>, Map<Method, Method>> resolved = new ConcurrentHashMap<>();
+   // the digests of the class files, shared by the classes of a hierarchy
+   private final Map<Class<?>, Long> digests = new ConcurrentHashMap<>();
+   // the CRC32 of the class files of each jar
+   private final Map<File, Map<String, Long>> jarDigests = new ConcurrentHashMap<>();
+
+   private DeploymentIndex(final List<String> resourceClasses, final List<String> providerClasses,
+                           final Map<String, List<String[]>> resourceMethods, final Map<String, Long> fingerprints)
+   {
+      this.resourceClasses = resourceClasses;
+      this.providerClasses = providerClasses;
+      this.resourceMethods = resourceMethods;
+      this.fingerprints = fingerprints;
+   }
+
+   /**
+    * @param resourceClasses the root resource classes of the deployment
+    * @param providerClasses the provider classes of the deployment
+    * @param resourceBuilder the builder finding the annotated methods
+    * @return the index of the classes
+    */
+   public static DeploymentIndex create(Collection<Class<?>> resourceClasses, Collection<Class<?>> providerClasses,
+                                        ResourceBuilder resourceBuilder)
+   {
+      List<String> resources = new ArrayList<>();
+      Map<String, List<String[]>> methods = new LinkedHashMap<>();
+      Map<String, Long> fingerprints = new HashMap<>();
+      for (Class<?> clazz : resourceClasses)
+      {
+         resources.add(clazz.getName());
+         index(clazz, resourceBuilder, methods, fingerprints);
+         // the annotated class or interface may be introspected instead of the class when it is registered
+         for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass())
+         {
+            if (c.isAnnotationPresent(resourceBuilder.getCorrespondingRootAnnotation()))
+            {
+               index(c, resourceBuilder, methods, fingerprints);
+            }
+            for (Class<?> intf : c.getInterfaces())
+            {
+               if (intf.isAnnotationPresent(resourceBuilder.getCorrespondingRootAnnotation()))
+               {
+                  index(intf, resourceBuilder, methods, fingerprints);
+               }
+            }
+         }
+      }
+      List<String> providers = new ArrayList<>();
+      for (Class<?> clazz : providerClasses)
+      {
+         providers.add(clazz.getName());
+      }
+      return new DeploymentIndex(resources, providers, methods, fingerprints);
+   }
+
+   private static void index(Class<?> clazz, ResourceBuilder resourceBuilder, Map<String, List<String[]>> methods,
+                             Map<String, Long> fingerprints)
+   {
+      if (methods.containsKey(clazz.getName()))
+      {
+         return;
+      }
+      List<String[]> signatures = new ArrayList<>();
+      for (Method method : clazz.getMethods())
+      {
+         if (method.isSynthetic() || method.getDeclaringClass().equals(Object.class))
+         {
+            continue;
+         }
+         Method annotated = resourceBuilder.getAnnotatedMethod(clazz, method);
+         if (annotated != null)
+         {
+            signatures.add(signature(method));
+            signatures.add(signature(annotated));
+         }
+      }
+      methods.put(clazz.getName(), signatures);
+      fingerprints.put(clazz.getName(), fingerprint(clazz, DeploymentIndex::digest));
+   }
+
+   /**
+    * @param clazz a class
+    * @param digests the digests of the class files
+    * @return a hash of the digests of the class files of the class and of its superclasses and interfaces,
+    * {@link #UNKNOWN} if one of them can not be read
+    */
+   private static long fingerprint(Class<?> clazz, ToLongFunction<Class<?>> digests)
+   {
+      List<Class<?>> classes = new ArrayList<>();
+      collect(clazz, classes, new HashSet<>());
+      long hash = 0xcbf29ce484222325L;
+      for (Class<?> c : classes)
+      {
+         long digest = digests.applyAsLong(c);
+         if (digest == UNKNOWN)
+         {
+            return UNKNOWN;
+         }
+         hash = (hash ^ digest) * 0x100000001b3L;
+      }
+      return hash;
+   }
+
+   private static void collect(Class<?> clazz, List<Class<?>> classes, Set<Class<?>> visited)
+   {
+      if (clazz == null || clazz.getClassLoader() == null || !visited.add(clazz))
+      {
+         return;
+      }
+      classes.add(clazz);
+      collect(clazz.getSuperclass(), classes, visited);
+      for (Class<?> intf : clazz.getInterfaces())
+      {
+         collect(intf, classes, visited);
+      }
+   }
+
+   private static String classFile(Class<?> clazz)
+   {
+      return clazz.getName().replace('.', '/') + ".class";
+   }
+
+   /**
+    * @return the CRC32 of the class file of the class, read from its class loader
+    */
+   private static long digest(Class<?> clazz)
+   {
+      try (InputStream in = clazz.getClassLoader().getResourceAsStream(classFile(clazz)))
+      {
+         return in == null ? UNKNOWN : digest(in);
+      }
+      catch (IOException e)
+      {
+         return UNKNOWN;
+      }
+   }
+
+   private static long digest(InputStream in) throws IOException
+   {
+      CRC32 crc = new CRC32();
+      byte[] buffer = new byte[8192];
+      for (int n = in.read(buffer); n >= 0; n = in.read(buffer))
+      {
+         crc.update(buffer, 0, n);
+      }
+      return crc.getValue();
+   }
+
+   /**
+    * @return the CRC32 of the class file of the class, taken from the central directory of its jar, which holds the
+    * CRC32 of its entries, or read from the class file otherwise
+    */
+   private long indexedDigest(Class<?> clazz)
+   {
+      Long digest = digests.get(clazz);
+      if (digest != null)
+      {
+         return digest;
+      }
+      CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+      URL location = codeSource == null ? null : codeSource.getLocation();
+      if (location != null && "file".equals(location.getProtocol()))
+      {
+         try
+         {
+            File file = new File(location.toURI());
+            if (file.isDirectory())
+            {
+               try (InputStream in = new FileInputStream(new File(file, classFile(clazz))))
+               {
+                  digest = digest(in);
+               }
+            }
+            else
+            {
+               digest = jarDigests.computeIfAbsent(file, DeploymentIndex::readJarDigests)
+                     .getOrDefault(classFile(clazz), UNKNOWN);
+            }
+         }
+         catch (URISyntaxException | IllegalArgumentException | IOException e)
+         {
+            digest = UNKNOWN;
+         }
+      }
+      else
+      {
+         digest = digest(clazz);
+      }
+      digests.put(clazz, digest);
+      return digest;
+   }
+
+   private static Map<String, Long> readJarDigests(File jar)
+   {
+      Map<String, Long> crcs = new HashMap<>();
+      try (ZipFile zip = new ZipFile(jar))
+      {
+         for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements(); )
+         {
+            ZipEntry entry = entries.nextElement();
+            if (entry.getName().endsWith(".class") && entry.getCrc() != -1)
+            {
+               crcs.put(entry.getName(), entry.getCrc());
+            }
+         }
+      }
+      catch (IOException e)
+      {
+         // the classes of the jar match no entry
+      }
+      return crcs;
+   }
+
+   private static String[] signature(Method method)
+   {
+      Class<?>[] types = method.getParameterTypes();
+      String[] signature = new String[types.length + 2];
+      signature[0] = method.getDeclaringClass().getName();
+      signature[1] = method.getName();
+      for (int i = 0; i < types.length; i++)
+      {
+         signature[i + 2] = types[i].getName();
+      }
+      return signature;
+   }
+
+   /**
+    * Loads the index of the deployment. An index visible from the parent of the class loader belongs to another
+    * deployment or library and is ignored.
+    *
+    * @param classLoader the class loader of the deployment
+    * @return the index found in the class loader, {@code null} if there is none
+    * @throws IOException if the index can not be read, or if the class loader holds several indexes
+    */
+   public static DeploymentIndex load(ClassLoader classLoader) throws IOException
+   {
+      ClassLoader loader = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+      List<URL> urls = Collections.list(loader.getResources(LOCATION));
+      if (loader.getParent() != null && !urls.isEmpty())
+      {
+         Set<String> inherited = new HashSet<>();
+         for (URL url : Collections.list(loader.getParent().getResources(LOCATION)))
+         {
+            inherited.add(url.toExternalForm());
+         }
+         urls.removeIf(url -> inherited.contains(url.toExternalForm()));
+      }
+      if (urls.isEmpty())
+      {
+         return null;
+      }
+      if (urls.size() > 1)
+      {
+         throw new IOException("Several deployment indexes: " + urls);
+      }
+      try (InputStream in = urls.get(0).openStream())
+      {
+         return read(in);
+      }
+   }
+
+   public static DeploymentIndex read(InputStream is) throws IOException
+   {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+      if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION)
+      {
+         throw new IOException("Not a RESTEasy deployment index");
+      }
+      String[] strings = new String[in.readInt()];
+      for (int i = 0; i < strings.length; i++)
+      {
+         strings[i] = in.readUTF();
+      }
+      List<String> resources = readStrings(in, strings);
+      List<String> providers = readStrings(in, strings);
+      int count = in.readInt();
+      Map<String, List<String[]>> methods = new HashMap<>(count * 2);
+      Map<String, Long> fingerprints = new HashMap<>(count * 2);
+      for (int i = 0; i < count; i++)
+      {
+         String clazz = strings[in.readInt()];
+         fingerprints.put(clazz, in.readLong());
+         List<String[]> signatures = new ArrayList<>();
+         for (int j = in.readInt(); j > 0; j--)
+         {
+            String[] signature = new String[in.readUnsignedByte() + 2];
+            for (int k = 0; k < signature.length; k++)
+            {
+               signature[k] = strings[in.readInt()];
+            }
+            signatures.add(signature);
+         }
+         methods.put(clazz, signatures);
+      }
+      return new DeploymentIndex(resources, providers, methods, fingerprints);
+   }
+
+   private static List<String> readStrings(DataInputStream in, String[] strings) throws IOException
+   {
+      List<String> list = new ArrayList<>();
+      for (int i = in.readInt(); i > 0; i--)
+      {
+         list.add(strings[in.readInt()]);
+      }
+      return list;
+   }
+
+   public void write(OutputStream os) throws IOException
+   {
+      // the class names are written once, in a table referenced by their position
+      Map<String, Integer> table = new LinkedHashMap<>();
+      resourceClasses.forEach(s -> table.putIfAbsent(s, table.size()));
+      providerClasses.forEach(s -> table.putIfAbsent(s, table.size()));
+      for (Map.Entry<String, List<String[]>> entry : resourceMethods.entrySet())
+      {
+         table.putIfAbsent(entry.getKey(), table.size());
+         for (String[] signature : entry.getValue())
+         {
+            for (String s : signature)
+            {
+               table.putIfAbsent(s, table.size());
+            }
+         }
+      }
+      DataOutputStream out = new DataOutputStream(os);
+      out.writeInt(MAGIC);
+      out.writeShort(VERSION);
+      out.writeInt(table.size());
+      for (String s : table.keySet())
+      {
+         out.writeUTF(s);
+      }
+      writeStrings(out, resourceClasses, table);
+      writeStrings(out, providerClasses, table);
+      out.writeInt(resourceMethods.size());
+      for (Map.Entry<String, List<String[]>> entry : resourceMethods.entrySet())
+      {
+         out.writeInt(table.get(entry.getKey()));
+         out.writeLong(fingerprints.get(entry.getKey()));
+         out.writeInt(entry.getValue().size());
+         for (String[] signature : entry.getValue())
+         {
+            out.writeByte(signature.length - 2);
+            for (String s : signature)
+            {
+               out.writeInt(table.get(s));
+            }
+         }
+      }
+      out.flush();
+   }
+
+   private static void writeStrings(DataOutputStream out, List<String> strings, Map<String, Integer> table) throws IOException
+   {
+      out.writeInt(strings.size());
+      for (String s : strings)
+      {
+         out.writeInt(table.get(s));
+      }
+   }
+
+   /**
+    * @return the names of the root resource classes
+    */
+   public List<String> getResourceClasses()
+   {
+      return Collections.unmodifiableList(resourceClasses);
+   }
+
+   /**
+    * @return the names of the provider classes
+    */
+   public List<String> getProviderClasses()
+   {
+      return Collections.unmodifiableList(providerClasses);
+   }
+
+   /**
+    * @param clazz a resource class
+    * @return the resource methods and locators of the class, each mapped to the method carrying its annotations,
+    * {@code null} if the class is not indexed or does not match the index
+    */
+   Map<Method, Method> getResourceMethods(Class<?> clazz)
+   {
+      Map<Method, Method> methods = resolved.computeIfAbsent(clazz, this::match);
+      return methods == NOT_MATCHING ? null : methods;
+   }
+
+   /**
+    * @param root a resource class
+    * @param implementation a resource method or locator of the class
+    * @return the method carrying the annotations of the implementation method, {@code null} if the class is not
+    * indexed, does not match the index, or the method is not a resource method or locator of the class
+    */
+   Method getAnnotatedMethod(Class<?> root, Method implementation)
+   {
+      Map<Method, Method> methods = getResourceMethods(root);
+      return methods == null ? null : methods.get(implementation);
+   }
+
+   private Map<Method, Method> match(Class<?> clazz)
+   {
+      List<String[]> signatures = resourceMethods.get(clazz.getName());
+      if (signatures == null)
+      {
+         return NOT_MATCHING;
+      }
+      long fingerprint = fingerprint(clazz, this::indexedDigest);
+      if (fingerprint == UNKNOWN || fingerprint != fingerprints.get(clazz.getName()))
+      {
+         return NOT_MATCHING;
+      }
+      Map<Method, Method> methods = new LinkedHashMap<>();
+      try
+      {
+         for (int i = 0; i < signatures.size(); i += 2)
+         {
+            methods.put(resolve(clazz, signatures.get(i)), resolve(clazz, signatures.get(i + 1)));
+         }
+      }
+      catch (ClassNotFoundException | NoSuchMethodException e)
+      {
+         return NOT_MATCHING;
+      }
+      return Collections.unmodifiableMap(methods);
+   }
+
+   private static Method resolve(Class<?> clazz, String[] signature) throws ClassNotFoundException, NoSuchMethodException
+   {
+      ClassLoader classLoader = clazz.getClassLoader();
+      Class<?> declaringClass = load(signature[0], clazz, classLoader);
+      Class<?>[] types = new Class<?>[signature.length - 2];
+      for (int i = 0; i < types.length; i++)
+      {
+         types[i] = load(signature[i + 2], clazz, classLoader);
+      }
+      return declaringClass.getDeclaredMethod(signature[1], types);
+   }
+
+   private static Class<?> load(String name, Class<?> clazz, ClassLoader classLoader) throws ClassNotFoundException
+   {
+      switch (name)
+      {
+         case "boolean":
+            return boolean.class;
+         case "byte":
+            return byte.class;
+         case "char":
+            return char.class;
+         case "short":
+            return short.class;
+         case "int":
+            return int.class;
+         case "long":
+            return long.class;
+         case "float":
+            return float.class;
+         case "double":
+            return double.class;
+         default:
+            return name.equals(clazz.getName()) ? clazz : Class.forName(name, false, classLoader);
+      }
+   }
+}
@@ -777,6 +777,7 @@ public class ResourceBuilder
    }
 
    private final Map<Integer, List<ResourceClassProcessor>> processors = new TreeMap<>(Comparator.reverseOrder());
+   private volatile DeploymentIndex deploymentIndex;
 
    /**
     * Register a new {@link ResourceClassProcessor} which will be used to post-process all
@@ -795,6 +796,21 @@ public class ResourceBuilder
       l.add(processor);
    }
 
+   /**
+    * Set the index of the resource methods of the deployment, used instead of searching the annotated methods
+    * of the indexed classes.
+    * @param deploymentIndex deployment index, or null
+    */
+   public void setDeploymentIndex(DeploymentIndex deploymentIndex)
+   {
+      this.deploymentIndex = deploymentIndex;
+   }
+
+   public DeploymentIndex getDeploymentIndex()
+   {
+      return deploymentIndex;
+   }
+
    @Deprecated
    public static ResourceClassBuilder rootResource(Class<?> root)
    {
@@ -905,11 +921,24 @@ public class ResourceBuilder
       {
          builder = createResourceClassBuilder(clazz);
       }
-      for (Method method : clazz.getMethods())
+      DeploymentIndex index = deploymentIndex;
+      Map<Method, Method> indexed = index == null ? null : index.getResourceMethods(clazz);
+      if (indexed != null)
       {
-         if (!method.isSynthetic() && !method.getDeclaringClass().equals(Object.class))
+         // the annotated methods of the indexed methods are then found in the index by getAnnotatedMethod
+         for (Method method : indexed.keySet())
+         {
             processMethod(isLocator, builder, clazz, method);
+         }
+      }
+      else
+      {
+         for (Method method : clazz.getMethods())
+         {
+            if (!method.isSynthetic() && !method.getDeclaringClass().equals(Object.class))
+               processMethod(isLocator, builder, clazz, method);
 
+         }
       }
       if (!clazz.isInterface())
       {
@@ -961,7 +990,8 @@ public class ResourceBuilder
    }
 
    /**
-    * Find the annotated resource method or sub-resource method / sub-resource locator in the class hierarchy.
+    * Find the annotated resource method or sub-resource method / sub-resource locator in the class hierarchy,
+    * or in the deployment index when the root class is indexed.
     *
     * @param root The root resource class.
     * @param implementation The resource method or sub-resource method / sub-resource locator implementation
@@ -974,6 +1004,16 @@ public class ResourceBuilder
          return null;
       }
 
+      DeploymentIndex index = deploymentIndex;
+      if (index != null)
+      {
+         Method indexed = index.getAnnotatedMethod(root, implementation);
+         if (indexed != null)
+         {
+            return indexed;
+         }
+      }
+
       // Check the method itself for JAX-RS annotations
       if (implementation.isAnnotationPresent(Path.class) || isHttpMethod(implementation))
       {
@@ -1189,61 +1229,70 @@ public class ResourceBuilder
       Method method = getAnnotatedMethod(root, implementation);
       if (method != null)
       {
-         Set<String> httpMethods = getHttpMethods(method);
+         processMethod(resourceClassBuilder, implementation, method);
+      }
+   }
 
-         ResourceLocatorBuilder resourceLocatorBuilder;
+   /**
+    * Build the resource method or locator of an implementation method from the annotations of the method
+    * found by {@link #getAnnotatedMethod(Class, Method)}.
+    */
+   protected void processMethod(ResourceClassBuilder resourceClassBuilder, Method implementation, Method method)
+   {
+      Set<String> httpMethods = getHttpMethods(method);
 
-         if (httpMethods == null)
-         {
-            resourceLocatorBuilder = resourceClassBuilder.locator(implementation, method);
-         }
-         else
-         {
-            ResourceMethodBuilder resourceMethodBuilder = resourceClassBuilder.method(implementation, method);
-            resourceLocatorBuilder = resourceMethodBuilder;
+      ResourceLocatorBuilder resourceLocatorBuilder;
 
-            for (String httpMethod : httpMethods)
-            {
-               if (httpMethod.equalsIgnoreCase(HttpMethod.GET))
-                  resourceMethodBuilder.get();
-               else if (httpMethod.equalsIgnoreCase(HttpMethod.PUT))
-                  resourceMethodBuilder.put();
-               else if (httpMethod.equalsIgnoreCase(HttpMethod.POST))
-                  resourceMethodBuilder.post();
-               else if (httpMethod.equalsIgnoreCase(HttpMethod.DELETE))
-                  resourceMethodBuilder.delete();
-               else if (httpMethod.equalsIgnoreCase(HttpMethod.OPTIONS))
-                  resourceMethodBuilder.options();
-               else if (httpMethod.equalsIgnoreCase(HttpMethod.HEAD))
-                  resourceMethodBuilder.head();
-               else
-                  resourceMethodBuilder.httpMethod(httpMethod);
-            }
-            Produces produces = method.getAnnotation(Produces.class);
-            if (produces == null)
-               produces = resourceClassBuilder.resourceClass.getClazz().getAnnotation(Produces.class);
-            if (produces == null)
-               produces = method.getDeclaringClass().getAnnotation(Produces.class);
-            if (produces != null)
-               resourceMethodBuilder.produces(produces.value());
-
-            Consumes consumes = method.getAnnotation(Consumes.class);
-            if (consumes == null)
-               consumes = resourceClassBuilder.resourceClass.getClazz().getAnnotation(Consumes.class);
-            if (consumes == null)
-               consumes = method.getDeclaringClass().getAnnotation(Consumes.class);
-            if (consumes != null)
-               resourceMethodBuilder.consumes(consumes.value());
-         }
-         Path methodPath = method.getAnnotation(Path.class);
-         if (methodPath != null)
-            resourceLocatorBuilder.path(methodPath.value());
-         for (int i = 0; i < resourceLocatorBuilder.locator.params.length; i++)
+      if (httpMethods == null)
+      {
+         resourceLocatorBuilder = resourceClassBuilder.locator(implementation, method);
+      }
+      else
+      {
+         ResourceMethodBuilder resourceMethodBuilder = resourceClassBuilder.method(implementation, method);
+         resourceLocatorBuilder = resourceMethodBuilder;
+
+         for (String httpMethod : httpMethods)
          {
-            resourceLocatorBuilder.param(i).fromAnnotations();
+            if (httpMethod.equalsIgnoreCase(HttpMethod.GET))
+               resourceMethodBuilder.get();
+            else if (httpMethod.equalsIgnoreCase(HttpMethod.PUT))
+               resourceMethodBuilder.put();
+            else if (httpMethod.equalsIgnoreCase(HttpMethod.POST))
+               resourceMethodBuilder.post();
+            else if (httpMethod.equalsIgnoreCase(HttpMethod.DELETE))
+               resourceMethodBuilder.delete();
+            else if (httpMethod.equalsIgnoreCase(HttpMethod.OPTIONS))
+               resourceMethodBuilder.options();
+            else if (httpMethod.equalsIgnoreCase(HttpMethod.HEAD))
+               resourceMethodBuilder.head();
+            else
+               resourceMethodBuilder.httpMethod(httpMethod);
          }
-         resourceLocatorBuilder.buildMethod();
-      }
+         Produces produces = method.getAnnotation(Produces.class);
+         if (produces == null)
+            produces = resourceClassBuilder.resourceClass.getClazz().getAnnotation(Produces.class);
+         if (produces == null)
+            produces = method.getDeclaringClass().getAnnotation(Produces.class);
+         if (produces != null)
+            resourceMethodBuilder.produces(produces.value());
+
+         Consumes consumes = method.getAnnotation(Consumes.class);
+         if (consumes == null)
+            consumes = resourceClassBuilder.resourceClass.getClazz().getAnnotation(Consumes.class);
+         if (consumes == null)
+            consumes = method.getDeclaringClass().getAnnotation(Consumes.class);
+         if (consumes != null)
+            resourceMethodBuilder.consumes(consumes.value());
+      }
+      Path methodPath = method.getAnnotation(Path.class);
+      if (methodPath != null)
+         resourceLocatorBuilder.path(methodPath.value());
+      for (int i = 0; i < resourceLocatorBuilder.locator.params.length; i++)
+      {
+         resourceLocatorBuilder.param(i).fromAnnotations();
+      }
+      resourceLocatorBuilder.buildMethod();
    }
 
    /**
@@ -27,6 +27,61 @@ public interface MethodStatisticsLogger {
       // no-op
    }
 
+   /**
+    * Record the time spent matching the request to the method
+    * @param fromTimestamp time before the matching
+    */
+   default void routingDuration(final long fromTimestamp) {
+      // no-op
+   }
+
+   /**
+    * Record the time spent in the request filters bound to the method
+    * @param fromTimestamp time before the first filter
+    */
+   default void filtersDuration(final long fromTimestamp) {
+      // no-op
+   }
+
+   /**
+    * Record the time spent injecting the parameters of the method, including the reading of the request body
+    * @param fromTimestamp time before the injection
+    */
+   default void readingDuration(final long fromTimestamp) {
+      // no-op
+   }
+
+   /**
+    * Record the time spent in the method itself
+    * @param fromTimestamp time before the invocation
+    */
+   default void invocationDuration(final long fromTimestamp) {
+      // no-op
+   }
+
+   /**
+    * Record the time spent writing a response, from the response filters to the end of the body
+    * @param fromTimestamp time before the writing
+    * @param status status of the written response
+    */
+   default void writingDuration(final long fromTimestamp, final int status) {
+      // no-op
+   }
+
+   /**
+    * Count a request being processed by the method
+    */
+   default void requestStarted() {
+      // no-op
+   }
+
+   /**
+    * Count a request no longer being processed by the method
+    */
+   default void requestEnded() {
+      // no-op
+   }
+
    /**
     * Reinitialize statistics
     */
@@ -2,8 +2,26 @@ package org.jboss.resteasy.spi.statistics;
 
 import org.jboss.resteasy.spi.ResourceInvoker;
 
+import java.util.function.Function;
+
 public interface StatisticsController {
    void register(ResourceInvoker invoker);
    void setEnabled(boolean b);
    void reset();
+
+   default boolean isEnabled() {
+      return false;
+   }
+
+   /**
+    * Replace the factory of the {@link MethodStatisticsLogger}s installed on the invokers when the statistics are
+    * enabled, e.g. to record more than the default loggers.
+    *
+    * @param factory factory of the loggers
+    * @return {@code false} if this controller does not support replacing its loggers, in which case the factory is
+    * ignored
+    */
+   default boolean setMethodStatisticsLoggerFactory(Function<ResourceInvoker, MethodStatisticsLogger> factory) {
+      return false;
+   }
 }
@@ -3,6 +3,9 @@ package org.jboss.resteasy.core;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
 import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+
+import jakarta.ws.rs.core.HttpHeaders;
 
 /**
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
@@ -39,4 +42,17 @@ public abstract class AbstractExecutionContext implements ResteasyAsynchronousCo
    {
       initialRequestThread = null;
    }
+
+   /**
+    * Copies the request headers still read from the container, as a suspended request is processed by other
+    * threads, possibly after the request of the container is recycled.
+    */
+   protected void loadHeaders()
+   {
+      HttpHeaders headers = request.getHttpHeaders();
+      if (headers instanceof ResteasyHttpHeaders)
+      {
+         ((ResteasyHttpHeaders) headers).loadFromContainer();
+      }
+   }
 }
@@ -194,6 +194,7 @@ public class AsynchronousDispatcher extends SynchronousDispatcher
    {
       cache = new Cache(maxCacheSize);
       jobs = Collections.synchronizedMap(cache);
+      if (executor == null && ContextualExecutors.isVirtualThreads()) executor = ContextualExecutors.virtualThreadPerTask();
       if (executor == null) executor = ContextualExecutors.wrap(Executors.newFixedThreadPool(threadPoolSize), false);
       registry.addSingletonResource(this, basePath);
    }
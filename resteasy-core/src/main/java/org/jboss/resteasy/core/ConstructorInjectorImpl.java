@@ -35,6 +35,7 @@ public class ConstructorInjectorImpl implements ConstructorInjector
    @SuppressWarnings("rawtypes")
    protected Constructor constructor;
    protected ValueInjector[] params;
+   protected GeneratedInvokers.ConstructorInvoker invoker;
 
    public ConstructorInjectorImpl(final ResourceConstructor constructor, final ResteasyProviderFactory factory)
    {
@@ -45,7 +46,7 @@ public class ConstructorInjectorImpl implements ConstructorInjector
       {
          params[i++] = factory.getInjectorFactory().createParameterExtractor(parameter, factory);
       }
-
+      generateInvoker();
    }
 
 
@@ -62,6 +63,24 @@ public class ConstructorInjectorImpl implements ConstructorInjector
          String name = reflectionParameters[i].getName();
          params[i] = factory.getInjectorFactory().createParameterExtractor(constructor.getDeclaringClass(), constructor, name, type, genericType, annotations, factory);
       }
+      generateInvoker();
+   }
+
+   private void generateInvoker()
+   {
+      if (GeneratedInvokers.isEnabled())
+      {
+         invoker = GeneratedInvokers.forConstructor(constructor);
+      }
+   }
+
+   /**
+    * Creates the instance through the generated invoker if there is one, reporting its failures like
+    * {@link Constructor#newInstance(Object...)} does.
+    */
+   protected Object newInstance(Object[] args) throws InstantiationException, IllegalAccessException, InvocationTargetException
+   {
+      return invoker == null ? constructor.newInstance(args) : invoker.newInstance(args);
    }
 
    @SuppressWarnings("unchecked")
@@ -156,7 +175,7 @@ public class ConstructorInjectorImpl implements ConstructorInjector
    protected Object constructInRequest(Object[] args) {
       try
       {
-         return constructor.newInstance(args);
+         return newInstance(args);
       }
       catch (InstantiationException e)
       {
@@ -222,13 +241,13 @@ public class ConstructorInjectorImpl implements ConstructorInjector
       {
          Object target = null;
          if (System.getSecurityManager() == null) {
-            target = constructor.newInstance(args);
+            target = newInstance(args);
          } else {
             try {
                target = AccessController.doPrivileged(new PrivilegedExceptionAction<Object>() {
                   @Override
                   public Object run() throws Exception {
-                     return constructor.newInstance(args);
+                     return newInstance(args);
                   }
                });
             } catch (PrivilegedActionException pae) {
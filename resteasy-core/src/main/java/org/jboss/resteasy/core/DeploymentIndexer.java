@@ -0,0 +1,102 @@
+package org.jboss.resteasy.core;
+
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.metadata.DeploymentIndex;
+import org.jboss.resteasy.spi.metadata.ResourceBuilder;
+import org.jboss.resteasy.util.AnnotationResolver;
+
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes the {@link DeploymentIndex} of the classes of a directory, for instance from the {@code process-classes}
+ * phase of a Maven build with the exec-maven-plugin:
+ * <pre>
+ * java org.jboss.resteasy.core.DeploymentIndexer target/classes
+ * </pre>
+ * The classes, and the classes they depend on, must be loadable from the class path of the indexer.
+ */
+public class DeploymentIndexer
+{
+   /**
+    * @param classesDirectory directory of the compiled classes of the deployment
+    * @param classLoader class loader of the classes
+    * @return the index of the root resource classes and providers found in the directory
+    * @throws IOException if the directory can not be read
+    * @throws ClassNotFoundException if a class of the directory can not be loaded
+    */
+   public static DeploymentIndex index(java.nio.file.Path classesDirectory, ClassLoader classLoader)
+         throws IOException, ClassNotFoundException
+   {
+      List<String> classNames;
+      try (Stream<java.nio.file.Path> files = Files.walk(classesDirectory))
+      {
+         classNames = files.map(classesDirectory::relativize)
+               .map(java.nio.file.Path::toString)
+               .filter(name -> name.endsWith(".class") && !name.endsWith("module-info.class")
+                     && !name.endsWith("package-info.class"))
+               .map(name -> name.substring(0, name.length() - ".class".length()).replace('/', '.').replace('\\', '.'))
+               .sorted()
+               .collect(Collectors.toList());
+      }
+      List<Class<?>> resources = new ArrayList<>();
+      List<Class<?>> providers = new ArrayList<>();
+      for (String className : classNames)
+      {
+         Class<?> clazz = Class.forName(className, false, classLoader);
+         if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers()) || clazz.isAnonymousClass())
+         {
+            continue;
+         }
+         if (AnnotationResolver.getClassWithAnnotation(clazz, Path.class) != null)
+         {
+            resources.add(clazz);
+         }
+         else if (clazz.isAnnotationPresent(Provider.class))
+         {
+            providers.add(clazz);
+         }
+      }
+      return DeploymentIndex.create(resources, providers, new ResourceBuilder());
+   }
+
+   /**
+    * @param args the directory of the compiled classes, and optionally the index file, by default
+    *             {@link DeploymentIndex#LOCATION} in the directory
+    * @throws Exception if the index can not be written
+    */
+   public static void main(String[] args) throws Exception
+   {
+      if (args.length < 1)
+      {
+         throw new IllegalArgumentException("Usage: DeploymentIndexer <classes directory> [<index file>]");
+      }
+      java.nio.file.Path classesDirectory = Paths.get(args[0]);
+      java.nio.file.Path indexFile = args.length > 1 ? Paths.get(args[1]) : classesDirectory.resolve(DeploymentIndex.LOCATION);
+      DeploymentIndex index;
+      try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()},
+            Thread.currentThread().getContextClassLoader()))
+      {
+         index = index(classesDirectory, classLoader);
+      }
+      Files.createDirectories(indexFile.toAbsolutePath().getParent());
+      try (OutputStream os = Files.newOutputStream(indexFile))
+      {
+         index.write(os);
+      }
+      LogMessages.LOGGER.infof("Indexed %d resource classes and %d providers in %s", index.getResourceClasses().size(),
+            index.getProviderClasses().size(), indexFile);
+   }
+}
@@ -0,0 +1,440 @@
+package org.jboss.resteasy.core;
+
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.config.ConfigurationFactory;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+/**
+ * Non-reflective invokers for resource methods, setters and constructors, generated with {@link LambdaMetafactory}
+ * when the injectors are created and {@link ResteasyContextParameters#RESTEASY_GENERATED_INVOKERS_ENABLED} is set.
+ * <p>
+ * Each invoker wraps a lambda implementing one of the fixed arity interfaces below, which calls the target directly
+ * instead of going through {@link Method#invoke(Object, Object...)}.  The lambda class is defined with a private
+ * lookup in the declaring class.  If that is not possible, e.g. the class loader of the declaring class cannot see
+ * RESTEasy or its module is not open, or if the target takes more than {@link #MAX_PARAMETERS} parameters, no invoker
+ * is generated and the injectors keep using reflection.  Fields are always set through reflection, as lambdas can
+ * only be bound to methods and constructors.
+ * <p>
+ * The invokers report failures like {@link Method#invoke(Object, Object...)} does: only the exceptions thrown by the
+ * target are wrapped in an {@link InvocationTargetException}.  The target instance and arguments are checked before
+ * calling the lambda, and those that do not exactly match the parameter types, e.g. a null value for a primitive
+ * parameter, are handed to reflection, which either converts them or rejects them with an
+ * {@link IllegalArgumentException}.
+ */
+public final class GeneratedInvokers
+{
+   public static final int MAX_PARAMETERS = 4;
+
+   @FunctionalInterface
+   public interface MethodInvoker
+   {
+      Object invoke(Object target, Object[] args) throws IllegalAccessException, InvocationTargetException;
+   }
+
+   @FunctionalInterface
+   public interface ConstructorInvoker
+   {
+      Object newInstance(Object[] args) throws InstantiationException, IllegalAccessException, InvocationTargetException;
+   }
+
+   @FunctionalInterface
+   public interface SetterInvoker
+   {
+      void set(Object target, Object value) throws IllegalAccessException, InvocationTargetException;
+   }
+
+   // Calls of the generated lambdas, once the target instance and arguments have been checked.
+
+   private interface MethodCall
+   {
+      Object invoke(Object target, Object[] args) throws Throwable;
+   }
+
+   private interface ConstructorCall
+   {
+      Object newInstance(Object[] args) throws Throwable;
+   }
+
+   private interface SetterCall
+   {
+      void set(Object target, Object value) throws Throwable;
+   }
+
+   // Implemented by the generated lambdas, the target instance is the first argument of methods.  These have to be
+   // public as the lambdas are defined in the class loader of the declaring class.
+
+   public interface F0
+   {
+      Object apply();
+   }
+
+   public interface F1
+   {
+      Object apply(Object a0);
+   }
+
+   public interface F2
+   {
+      Object apply(Object a0, Object a1);
+   }
+
+   public interface F3
+   {
+      Object apply(Object a0, Object a1, Object a2);
+   }
+
+   public interface F4
+   {
+      Object apply(Object a0, Object a1, Object a2, Object a3);
+   }
+
+   public interface F5
+   {
+      Object apply(Object a0, Object a1, Object a2, Object a3, Object a4);
+   }
+
+   public interface C1
+   {
+      void accept(Object a0);
+   }
+
+   public interface C2
+   {
+      void accept(Object a0, Object a1);
+   }
+
+   public interface C3
+   {
+      void accept(Object a0, Object a1, Object a2);
+   }
+
+   public interface C4
+   {
+      void accept(Object a0, Object a1, Object a2, Object a3);
+   }
+
+   public interface C5
+   {
+      void accept(Object a0, Object a1, Object a2, Object a3, Object a4);
+   }
+
+   private static final Class<?>[] FUNCTIONS = {F0.class, F1.class, F2.class, F3.class, F4.class, F5.class};
+   private static final Class<?>[] CONSUMERS = {null, C1.class, C2.class, C3.class, C4.class, C5.class};
+
+   private GeneratedInvokers()
+   {
+   }
+
+   public static boolean isEnabled()
+   {
+      return ConfigurationFactory.getInstance().getConfiguration().getOptionalValue(
+            ResteasyContextParameters.RESTEASY_GENERATED_INVOKERS_ENABLED, boolean.class).orElse(false);
+   }
+
+   /**
+    * @param method instance method
+    * @return invoker, or null if none can be generated for the method
+    */
+   public static MethodInvoker forMethod(Method method)
+   {
+      if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() > MAX_PARAMETERS) return null;
+      try
+      {
+         MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+         Object lambda = spin(lookup, lookup.unreflect(method));
+         MethodCall call = methodCall(lambda);
+         Parameters parameters = new Parameters(method.getDeclaringClass(), method.getParameterTypes());
+         return (target, args) -> {
+            if (!parameters.accept(target, args)) return method.invoke(target, args);
+            try
+            {
+               return call.invoke(target, args);
+            }
+            catch (Throwable t)
+            {
+               throw new InvocationTargetException(t);
+            }
+         };
+      }
+      catch (Throwable t)
+      {
+         notGenerated(method, t);
+         return null;
+      }
+   }
+
+   private static MethodCall methodCall(Object lambda)
+   {
+      if (lambda instanceof F1)
+      {
+         F1 f = (F1) lambda;
+         return (target, args) -> f.apply(target);
+      }
+      if (lambda instanceof F2)
+      {
+         F2 f = (F2) lambda;
+         return (target, args) -> f.apply(target, args[0]);
+      }
+      if (lambda instanceof F3)
+      {
+         F3 f = (F3) lambda;
+         return (target, args) -> f.apply(target, args[0], args[1]);
+      }
+      if (lambda instanceof F4)
+      {
+         F4 f = (F4) lambda;
+         return (target, args) -> f.apply(target, args[0], args[1], args[2]);
+      }
+      if (lambda instanceof F5)
+      {
+         F5 f = (F5) lambda;
+         return (target, args) -> f.apply(target, args[0], args[1], args[2], args[3]);
+      }
+      if (lambda instanceof C1)
+      {
+         C1 c = (C1) lambda;
+         return (target, args) -> {
+            c.accept(target);
+            return null;
+         };
+      }
+      if (lambda instanceof C2)
+      {
+         C2 c = (C2) lambda;
+         return (target, args) -> {
+            c.accept(target, args[0]);
+            return null;
+         };
+      }
+      if (lambda instanceof C3)
+      {
+         C3 c = (C3) lambda;
+         return (target, args) -> {
+            c.accept(target, args[0], args[1]);
+            return null;
+         };
+      }
+      if (lambda instanceof C4)
+      {
+         C4 c = (C4) lambda;
+         return (target, args) -> {
+            c.accept(target, args[0], args[1], args[2]);
+            return null;
+         };
+      }
+      C5 c = (C5) lambda;
+      return (target, args) -> {
+         c.accept(target, args[0], args[1], args[2], args[3]);
+         return null;
+      };
+   }
+
+   /**
+    * @param method instance method taking one parameter, its result if any is ignored
+    * @return invoker, or null if none can be generated for the method
+    */
+   public static SetterInvoker forSetter(Method method)
+   {
+      if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) return null;
+      try
+      {
+         MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+         Object lambda = spin(lookup, lookup.unreflect(method));
+         SetterCall call;
+         if (lambda instanceof C2)
+         {
+            C2 c = (C2) lambda;
+            call = c::accept;
+         }
+         else
+         {
+            F2 f = (F2) lambda;
+            call = f::apply;
+         }
+         Parameters parameters = new Parameters(method.getDeclaringClass(), method.getParameterTypes());
+         return (target, value) -> {
+            if (!parameters.accept(target, value))
+            {
+               method.invoke(target, value);
+               return;
+            }
+            try
+            {
+               call.set(target, value);
+            }
+            catch (Throwable t)
+            {
+               throw new InvocationTargetException(t);
+            }
+         };
+      }
+      catch (Throwable t)
+      {
+         notGenerated(method, t);
+         return null;
+      }
+   }
+
+   /**
+    * @param constructor constructor of a concrete class
+    * @return invoker, or null if none can be generated for the constructor
+    */
+   public static ConstructorInvoker forConstructor(Constructor<?> constructor)
+   {
+      if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())
+            || constructor.getParameterCount() > MAX_PARAMETERS) return null;
+      try
+      {
+         MethodHandles.Lookup lookup = lookup(constructor.getDeclaringClass());
+         Object lambda = spin(lookup, lookup.unreflectConstructor(constructor));
+         ConstructorCall call = constructorCall(lambda);
+         Parameters parameters = new Parameters(null, constructor.getParameterTypes());
+         return args -> {
+            if (!parameters.accept(null, args)) return constructor.newInstance(args);
+            try
+            {
+               return call.newInstance(args);
+            }
+            catch (Throwable t)
+            {
+               throw new InvocationTargetException(t);
+            }
+         };
+      }
+      catch (Throwable t)
+      {
+         notGenerated(constructor, t);
+         return null;
+      }
+   }
+
+   private static ConstructorCall constructorCall(Object lambda)
+   {
+      if (lambda instanceof F0)
+      {
+         F0 f = (F0) lambda;
+         return args -> f.apply();
+      }
+      if (lambda instanceof F1)
+      {
+         F1 f = (F1) lambda;
+         return args -> f.apply(args[0]);
+      }
+      if (lambda instanceof F2)
+      {
+         F2 f = (F2) lambda;
+         return args -> f.apply(args[0], args[1]);
+      }
+      if (lambda instanceof F3)
+      {
+         F3 f = (F3) lambda;
+         return args -> f.apply(args[0], args[1], args[2]);
+      }
+      F4 f = (F4) lambda;
+      return args -> f.apply(args[0], args[1], args[2], args[3]);
+   }
+
+   /**
+    * Binds a lambda of the interface matching the arity and return type of the handle.  Arguments are cast and
+    * unboxed, and results boxed, by the generated class.
+    */
+   private static Object spin(MethodHandles.Lookup lookup, MethodHandle target) throws Throwable
+   {
+      MethodType type = target.type();
+      boolean isVoid = type.returnType() == void.class;
+      Class<?> functionalInterface = isVoid ? CONSUMERS[type.parameterCount()] : FUNCTIONS[type.parameterCount()];
+      Method sam = functionalInterface.getMethods()[0];
+      MethodType instantiatedType = type.wrap();
+      if (isVoid) instantiatedType = instantiatedType.changeReturnType(void.class);
+      return LambdaMetafactory.metafactory(lookup, sam.getName(), MethodType.methodType(functionalInterface),
+            MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()), target, instantiatedType)
+            .getTarget().invoke();
+   }
+
+   private static MethodHandles.Lookup lookup(Class<?> declaringClass) throws IllegalAccessException
+   {
+      if (System.getSecurityManager() == null)
+      {
+         return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+      }
+      try
+      {
+         return AccessController.doPrivileged(new PrivilegedExceptionAction<MethodHandles.Lookup>()
+         {
+            @Override
+            public MethodHandles.Lookup run() throws Exception
+            {
+               return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            }
+         });
+      }
+      catch (PrivilegedActionException e)
+      {
+         throw (IllegalAccessException) e.getException();
+      }
+   }
+
+   /**
+    * Checks the target instance and arguments of a call, as the lambdas cast and unbox them without converting them.
+    */
+   private static final class Parameters
+   {
+      // null for constructors
+      private final Class<?> declaringClass;
+      // wrapper types of the parameters
+      private final Class<?>[] types;
+      private final boolean[] primitives;
+
+      private Parameters(final Class<?> declaringClass, final Class<?>[] parameterTypes)
+      {
+         this.declaringClass = declaringClass;
+         this.types = new Class<?>[parameterTypes.length];
+         this.primitives = new boolean[parameterTypes.length];
+         for (int i = 0; i < parameterTypes.length; i++)
+         {
+            types[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+            primitives[i] = parameterTypes[i].isPrimitive();
+         }
+      }
+
+      private boolean accept(Object target, Object[] args)
+      {
+         if (declaringClass != null && !declaringClass.isInstance(target)) return false;
+         int length = args == null ? 0 : args.length;
+         if (length != types.length) return false;
+         for (int i = 0; i < length; i++)
+         {
+            if (!accept(i, args[i])) return false;
+         }
+         return true;
+      }
+
+      private boolean accept(Object target, Object value)
+      {
+         return declaringClass.isInstance(target) && accept(0, value);
+      }
+
+      private boolean accept(int i, Object arg)
+      {
+         return arg == null ? !primitives[i] : types[i].isInstance(arg);
+      }
+   }
+
+   private static void notGenerated(Executable executable, Throwable t)
+   {
+      LogMessages.LOGGER.debugf(t, "Using reflection to invoke %s", executable);
+   }
+}
@@ -0,0 +1,168 @@
+package org.jboss.resteasy.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Request headers read from the headers of the container, instead of being copied when the request is received.
+ * A header is copied when it is first accessed, so that it can be modified as any {@link Headers}, and all of them
+ * are copied when the headers are iterated or counted.
+ * <p>
+ * The headers are safe to read from several threads, but they must not read the container once its request is
+ * completed or recycled: {@link #loadAll()} copies the remaining headers before the request is suspended and handed
+ * to other threads.
+ * </p>
+ */
+public class LazyHeaders extends Headers<String>
+{
+   private transient Supplier<? extends Iterable<String>> headerNames;
+   private final transient Function<String, ? extends Collection<String>> headerValues;
+   private final Set<String> loaded = new TreeSet<String>(CASE_INSENSITIVE_ORDER);
+
+   /**
+    * @param headerNames the names of the headers of the container
+    * @param headerValues the values of a header of the container, {@code null} or empty if it is not present
+    */
+   public LazyHeaders(final Supplier<? extends Iterable<String>> headerNames,
+                      final Function<String, ? extends Collection<String>> headerValues)
+   {
+      this.headerNames = headerNames;
+      this.headerValues = headerValues;
+   }
+
+   private void load(Object key)
+   {
+      if (headerNames != null && key instanceof String && loaded.add((String) key))
+      {
+         Collection<String> values = headerValues.apply((String) key);
+         if (values != null && !values.isEmpty())
+         {
+            super.put((String) key, new ArrayList<String>(values));
+         }
+      }
+   }
+
+   /**
+    * Copies all the headers of the container, after which the container is no longer read.
+    */
+   public synchronized void loadAll()
+   {
+      if (headerNames != null)
+      {
+         for (String name : headerNames.get())
+         {
+            load(name);
+         }
+         headerNames = null;
+         loaded.clear();
+      }
+   }
+
+   @Override
+   public synchronized List<String> get(Object key)
+   {
+      load(key);
+      return super.get(key);
+   }
+
+   @Override
+   public synchronized boolean containsKey(Object key)
+   {
+      load(key);
+      return super.containsKey(key);
+   }
+
+   @Override
+   public synchronized List<String> put(String key, List<String> value)
+   {
+      load(key);
+      return super.put(key, value);
+   }
+
+   @Override
+   public synchronized void putAll(Map<? extends String, ? extends List<String>> t)
+   {
+      for (String key : t.keySet())
+      {
+         load(key);
+      }
+      super.putAll(t);
+   }
+
+   @Override
+   public synchronized List<String> remove(Object key)
+   {
+      load(key);
+      return super.remove(key);
+   }
+
+   @Override
+   public synchronized void clear()
+   {
+      headerNames = null;
+      loaded.clear();
+      super.clear();
+   }
+
+   @Override
+   public synchronized boolean containsValue(Object value)
+   {
+      loadAll();
+      return super.containsValue(value);
+   }
+
+   @Override
+   public synchronized Set<Entry<String, List<String>>> entrySet()
+   {
+      loadAll();
+      return super.entrySet();
+   }
+
+   @Override
+   public synchronized Set<String> keySet()
+   {
+      loadAll();
+      return super.keySet();
+   }
+
+   @Override
+   public synchronized Collection<List<String>> values()
+   {
+      loadAll();
+      return super.values();
+   }
+
+   @Override
+   public synchronized boolean isEmpty()
+   {
+      loadAll();
+      return super.isEmpty();
+   }
+
+   @Override
+   public synchronized int size()
+   {
+      loadAll();
+      return super.size();
+   }
+
+   @Override
+   public synchronized boolean equals(Object o)
+   {
+      loadAll();
+      return super.equals(o);
+   }
+
+   @Override
+   public synchronized int hashCode()
+   {
+      loadAll();
+      return super.hashCode();
+   }
+}
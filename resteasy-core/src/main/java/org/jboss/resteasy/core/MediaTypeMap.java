@@ -12,12 +12,18 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * A copy-on-write MediaType index of T.
+ * <p>
+ * Lookups never touch the structures that are being added to: they read a single volatile reference to an immutable
+ * snapshot of the entries, which also holds the caches derived from them.  Adds only discard the current snapshot and
+ * the next lookup publishes a new one, so copies of the map share the snapshot until either of them is modified.
  *
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
  * @version $Revision: 1 $
@@ -201,7 +207,7 @@ public class MediaTypeMap<T>
 
       private void addWildComposite(Entry<T> entry, String base) {
          Map<String, List<Entry<T>>> newWildCompositeIndex = wildCompositeIndex;
-         if (lockSnapshots) newWildCompositeIndex = (wildCompositeIndex);
+         if (lockSnapshots) newWildCompositeIndex = copy(wildCompositeIndex);
          add(newWildCompositeIndex, base, entry);
          wildCompositeIndex = newWildCompositeIndex;
          merge(entry);
@@ -229,6 +235,19 @@ public class MediaTypeMap<T>
          }
       }
 
+      /**
+       * @return deep copy that is never modified, for a {@link Snapshot}
+       */
+      private SubtypeMap<T> snapshot() {
+         SubtypeMap<T> snapshot = new SubtypeMap<>();
+         snapshot.index = copy(index);
+         snapshot.compositeIndex = copy(compositeIndex);
+         snapshot.wildCompositeIndex = copy(wildCompositeIndex);
+         snapshot.wildcards = new ArrayList<>(wildcards);
+         snapshot.all = new ArrayList<>(all);
+         return snapshot;
+      }
+
       private Map<String, List<Entry<T>>> copy(final Map<String, List<Entry<T>>> original) {
          final Map<String, List<Entry<T>>> copy = new HashMap<>(original.size());
          original.forEach((key, value) -> copy.put(key, new ArrayList<>(value)));
@@ -339,8 +358,29 @@ public class MediaTypeMap<T>
       }
    }
 
+   /**
+    * Entries as seen by lookups, along with the caches derived from them.
+    */
+   private final class Snapshot
+   {
+      private final Map<String, SubtypeMap<T>> index;
+      private final List<Entry<T>> wildcards;
+      private final List<Entry<T>> everything;
+      private final Map<CachedMediaTypeAndClass, List<T>> classCache = new ConcurrentHashMap<>();
+      private final Map<Object, Object> resolutionCache = new ConcurrentHashMap<>();
+
+      private Snapshot(final Map<String, SubtypeMap<T>> index, final List<Entry<T>> wildcards, final List<Entry<T>> everything)
+      {
+         Map<String, SubtypeMap<T>> copy = new HashMap<>(index.size());
+         index.forEach((key, value) -> copy.put(key, value.snapshot()));
+         this.index = copy;
+         this.wildcards = new ArrayList<>(wildcards);
+         this.everything = new ArrayList<>(everything);
+      }
+   }
+
+   private volatile Snapshot snapshot;
    private volatile Map<String, SubtypeMap<T>> index;
-   private volatile Map<CachedMediaTypeAndClass, List<T>> classCache;
    private volatile List<Entry<T>> wildcards;
    private volatile List<Entry<T>> everything;
    private boolean lockSnapshots;
@@ -361,7 +401,7 @@ public class MediaTypeMap<T>
       index      = mediaTypeMap.index;
       wildcards  = mediaTypeMap.wildcards;
       everything        = mediaTypeMap.everything;
-      classCache = mediaTypeMap.classCache;
+      snapshot   = mediaTypeMap.snapshot;
    }
 
    /**
@@ -494,7 +534,18 @@ public class MediaTypeMap<T>
          everything.add(entry);
          Collections.sort(everything);
       }
-      classCache = null;
+      snapshot = null;
+   }
+
+   private Snapshot getSnapshot()
+   {
+      Snapshot current = snapshot;
+      if (current != null) return current;
+      synchronized (this)
+      {
+         if (snapshot == null) snapshot = new Snapshot(index, wildcards, everything);
+         return snapshot;
+      }
    }
 
 
@@ -518,25 +569,55 @@ public class MediaTypeMap<T>
     */
    public List<T> getPossible(MediaType accept)
    {
+      Snapshot current = getSnapshot();
       accept = new MediaType(accept.getType().toLowerCase(), accept.getSubtype().toLowerCase(), accept.getParameters());
       List<Entry<T>> matches = new ArrayList<Entry<T>>();
       if (accept.isWildcardType())
       {
-         return convert(everything);
+         return convert(current.everything);
       }
       else
       {
-         SubtypeMap<T> indexed = index.get(accept.getType());
+         SubtypeMap<T> indexed = current.index.get(accept.getType());
          if (indexed != null)
          {
             matches.addAll(indexed.getPossible(accept));
          }
-         matches.addAll(wildcards);
+         matches.addAll(current.wildcards);
       }
       Collections.sort(matches);
       return convert(matches);
    }
 
+   /**
+    * Returns a result derived from the entries of this map that are possible for a media type and a class, i.e. the
+    * provider finally selected for them.  The result is looked up, computed and cached against the same snapshot of
+    * the entries, so that it is discarded along with that snapshot when an entry is added.  The cache is cleared
+    * whenever it reaches {@value #RESOLUTION_CACHE_SIZE} entries, and is disabled along with {@link #useCache}.
+    * A media type with parameters other than the charset, e.g. a multipart boundary, is resolved without the cache,
+    * as such variants are unique to a request and would keep clearing it.
+    *
+    * @param key resolution key
+    * @param accept mime to match
+    * @param type class to match
+    * @param resolver computes the result from the key and the possible objects, must not return null
+    * @param <K> type of the resolution key
+    * @return cached or computed result
+    */
+   public <K> Object resolve(K key, MediaType accept, Class<?> type, BiFunction<K, List<T>, Object> resolver)
+   {
+      Snapshot current = getSnapshot();
+      if (!useCache || !isResolutionCacheable(accept)) return resolver.apply(key, getPossible(current, accept, type));
+      Object resolved = current.resolutionCache.get(key);
+      if (resolved == null)
+      {
+         resolved = resolver.apply(key, getPossible(current, accept, type));
+         if (current.resolutionCache.size() >= RESOLUTION_CACHE_SIZE) current.resolutionCache.clear();
+         current.resolutionCache.put(key, resolved);
+      }
+      return resolved;
+   }
+
    /**
     * By default, MediaTypeMap will cache possible MediaType/Class matches.  Set this to false to turn off
     * caching
@@ -544,49 +625,50 @@ public class MediaTypeMap<T>
     */
    public static boolean useCache = true;
 
+   public static final int RESOLUTION_CACHE_SIZE = 4096;
+
+   private static boolean isResolutionCacheable(MediaType mediaType)
+   {
+      Map<String, String> parameters = mediaType.getParameters();
+      return parameters.isEmpty()
+            || (parameters.size() == 1 && parameters.containsKey(MediaType.CHARSET_PARAMETER));
+   }
+
    public List<T> getPossible(MediaType accept, Class<?> type)
+   {
+      return getPossible(getSnapshot(), accept, type);
+   }
+
+   private List<T> getPossible(Snapshot current, MediaType accept, Class<?> type)
    {
       List<T> cached = null;
       CachedMediaTypeAndClass cacheEntry = null;
       if (useCache)
       {
          cacheEntry = new CachedMediaTypeAndClass(type, accept);
-         if (classCache != null) {
-            cached = classCache.get(cacheEntry);
-            if (cached != null) return cached;
-         }
+         cached = current.classCache.get(cacheEntry);
+         if (cached != null) return cached;
       }
 
       accept = new MediaType(accept.getType().toLowerCase(), accept.getSubtype().toLowerCase(), accept.getParameters());
       List<Entry<T>> matches = new ArrayList<Entry<T>>();
       if (accept.isWildcardType())
       {
-         matches.addAll(everything);
+         matches.addAll(current.everything);
       }
       else
       {
-         SubtypeMap<T> indexed = index.get(accept.getType());
+         SubtypeMap<T> indexed = current.index.get(accept.getType());
          if (indexed != null)
          {
             matches.addAll(indexed.getPossible(accept));
          }
-         matches.addAll(wildcards);
+         matches.addAll(current.wildcards);
       }
       Collections.sort(matches, new TypedEntryComparator(type));
       cached = convert(matches);
       if (useCache) {
-         Map<CachedMediaTypeAndClass, List<T>> cache = classCache;
-         if (cache == null) {
-            synchronized (this)
-            {
-               if (classCache == null)
-               {
-                  classCache = new HashMap<>();
-               }
-               cache = classCache;
-            }
-         }
-         cache.put(cacheEntry, cached);
+         current.classCache.put(cacheEntry, cached);
       }
       return cached;
 
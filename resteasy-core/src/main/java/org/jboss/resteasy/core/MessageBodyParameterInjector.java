@@ -200,19 +200,31 @@ public class MessageBodyParameterInjector implements ValueInjector, JaxrsInterce
             is = new InputStreamToByteArray(is);
 
          }
-         AbstractReaderInterceptorContext messageBodyReaderContext = new ServerReaderInterceptorContext(getReaderInterceptors(), factory, type,
-                 genericType, annotations, mediaType, request
-                 .getMutableHeaders(), is, request);
-
          RESTEasyTracingLogger tracingLogger = RESTEasyTracingLogger.getInstance(request);
          final long timestamp = tracingLogger.timestamp("RI_SUMMARY");
 
          final Object obj;
 
-         try {
-            obj = messageBodyReaderContext.proceed();
-         } finally {
-            tracingLogger.logDuration("RI_SUMMARY", timestamp, messageBodyReaderContext.getProcessedInterceptorCount());
+         ReaderInterceptor[] interceptors = getReaderInterceptors();
+         if (interceptors == null || interceptors.length == 0)
+         {
+            try {
+               obj = ServerReaderInterceptorContext.readFrom(factory, type, genericType, annotations, mediaType,
+                       request.getMutableHeaders(), is, tracingLogger);
+            } finally {
+               tracingLogger.logDuration("RI_SUMMARY", timestamp, 0);
+            }
+         }
+         else
+         {
+            AbstractReaderInterceptorContext messageBodyReaderContext = new ServerReaderInterceptorContext(interceptors, factory, type,
+                    genericType, annotations, mediaType, request
+                    .getMutableHeaders(), is, request);
+            try {
+               obj = messageBodyReaderContext.proceed();
+            } finally {
+               tracingLogger.logDuration("RI_SUMMARY", timestamp, messageBodyReaderContext.getProcessedInterceptorCount());
+            }
          }
 
          if (isMarshalledEntity)
@@ -12,7 +12,9 @@ import org.jboss.resteasy.spi.ValueInjector;
 import org.jboss.resteasy.spi.metadata.MethodParameter;
 import org.jboss.resteasy.spi.metadata.ResourceLocator;
 import org.jboss.resteasy.spi.validation.GeneralValidator;
+import org.jboss.resteasy.spi.statistics.MethodStatisticsLogger;
 import org.jboss.resteasy.spi.validation.GeneralValidatorCDI;
+import org.jboss.resteasy.statistics.StatisticsControllerImpl;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.WebApplicationException;
@@ -32,6 +34,7 @@ public class MethodInjectorImpl implements MethodInjector
    protected ResourceLocator method;
    protected Method interfaceBasedMethod;
    protected boolean expectsBody;
+   protected GeneratedInvokers.MethodInvoker invoker;
 
    public MethodInjectorImpl(final ResourceLocator resourceMethod, final ResteasyProviderFactory factory)
    {
@@ -46,6 +49,10 @@ public class MethodInjectorImpl implements MethodInjector
          if (params[i] instanceof MessageBodyParameterInjector) expectsBody = true;
          i++;
       }
+      if (GeneratedInvokers.isEnabled())
+      {
+         invoker = GeneratedInvokers.forMethod(resourceMethod.getMethod());
+      }
    }
 
    @Override
@@ -125,9 +132,18 @@ public class MethodInjectorImpl implements MethodInjector
    @Override
    public Object invoke(HttpRequest request, HttpResponse httpResponse, Object resource) throws Failure, ApplicationException
    {
+      return invoke(request, httpResponse, resource, StatisticsControllerImpl.EMPTY);
+   }
+
+   @Override
+   public Object invoke(HttpRequest request, HttpResponse httpResponse, Object resource, MethodStatisticsLogger statistics)
+         throws Failure, ApplicationException
+   {
+      final long timestamp = statistics.timestamp();
       Object argsObj = injectArguments(request, httpResponse);
       if (argsObj == null || !(argsObj instanceof CompletionStage)) {
-         Object returnObj = invoke(request, httpResponse, resource, (Object[]) argsObj);
+         statistics.readingDuration(timestamp);
+         Object returnObj = invoke(request, httpResponse, resource, (Object[]) argsObj, statistics);
          if (returnObj instanceof CompletionStage) {
             @SuppressWarnings("rawtypes")
             CompletionStage cs = (CompletionStage)returnObj;
@@ -138,10 +154,14 @@ public class MethodInjectorImpl implements MethodInjector
       }
       @SuppressWarnings("unchecked")
       CompletionStage<Object[]> stagedArgs = (CompletionStage<Object[]>)argsObj;
-      return stagedArgs.thenApply(args -> invoke(request, httpResponse, resource, args));
+      return stagedArgs.thenApply(args -> {
+         statistics.readingDuration(timestamp);
+         return invoke(request, httpResponse, resource, args, statistics);
+      });
    }
 
-   private Object invoke(HttpRequest request, HttpResponse httpResponse, Object resource, Object[] args)
+   private Object invoke(HttpRequest request, HttpResponse httpResponse, Object resource, Object[] args,
+                         MethodStatisticsLogger statistics)
    {
       GeneralValidator validator = GeneralValidator.class.cast(request.getAttribute(GeneralValidator.class.getName()));
       if (validator != null)
@@ -165,9 +185,18 @@ public class MethodInjectorImpl implements MethodInjector
       }
 
       Object result = null;
+      final long timestamp = statistics.timestamp();
       try
       {
-         result = invokedMethod.invoke(resource, args);
+         if (invoker != null && invokedMethod == method.getMethod())
+         {
+            // fails just like the reflective call
+            result = invoker.invoke(resource, args);
+         }
+         else
+         {
+            result = invokedMethod.invoke(resource, args);
+         }
       }
       catch (IllegalAccessException e)
       {
@@ -209,6 +238,10 @@ public class MethodInjectorImpl implements MethodInjector
          msg += " )";
          throw new InternalServerErrorException(msg, e);
       }
+      finally
+      {
+         statistics.invocationDuration(timestamp);
+      }
       if (validator != null)
       {
          validator.validateReturnValue(request, resource, method.getMethod(), result);
@@ -44,10 +44,27 @@ public class PropertyInjectorImpl implements PropertyInjector
       {
          this.method = method;
          this.extractor = extractor;
+         if (GeneratedInvokers.isEnabled())
+         {
+            this.invoker = GeneratedInvokers.forSetter(method);
+         }
       }
 
       public Method method;
       public ValueInjector extractor;
+      private GeneratedInvokers.SetterInvoker invoker;
+
+      private void invoke(Object target, Object value) throws IllegalAccessException, InvocationTargetException
+      {
+         if (invoker == null)
+         {
+            method.invoke(target, value);
+         }
+         else
+         {
+            invoker.set(target, value);
+         }
+      }
    }
 
    protected List<SetterMethod> setters = new ArrayList<SetterMethod>();
@@ -173,7 +190,7 @@ public class PropertyInjectorImpl implements PropertyInjector
                     .thenAccept(value -> {
                        try
                        {
-                          setter.method.invoke(target, CompletionStageHolder.resolve(value));
+                          setter.invoke(target, CompletionStageHolder.resolve(value));
                        }
                        catch (IllegalAccessException e)
                        {
@@ -186,7 +203,7 @@ public class PropertyInjectorImpl implements PropertyInjector
                     }));
          } else {
             try {
-               setter.method.invoke(target, CompletionStageHolder.resolve(injectedValue));
+               setter.invoke(target, CompletionStageHolder.resolve(injectedValue));
             } catch (IllegalAccessException e) {
                throw new InternalServerErrorException(e);
             } catch (InvocationTargetException e) {
@@ -241,7 +258,7 @@ public class PropertyInjectorImpl implements PropertyInjector
                     .thenAccept(value -> {
                        try
                        {
-                          setter.method.invoke(target, CompletionStageHolder.resolve(value));
+                          setter.invoke(target, CompletionStageHolder.resolve(value));
                        }
                        catch (IllegalAccessException e)
                        {
@@ -256,7 +273,7 @@ public class PropertyInjectorImpl implements PropertyInjector
          } else {
             try
             {
-               setter.method.invoke(target, CompletionStageHolder.resolve(injectedValue));
+               setter.invoke(target, CompletionStageHolder.resolve(injectedValue));
             }
             catch (IllegalAccessException e)
             {
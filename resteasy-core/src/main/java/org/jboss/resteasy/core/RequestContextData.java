@@ -0,0 +1,262 @@
+package org.jboss.resteasy.core;
+
+import org.jboss.resteasy.plugins.server.Cleanables;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.HttpResponse;
+import org.jboss.resteasy.spi.Registry;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+import org.jboss.resteasy.spi.ResteasyConfiguration;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+
+import jakarta.ws.rs.container.ResourceContext;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.Providers;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Context data of one {@link ResteasyContext} level.
+ * <p>
+ * The types pushed for every request are kept in fixed slots, found through a small table indexed by the identity
+ * hash of the type instead of {@link Class#hashCode()} and {@link Object#equals(Object)}.  Any other type goes to an
+ * overflow map that is only allocated when needed.  The data is only reached through the {@link ResteasyContext}
+ * level it belongs to, so that it always follows the levels pushed on async resume and forwards.
+ */
+public final class RequestContextData extends AbstractMap<Class<?>, Object>
+{
+   private static final Class<?>[] SLOTS = {
+         HttpRequest.class,
+         HttpResponse.class,
+         HttpHeaders.class,
+         UriInfo.class,
+         Request.class,
+         SecurityContext.class,
+         Providers.class,
+         ResteasyAsynchronousContext.class,
+         ResourceContext.class,
+         Cleanables.class,
+         PostResourceMethodInvokers.class,
+         Registry.class,
+         Dispatcher.class,
+         InternalDispatcher.class,
+         Application.class,
+         ResteasyDeployment.class,
+         ResteasyConfiguration.class
+   };
+
+   // open addressing table of the slots by the identity hash of their type, at most half full
+   private static final Class<?>[] TABLE_TYPES;
+   private static final int[] TABLE_SLOTS;
+
+   static
+   {
+      int length = Integer.highestOneBit(SLOTS.length * 2) << 1;
+      TABLE_TYPES = new Class<?>[length];
+      TABLE_SLOTS = new int[length];
+      for (int slot = 0; slot < SLOTS.length; slot++)
+      {
+         int i = System.identityHashCode(SLOTS[slot]) & (length - 1);
+         while (TABLE_TYPES[i] != null) i = (i + 1) & (length - 1);
+         TABLE_TYPES[i] = SLOTS[slot];
+         TABLE_SLOTS[i] = slot;
+      }
+   }
+
+   // marks a slot explicitly set to null, which unlike an empty slot is contained in the map
+   private static final Object NULL = new Object();
+
+   private final Object[] slots = new Object[SLOTS.length];
+   private int slotCount;
+   private Map<Class<?>, Object> overflow;
+
+   private static int slot(Object type)
+   {
+      int mask = TABLE_TYPES.length - 1;
+      for (int i = System.identityHashCode(type) & mask; TABLE_TYPES[i] != null; i = (i + 1) & mask)
+      {
+         if (TABLE_TYPES[i] == type) return TABLE_SLOTS[i];
+      }
+      return -1;
+   }
+
+   private static Object unmask(Object value)
+   {
+      return value == NULL ? null : value;
+   }
+
+   @Override
+   public Object get(Object key)
+   {
+      int slot = slot(key);
+      if (slot >= 0) return unmask(slots[slot]);
+      return overflow == null ? null : overflow.get(key);
+   }
+
+   @Override
+   public boolean containsKey(Object key)
+   {
+      int slot = slot(key);
+      if (slot >= 0) return slots[slot] != null;
+      return overflow != null && overflow.containsKey(key);
+   }
+
+   @Override
+   public Object put(Class<?> key, Object value)
+   {
+      int slot = slot(key);
+      if (slot < 0)
+      {
+         if (overflow == null) overflow = new HashMap<Class<?>, Object>();
+         return overflow.put(key, value);
+      }
+      Object old = slots[slot];
+      if (old == null) slotCount++;
+      slots[slot] = value == null ? NULL : value;
+      return unmask(old);
+   }
+
+   @Override
+   public Object remove(Object key)
+   {
+      int slot = slot(key);
+      if (slot < 0)
+      {
+         return overflow == null ? null : overflow.remove(key);
+      }
+      Object old = slots[slot];
+      if (old != null)
+      {
+         slotCount--;
+         slots[slot] = null;
+      }
+      return unmask(old);
+   }
+
+   @Override
+   public int size()
+   {
+      return slotCount + (overflow == null ? 0 : overflow.size());
+   }
+
+   @Override
+   public void clear()
+   {
+      for (int i = 0; i < slots.length; i++) slots[i] = null;
+      slotCount = 0;
+      overflow = null;
+   }
+
+   @Override
+   public Set<Entry<Class<?>, Object>> entrySet()
+   {
+      return new AbstractSet<Entry<Class<?>, Object>>()
+      {
+         @Override
+         public Iterator<Entry<Class<?>, Object>> iterator()
+         {
+            return new EntryIterator();
+         }
+
+         @Override
+         public int size()
+         {
+            return RequestContextData.this.size();
+         }
+      };
+   }
+
+   private final class SlotEntry implements Entry<Class<?>, Object>
+   {
+      private final int slot;
+
+      private SlotEntry(final int slot)
+      {
+         this.slot = slot;
+      }
+
+      @Override
+      public Class<?> getKey()
+      {
+         return SLOTS[slot];
+      }
+
+      @Override
+      public Object getValue()
+      {
+         return unmask(slots[slot]);
+      }
+
+      @Override
+      public Object setValue(Object value)
+      {
+         return put(SLOTS[slot], value);
+      }
+   }
+
+   private final class EntryIterator implements Iterator<Entry<Class<?>, Object>>
+   {
+      private int next = advance(0);
+      private int current = -1;
+      private Iterator<Entry<Class<?>, Object>> overflowIterator;
+
+      private int advance(int from)
+      {
+         while (from < slots.length && slots[from] == null) from++;
+         return from;
+      }
+
+      @Override
+      public boolean hasNext()
+      {
+         if (next < slots.length) return true;
+         if (overflowIterator == null)
+         {
+            if (overflow == null) return false;
+            overflowIterator = overflow.entrySet().iterator();
+         }
+         return overflowIterator.hasNext();
+      }
+
+      @Override
+      public Entry<Class<?>, Object> next()
+      {
+         if (next < slots.length)
+         {
+            current = next;
+            next = advance(next + 1);
+            return new SlotEntry(current);
+         }
+         if (!hasNext()) throw new NoSuchElementException();
+         current = -1;
+         return overflowIterator.next();
+      }
+
+      @Override
+      public void remove()
+      {
+         if (current >= 0)
+         {
+            RequestContextData.this.remove(SLOTS[current]);
+            current = -1;
+         }
+         else if (overflowIterator != null)
+         {
+            overflowIterator.remove();
+         }
+         else
+         {
+            throw new IllegalStateException();
+         }
+      }
+   }
+}
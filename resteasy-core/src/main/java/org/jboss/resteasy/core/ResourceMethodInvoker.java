@@ -1,5 +1,6 @@
 package org.jboss.resteasy.core;
 
+import org.jboss.resteasy.annotations.NonBlocking;
 import org.jboss.resteasy.annotations.Stream;
 import org.jboss.resteasy.core.interception.jaxrs.PostMatchContainerRequestContext;
 import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
@@ -88,6 +89,7 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
    AsyncStreamProvider asyncStreamProvider;
    protected boolean isSse;
    protected boolean isAsyncStreamProvider;
+   protected boolean nonBlocking;
    protected ResourceInfo resourceInfo;
 
    protected boolean expectsBody;
@@ -206,6 +208,8 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
          method.markAsynchronous();
       }
       hasProduces = method.getMethod().isAnnotationPresent(Produces.class) || method.getMethod().getClass().isAnnotationPresent(Produces.class);
+      nonBlocking = method.getAnnotatedMethod().isAnnotationPresent(NonBlocking.class)
+            || method.getResourceClass().getClazz().isAnnotationPresent(NonBlocking.class);
    }
 
    @Override
@@ -471,7 +475,10 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
          ResteasyContext.pushContext(Configuration.class, resourceMethodProviderFactory);
          if (requestFilters != null && requestFilters.length > 0) {
             PostMatchContainerRequestContext requestContext = new PostMatchContainerRequestContext(request, this, requestFilters,
-                    () -> invokeOnTargetAfterFilter(request, response, target));
+                    () -> {
+                       methodStatisticsLogger.filtersDuration(msTimeStamp);
+                       return invokeOnTargetAfterFilter(request, response, target);
+                    });
             // let it handle the continuation
             return requestContext.filter();
          } else {
@@ -657,7 +664,7 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
    private Object internalInvokeOnTarget(HttpRequest request, HttpResponse response, Object target) throws Failure, ApplicationException {
       PostResourceMethodInvokers postResourceMethodInvokers = ResteasyContext.getContextData(PostResourceMethodInvokers.class);
       try {
-          Object methodResponse = this.methodInjector.invoke(request, response, target);
+          Object methodResponse = this.methodInjector.invoke(request, response, target, methodStatisticsLogger);
           CompletionStage<Object> stage = null;
           if (methodResponse != null && methodResponse instanceof CompletionStage) {
              stage = (CompletionStage<Object>)methodResponse;
@@ -851,6 +858,32 @@ public class ResourceMethodInvoker implements ResourceInvoker, JaxrsInterceptorR
       return isAsyncStreamProvider;
    }
 
+   /**
+    * @return true if the method, or its class, is annotated with {@link NonBlocking}
+    */
+   public boolean isNonBlocking()
+   {
+      return nonBlocking;
+   }
+
+   /**
+    * @return true if the method returns an asynchronous type, e.g. a {@link CompletionStage}, handled by an
+    * {@link AsyncResponseProvider} or an {@link AsyncStreamProvider}
+    */
+   public boolean hasAsyncResult()
+   {
+      return asyncResponseProvider != null || asyncStreamProvider != null;
+   }
+
+   /**
+    * @return true if the method suspends its response itself, e.g. with a {@link jakarta.ws.rs.container.Suspended}
+    * {@link jakarta.ws.rs.container.AsyncResponse}
+    */
+   public boolean isAsynchronous()
+   {
+      return method.isAsynchronous();
+   }
+
    public void markMethodAsAsync()
    {
       method.markAsynchronous();
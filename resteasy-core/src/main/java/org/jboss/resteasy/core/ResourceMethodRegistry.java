@@ -31,9 +31,16 @@ import java.lang.reflect.Proxy;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Registry of resources and methods/classes that can dispatch HTTP method requests.
@@ -52,6 +59,9 @@ public class ResourceMethodRegistry implements Registry
    protected RootNode rootNode = new RootNode();
    protected ResourceBuilder resourceBuilder;
    protected StatisticsController statisticsController;
+   protected List<Callable<List<Registration>>> deferred;
+   private final LongAdder introspectionTime = new LongAdder();
+   private final LongAdder invokersTime = new LongAdder();
 
 
    public ResourceMethodRegistry(final ResteasyProviderFactory providerFactory)
@@ -73,6 +83,11 @@ public class ResourceMethodRegistry implements Registry
 
    public void addPerRequestResource(Class clazz, String basePath)
    {
+      if (deferred != null)
+      {
+         deferPerRequestResource(clazz, resourceBuilder, basePath);
+         return;
+      }
       addResourceFactory(new POJOResourceFactory(resourceBuilder, clazz), basePath);
 
    }
@@ -84,11 +99,21 @@ public class ResourceMethodRegistry implements Registry
     */
    public void addPerRequestResource(Class clazz)
    {
+      if (deferred != null)
+      {
+         deferPerRequestResource(clazz, resourceBuilder, null);
+         return;
+      }
       addResourceFactory(new POJOResourceFactory(resourceBuilder, clazz));
    }
 
    @Override
    public void addPerRequestResource(Class<?> clazz, ResourceBuilder resourceBuilder) {
+      if (deferred != null)
+      {
+         deferPerRequestResource(clazz, resourceBuilder, null);
+         return;
+      }
       addResourceFactory(new POJOResourceFactory(resourceBuilder, clazz), resourceBuilder);
    }
 
@@ -193,6 +218,11 @@ public class ResourceMethodRegistry implements Registry
    }
 
    public void addResourceFactory(ResourceFactory ref, ResourceBuilder resourceBuilder, String base)
+   {
+      addResourceFactory(ref, resourceBuilder, base, getRootResourceClass(ref, resourceBuilder));
+   }
+
+   private static Class<?> getRootResourceClass(ResourceFactory ref, ResourceBuilder resourceBuilder)
    {
       Class<?> clazz = ref.getScannableClass();
       Class restful = AnnotationResolver.getClassWithAnnotation(clazz, resourceBuilder.getCorrespondingRootAnnotation());
@@ -205,7 +235,7 @@ public class ResourceMethodRegistry implements Registry
          }
          throw new RuntimeException(msg);
       }
-      addResourceFactory(ref, resourceBuilder, base, restful);
+      return restful;
    }
 
    /**
@@ -242,37 +272,18 @@ public class ResourceMethodRegistry implements Registry
 
    public void addResourceFactory(ResourceFactory ref, ResourceBuilder resourceBuilder, String base, Class<?>[] classes)
    {
-      if (ref != null) ref.registered(providerFactory);
-      for (Class<?> clazz : classes)
+      if (deferred != null)
       {
-         if (Proxy.isProxyClass(clazz))
-         {
-            for (Class<?> intf : clazz.getInterfaces())
-            {
-               ResourceClass resourceClass = resourceBuilder.getRootResourceFromAnnotations(intf);
-               register(ref, base, resourceClass);
-            }
-         }
-         else
-         {
-            ResourceClass resourceClass = resourceBuilder.getRootResourceFromAnnotations(clazz);
-            register(ref, base, resourceClass);
-         }
+         // the factory is notified by the registering thread, only the introspection is deferred
+         if (ref != null) ref.registered(providerFactory);
+         deferred.add(() -> createRegistrations(ref, resourceBuilder, base, classes));
+         return;
       }
-
-      // https://issues.jboss.org/browse/JBPAPP-7871
-      for (Class<?> clazz : classes)
+      if (ref != null) ref.registered(providerFactory);
+      for (Registration registration : createRegistrations(ref, resourceBuilder, base, classes))
       {
-         for (Method method : getDeclaredMethods(clazz))
-         {
-            Method _method = resourceBuilder.getAnnotatedMethod(clazz, method);
-            if (_method != null && !java.lang.reflect.Modifier.isPublic(_method.getModifiers()))
-            {
-               LogMessages.LOGGER.JAXRSAnnotationsFoundAtNonPublicMethod(method.getDeclaringClass().getName(), method.getName());
-            }
-         }
+         bind(registration);
       }
-
    }
 
    private Method[] getDeclaredMethods(final Class<?> clazz) {
@@ -303,6 +314,15 @@ public class ResourceMethodRegistry implements Registry
 
    protected void register(ResourceFactory rf, String base, ResourceClass resourceClass)
    {
+      if (deferred != null)
+      {
+         deferred.add(() -> {
+            List<Registration> registrations = new ArrayList<>();
+            addRegistrations(registrations, rf, base, resourceClass);
+            return registrations;
+         });
+         return;
+      }
       for (ResourceMethod method : resourceClass.getResourceMethods())
       {
          processMethod(rf, base, method);
@@ -358,6 +378,14 @@ public class ResourceMethodRegistry implements Registry
    }
 
    protected void processMethod(ResourceFactory rf, String base, ResourceLocator method)
+   {
+      bind(createRegistration(rf, base, method));
+   }
+
+   /**
+    * Creates the invoker of a resource method or locator, without binding it.
+    */
+   protected Registration createRegistration(ResourceFactory rf, String base, ResourceLocator method)
    {
       ResteasyUriBuilder builder = new ResteasyUriBuilderImpl();
       if (base != null)
@@ -376,23 +404,178 @@ public class ResourceMethodRegistry implements Registry
          classExpression = "";
 
       InjectorFactory injectorFactory = providerFactory.getInjectorFactory();
+      ResourceInvoker invoker;
       if (method instanceof ResourceMethod)
       {
-         ResourceMethodInvoker invoker
-                 = new ResourceMethodInvoker((ResourceMethod) method, injectorFactory, rf, providerFactory);
-         if (widerMatching)
-            rootNode.addInvoker(fullpath, invoker);
-         else root.addInvoker(classExpression, fullpath, invoker);
-         statisticsController.register(invoker);
+         invoker = new ResourceMethodInvoker((ResourceMethod) method, injectorFactory, rf, providerFactory);
       }
       else
       {
-         ResourceLocatorInvoker locator = new ResourceLocatorInvoker(rf, injectorFactory, providerFactory, method);
-         if (widerMatching)
-            rootNode.addInvoker(fullpath, locator);
-         else root.addInvoker(classExpression, fullpath, locator);
-         statisticsController.register(locator);
+         invoker = new ResourceLocatorInvoker(rf, injectorFactory, providerFactory, method);
+      }
+      return new Registration(classExpression, fullpath, invoker);
+   }
+
+   protected void bind(Registration registration)
+   {
+      if (widerMatching)
+         rootNode.addInvoker(registration.fullpath, registration.invoker);
+      else root.addInvoker(registration.classExpression, registration.fullpath, registration.invoker);
+      statisticsController.register(registration.invoker);
+   }
+
+   /**
+    * Defers the introspection of the resources registered from now on, and the creation of their invokers, until
+    * {@link #registerDeferred(ExecutorService)}, so that they can be run in parallel. The
+    * {@link jakarta.ws.rs.container.DynamicFeature} providers are then configured concurrently for the resource
+    * methods of different resources. The deferral ends with {@link #registerDeferred(ExecutorService)} or
+    * {@link #discardDeferred()}.
+    */
+   public void deferRegistrations()
+   {
+      if (deferred == null)
+      {
+         deferred = new ArrayList<>();
+      }
+   }
+
+   /**
+    * Ends the deferral started by {@link #deferRegistrations()} without registering the deferred resources.
+    */
+   public void discardDeferred()
+   {
+      deferred = null;
+   }
+
+   /**
+    * Introspects the deferred resources and creates their invokers with the executor, then binds all the invokers
+    * in the order their resources were registered.
+    *
+    * @param executor executor of the introspection and of the creation of the invokers, the calling thread if null
+    * @return nanoseconds spent in each phase: introspection and invokers, cumulated over the threads of the executor,
+    * and merge, to bind the invokers
+    */
+   public Map<String, Long> registerDeferred(ExecutorService executor)
+   {
+      List<Callable<List<Registration>>> tasks = deferred;
+      deferred = null;
+      introspectionTime.reset();
+      invokersTime.reset();
+      Map<String, Long> timings = new LinkedHashMap<>();
+      if (tasks == null)
+      {
+         return timings;
+      }
+      List<List<Registration>> registrations = new ArrayList<>(tasks.size());
+      try
+      {
+         if (executor == null)
+         {
+            for (Callable<List<Registration>> task : tasks)
+            {
+               registrations.add(task.call());
+            }
+         }
+         else
+         {
+            for (Future<List<Registration>> future : executor.invokeAll(tasks))
+            {
+               registrations.add(future.get());
+            }
+         }
+      }
+      catch (ExecutionException e)
+      {
+         if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+         if (e.getCause() instanceof Error) throw (Error) e.getCause();
+         throw new RuntimeException(e.getCause());
       }
+      catch (RuntimeException e)
+      {
+         throw e;
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new RuntimeException(e);
+      }
+      catch (Exception e)
+      {
+         throw new RuntimeException(e);
+      }
+      long start = System.nanoTime();
+      for (List<Registration> list : registrations)
+      {
+         for (Registration registration : list)
+         {
+            bind(registration);
+         }
+      }
+      timings.put("introspection", introspectionTime.sum());
+      timings.put("invokers", invokersTime.sum());
+      timings.put("merge", System.nanoTime() - start);
+      return timings;
+   }
+
+   private void deferPerRequestResource(Class<?> clazz, ResourceBuilder resourceBuilder, String base)
+   {
+      deferred.add(() -> {
+         long start = System.nanoTime();
+         POJOResourceFactory ref = new POJOResourceFactory(resourceBuilder, clazz);
+         ref.registered(providerFactory);
+         introspectionTime.add(System.nanoTime() - start);
+         return createRegistrations(ref, resourceBuilder, base, new Class<?>[] {getRootResourceClass(ref, resourceBuilder)});
+      });
+   }
+
+   private List<Registration> createRegistrations(ResourceFactory ref, ResourceBuilder resourceBuilder, String base, Class<?>[] classes)
+   {
+      long start = System.nanoTime();
+      List<ResourceClass> resourceClasses = new ArrayList<>();
+      for (Class<?> clazz : classes)
+      {
+         if (Proxy.isProxyClass(clazz))
+         {
+            for (Class<?> intf : clazz.getInterfaces())
+            {
+               resourceClasses.add(resourceBuilder.getRootResourceFromAnnotations(intf));
+            }
+         }
+         else
+         {
+            resourceClasses.add(resourceBuilder.getRootResourceFromAnnotations(clazz));
+         }
+         // https://issues.jboss.org/browse/JBPAPP-7871
+         for (Method method : getDeclaredMethods(clazz))
+         {
+            Method _method = resourceBuilder.getAnnotatedMethod(clazz, method);
+            if (_method != null && !java.lang.reflect.Modifier.isPublic(_method.getModifiers()))
+            {
+               LogMessages.LOGGER.JAXRSAnnotationsFoundAtNonPublicMethod(method.getDeclaringClass().getName(), method.getName());
+            }
+         }
+      }
+      introspectionTime.add(System.nanoTime() - start);
+      List<Registration> registrations = new ArrayList<>();
+      for (ResourceClass resourceClass : resourceClasses)
+      {
+         addRegistrations(registrations, ref, base, resourceClass);
+      }
+      return registrations;
+   }
+
+   private void addRegistrations(List<Registration> registrations, ResourceFactory rf, String base, ResourceClass resourceClass)
+   {
+      long start = System.nanoTime();
+      for (ResourceMethod method : resourceClass.getResourceMethods())
+      {
+         registrations.add(createRegistration(rf, base, method));
+      }
+      for (ResourceLocator method : resourceClass.getResourceLocators())
+      {
+         registrations.add(createRegistration(rf, base, method));
+      }
+      invokersTime.add(System.nanoTime() - start);
    }
 
    /**
@@ -486,4 +669,21 @@ public class ResourceMethodRegistry implements Registry
          tracingLogger.logDuration("MATCH_SUMMARY", timestamp);
       }
    }
+
+   /**
+    * Invoker of a resource method or locator, and the expressions it is bound to.
+    */
+   protected static class Registration
+   {
+      protected final String classExpression;
+      protected final String fullpath;
+      protected final ResourceInvoker invoker;
+
+      public Registration(final String classExpression, final String fullpath, final ResourceInvoker invoker)
+      {
+         this.classExpression = classExpression;
+         this.fullpath = fullpath;
+         this.invoker = invoker;
+      }
+   }
 }
@@ -5,7 +5,6 @@ import org.jboss.resteasy.util.ThreadLocalStack;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.UriInfo;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -93,7 +92,7 @@ public final class ResteasyContext
       Map<Class<?>, Object> map = contextualData.get();
       if (map == null && create)
       {
-         contextualData.setLast(map = new HashMap<Class<?>, Object>());
+         contextualData.setLast(map = new RequestContextData());
       }
       return map;
    }
@@ -105,7 +104,7 @@ public final class ResteasyContext
          throw new BadRequestException(
                Messages.MESSAGES.excededMaximumForwards(getContextData(UriInfo.class).getPath()));
       }
-      Map<Class<?>, Object> map = new HashMap<Class<?>, Object>();
+      Map<Class<?>, Object> map = new RequestContextData();
       contextualData.push(map);
       return map;
    }
@@ -1,5 +1,6 @@
 package org.jboss.resteasy.core;
 
+import org.jboss.resteasy.concurrent.ContextualExecutors;
 import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
 import org.jboss.resteasy.plugins.interceptors.RoleBasedSecurityFeature;
 import org.jboss.resteasy.plugins.providers.JaxrsServerFormUrlEncodedProvider;
@@ -19,6 +20,7 @@ import org.jboss.resteasy.spi.ResourceFactory;
 import org.jboss.resteasy.spi.ResteasyConfiguration;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.spi.metadata.DeploymentIndex;
 import org.jboss.resteasy.spi.metadata.ResourceBuilder;
 import org.jboss.resteasy.util.GetRestful;
 
@@ -31,15 +33,22 @@ import jakarta.ws.rs.core.FeatureContext;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.ext.Providers;
 
+import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is used to configure and initialize the core components of RESTEasy.
@@ -92,6 +101,7 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
    protected String paramMapping;
    protected Map<String, Object> properties;
    protected boolean statisticsEnabled;
+   private Map<String, Long> startTimings;
 
    @SuppressWarnings("rawtypes")
    public ResteasyDeploymentImpl() {
@@ -134,6 +144,8 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
 
    private void startInternal()
    {
+      long start = System.nanoTime();
+      startTimings = new LinkedHashMap<>();
       initializeFactory();
       initializeDispatcher();
       pushContext();
@@ -166,16 +178,46 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
          }
 
 
+         recordStartTiming("initialization", start);
+
          // register all providers
          registration();
 
+         long mappers = System.nanoTime();
          registerMappers();
          ((ResteasyProviderFactoryImpl)providerFactory).lockSnapshots();
+         recordStartTiming("mappers", mappers);
+         logStartTimings(start);
       }
       finally
       {
          ResteasyContext.removeContextDataLevel();
+         startTimings = null;
+      }
+   }
+
+   private void recordStartTiming(String phase, long from)
+   {
+      if (startTimings != null)
+      {
+         startTimings.put(phase, System.nanoTime() - from);
+      }
+   }
+
+   private void logStartTimings(long start)
+   {
+      if (!LogMessages.LOGGER.isDebugEnabled())
+      {
+         return;
       }
+      StringBuilder phases = new StringBuilder();
+      for (Map.Entry<String, Long> timing : startTimings.entrySet())
+      {
+         if (phases.length() > 0) phases.append(", ");
+         phases.append(String.format(Locale.ROOT, "%s=%.1f ms", timing.getKey(), timing.getValue() / 1e6));
+      }
+      LogMessages.LOGGER.deploymentStarted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), registry.getSize(),
+            phases.toString());
    }
 
    protected void registerMappers() {
@@ -300,6 +342,11 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
          }
          if (unwrappedExceptions != null)  dis.getUnwrappedExceptions().addAll(unwrappedExceptions);
       }
+      if (ContextualExecutors.isVirtualThreads() && dispatcher instanceof SynchronousDispatcher
+            && ((SynchronousDispatcher) dispatcher).getInvocationExecutor() == null)
+      {
+         ((SynchronousDispatcher) dispatcher).setInvocationExecutor(ContextualExecutors.virtualThreadPerTask());
+      }
       registry = dispatcher.getRegistry();
       if (widerRequestMatching)
       {
@@ -354,6 +401,13 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
          }
       }
 
+      double phasesSample = config.getOptionalValue(ResteasyContextParameters.RESTEASY_TRACING_PHASES, Double.class).orElse(0.0);
+      if (phasesSample > 0) {
+         providerFactory.property(ResteasyContextParameters.RESTEASY_TRACING_PHASES, phasesSample);
+         providerFactory.property(ResteasyContextParameters.RESTEASY_TRACING_PHASES_OUTPUT,
+               config.getOptionalValue(ResteasyContextParameters.RESTEASY_TRACING_PHASES_OUTPUT, String.class).orElse("LOG"));
+      }
+
       if (deploymentSensitiveFactoryEnabled)
       {
          // the ThreadLocalResteasyProviderFactory pushes and pops this deployments parentProviderFactory
@@ -448,7 +502,9 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
 
    public void registration()
    {
+      long start = System.nanoTime();
       boolean useScanning = registerApplication();
+      useDeploymentIndex(useScanning);
 
       if (useScanning && scannedProviderClasses != null)
       {
@@ -478,14 +534,85 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
             providerFactory.registerProvider(actualProviderClass);
          }
       }
+      recordStartTiming("providers", start);
       registerResources(useScanning);
 
    }
 
+   private void useDeploymentIndex(boolean useScanning)
+   {
+      Object context = getDefaultContextObjects() == null ? null : getDefaultContextObjects().get(ResteasyConfiguration.class);
+      if (!ConfigurationFactory.getInstance().getConfiguration((ResteasyConfiguration) context)
+            .getOptionalValue(ResteasyContextParameters.RESTEASY_DEPLOYMENT_INDEX, Boolean.class).orElse(false))
+      {
+         return;
+      }
+      DeploymentIndex index;
+      try
+      {
+         index = DeploymentIndex.load(Thread.currentThread().getContextClassLoader());
+      }
+      catch (IOException e)
+      {
+         LogMessages.LOGGER.unableToReadDeploymentIndex(e, DeploymentIndex.LOCATION);
+         return;
+      }
+      if (index == null)
+      {
+         return;
+      }
+      providerFactory.getResourceBuilder().setDeploymentIndex(index);
+      // the index replaces the scanning of a deployment registering no resource otherwise
+      if (useScanning && isEmpty(scannedResourceClasses)
+            && (scannedResourceClassesWithBuilder == null || scannedResourceClassesWithBuilder.isEmpty())
+            && isEmpty(resourceClasses) && isEmpty(actualResourceClasses) && isEmpty(resources)
+            && isEmpty(resourceFactories) && isEmpty(jndiResources) && isEmpty(jndiComponentResources)
+            && isEmpty(scannedJndiComponentResources))
+      {
+         scannedResourceClasses = new ArrayList<>(index.getResourceClasses());
+         if (isEmpty(scannedProviderClasses))
+         {
+            scannedProviderClasses = new ArrayList<>(index.getProviderClasses());
+         }
+      }
+   }
+
+   private static boolean isEmpty(List<?> list)
+   {
+      return list == null || list.isEmpty();
+   }
+
    protected void registerResources(boolean useScanning) {
       // All providers should be registered before resources because of interceptors.
       // interceptors must exist as they are applied only once when the resource is registered.
+      long start = System.nanoTime();
+      int parallelism = getDeploymentParallelism();
+      if (parallelism > 1 && registry instanceof ResourceMethodRegistry)
+      {
+         // the resources are introspected and their invokers created in parallel once all are registered
+         ResourceMethodRegistry resourceMethodRegistry = (ResourceMethodRegistry) registry;
+         resourceMethodRegistry.deferRegistrations();
+         try
+         {
+            addResources(useScanning);
+         }
+         catch (RuntimeException | Error e)
+         {
+            resourceMethodRegistry.discardDeferred();
+            throw e;
+         }
+         registerDeferredResources(parallelism);
+      }
+      else
+      {
+         addResources(useScanning);
+      }
+      recordStartTiming("resources", start);
+      registry.checkAmbiguousUri();
+   }
 
+   private void addResources(boolean useScanning)
+   {
       if (useScanning && scannedJndiComponentResources != null)
       {
          for (String resource : scannedJndiComponentResources)
@@ -601,7 +728,47 @@ public class ResteasyDeploymentImpl implements ResteasyDeployment
             registry.addResourceFactory(factory);
          }
       }
-      registry.checkAmbiguousUri();
+   }
+
+   private int getDeploymentParallelism()
+   {
+      Object context = getDefaultContextObjects() == null ? null : getDefaultContextObjects().get(ResteasyConfiguration.class);
+      int parallelism = ConfigurationFactory.getInstance().getConfiguration((ResteasyConfiguration) context)
+            .getOptionalValue(ResteasyContextParameters.RESTEASY_DEPLOYMENT_PARALLELISM, Integer.class).orElse(1);
+      return parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+   }
+
+   private void registerDeferredResources(int parallelism)
+   {
+      final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      final boolean pushProviderFactory = deploymentSensitiveFactoryEnabled;
+      ForkJoinPool pool = new ForkJoinPool(parallelism, p -> new ForkJoinWorkerThread(p)
+      {
+         @Override
+         protected void onStart()
+         {
+            super.onStart();
+            setContextClassLoader(classLoader);
+            if (pushProviderFactory)
+            {
+               ThreadLocalResteasyProviderFactory.push(providerFactory);
+            }
+         }
+      }, null, false);
+      // the context data of the deployment is propagated to the workers
+      ExecutorService executor = ContextualExecutors.wrap(pool, false);
+      try
+      {
+         Map<String, Long> timings = ((ResourceMethodRegistry) registry).registerDeferred(executor);
+         if (startTimings != null)
+         {
+            startTimings.putAll(timings);
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
    }
 
    protected boolean registerApplication() {
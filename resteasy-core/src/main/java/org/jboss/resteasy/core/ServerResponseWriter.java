@@ -12,6 +12,8 @@ import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.spi.statistics.MethodStatisticsLogger;
+import org.jboss.resteasy.statistics.StatisticsControllerImpl;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 import org.jboss.resteasy.util.CommitHeaderAsyncOutputStream;
 import org.jboss.resteasy.util.CommitHeaderOutputStream;
@@ -88,11 +90,32 @@ public class ServerResponseWriter
       writeNomapResponse(jaxrsResponse, request, response, providerFactory, t -> {}, sendHeaders);
    }
 
-   @SuppressWarnings({"rawtypes", "unchecked"})
    public static void writeNomapResponse(BuiltResponse jaxrsResponse, final HttpRequest request, final HttpResponse response,
          final ResteasyProviderFactory providerFactory, Consumer<Throwable> onComplete, boolean sendHeaders) throws IOException
    {
       ResourceMethodInvoker method =(ResourceMethodInvoker) request.getAttribute(ResourceMethodInvoker.class.getName());
+      if (method != null && method.getMethodStatisticsLogger() != StatisticsControllerImpl.EMPTY)
+      {
+         final MethodStatisticsLogger statistics = method.getMethodStatisticsLogger();
+         final long timestamp = statistics.timestamp();
+         final Consumer<Throwable> delegate = onComplete;
+         onComplete = t -> {
+            // a failed response is followed by the response of the exception
+            if (t == null)
+            {
+               statistics.writingDuration(timestamp, response.getStatus());
+            }
+            delegate.accept(t);
+         };
+      }
+      writeNomapResponse(jaxrsResponse, request, response, providerFactory, onComplete, sendHeaders, method);
+   }
+
+   @SuppressWarnings({"rawtypes", "unchecked"})
+   private static void writeNomapResponse(BuiltResponse jaxrsResponse, final HttpRequest request, final HttpResponse response,
+         final ResteasyProviderFactory providerFactory, Consumer<Throwable> onComplete, boolean sendHeaders,
+         ResourceMethodInvoker method) throws IOException
+   {
 
       // do this even if we're not sending the headers, because this sets the content type in the response,
       // which is used by marshalling, and NPEs otherwise
@@ -165,15 +188,28 @@ public class ServerResponseWriter
          RESTEasyTracingLogger tracingLogger = RESTEasyTracingLogger.getInstance(request);
          final long timestamp = tracingLogger.timestamp("WI_SUMMARY");
 
-         AbstractWriterInterceptorContext writerContext =  new ServerWriterInterceptorContext(writerInterceptors,
-               providerFactory, entity, type, generic, annotations, mt,
-               jaxrsResponse.getMetadata(), os, request, onWriteComplete);
+         final AbstractWriterInterceptorContext writerContext;
+         CompletionStage<Void> started;
+         // without interceptors, write with the writer found above unless tracing wants to report how it is found
+         if ((writerInterceptors == null || writerInterceptors.length == 0) && !tracingLogger.isLogEnabled("MBW_FIND"))
+         {
+            writerContext = null;
+            started = ServerWriterInterceptorContext.writeTo(writer, entity, type, generic, annotations, mt,
+                  jaxrsResponse.getMetadata(), os, request, onWriteComplete);
+         }
+         else
+         {
+            writerContext =  new ServerWriterInterceptorContext(writerInterceptors,
+                  providerFactory, entity, type, generic, annotations, mt,
+                  jaxrsResponse.getMetadata(), os, request, onWriteComplete);
+            started = writerContext.getStarted();
+         }
 
-         CompletionStage<Void> writerAction = writerContext.getStarted().whenComplete((v, t) -> {
-            tracingLogger.logDuration("WI_SUMMARY", timestamp, writerContext.getProcessedInterceptorCount());
+         CompletionStage<Void> writerAction = started.whenComplete((v, t) -> {
+            tracingLogger.logDuration("WI_SUMMARY", timestamp, writerContext == null ? 0 : writerContext.getProcessedInterceptorCount());
 
             if(t == null && sendHeaders) {
-               response.setOutputStream(writerContext.getOutputStream()); //propagate interceptor changes on the outputstream to the response
+               response.setOutputStream(writerContext == null ? os : writerContext.getOutputStream()); //propagate interceptor changes on the outputstream to the response
                callback.commit(); // just in case the output stream is never used
             }
          });
@@ -248,7 +284,12 @@ public class ServerResponseWriter
          responseFilters = providerFactory.getContainerResponseFilterRegistry().postMatch(null, null);
       }
 
-      if (responseFilters != null)
+      if (responseFilters != null && responseFilters.length == 0)
+      {
+         // what running an empty chain comes down to, without creating the contexts
+         continuation.run(onComplete);
+      }
+      else if (responseFilters != null)
       {
          ResponseContainerRequestContext requestContext = new ResponseContainerRequestContext(request);
          ContainerResponseContextImpl responseContext = new ContainerResponseContextImpl(request, response, jaxrsResponse,
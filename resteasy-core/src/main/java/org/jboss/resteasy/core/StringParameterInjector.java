@@ -1,10 +1,12 @@
 package org.jboss.resteasy.core;
 
 import org.jboss.resteasy.annotations.StringParameterUnmarshallerBinder;
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.jboss.resteasy.spi.StringParameterUnmarshaller;
+import org.jboss.resteasy.spi.config.ConfigurationFactory;
 import org.jboss.resteasy.spi.util.Types;
 import org.jboss.resteasy.util.StringToPrimitive;
 
@@ -24,20 +26,27 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -68,6 +77,43 @@ public class StringParameterInjector
 
    };
 
+   /**
+    * Conversion of a parameter value, precomputed from the conversion mechanism found for the parameter type.
+    */
+   @FunctionalInterface
+   private interface Converter
+   {
+      Object fromString(String value) throws Exception;
+   }
+
+   private static final Map<Class<?>, Converter> PARSERS = new HashMap<>();
+
+   static
+   {
+      PARSERS.put(String.class, value -> value);
+      PARSERS.put(boolean.class, Boolean::valueOf);
+      PARSERS.put(Boolean.class, Boolean::valueOf);
+      PARSERS.put(char.class, value -> StringToPrimitive.stringToPrimitiveBoxType(char.class, value));
+      PARSERS.put(byte.class, Byte::valueOf);
+      PARSERS.put(Byte.class, Byte::valueOf);
+      PARSERS.put(short.class, Short::valueOf);
+      PARSERS.put(Short.class, Short::valueOf);
+      PARSERS.put(int.class, Integer::valueOf);
+      PARSERS.put(Integer.class, Integer::valueOf);
+      PARSERS.put(long.class, Long::valueOf);
+      PARSERS.put(Long.class, Long::valueOf);
+      PARSERS.put(float.class, Float::valueOf);
+      PARSERS.put(Float.class, Float::valueOf);
+      PARSERS.put(double.class, Double::valueOf);
+      PARSERS.put(Double.class, Double::valueOf);
+      PARSERS.put(UUID.class, UUID::fromString);
+   }
+
+   /**
+    * Types converted reflectively whose instances can be shared between requests, besides enums.
+    */
+   private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(BigDecimal.class, BigInteger.class, URI.class);
+
    private static final class UnmodifiableArrayList<E> extends ArrayList<E>{
 
       private static final long serialVersionUID = -4912938596876802150L;
@@ -390,6 +436,7 @@ public class StringParameterInjector
    protected ParamConverter<?> paramConverter;
    protected StringParameterUnmarshaller<?> unmarshaller;
    protected RuntimeDelegate.HeaderDelegate<?> delegate;
+   private Converter converter;
 
    public StringParameterInjector()
    {
@@ -419,6 +466,7 @@ public class StringParameterInjector
       //Step 1: try to find a conversion mechanism using the type as it is
       if(initialize(annotations, factory))
       {
+         converter = createConverter();
          return;
       }
 
@@ -429,6 +477,7 @@ public class StringParameterInjector
          baseType = type.getComponentType();
          if(initialize(annotations, factory))
          {
+            converter = createConverter();
             return ;
          }
       }
@@ -451,6 +500,7 @@ public class StringParameterInjector
          }
          if(initialize(annotations, factory))
          {
+            converter = createConverter();
             return;
          }
       }
@@ -595,6 +645,90 @@ public class StringParameterInjector
       return valueOf != null;
    }
 
+   /**
+    * Replaces the reflective String constructor, valueOf and primitive conversions with a direct call: the parsers
+    * of the primitive, boxed, String and UUID types, and a lookup table of the constants of enums converted with
+    * their implicit valueOf.  Other String constructors and static valueOf, fromString or fromValue methods stay
+    * reflective; the results of enums and of the immutable JDK types in {@link #IMMUTABLE_TYPES} are cached if
+    * {@link ResteasyContextParameters#RESTEASY_PARAMETER_CONVERSION_CACHE_SIZE} is set.  Other types are never cached
+    * since a converted instance would be shared, and could be modified, by every request passing the same value.
+    *
+    * @return the converter, or null if the value is converted by a ParamConverter, StringParameterUnmarshaller or
+    *         HeaderDelegate
+    */
+   private Converter createConverter()
+   {
+      if (paramConverter != null || unmarshaller != null || delegate != null)
+      {
+         return null;
+      }
+      Converter parser = PARSERS.get(baseType);
+      if (parser != null)
+      {
+         return parser;
+      }
+      if (constructor != null)
+      {
+         final Constructor<?> constructor = this.constructor;
+         return cached(value -> constructor.newInstance(value));
+      }
+      if (valueOf == null)
+      {
+         return null;
+      }
+      if (baseType.isEnum() && valueOf.getName().equals("valueOf"))
+      {
+         final Map<String, Object> constants = new HashMap<>();
+         for (Object constant : baseType.getEnumConstants())
+         {
+            constants.put(((Enum<?>) constant).name(), constant);
+         }
+         final String prefix = "No enum constant " + baseType.getCanonicalName() + ".";
+         return value -> {
+            Object constant = constants.get(value);
+            if (constant == null)
+            {
+               throw new IllegalArgumentException(prefix + value);
+            }
+            return constant;
+         };
+      }
+      final Method valueOf = this.valueOf;
+      return cached(value -> valueOf.invoke(null, value));
+   }
+
+   private Converter cached(Converter converter)
+   {
+      if (!baseType.isEnum() && !IMMUTABLE_TYPES.contains(baseType))
+      {
+         return converter;
+      }
+      final int maximumSize = ConfigurationFactory.getInstance().getConfiguration().getOptionalValue(
+            ResteasyContextParameters.RESTEASY_PARAMETER_CONVERSION_CACHE_SIZE, int.class).orElse(0);
+      if (maximumSize <= 0)
+      {
+         return converter;
+      }
+      // Emptied when full rather than tracking recency on every hit, the hot values are back after a few requests.
+      final Map<String, Object> cache = new ConcurrentHashMap<>();
+      return value -> {
+         Object result = cache.get(value);
+         if (result == null)
+         {
+            result = converter.fromString(value);
+            if (result != null)
+            {
+               if (cache.size() >= maximumSize)
+               {
+                  cache.clear();
+               }
+               cache.put(value, result);
+            }
+         }
+         return result;
+      };
+   }
+
    @SuppressWarnings("rawtypes")
    private Class<? extends Collection> convertParameterTypeToCollectionType() {
       if (List.class.equals(type) || ArrayList.class.equals(type)) {
@@ -635,13 +769,28 @@ public class StringParameterInjector
          if (values == null) return null;
          @SuppressWarnings("rawtypes")
          Collection collection = null;
-         try
+         if (ArrayList.class.equals(collectionType))
          {
-            collection = collectionType.newInstance();
+            collection = new ArrayList<>(values.size());
          }
-         catch (Exception e)
+         else if (HashSet.class.equals(collectionType))
          {
-            throw new RuntimeException(e);
+            collection = new HashSet<>();
+         }
+         else if (TreeSet.class.equals(collectionType))
+         {
+            collection = new TreeSet<>();
+         }
+         else
+         {
+            try
+            {
+               collection = collectionType.newInstance();
+            }
+            catch (Exception e)
+            {
+               throw new RuntimeException(e);
+            }
          }
          for (String str : values)
          {
@@ -682,6 +831,32 @@ public class StringParameterInjector
             //System.out.println("DEFAULT VAULUE: " + strVal);
          }
       }
+      if (converter != null)
+      {
+         try
+         {
+            return converter.fromString(strVal);
+         }
+         catch (WebApplicationException wae)
+         {
+            throw wae;
+         }
+         catch (InvocationTargetException e)
+         {
+            Throwable targetException = e.getTargetException();
+            if (targetException instanceof WebApplicationException)
+            {
+               throw ((WebApplicationException)targetException);
+            }
+            LogMessages.LOGGER.unableToExtractParameter(targetException, getParamSignature(), strVal, target);
+            throwProcessingException(Messages.MESSAGES.unableToExtractParameter(getParamSignature(), _encode(strVal)), targetException);
+         }
+         catch (Exception e)
+         {
+            LogMessages.LOGGER.unableToExtractParameter(e, getParamSignature(), strVal, target);
+            throwProcessingException(Messages.MESSAGES.unableToExtractParameter(getParamSignature(), _encode(strVal)), e);
+         }
+      }
       if (paramConverter != null)
       {
          try {
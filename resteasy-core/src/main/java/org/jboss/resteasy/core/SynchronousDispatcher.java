@@ -1,5 +1,7 @@
 package org.jboss.resteasy.core;
 
+import org.jboss.resteasy.concurrent.ContextualExecutorService;
+import org.jboss.resteasy.concurrent.ContextualExecutors;
 import org.jboss.resteasy.core.interception.jaxrs.PreMatchContainerRequestContext;
 import org.jboss.resteasy.plugins.server.Cleanable;
 import org.jboss.resteasy.plugins.server.Cleanables;
@@ -19,6 +21,7 @@ import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
 import org.jboss.resteasy.spi.ResteasyConfiguration;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
 import org.jboss.resteasy.spi.UnhandledException;
+import org.jboss.resteasy.spi.statistics.MethodStatisticsLogger;
 import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
 
 import jakarta.ws.rs.NotFoundException;
@@ -38,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 /**
@@ -46,6 +50,11 @@ import java.util.function.Consumer;
  */
 public class SynchronousDispatcher implements Dispatcher
 {
+   /**
+    * Request attribute holding the match of {@link #matchAhead(HttpRequest)}: the invoker or the failure to match.
+    */
+   private static final String MATCHED_AHEAD = SynchronousDispatcher.class.getName() + ".matchedAhead";
+
    protected ResteasyProviderFactory providerFactory;
    protected Registry registry;
    protected List<HttpRequestPreprocessor> requestPreprocessors = new ArrayList<HttpRequestPreprocessor>();
@@ -54,6 +63,9 @@ public class SynchronousDispatcher implements Dispatcher
    protected Set<String> unwrappedExceptions = new HashSet<String>();
    protected boolean bufferExceptionEntityRead = false;
    protected boolean bufferExceptionEntity = true;
+   protected ContextualExecutorService invocationExecutor;
+   // whether tracing or the timing of the phases is enabled, resolved from the configuration by the first request
+   private volatile Boolean tracingSupport;
 
    {
       // This is to make sure LogMessages are preloaded as profiler shows a runtime hit
@@ -100,6 +112,30 @@ public class SynchronousDispatcher implements Dispatcher
       return unwrappedExceptions;
    }
 
+   /**
+    * @return the executor invoking the blocking resource methods, or null if they are invoked by the thread of the
+    * container
+    */
+   public ExecutorService getInvocationExecutor()
+   {
+      return invocationExecutor;
+   }
+
+   /**
+    * Invoke the blocking resource methods with an executor, e.g. of virtual threads, rather than with the thread of the
+    * container, which is released as the request is suspended until the response is written. The resource methods
+    * which are {@link org.jboss.resteasy.annotations.NonBlocking}, asynchronous or suspend their response themselves
+    * are still invoked by the thread of the container, as are the requests of containers without asynchronous
+    * support. The context data of the request is propagated to the executor.
+    *
+    * @param executor executor of the invocations, null to invoke the resource methods with the thread of the container
+    */
+   public void setInvocationExecutor(ExecutorService executor)
+   {
+      this.invocationExecutor = ContextualExecutors.wrap(executor, executor instanceof ContextualExecutorService
+            ? ((ContextualExecutorService) executor).isManaged() : true);
+   }
+
    /*
     * TODO: refactor this method
     * This only used by org.jboss.restesy.springmvc.ResteasyHandlerMapping
@@ -108,7 +144,7 @@ public class SynchronousDispatcher implements Dispatcher
     * another one.
     */
    public Response preprocess(HttpRequest request) {
-      RESTEasyTracingLogger.initTracingSupport(providerFactory, request);
+      initTracingSupport(request);
       Response aborted = null;
 
       RESTEasyTracingLogger tracingLogger = RESTEasyTracingLogger.getInstance(request);
@@ -122,9 +158,12 @@ public class SynchronousDispatcher implements Dispatcher
          }
          tracingLogger.logDuration("PRE_MATCH_SUMMARY", totalTimestamp, this.requestPreprocessors.size());
          ContainerRequestFilter[] requestFilters = providerFactory.getContainerRequestFilterRegistry().preMatch();
-         // FIXME: support async
-         PreMatchContainerRequestContext requestContext = new PreMatchContainerRequestContext(request, requestFilters, null);
-         aborted = requestContext.filter();
+         if (requestFilters.length > 0)
+         {
+            // FIXME: support async
+            PreMatchContainerRequestContext requestContext = new PreMatchContainerRequestContext(request, requestFilters, null);
+            aborted = requestContext.filter();
+         }
       } catch (Exception e) {
          //logger.error("Failed in preprocess, mapping exception", e);
          aborted = new ExceptionHandler(providerFactory, unwrappedExceptions).handleException(request, e);
@@ -156,12 +195,15 @@ public class SynchronousDispatcher implements Dispatcher
          }
          tracingLogger.logDuration("PRE_MATCH_SUMMARY", totalTimestamp, this.requestPreprocessors.size());
          ContainerRequestFilter[] requestFilters = providerFactory.getContainerRequestFilterRegistry().preMatch();
-         requestContext = new PreMatchContainerRequestContext(request, requestFilters,
-            () -> {
-               continuation.run();
-               return null;
-            });
-         aborted = requestContext.filter();
+         if (requestFilters.length > 0)
+         {
+            requestContext = new PreMatchContainerRequestContext(request, requestFilters,
+               () -> {
+                  continuation.run();
+                  return null;
+               });
+            aborted = requestContext.filter();
+         }
       } catch (Exception e) {
          //logger.error("Failed in preprocess, mapping exception", e);
          // we only want to catch exceptions happening in the filters, not in the continuation
@@ -174,6 +216,11 @@ public class SynchronousDispatcher implements Dispatcher
             rethrow(e);
          }
       }
+      if (requestContext == null) {
+         // no pre-matching filter, failures of the continuation are not filter failures
+         continuation.run();
+         return;
+      }
       if (aborted != null) {
          tracingLogger.log("FINISHED", response.getStatus());
          tracingLogger.flush(response.getOutputHeaders());
@@ -236,9 +283,19 @@ public class SynchronousDispatcher implements Dispatcher
    }
 
 
+   private void initTracingSupport(HttpRequest request)
+   {
+      Boolean enabled = tracingSupport;
+      if (enabled == null)
+      {
+         tracingSupport = enabled = RESTEasyTracingLogger.isTracingSupportEnabled(providerFactory);
+      }
+      RESTEasyTracingLogger.initTracingSupport(providerFactory, request, enabled);
+   }
+
    public void invoke(HttpRequest request, HttpResponse response)
    {
-      RESTEasyTracingLogger.initTracingSupport(providerFactory, request);
+      initTracingSupport(request);
       RESTEasyTracingLogger.logStart(request);
 
       try
@@ -248,6 +305,9 @@ public class SynchronousDispatcher implements Dispatcher
             ResourceInvoker invoker = null;
             try
             {
+               // the routing of a request matched ahead was recorded when it was matched
+               final long routingTimestamp = providerFactory.getStatisticsController().isEnabled()
+                     && request.getAttribute(MATCHED_AHEAD) == null ? System.nanoTime() : 0;
                try
                {
                   invoker = getInvoker(request);
@@ -258,6 +318,10 @@ public class SynchronousDispatcher implements Dispatcher
                   writeException(request, response, exception, t -> {});
                   return;
                }
+               if (routingTimestamp != 0)
+               {
+                  invoker.getMethodStatisticsLogger().routingDuration(routingTimestamp);
+               }
                invoke(request, response, invoker);
             }
             finally
@@ -329,10 +393,24 @@ public class SynchronousDispatcher implements Dispatcher
       {
          throw new InternalServerErrorException(Messages.MESSAGES.isNotInitialRequest(request.getUri().getPath()));
       }
-      ResourceInvoker invoker = registry.getResourceInvoker(request);
-      if (invoker == null)
+      ResourceInvoker invoker;
+      Object matchedAhead = request.getAttribute(MATCHED_AHEAD);
+      if (matchedAhead != null)
       {
-         throw new NotFoundException(Messages.MESSAGES.unableToFindJaxRsResource(request.getUri().getPath()));
+         request.removeAttribute(MATCHED_AHEAD);
+         if (matchedAhead instanceof RuntimeException)
+         {
+            throw (RuntimeException) matchedAhead;
+         }
+         invoker = (ResourceInvoker) matchedAhead;
+      }
+      else
+      {
+         invoker = registry.getResourceInvoker(request);
+         if (invoker == null)
+         {
+            throw new NotFoundException(Messages.MESSAGES.unableToFindJaxRsResource(request.getUri().getPath()));
+         }
       }
       RESTEasyTracingLogger logger = RESTEasyTracingLogger.getInstance(request);
       logger.log("MATCH_RESOURCE", invoker);
@@ -340,6 +418,48 @@ public class SynchronousDispatcher implements Dispatcher
       return invoker;
    }
 
+   /**
+    * Matches the request before it is dispatched, for the containers choosing the thread of the dispatch according to
+    * the resource method. Matching has side effects on the request, so the match is kept with the request and the
+    * dispatch uses it rather than matching the request again.
+    * <p>
+    * The request is not matched when pre-matching filters or preprocessors, which run before the match and may change
+    * the request, are registered. The routing duration of a request matched ahead is recorded here, the dispatch only
+    * recording it for the requests it matches itself.
+    *
+    * @param request the request, not dispatched yet
+    * @return the invoker of the request, or null if the request is not matched or does not match any resource
+    */
+   public ResourceInvoker matchAhead(HttpRequest request)
+   {
+      if (!request.isInitial() || !requestPreprocessors.isEmpty()
+            || providerFactory.getContainerRequestFilterRegistry().preMatch().length > 0)
+      {
+         return null;
+      }
+      try
+      {
+         final long routingTimestamp = providerFactory.getStatisticsController().isEnabled() ? System.nanoTime() : 0;
+         ResourceInvoker invoker = registry.getResourceInvoker(request);
+         if (invoker == null)
+         {
+            request.setAttribute(MATCHED_AHEAD, new NotFoundException(Messages.MESSAGES.unableToFindJaxRsResource(request.getUri().getPath())));
+            return null;
+         }
+         if (routingTimestamp != 0)
+         {
+            invoker.getMethodStatisticsLogger().routingDuration(routingTimestamp);
+         }
+         request.setAttribute(MATCHED_AHEAD, invoker);
+         return invoker;
+      }
+      catch (RuntimeException e)
+      {
+         request.setAttribute(MATCHED_AHEAD, e);
+         return null;
+      }
+   }
+
    @SuppressWarnings("unchecked")
    public void pushContextObjects(final HttpRequest request, final HttpResponse response)
    {
@@ -483,8 +603,66 @@ public class SynchronousDispatcher implements Dispatcher
     */
    public void invoke(HttpRequest request, HttpResponse response, ResourceInvoker invoker)
    {
+      if (isInvokedByExecutor(request, invoker))
+      {
+         ResteasyAsynchronousContext asyncContext = request.getAsyncContext();
+         asyncContext.suspend();
+         // the suspended request is resumed with the response of the method, see ResourceMethodInvoker, other
+         // responses (e.g. for a failure of the filters) complete it once they are written
+         invocationExecutor.execute(() -> {
+            try
+            {
+               invokeDirectly(request, response, invoker, true);
+            }
+            catch (RuntimeException e)
+            {
+               unhandledAsynchronousException(response, e);
+               asyncContext.complete();
+            }
+         });
+         return;
+      }
+      invokeDirectly(request, response, invoker, false);
+   }
 
+   private boolean isInvokedByExecutor(HttpRequest request, ResourceInvoker invoker)
+   {
+      if (invocationExecutor == null || !(invoker instanceof ResourceMethodInvoker))
+      {
+         return false;
+      }
+      ResourceMethodInvoker method = (ResourceMethodInvoker) invoker;
+      ResteasyAsynchronousContext asyncContext = request.getAsyncContext();
+      return !method.isNonBlocking() && !method.hasAsyncResult() && !method.isAsynchronous() && !method.isSse()
+            && !(asyncContext instanceof SynchronousExecutionContext) && !asyncContext.isSuspended();
+   }
+
+   private void invokeDirectly(HttpRequest request, HttpResponse response, ResourceInvoker invoker,
+                               boolean byExecutor)
+   {
       RESTEasyTracingLogger tracingLogger = RESTEasyTracingLogger.getInstance(request);
+      // the logger may be replaced meanwhile, the same one counts the end of the request
+      MethodStatisticsLogger statistics = invoker.getMethodStatisticsLogger();
+      statistics.requestStarted();
+      try
+      {
+         invokeDirectly(request, response, invoker, tracingLogger, byExecutor);
+      }
+      finally
+      {
+         statistics.requestEnded();
+      }
+   }
+
+   /**
+    * @param byExecutor whether the request was suspended to be invoked by the invocation executor, a response
+    *                   returned by the invoker (e.g. of a filter aborting the request) then completes the request once
+    *                   it is written
+    */
+   private void invokeDirectly(HttpRequest request, HttpResponse response, ResourceInvoker invoker,
+                               RESTEasyTracingLogger tracingLogger, boolean byExecutor)
+   {
+      final Consumer<Throwable> onComplete = byExecutor ? t -> request.getAsyncContext().complete() : t -> {};
       Response jaxrsResponse = null;
       try
       {
@@ -494,7 +672,7 @@ public class SynchronousDispatcher implements Dispatcher
 
          tracingLogger.log("DISPATCH_RESPONSE", jaxrsResponse);
 
-         if (request.getAsyncContext().isSuspended())
+         if (request.getAsyncContext().isSuspended() && !(byExecutor && jaxrsResponse != null))
          {
             /**
              * Callback by the initial calling thread.  This callback will probably do nothing in an asynchronous environment
@@ -509,19 +687,19 @@ public class SynchronousDispatcher implements Dispatcher
       catch (CompletionException e)
       {
          //logger.error("invoke() failed mapping exception", e);
-         writeException(request, response, e.getCause(), t->{});
+         writeException(request, response, e.getCause(), onComplete);
          return;
       }
       catch (Exception e)
       {
          //logger.error("invoke() failed mapping exception", e);
          invoker.getMethodStatisticsLogger().incFailureCnt();
-         writeException(request, response, e, t->{});
+         writeException(request, response, e, onComplete);
          return;
       }
 
       if (jaxrsResponse != null) {
-         writeResponse(request, response, jaxrsResponse);
+         writeResponse(request, response, jaxrsResponse, onComplete);
       }
    }
 
@@ -588,6 +766,17 @@ public class SynchronousDispatcher implements Dispatcher
 
 
    protected void writeResponse(HttpRequest request, HttpResponse response, Response jaxrsResponse)
+   {
+      writeResponse(request, response, jaxrsResponse, t -> {});
+   }
+
+   /**
+    * Writes the response, or the response of the exception the write failed with.
+    *
+    * @param onComplete called once the response of a suspended request is written
+    */
+   protected void writeResponse(HttpRequest request, HttpResponse response, Response jaxrsResponse,
+                                Consumer<Throwable> onComplete)
    {
       try
       {
@@ -598,20 +787,23 @@ public class SynchronousDispatcher implements Dispatcher
                   if(request.getAsyncContext().isSuspended()
                         && !request.getAsyncContext().isOnInitialRequest()) {
                      try {
-                        writeException(request, response, t, t2 -> {});
+                        writeException(request, response, t, onComplete);
                      }catch(Throwable ex) {
                         unhandledAsynchronousException(response, ex);
+                        onComplete.accept(ex);
                      }
                   } else {
                      rethrow(t);
                   }
+               } else {
+                  onComplete.accept(null);
                }
             });
       }
       catch (Exception e)
       {
          //logger.error("writeResponse() failed mapping exception", e);
-         writeException(request, response, e, t -> {});
+         writeException(request, response, e, onComplete);
       }
       finally {
          RESTEasyTracingLogger tracingLogger = RESTEasyTracingLogger.getInstance(request);
@@ -47,6 +47,7 @@ public class SynchronousExecutionContext extends AbstractExecutionContext
    @Override
    public ResteasyAsynchronousResponse suspend(long time, TimeUnit unit) throws IllegalStateException
    {
+      loadHeaders();
       wasSuspended = true;
       asynchronousResponse = new SynchronousAsynchronousResponse(dispatcher, request, response);
       asynchronousResponse.setTimeout(time, unit);
@@ -121,13 +121,7 @@ public abstract class AbstractReaderInterceptorContext implements ReaderIntercep
 
    protected MessageBodyReader getReader()
    {
-      MediaType mediaType = this.mediaType;
-      // spec says set to octet stream
-      if (getHeaders() != null && getHeaders().getFirst(HttpHeaders.CONTENT_TYPE) == null && mediaType.isWildcardType())
-      {
-         mediaType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-      }
-      MessageBodyReader reader = resolveReader(mediaType);
+      MessageBodyReader reader = resolveReader(readerMediaType(mediaType, getHeaders()));
       if (reader == null)
       {
          throwReaderNotFound();
@@ -135,6 +129,16 @@ public abstract class AbstractReaderInterceptorContext implements ReaderIntercep
       return reader;
    }
 
+   protected static MediaType readerMediaType(MediaType mediaType, MultivaluedMap<String, String> headers)
+   {
+      // spec says set to octet stream
+      if (headers != null && headers.getFirst(HttpHeaders.CONTENT_TYPE) == null && mediaType.isWildcardType())
+      {
+         return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+      }
+      return mediaType;
+   }
+
    protected abstract MessageBodyReader resolveReader(MediaType mediaType);
 
    protected abstract void throwReaderNotFound();
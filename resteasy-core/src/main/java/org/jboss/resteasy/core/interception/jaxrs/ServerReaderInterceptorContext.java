@@ -1,6 +1,7 @@
 package org.jboss.resteasy.core.interception.jaxrs;
 
 import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
@@ -42,11 +43,7 @@ public class ServerReaderInterceptorContext extends AbstractReaderInterceptorCon
    @Override
    protected MessageBodyReader resolveReader(MediaType mediaType)
    {
-      @SuppressWarnings(value = "unchecked")
-      MessageBodyReader reader =  ((ResteasyProviderFactoryImpl)providerFactory).getServerMessageBodyReader(type,
-              genericType, annotations, mediaType, tracingLogger);
-      //logger.info("**** picked reader: " + reader.getClass().getName());
-      return reader;
+      return resolveReader(providerFactory, type, genericType, annotations, mediaType, tracingLogger);
    }
 
    @Override
@@ -57,10 +54,44 @@ public class ServerReaderInterceptorContext extends AbstractReaderInterceptorCon
 
    @Override
    protected Object readFrom(MessageBodyReader reader) throws IOException
+   {
+      return readFrom(reader, type, genericType, annotations, mediaType, headers, inputStream);
+   }
+
+   /**
+    * Reads the entity with the reader resolved for it, which is what {@link #proceed()} comes down to when
+    * there are no interceptors to run, without creating a context.
+    */
+   public static Object readFrom(ResteasyProviderFactory providerFactory, Class type, Type genericType, Annotation[] annotations,
+                                 MediaType mediaType, MultivaluedMap<String, String> headers, InputStream inputStream,
+                                 RESTEasyTracingLogger tracingLogger) throws IOException
+   {
+      MessageBodyReader reader = resolveReader(providerFactory, type, genericType, annotations,
+            readerMediaType(mediaType, headers), tracingLogger);
+      if (reader == null)
+      {
+         throw new NotSupportedException(Messages.MESSAGES.couldNotFindMessageBodyReader(genericType, mediaType));
+      }
+      tracingLogger.log("MBR_READ_FROM", reader.getClass().getName());
+      LogMessages.LOGGER.debugf("MessageBodyReader: %s", reader.getClass().getName());
+      return readFrom(reader, type, genericType, annotations, mediaType, headers, inputStream);
+   }
+
+   @SuppressWarnings(value = "unchecked")
+   private static MessageBodyReader resolveReader(ResteasyProviderFactory providerFactory, Class type, Type genericType,
+                                                  Annotation[] annotations, MediaType mediaType, RESTEasyTracingLogger tracingLogger)
+   {
+      return ((ResteasyProviderFactoryImpl)providerFactory).getServerMessageBodyReader(type,
+              genericType, annotations, mediaType, tracingLogger);
+   }
+
+   @SuppressWarnings(value = "unchecked")
+   private static Object readFrom(MessageBodyReader reader, Class type, Type genericType, Annotation[] annotations,
+                                  MediaType mediaType, MultivaluedMap<String, String> headers, InputStream inputStream) throws IOException
    {
       try
       {
-         return super.readFrom(reader);
+         return reader.readFrom(type, genericType, annotations, mediaType, headers, inputStream);
       }
       catch (NoContentException e)
       {
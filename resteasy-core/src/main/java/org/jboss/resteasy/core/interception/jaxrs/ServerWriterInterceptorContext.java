@@ -7,11 +7,13 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.MessageBodyWriter;
@@ -70,24 +72,67 @@ public class ServerWriterInterceptorContext extends AbstractWriterInterceptorCon
    @Override
    public CompletionStage<Void> getStarted()
    {
-      return aroundWriteTo(() -> super.getStarted());
+      return aroundWriteTo(request, onWriteComplete, () -> super.getStarted());
    }
 
-   @SuppressWarnings(value = "unchecked")
    protected CompletionStage<Void> writeTo(MessageBodyWriter writer) throws IOException
    {
-      return request.getAsyncContext().executeBlockingIo(() -> writer.writeTo(entity, type, genericType, annotations, mediaType, headers, outputStream),
+      return writeTo(writer, entity, type, genericType, annotations, mediaType, headers, outputStream, request,
             interceptors != null && interceptors.length > 0);
    }
 
-   @SuppressWarnings(value = "unchecked")
    protected CompletionStage<Void> writeTo(AsyncMessageBodyWriter writer)
+   {
+      return writeTo(writer, entity, type, genericType, annotations, mediaType, headers, (AsyncOutputStream) outputStream, request);
+   }
+
+   /**
+    * Writes the entity with an already resolved writer, which is what {@link #getStarted()} comes down to when
+    * there are no interceptors to run, without creating a context.
+    */
+   public static CompletionStage<Void> writeTo(MessageBodyWriter writer, Object entity, Class type, Type genericType,
+                                               Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> headers,
+                                               OutputStream outputStream, HttpRequest request, Consumer<Throwable> onWriteComplete)
+   {
+      return aroundWriteTo(request, onWriteComplete, () -> {
+         if (outputStream instanceof AsyncOutputStream && writer instanceof AsyncMessageBodyWriter)
+         {
+            return writeTo((AsyncMessageBodyWriter) writer, entity, type, genericType, annotations, mediaType, headers,
+                  (AsyncOutputStream) outputStream, request);
+         }
+         try
+         {
+            return writeTo(writer, entity, type, genericType, annotations, mediaType, headers, outputStream, request, false);
+         }
+         catch (WebApplicationException e)
+         {
+            CompletableFuture<Void> ret = new CompletableFuture<>();
+            ret.completeExceptionally(e);
+            return ret;
+         }
+      });
+   }
+
+   @SuppressWarnings(value = "unchecked")
+   private static CompletionStage<Void> writeTo(MessageBodyWriter writer, Object entity, Class type, Type genericType,
+                                                Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> headers,
+                                                OutputStream outputStream, HttpRequest request, boolean hasInterceptors)
+   {
+      return request.getAsyncContext().executeBlockingIo(() -> writer.writeTo(entity, type, genericType, annotations, mediaType, headers, outputStream),
+            hasInterceptors);
+   }
+
+   @SuppressWarnings(value = "unchecked")
+   private static CompletionStage<Void> writeTo(AsyncMessageBodyWriter writer, Object entity, Class type, Type genericType,
+                                                Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> headers,
+                                                AsyncOutputStream outputStream, HttpRequest request)
    {
       return request.getAsyncContext().executeAsyncIo(
-            writer.asyncWriteTo(entity, type, genericType, annotations, mediaType, headers, (AsyncOutputStream)outputStream));
+            writer.asyncWriteTo(entity, type, genericType, annotations, mediaType, headers, outputStream));
    }
 
-   private CompletionStage<Void> aroundWriteTo(Supplier<CompletionStage<Void>> ret)
+   private static CompletionStage<Void> aroundWriteTo(HttpRequest request, Consumer<Throwable> onWriteComplete,
+                                                      Supplier<CompletionStage<Void>> ret)
    {
       boolean startedSuspended = request.getAsyncContext().isSuspended();
       return ret.get().whenComplete((v, t) -> {
@@ -0,0 +1,75 @@
+package org.jboss.resteasy.core.providerfactory;
+
+import jakarta.ws.rs.core.MediaType;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * Key of the MessageBodyReader/MessageBodyWriter resolution cache kept in the provider
+ * {@link org.jboss.resteasy.core.MediaTypeMap}s.
+ * <p>
+ * Annotations are compared by value, so that the fresh copies of an annotation array returned by reflection, or
+ * annotation literals, all map to the same entry. They are hashed by annotation type only, which is cheaper than
+ * {@link Annotation#hashCode()} and consistent with it, and compared by identity before {@link Annotation#equals(Object)}
+ * since the annotation instances of a method or parameter are usually shared.
+ */
+final class MessageBodyKey
+{
+   final Class<?> type;
+   final Type genericType;
+   final Annotation[] annotations;
+   final MediaType mediaType;
+   private final int hash;
+
+   MessageBodyKey(final Class<?> type, final Type genericType, final Annotation[] annotations, final MediaType mediaType)
+   {
+      this.type = type;
+      this.genericType = genericType;
+      this.annotations = annotations;
+      this.mediaType = mediaType;
+      int h = type.hashCode();
+      h = 31 * h + (genericType == null ? 0 : genericType.hashCode());
+      h = 31 * h + mediaType.hashCode();
+      if (annotations != null)
+      {
+         for (Annotation annotation : annotations)
+         {
+            h = 31 * h + annotation.annotationType().hashCode();
+         }
+      }
+      this.hash = h;
+   }
+
+   @Override
+   public boolean equals(Object o)
+   {
+      if (this == o) return true;
+      if (!(o instanceof MessageBodyKey)) return false;
+      MessageBodyKey key = (MessageBodyKey) o;
+      return hash == key.hash
+            && type == key.type
+            && equalAnnotations(annotations, key.annotations)
+            && Objects.equals(genericType, key.genericType)
+            && mediaType.equals(key.mediaType);
+   }
+
+   private static boolean equalAnnotations(Annotation[] a1, Annotation[] a2)
+   {
+      if (a1 == a2) return true;
+      int length1 = a1 == null ? 0 : a1.length;
+      int length2 = a2 == null ? 0 : a2.length;
+      if (length1 != length2) return false;
+      for (int i = 0; i < length1; i++)
+      {
+         if (a1[i] != a2[i] && !a1[i].equals(a2[i])) return false;
+      }
+      return true;
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return hash;
+   }
+}
@@ -111,6 +111,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory implements Providers, HeaderValueProcessor, Configurable<ResteasyProviderFactory>, Configuration
 {
+   /**
+    * Cached in the provider {@link MediaTypeMap}s when no MessageBodyReader/MessageBodyWriter is readable/writeable.
+    */
+   private static final Object NO_PROVIDER = new Object();
+
    protected ClientHelper clientHelper;
    protected ServerHelper serverHelper;
 
@@ -580,19 +585,24 @@ public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory impleme
          MediaType mediaType, MediaTypeMap<SortedKey<MessageBodyReader>> availableReaders)
    {
       if (availableReaders == null) return null;
-      List<SortedKey<MessageBodyReader>> readers = availableReaders.getPossible(mediaType, type);
+      MessageBodyKey key = new MessageBodyKey(type, genericType, annotations, mediaType);
+      Object reader = availableReaders.resolve(key, mediaType, type, ResteasyProviderFactoryImpl::findMessageBodyReader);
+      return reader == NO_PROVIDER ? null : (MessageBodyReader<T>) reader;
+   }
 
+   private static Object findMessageBodyReader(MessageBodyKey key, List<SortedKey<MessageBodyReader>> readers)
+   {
       //logger.info("******** getMessageBodyReader *******");
       for (SortedKey<MessageBodyReader> reader : readers)
       {
          //logger.info("     matching reader: " + reader.getClass().getName());
-         if (reader.getObj().isReadable(type, genericType, annotations, mediaType))
+         if (reader.getObj().isReadable(key.type, key.genericType, key.annotations, key.mediaType))
          {
             LogMessages.LOGGER.debugf("MessageBodyReader: %s", reader.getClass().getName());
-            return (MessageBodyReader<T>) reader.getObj();
+            return reader.getObj();
          }
       }
-      return null;
+      return NO_PROVIDER;
    }
 
    private <T> MessageBodyReader<T> resolveMessageBodyReader(Class<T> type, Type genericType,
@@ -600,14 +610,16 @@ public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory impleme
          RESTEasyTracingLogger tracingLogger)
    {
       if (availableReaders == null) return null;
-      List<SortedKey<MessageBodyReader>> readers = availableReaders.getPossible(mediaType, type);
-
-      if (tracingLogger.isLogEnabled("MBR_FIND"))
+      if (!tracingLogger.isLogEnabled("MBR_FIND"))
       {
-         tracingLogger.log("MBR_FIND", type.getName(),
-               (genericType instanceof Class ? ((Class) genericType).getName() : genericType), mediaType,
-               java.util.Arrays.toString(annotations));
+         // the cached resolution only has to be bypassed to trace the whole search
+         return resolveMessageBodyReader(type, genericType, annotations, mediaType, availableReaders);
       }
+      List<SortedKey<MessageBodyReader>> readers = availableReaders.getPossible(mediaType, type);
+
+      tracingLogger.log("MBR_FIND", type.getName(),
+            (genericType instanceof Class ? ((Class) genericType).getName() : genericType), mediaType,
+            java.util.Arrays.toString(annotations));
 
       MessageBodyReader<T> result = null;
 
@@ -1284,7 +1296,13 @@ public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory impleme
          MediaType mediaType, MediaTypeMap<SortedKey<MessageBodyWriter>> availableWriters)
    {
       if (availableWriters == null) return null;
-      List<SortedKey<MessageBodyWriter>> writers = availableWriters.getPossible(mediaType, type);
+      MessageBodyKey key = new MessageBodyKey(type, genericType, annotations, mediaType);
+      Object writer = availableWriters.resolve(key, mediaType, type, ResteasyProviderFactoryImpl::findMessageBodyWriter);
+      return writer == NO_PROVIDER ? null : (MessageBodyWriter<T>) writer;
+   }
+
+   private static Object findMessageBodyWriter(MessageBodyKey key, List<SortedKey<MessageBodyWriter>> writers)
+   {
       /*
       logger.info("*******   getMessageBodyWriter(" + type.getName() + ", " + mediaType.toString() + ")****");
       for (SortedKey<MessageBodyWriter> writer : writers)
@@ -1295,14 +1313,14 @@ public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory impleme
 
       for (SortedKey<MessageBodyWriter> writer : writers)
       {
-         if (writer.getObj().isWriteable(type, genericType, annotations, mediaType))
+         if (writer.getObj().isWriteable(key.type, key.genericType, key.annotations, key.mediaType))
          {
             LogMessages.LOGGER.debugf("MessageBodyWriter: %s", writer.getClass().getName());
             //logger.info("   picking: " + writer.obj.getClass().getName());
-            return (MessageBodyWriter<T>) writer.getObj();
+            return writer.getObj();
          }
       }
-      return null;
+      return NO_PROVIDER;
    }
 
    private <T> MessageBodyWriter<T> resolveMessageBodyWriter(Class<T> type, Type genericType,
@@ -1310,14 +1328,16 @@ public class ResteasyProviderFactoryImpl extends ResteasyProviderFactory impleme
          RESTEasyTracingLogger tracingLogger)
    {
       if (availableWriters == null) return null;
-      List<SortedKey<MessageBodyWriter>> writers = availableWriters.getPossible(mediaType, type);
-
-      if (tracingLogger.isLogEnabled("MBW_FIND"))
+      if (!tracingLogger.isLogEnabled("MBW_FIND"))
       {
-         tracingLogger.log("MBW_FIND", type.getName(),
-               (genericType instanceof Class ? ((Class) genericType).getName() : genericType), mediaType,
-               java.util.Arrays.toString(annotations));
+         // the cached resolution only has to be bypassed to trace the whole search
+         return resolveMessageBodyWriter(type, genericType, annotations, mediaType, availableWriters);
       }
+      List<SortedKey<MessageBodyWriter>> writers = availableWriters.getPossible(mediaType, type);
+
+      tracingLogger.log("MBW_FIND", type.getName(),
+            (genericType instanceof Class ? ((Class) genericType).getName() : genericType), mediaType,
+            java.util.Arrays.toString(annotations));
 
       MessageBodyWriter<T> result = null;
 
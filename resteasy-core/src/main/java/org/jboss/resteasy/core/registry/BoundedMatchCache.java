@@ -0,0 +1,14 @@
+package org.jboss.resteasy.core.registry;
+
+import org.jboss.resteasy.util.BoundedCache;
+
+/**
+ * Size bounded cache of {@link MatchCache} entries used by {@link RootNode}, see {@link BoundedCache}.
+ */
+public class BoundedMatchCache extends BoundedCache<MatchCache.Key, MatchCache>
+{
+   public BoundedMatchCache(final int maximumSize)
+   {
+      super(maximumSize);
+   }
+}
@@ -0,0 +1,242 @@
+package org.jboss.resteasy.core.registry;
+
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.tracing.RESTEasyTracingLogger;
+import org.jboss.resteasy.util.PathHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * Segment trie over the {@link MethodExpression}s of a {@link RootNode}, built as resource methods are registered.
+ * <p>
+ * Templates made only of literal segments and whole-segment <code>{param}</code> slots without a custom regular
+ * expression are compiled into the trie and matched in a single pass over the path, without regular expressions and
+ * without sorting.  Everything else (custom regular expressions, mixed literal/parameter segments and locators) is
+ * still matched through the {@link SegmentNode} tree and merged with the trie matches, so the selection rules are the
+ * same as with the regular expression based matching.
+ */
+public class CompiledRouter
+{
+   protected final SegmentNode root;
+   protected final TrieNode trie = new TrieNode();
+   protected int fallbackCount;
+   protected int maxParams;
+
+   public CompiledRouter(final SegmentNode root)
+   {
+      this.root = root;
+   }
+
+   public void add(MethodExpression expression)
+   {
+      expression.template = compile(expression);
+      if (expression.template == null)
+      {
+         fallbackCount++;
+         return;
+      }
+      TrieNode node = trie;
+      int params = 0;
+      for (String segment : expression.template)
+      {
+         if (segment == null)
+         {
+            params++;
+            if (node.param == null) node.param = new TrieNode();
+            node = node.param;
+         }
+         else
+         {
+            node = node.addLiteral(segment);
+         }
+      }
+      node.addTarget(expression);
+      maxParams = Math.max(maxParams, params);
+   }
+
+   public void remove(MethodExpression expression)
+   {
+      if (expression.template == null)
+      {
+         fallbackCount--;
+         return;
+      }
+      TrieNode node = trie;
+      for (String segment : expression.template)
+      {
+         node = segment == null ? node.param : node.literals.get(segment);
+         if (node == null) return;
+      }
+      node.targets.remove(expression);
+   }
+
+   public MatchCache match(HttpRequest request, int start)
+   {
+      String path = ((ResteasyUriInfo) request.getUri()).getMatchingPath();
+      RESTEasyTracingLogger logger = RESTEasyTracingLogger.getInstance(request);
+      logger.log("MATCH_PATH_FIND", path);
+
+      if (start < path.length() && path.charAt(start) == '/') start++;
+      List<SegmentNode.Match> compiled = new ArrayList<SegmentNode.Match>(2);
+      trie.collect(path, start == path.length() ? -1 : start, new int[maxParams * 2], 0, compiled);
+      if (compiled.size() > 1)
+      {
+         compiled.sort((m1, m2) -> m1.expression.compareTo(m2.expression));
+      }
+
+      List<MethodExpression> potentials = Collections.emptyList();
+      if (fallbackCount > 0)
+      {
+         potentials = new ArrayList<MethodExpression>();
+         root.potentials(path, start, potentials);
+         potentials.removeIf(expression -> expression.template != null);
+         Collections.sort(potentials);
+      }
+      return root.match(request, path, start, potentials, compiled);
+   }
+
+   /**
+    * Computes the bounds of the path parameters of a compiled expression, for a path it is known to match.
+    *
+    * @param template compiled template of the expression
+    * @param path matching path
+    * @param start offset of the first segment
+    * @return start and end offset of every parameter, or null if the path does not match the template
+    */
+   public static int[] bind(String[] template, String path, int start)
+   {
+      if (start < path.length() && path.charAt(start) == '/') start++;
+      int params = 0;
+      for (String segment : template)
+      {
+         if (segment == null) params++;
+      }
+      int[] bounds = new int[params * 2];
+      int param = 0;
+      int next = start == path.length() ? -1 : start;
+      for (String segment : template)
+      {
+         if (next < 0) return null;
+         int end = path.indexOf('/', next);
+         int following = end < 0 ? -1 : end + 1;
+         if (end < 0) end = path.length();
+         if (segment == null)
+         {
+            if (end == next) return null;
+            bounds[param++] = next;
+            bounds[param++] = end;
+         }
+         else if (segment.length() != end - next || !path.regionMatches(next, segment, 0, end - next))
+         {
+            return null;
+         }
+         next = following;
+      }
+      return next < 0 ? bounds : null;
+   }
+
+   /**
+    * @return literal segments of the template with <code>null</code> for every parameter slot, or null if the
+    * expression needs regular expression matching
+    */
+   protected static String[] compile(MethodExpression expression)
+   {
+      if (!(expression.getInvoker() instanceof ResourceMethodInvoker)) return null;
+      String path = expression.getPathExpression();
+      if ("".equals(path)) return new String[0];
+      String[] segments = path.split("/", -1);
+      String[] template = new String[segments.length];
+      int params = 0;
+      for (int i = 0; i < segments.length; i++)
+      {
+         String segment = segments[i];
+         if (segment.indexOf('{') < 0 && segment.indexOf('}') < 0)
+         {
+            template[i] = segment;
+            continue;
+         }
+         Matcher param = PathHelper.URI_PARAM_PATTERN.matcher(segment);
+         if (!param.matches() || param.group(3) != null) return null;
+         params++;
+      }
+      return params == expression.getNumGroups() ? template : null;
+   }
+
+   protected static class TrieNode
+   {
+      private static final int LINEAR_SCAN_LIMIT = 8;
+
+      protected final Map<String, TrieNode> literals = new HashMap<String, TrieNode>();
+      protected String[] literalKeys = new String[0];
+      protected TrieNode[] literalNodes = new TrieNode[0];
+      protected TrieNode param;
+      protected final List<MethodExpression> targets = new ArrayList<MethodExpression>();
+
+      protected TrieNode addLiteral(String segment)
+      {
+         TrieNode node = literals.get(segment);
+         if (node == null)
+         {
+            node = new TrieNode();
+            literals.put(segment, node);
+            literalKeys = Arrays.copyOf(literalKeys, literalKeys.length + 1);
+            literalNodes = Arrays.copyOf(literalNodes, literalNodes.length + 1);
+            literalKeys[literalKeys.length - 1] = segment;
+            literalNodes[literalNodes.length - 1] = node;
+         }
+         return node;
+      }
+
+      protected void addTarget(MethodExpression expression)
+      {
+         targets.add(expression);
+         Collections.sort(targets);
+      }
+
+      protected TrieNode literal(String path, int start, int end)
+      {
+         if (literalKeys.length > LINEAR_SCAN_LIMIT) return literals.get(path.substring(start, end));
+         int length = end - start;
+         for (int i = 0; i < literalKeys.length; i++)
+         {
+            String key = literalKeys[i];
+            if (key.length() == length && path.regionMatches(start, key, 0, length)) return literalNodes[i];
+         }
+         return null;
+      }
+
+      /**
+       * @param start offset of the next segment, or -1 once every segment of the path has been consumed
+       */
+      protected void collect(String path, int start, int[] bounds, int param, List<SegmentNode.Match> matches)
+      {
+         if (start < 0)
+         {
+            for (MethodExpression expression : targets)
+            {
+               matches.add(new SegmentNode.Match(expression, null, Arrays.copyOf(bounds, param * 2)));
+            }
+            return;
+         }
+         int end = path.indexOf('/', start);
+         int next = end < 0 ? -1 : end + 1;
+         if (end < 0) end = path.length();
+         TrieNode child = literal(path, start, end);
+         if (child != null) child.collect(path, next, bounds, param, matches);
+         if (this.param != null && end > start)
+         {
+            bounds[param * 2] = start;
+            bounds[param * 2 + 1] = end;
+            this.param.collect(path, next, bounds, param + 1, matches);
+         }
+      }
+   }
+}
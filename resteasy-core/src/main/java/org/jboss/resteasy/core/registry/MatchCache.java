@@ -1,10 +1,13 @@
 package org.jboss.resteasy.core.registry;
 
 
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.ResourceInvoker;
 
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
 import java.util.List;
@@ -13,22 +16,128 @@ import java.util.Objects;
 public class MatchCache {
     public MediaType chosen;
     public SegmentNode.Match match;
+    /**
+     * Set for cached matches of templated routes, whose path parameters have to be re-extracted on every hit.
+     */
+    public MethodExpression expression;
     public ResourceInvoker invoker;
 
+    /**
+     * Cache key made of the matching path from {@code start}, the http method and the raw Content-Type and Accept
+     * header values.  The path is not copied and the media types are not parsed to look a match up; the hash is
+     * computed once.
+     * <p>
+     * The parsed {@link #contentType} and {@link #accepts} are only set by {@link #Key(HttpRequest, int)}, on the keys
+     * stored in the cache, and are not compared.  Lookups use the reusable key of the thread returned by
+     * {@link #lookup(HttpRequest, int)}, which must be released once the lookup is done.
+     * </p>
+     */
     public static class Key {
+        private static final ThreadLocal<Key> LOOKUP = ThreadLocal.withInitial(Key::new);
+
         public String path;
         public int start;
         public String method;
         public MediaType contentType;
         public List<MediaType> accepts;
+        public String contentTypeHeader;
+        public List<String> acceptHeaders;
+        private int hash;
+
+        private Key() {
+        }
 
         public Key(final HttpRequest request, final int start) {
-            String matchingPath = ((ResteasyUriInfo) request.getUri()).getMatchingPath();
-            this.path = start == 0 ? matchingPath : matchingPath.substring(start);
+            set(request, start);
+            if (acceptHeaders != null) {
+                // the headers of the request may still change
+                acceptHeaders = List.copyOf(acceptHeaders);
+            }
+            contentType = request.getHttpHeaders().getMediaType();
+            accepts = request.getHttpHeaders().getAcceptableMediaTypes();
+        }
+
+        /**
+         * @param request the request
+         * @param start start of the matching path
+         * @return the key of the request, reused by the thread until {@link #release()}
+         */
+        public static Key lookup(final HttpRequest request, final int start) {
+            Key key = LOOKUP.get();
+            key.set(request, start);
+            return key;
+        }
+
+        /**
+         * Clears the references to the request kept by a lookup key.
+         */
+        public void release() {
+            path = null;
+            contentTypeHeader = null;
+            acceptHeaders = null;
+        }
+
+        private void set(final HttpRequest request, final int start) {
+            this.path = ((ResteasyUriInfo) request.getUri()).getMatchingPath();
             this.start = start;
-            this.method = request.getHttpMethod();
-            this.contentType = request.getHttpHeaders().getMediaType();
-            this.accepts = request.getHttpHeaders().getAcceptableMediaTypes();
+            this.method = internMethod(request.getHttpMethod());
+            HttpHeaders headers = request.getHttpHeaders();
+            List<String> contentTypes;
+            List<String> accepts;
+            if (headers instanceof ResteasyHttpHeaders) {
+                // avoid the unmodifiable list wrappers
+                contentTypes = ((ResteasyHttpHeaders) headers).getMutableHeaders().get(HttpHeaders.CONTENT_TYPE);
+                accepts = ((ResteasyHttpHeaders) headers).getMutableHeaders().get(HttpHeaders.ACCEPT);
+            } else {
+                contentTypes = headers.getRequestHeader(HttpHeaders.CONTENT_TYPE);
+                accepts = headers.getRequestHeader(HttpHeaders.ACCEPT);
+            }
+            this.contentTypeHeader = contentTypes == null || contentTypes.isEmpty() ? null : contentTypes.get(0);
+            this.acceptHeaders = accepts == null || accepts.isEmpty() ? null : accepts;
+
+            int h;
+            if (start == 0) {
+                h = path.hashCode();
+            } else {
+                h = 0;
+                for (int i = start; i < path.length(); i++) h = 31 * h + path.charAt(i);
+            }
+            h = 31 * h + start;
+            h = 31 * h + method.hashCode();
+            h = 31 * h + (contentTypeHeader == null ? 0 : contentTypeHeader.hashCode());
+            if (acceptHeaders != null) {
+                for (int i = 0; i < acceptHeaders.size(); i++) h = 31 * h + acceptHeaders.get(i).hashCode();
+            }
+            this.hash = h;
+        }
+
+        /**
+         * @return true if the Content-Type header has parameters, e.g. a multipart boundary, which would make the
+         * key unique to one request
+         */
+        public boolean hasContentTypeParameters() {
+            return contentTypeHeader != null && contentTypeHeader.indexOf(';') > -1;
+        }
+
+        private static String internMethod(String method) {
+            switch (method) {
+                case HttpMethod.GET:
+                    return HttpMethod.GET;
+                case HttpMethod.POST:
+                    return HttpMethod.POST;
+                case HttpMethod.PUT:
+                    return HttpMethod.PUT;
+                case HttpMethod.DELETE:
+                    return HttpMethod.DELETE;
+                case HttpMethod.PATCH:
+                    return HttpMethod.PATCH;
+                case HttpMethod.HEAD:
+                    return HttpMethod.HEAD;
+                case HttpMethod.OPTIONS:
+                    return HttpMethod.OPTIONS;
+                default:
+                    return method;
+            }
         }
 
         @Override
@@ -36,21 +145,27 @@ public class MatchCache {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Key key = (Key) o;
-            boolean b = start == key.start &&
-                    path.equals(key.path) &&
-                    method.equals(key.method) &&
-                    Objects.equals(contentType, key.contentType);
-            if (!b) return false;
-            if (accepts.isEmpty() && key.accepts.isEmpty()) return true;
-            if (accepts.size() != key.accepts.size()) return false;
-            // todo improve this
-            return b &&
-                    accepts.equals(key.accepts);
+            if (hash != key.hash || start != key.start) return false;
+            if (method != key.method && !method.equals(key.method)) return false;
+            int length = path.length() - start;
+            if (length != key.path.length() - key.start) return false;
+            if (path != key.path && !path.regionMatches(start, key.path, key.start, length)) return false;
+            return Objects.equals(contentTypeHeader, key.contentTypeHeader)
+                    && equalHeaders(acceptHeaders, key.acceptHeaders);
+        }
+
+        private static boolean equalHeaders(List<String> values, List<String> other) {
+            if (values == other) return true;
+            if (values == null || other == null || values.size() != other.size()) return false;
+            for (int i = 0; i < values.size(); i++) {
+                if (!values.get(i).equals(other.get(i))) return false;
+            }
+            return true;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(path, start, method);
+            return hash;
         }
     }
 }
@@ -19,6 +19,10 @@ public class MethodExpression extends Expression
 {
    protected SegmentNode parent;
    protected ResourceInvoker invoker;
+   /**
+    * Literal segments with <code>null</code> parameter slots when compiled into a {@link CompiledRouter}.
+    */
+   protected String[] template;
 
    public int compareTo(Expression expression)
    {
@@ -49,44 +53,64 @@ public class MethodExpression extends Expression
       ResteasyUriInfo uriInfo = (ResteasyUriInfo) request.getUri();
       for (Group group : groups)
       {
-         String value = matcher.group(group.group);
-         uriInfo.addEncodedPathParameter(group.name, value);
-         int index = matcher.start(group.group);
+         populatePathParam(request, uriInfo, group.name, matcher.group(group.group), matcher.start(group.group), path);
+      }
+   }
 
-         int start = 0;
-         if (path.charAt(0) == '/') start++;
-         int segmentIndex = 0;
+   /**
+    * Populates the path parameters from the parameter bounds computed by a {@link CompiledRouter}.
+    *
+    * @param request http request
+    * @param bounds start and end offset of every parameter, in declaration order
+    * @param path matching path
+    */
+   public void populatePathParams(HttpRequest request, int[] bounds, String path)
+   {
+      ResteasyUriInfo uriInfo = (ResteasyUriInfo) request.getUri();
+      for (int i = 0; i < groups.size(); i++)
+      {
+         int index = bounds[i * 2];
+         populatePathParam(request, uriInfo, groups.get(i).name, path.substring(index, bounds[i * 2 + 1]), index, path);
+      }
+   }
 
-         if (start < path.length())
-         {
-            int count = 0;
-            for (int i = start; i < index && i < path.length(); i++)
-            {
-               if (path.charAt(i) == '/') count++;
-            }
-            segmentIndex = count;
-         }
+   private void populatePathParam(HttpRequest request, ResteasyUriInfo uriInfo, String name, String value, int index, String path)
+   {
+      uriInfo.addEncodedPathParameter(name, value);
 
-         int numSegments = 1;
-         for (int i = 0; i < value.length(); i++)
-         {
-            if (value.charAt(i) == '/') numSegments++;
-         }
+      int start = 0;
+      if (path.charAt(0) == '/') start++;
+      int segmentIndex = 0;
 
-         if (segmentIndex + numSegments > request.getUri().getPathSegments().size())
-         {
-            throw new BadRequestException(Messages.MESSAGES.numberOfMatchedSegments());
-         }
-         PathSegment[] encodedSegments = new PathSegment[numSegments];
-         PathSegment[] decodedSegments = new PathSegment[numSegments];
-         for (int i = 0; i < numSegments; i++)
+      if (start < path.length())
+      {
+         int count = 0;
+         for (int i = start; i < index && i < path.length(); i++)
          {
-            decodedSegments[i] = request.getUri().getPathSegments().get(segmentIndex + i);
-            encodedSegments[i] = request.getUri().getPathSegments(false).get(segmentIndex + i);
+            if (path.charAt(i) == '/') count++;
          }
-         uriInfo.getEncodedPathParameterPathSegments().add(group.name, encodedSegments);
-         uriInfo.getPathParameterPathSegments().add(group.name, decodedSegments);
+         segmentIndex = count;
+      }
+
+      int numSegments = 1;
+      for (int i = 0; i < value.length(); i++)
+      {
+         if (value.charAt(i) == '/') numSegments++;
+      }
+
+      if (segmentIndex + numSegments > request.getUri().getPathSegments().size())
+      {
+         throw new BadRequestException(Messages.MESSAGES.numberOfMatchedSegments());
+      }
+      PathSegment[] encodedSegments = new PathSegment[numSegments];
+      PathSegment[] decodedSegments = new PathSegment[numSegments];
+      for (int i = 0; i < numSegments; i++)
+      {
+         decodedSegments[i] = request.getUri().getPathSegments().get(segmentIndex + i);
+         encodedSegments[i] = request.getUri().getPathSegments(false).get(segmentIndex + i);
       }
+      uriInfo.getEncodedPathParameterPathSegments().add(name, encodedSegments);
+      uriInfo.getPathParameterPathSegments().add(name, decodedSegments);
    }
 
    public boolean isLocator()
@@ -2,6 +2,7 @@ package org.jboss.resteasy.core.registry;
 
 import org.jboss.resteasy.core.ResourceMethodInvoker;
 import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.ResourceInvoker;
 
@@ -13,7 +14,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 
 import static org.jboss.resteasy.core.registry.SegmentNode.RESTEASY_CHOSEN_ACCEPT;
 
@@ -26,21 +27,27 @@ public class RootNode
    protected SegmentNode root = new SegmentNode("");
    protected int size = 0;
    protected MultivaluedMap<String, MethodExpression> bounded = new MultivaluedHashMap<String, MethodExpression>();
-   protected ConcurrentHashMap<MatchCache.Key, MatchCache> cache = new ConcurrentHashMap<>();
    private static int CACHE_SIZE = 2048;
    private static boolean CACHE = true;
+   private static boolean COMPILED_ROUTER = false;
    static
    {
       if (System.getSecurityManager() == null) {
          CACHE = Boolean.parseBoolean(System.getProperty(ResteasyContextParameters.RESTEASY_MATCH_CACHE_ENABLED, "true"));
          CACHE_SIZE = Integer.getInteger(ResteasyContextParameters.RESTEASY_MATCH_CACHE_SIZE, 2048);
+         COMPILED_ROUTER = Boolean.getBoolean(ResteasyContextParameters.RESTEASY_MATCH_COMPILED_ROUTER_ENABLED);
       } else {
          CACHE = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
           Boolean.parseBoolean(System.getProperty(ResteasyContextParameters.RESTEASY_MATCH_CACHE_ENABLED, "true")));
          CACHE_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
          Integer.getInteger(ResteasyContextParameters.RESTEASY_MATCH_CACHE_SIZE, 2048));
+         COMPILED_ROUTER = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
+         Boolean.getBoolean(ResteasyContextParameters.RESTEASY_MATCH_COMPILED_ROUTER_ENABLED));
       }
    }
+   protected BoundedMatchCache cache = new BoundedMatchCache(CACHE_SIZE);
+   protected CompiledRouter router = COMPILED_ROUTER ? new CompiledRouter(root) : null;
+
    public int getSize()
    {
       return size;
@@ -60,30 +67,77 @@ public class RootNode
       return rtn;
    }
 
+   /**
+    * @return the match cache, which also exposes hit, miss and eviction counters
+    */
+   public BoundedMatchCache getCache()
+   {
+      return cache;
+   }
+
    public ResourceInvoker match(HttpRequest request, int start)
    {
-      if (!CACHE || (request.getHttpHeaders().getMediaType() !=null && !request.getHttpHeaders().getMediaType().getParameters().isEmpty())) {
-         return root.match(request, start).invoker;
+      if (!CACHE) {
+         return matchUncached(request, start).invoker;
+      }
+      MatchCache.Key key = MatchCache.Key.lookup(request, start);
+      try {
+         return match(request, start, key);
+      } finally {
+         key.release();
+      }
+   }
+
+   private ResourceInvoker match(HttpRequest request, int start, MatchCache.Key key)
+   {
+      if (key.hasContentTypeParameters()) {
+         return matchUncached(request, start).invoker;
       }
-      MatchCache.Key key = new MatchCache.Key(request, start);
       MatchCache match = cache.get(key);
       if (match != null) {
          //System.out.println("*** cache hit: " + key.method + " " + key.path);
          request.setAttribute(RESTEASY_CHOSEN_ACCEPT, match.chosen);
+         if (match.expression != null) {
+            // templated route: the method is already chosen, only the path parameters need extracting
+            populatePathParams(request, start, match.expression);
+         }
       } else {
-         match = root.match(request, start);
-         if (match.match != null && match.match.expression.getNumGroups() == 0 && match.invoker instanceof ResourceMethodInvoker) {
+         match = matchUncached(request, start);
+         if (match.match != null && match.invoker instanceof ResourceMethodInvoker) {
             //System.out.println("*** caching: " + key.method + " " + key.path);
-            match.match = null;
-            if (cache.size() >= CACHE_SIZE) {
-               cache.clear();
+            if (match.match.expression.getNumGroups() > 0) {
+               match.expression = match.match.expression;
             }
-            cache.putIfAbsent(key, match);
+            match.match = null;
+            cache.put(new MatchCache.Key(request, start), match);
          }
       }
       return match.invoker;
    }
 
+   protected MatchCache matchUncached(HttpRequest request, int start)
+   {
+      return router != null ? router.match(request, start) : root.match(request, start);
+   }
+
+   private static void populatePathParams(HttpRequest request, int start, MethodExpression expression)
+   {
+      String path = ((ResteasyUriInfo) request.getUri()).getMatchingPath();
+      if (expression.template != null) {
+         int[] bounds = CompiledRouter.bind(expression.template, path, start);
+         if (bounds != null) {
+            expression.populatePathParams(request, bounds, path);
+         }
+         return;
+      }
+      if (start < path.length() && path.charAt(start) == '/') start++;
+      Matcher matcher = expression.getPattern().matcher(path);
+      matcher.region(start, path.length());
+      if (matcher.matches()) {
+         expression.populatePathParams(request, matcher, path);
+      }
+   }
+
    public void removeBinding(String path, Method method)
    {
       List<MethodExpression> expressions = bounded.get(path);
@@ -95,6 +149,8 @@ public class RootNode
          {
             expression.parent.targets.remove(expression);
             expressions.remove(expression);
+            if (router != null) router.remove(expression);
+            cache.clear();
             if (expressions.size() == 0) bounded.remove(path);
             size--;
             if (invoker instanceof ResourceMethodInvoker)
@@ -111,6 +167,8 @@ public class RootNode
       MethodExpression expression = addExpression(path, invoker);
       size++;
       bounded.add(path, expression);
+      if (router != null) router.add(expression);
+      cache.clear();
    }
    protected MethodExpression addExpression(String path, ResourceInvoker invoker)
    {
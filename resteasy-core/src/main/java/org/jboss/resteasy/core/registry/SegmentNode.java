@@ -64,11 +64,24 @@ public class SegmentNode
    {
       MethodExpression expression;
       Matcher matcher;
+      int[] bounds;
 
       public Match(final MethodExpression expression, final Matcher matcher)
+      {
+         this(expression, matcher, null);
+      }
+
+      public Match(final MethodExpression expression, final Matcher matcher, final int[] bounds)
       {
          this.expression = expression;
          this.matcher = matcher;
+         this.bounds = bounds;
+      }
+
+      public void populatePathParams(HttpRequest request, String path)
+      {
+         if (matcher != null) expression.populatePathParams(request, matcher, path);
+         else expression.populatePathParams(request, bounds, path);
       }
    }
 
@@ -82,14 +95,33 @@ public class SegmentNode
       List<MethodExpression> potentials = new ArrayList<MethodExpression>();
       potentials(path, start, potentials);
       Collections.sort(potentials);
+      return match(request, path, start, potentials, Collections.<Match>emptyList());
+   }
 
+   /**
+    * Matches the sorted potentials against the path and selects the resource method or locator to invoke.
+    *
+    * @param potentials sorted expressions that still have to be matched against the path
+    * @param compiled sorted matches that were already found without regular expressions, see {@link CompiledRouter}
+    */
+   protected MatchCache match(HttpRequest request, String path, int start, List<MethodExpression> potentials, List<Match> compiled)
+   {
+      RESTEasyTracingLogger logger = RESTEasyTracingLogger.getInstance(request);
       boolean expressionMatched = false;
       List<Match> matches = new ArrayList<Match>();
+      int next = 0;
       for (MethodExpression expression : potentials)
       {
+         while (next < compiled.size() && compiled.get(next).expression.compareTo(expression) <= 0)
+         {
+            expressionMatched = true;
+            matches.add(compiled.get(next++));
+         }
          // We ignore locators if the first match was a resource method as per the spec Section 3, Step 2(h)
          if (expressionMatched && expression.isLocator()) {
-            logger.log("MATCH_PATH_SKIPPED", expression.getRegex());
+            if (logger.isLogEnabled("MATCH_PATH_SKIPPED")) {
+               logger.log("MATCH_PATH_SKIPPED", expression.getRegex());
+            }
             continue;
          }
 
@@ -143,16 +175,21 @@ public class SegmentNode
 
                matches.add(new Match(expression, matcher));
             }
-         } else {
+         } else if (logger.isLogEnabled("MATCH_PATH_NOT_MATCHED")) {
+            // checked first, not to build the arguments for each expression of the loop
             logger.log("MATCH_PATH_NOT_MATCHED", expression.getRegex());
          }
       }
+      while (next < compiled.size())
+      {
+         matches.add(compiled.get(next++));
+      }
       if (matches.size() == 0)
       {
          throw new NotFoundException(Messages.MESSAGES.couldNotFindResourceForFullPath(request.getUri().getRequestUri()));
       }
       MatchCache match = match(matches, request.getHttpMethod(), request);
-      match.match.expression.populatePathParams(request, match.match.matcher, path);
+      match.match.populatePathParams(request, path);
       logger.log("MATCH_PATH_SELECTED", match.match.expression.getRegex());
       return match;
 
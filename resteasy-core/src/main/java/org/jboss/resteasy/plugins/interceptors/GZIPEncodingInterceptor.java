@@ -19,6 +19,7 @@ import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.zip.GZIPOutputStream;
 import org.jboss.resteasy.util.CommitHeaderOutputStream;
 
@@ -82,6 +83,13 @@ public class GZIPEncodingInterceptor implements AsyncWriterInterceptor
          }
       }
 
+      @Override
+      public CompletionStage<Void> transferFile(Path file, long position, long count)
+      {
+         // the file is compressed through the stream
+         return null;
+      }
+
       synchronized void finish() throws IOException {
          if (gzip != null) {
             gzip.finish();
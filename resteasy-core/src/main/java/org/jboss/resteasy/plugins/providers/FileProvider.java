@@ -4,7 +4,6 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -208,6 +207,10 @@ public class FileProvider implements MessageBodyReader<File>,
 
    protected void writeIt(File uploadFile, OutputStream entityStream) throws IOException
    {
+      if (ProviderHelper.transferFile(entityStream, uploadFile, 0, uploadFile.length()) != null)
+      {
+         return;
+      }
       InputStream inputStream = new BufferedInputStream(new FileInputStream(uploadFile));
 
       try
@@ -304,9 +307,14 @@ public class FileProvider implements MessageBodyReader<File>,
    {
       try
       {
+         CompletionStage<Void> transferred = ProviderHelper.transferFile(entityStream, uploadFile, 0, uploadFile.length());
+         if (transferred != null)
+         {
+            return transferred;
+         }
          InputStream inputStream = new BufferedInputStream(new FileInputStream(uploadFile));
          return ProviderHelper.writeToAndCloseInput(inputStream, entityStream);
-      } catch (FileNotFoundException e)
+      } catch (IOException e)
       {
          return ProviderHelper.completedException(e);
       }
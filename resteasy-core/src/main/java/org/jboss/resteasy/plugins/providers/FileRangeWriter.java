@@ -46,6 +46,10 @@ public class FileRangeWriter implements AsyncMessageBodyWriter<FileRange>
       long length = (fileRange.getEnd() - fileRange.getBegin()) + 1;
       httpHeaders.putSingle("Content-Range", contentRange);
       httpHeaders.putSingle("Content-Length", length);
+      if (ProviderHelper.transferFile(entityStream, fileRange.getFile(), fileRange.getBegin(), length) != null)
+      {
+         return;
+      }
       FileInputStream fis = new FileInputStream(fileRange.getFile());
       try
       {
@@ -85,6 +89,12 @@ public class FileRangeWriter implements AsyncMessageBodyWriter<FileRange>
       httpHeaders.putSingle("Content-Length", length);
       try
       {
+         CompletionStage<Void> transferred = ProviderHelper.transferFile(entityStream, fileRange.getFile(),
+               fileRange.getBegin(), length);
+         if (transferred != null)
+         {
+            return transferred;
+         }
          FileInputStream fis = new FileInputStream(fileRange.getFile());
          if (fileRange.getBegin() > 0)
          {
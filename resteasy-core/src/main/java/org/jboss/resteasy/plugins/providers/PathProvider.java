@@ -0,0 +1,81 @@
+package org.jboss.resteasy.plugins.providers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.util.MediaTypeHelper;
+
+/**
+ * Writes {@link Path} entities. The files of the default file system are written as {@link FileProvider} writes
+ * them, with the support of the byte ranges and of the {@link org.jboss.resteasy.spi.FileTransfer} of the container,
+ * the other ones are copied to the stream.
+ */
+@Provider
+@Produces("*/*")
+public class PathProvider implements AsyncMessageBodyWriter<Path>
+{
+   private final FileProvider fileProvider = new FileProvider();
+
+   @Override
+   public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+   {
+      return Path.class.isAssignableFrom(type) && !MediaTypeHelper.isBlacklisted(mediaType);
+   }
+
+   @Override
+   public long getSize(Path path, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+   {
+      return -1;
+   }
+
+   @Override
+   public void writeTo(Path path, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                       MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException
+   {
+      LogMessages.LOGGER.debugf("Provider : %s,  Method : writeTo", getClass().getName());
+      if (path.getFileSystem() == FileSystems.getDefault())
+      {
+         fileProvider.writeTo(path.toFile(), File.class, File.class, annotations, mediaType, httpHeaders, entityStream);
+         return;
+      }
+      Files.copy(path, entityStream);
+   }
+
+   @Override
+   public CompletionStage<Void> asyncWriteTo(Path path, Class<?> type, Type genericType, Annotation[] annotations,
+                                             MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                                             AsyncOutputStream entityStream)
+   {
+      LogMessages.LOGGER.debugf("Provider : %s,  Method : asyncWriteTo", getClass().getName());
+      if (path.getFileSystem() == FileSystems.getDefault())
+      {
+         return fileProvider.asyncWriteTo(path.toFile(), File.class, File.class, annotations, mediaType, httpHeaders,
+               entityStream);
+      }
+      try
+      {
+         InputStream inputStream = Files.newInputStream(path);
+         return ProviderHelper.writeToAndCloseInput(inputStream, entityStream);
+      }
+      catch (IOException e)
+      {
+         return ProviderHelper.completedException(e);
+      }
+   }
+}
@@ -5,11 +5,13 @@ import jakarta.ws.rs.core.Variant;
 import jakarta.ws.rs.core.Variant.VariantListBuilder;
 
 import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.FileTransfer;
 
 import com.ibm.asyncutil.iteration.AsyncTrampoline;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -167,6 +169,26 @@ public final class ProviderHelper
             asyncRead(in, buf)).thenApply(v -> null);
    }
 
+   /**
+    * Sends a region of a file with the {@link FileTransfer} of the output stream, when it has one.
+    *
+    * @param out output stream
+    * @param file file
+    * @param position position of the region in the file
+    * @param count length of the region
+    * @return a stage completed when the region is sent, or null if it must be written to the output stream
+    * @throws IOException if I/O error occurred
+    */
+   public static CompletionStage<Void> transferFile(final OutputStream out, final File file, final long position,
+                                                    final long count) throws IOException
+   {
+      if (!(out instanceof FileTransfer) || count <= 0 || !file.isFile() || position + count > file.length())
+      {
+         return null;
+      }
+      return ((FileTransfer) out).transferFile(file.toPath(), position, count);
+   }
+
    public static int asyncRead(InputStream in, byte[] buf)
    {
       try {
@@ -1,18 +1,28 @@
 package org.jboss.resteasy.plugins.providers.sse;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.sse.OutboundSseEvent;
 import jakarta.ws.rs.sse.SseBroadcaster;
 import jakarta.ws.rs.sse.SseEventSink;
@@ -20,16 +30,68 @@ import jakarta.ws.rs.sse.SseEventSink;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.LogMessages;
 import org.jboss.resteasy.resteasy_jaxrs.i18n.Messages;
 
+/**
+ * Broadcasts events to every registered sink independently: each sink has its own queue of outbound events which is
+ * written in order, so a slow client only delays its own events.  The events are encoded once per media type for all
+ * the sinks of the broadcaster that write them to already flushed responses.
+ * <p>
+ * The queues are unbounded unless a queue size is given, the {@link OverflowPolicy} of the broadcaster then applies
+ * when the queue of a sink is full.  The number of queued events and of events dropped or sinks disconnected because
+ * of the policy are exposed as lag metrics.
+ */
 public class SseBroadcasterImpl implements SseBroadcaster
 {
+   /**
+    * What is done with a new event for a sink whose queue is full.
+    */
+   public enum OverflowPolicy
+   {
+      /**
+       * The oldest queued event of the sink is dropped.
+       */
+      DROP_OLDEST,
+      /**
+       * The new event is dropped for the sink.
+       */
+      DROP_NEWEST,
+      /**
+       * The sink is closed and its queued events are dropped, the client can reconnect and resume from the id of
+       * the last event it received.
+       */
+      DISCONNECT
+   }
+
+   /**
+    * Queue size of the sinks by default, i.e. unbounded: no event is ever dropped.
+    */
+   public static final int DEFAULT_QUEUE_SIZE = Integer.MAX_VALUE;
+
    private ConcurrentLinkedQueue<SseEventSink> outputQueue = new ConcurrentLinkedQueue<>();
 
+   private final Map<SseEventSink, Subscriber> subscribers = new ConcurrentHashMap<>();
+
    private final List<BiConsumer<SseEventSink, Throwable>> onErrorConsumers = new CopyOnWriteArrayList<>();
 
    private final List<Consumer<SseEventSink>> closeConsumers = new CopyOnWriteArrayList<>();
 
    private final AtomicBoolean closed = new AtomicBoolean();
 
+   private final int queueSize;
+
+   private final OverflowPolicy overflowPolicy;
+
+   private final Executor executor;
+
+   private final boolean shutdownExecutor;
+
+   private final LongAdder broadcasts = new LongAdder();
+
+   private final LongAdder queued = new LongAdder();
+
+   private final LongAdder dropped = new LongAdder();
+
+   private final LongAdder disconnected = new LongAdder();
+
    // Used to perform a mutual exclusion between register and close operations
    // since every registered SseEventSink needs to be closed when
    // SseBroadcaster.close() is invoked to prevent leaks due to SseEventSink
@@ -44,6 +106,35 @@ public class SseBroadcasterImpl implements SseBroadcaster
 
    public SseBroadcasterImpl()
    {
+      this(DEFAULT_QUEUE_SIZE, OverflowPolicy.DISCONNECT, null);
+   }
+
+   /**
+    * @param queueSize maximum number of events queued per sink
+    * @param overflowPolicy what is done with a new event for a sink whose queue is full
+    * @param executor executor writing to a sink once it has queued events, or null to start writing in the
+    *                 broadcasting thread and continue in the threads completing the writes
+    */
+   public SseBroadcasterImpl(final int queueSize, final OverflowPolicy overflowPolicy, final Executor executor)
+   {
+      this(queueSize, overflowPolicy, executor, false);
+   }
+
+   /**
+    * @param shutdownExecutor whether the executor, an {@link ExecutorService}, is shut down when the broadcaster is
+    *                         closed
+    */
+   SseBroadcasterImpl(final int queueSize, final OverflowPolicy overflowPolicy, final Executor executor,
+                      final boolean shutdownExecutor)
+   {
+      if (queueSize < 1)
+      {
+         throw new IllegalArgumentException("queueSize < 1");
+      }
+      this.queueSize = queueSize;
+      this.overflowPolicy = overflowPolicy == null ? OverflowPolicy.DISCONNECT : overflowPolicy;
+      this.executor = executor;
+      this.shutdownExecutor = shutdownExecutor;
       ReadWriteLock readWriteLock = new ReentrantReadWriteLock(true);
       this.readLock = readWriteLock.readLock();
       this.writeLock = readWriteLock.writeLock();
@@ -61,6 +152,10 @@ public class SseBroadcasterImpl implements SseBroadcaster
       {
          return;
       }
+      if (shutdownExecutor)
+      {
+         ((ExecutorService) executor).shutdown();
+      }
       if (cascading) {
          writeLock.lock();
          try {
@@ -97,6 +192,11 @@ public class SseBroadcasterImpl implements SseBroadcaster
       // given eventSink instance.
       if (outputQueue.remove(eventSink))
       {
+         Subscriber subscriber = subscribers.remove(eventSink);
+         if (subscriber != null)
+         {
+            subscriber.discard();
+         }
          closeConsumers.forEach(consumer -> {
             consumer.accept(eventSink);
          });
@@ -141,6 +241,7 @@ public class SseBroadcasterImpl implements SseBroadcaster
       {
          checkClosed();
          outputQueue.add(sseEventSink);
+         subscribers.putIfAbsent(sseEventSink, new Subscriber(sseEventSink));
       }
       finally
       {
@@ -152,30 +253,307 @@ public class SseBroadcasterImpl implements SseBroadcaster
    public CompletionStage<?> broadcast(OutboundSseEvent event)
    {
       checkClosed();
-      CompletionStage<?> ret = CompletableFuture.completedFuture(null);
+      broadcasts.increment();
+      Map<MediaType, byte[]> encoded = null;
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
       for (SseEventSink eventSink : outputQueue)
       {
-         ret = ret.thenCompose(v -> {
-            try {
-               return eventSink.send(event)
-                     .exceptionally(err -> {
-                        // do not propagate the exception to the returned CF
-                        // apparently, the goal is to close this sink and not report the error
-                        // of the broadcast operation
-                        notifyOnErrorListeners(eventSink, err);
-                        return null;
-                     });
+         Subscriber subscriber = subscribers.get(eventSink);
+         if (subscriber == null)
+         {
+            continue;
+         }
+         byte[] data = null;
+         if (eventSink instanceof SseEventOutputImpl && ((SseEventOutputImpl) eventSink).isResponseFlushed())
+         {
+            if (encoded == null)
+            {
+               encoded = new HashMap<>(2);
             }
-            catch (Exception e)
+            data = encode((SseEventOutputImpl) eventSink, event, encoded);
+         }
+         futures.add(subscriber.offer(new Pending(event, data)));
+      }
+      if (futures.isEmpty())
+      {
+         return CompletableFuture.completedFuture(null);
+      }
+      return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+   }
+
+   /**
+    * @return the event encoded by the sink for the media type it writes it with, or null to let the sink encode it
+    */
+   private static byte[] encode(SseEventOutputImpl sink, OutboundSseEvent event, Map<MediaType, byte[]> encoded)
+   {
+      MediaType mediaType;
+      try
+      {
+         mediaType = sink.getEventMediaType(event);
+      }
+      catch (RuntimeException e)
+      {
+         // reported by the sink when it writes the event
+         return null;
+      }
+      if (encoded.containsKey(mediaType))
+      {
+         return encoded.get(mediaType);
+      }
+      byte[] data = null;
+      try
+      {
+         data = sink.encode(event, mediaType);
+      }
+      catch (Exception e)
+      {
+         // the sinks encode the event themselves and report the failure
+      }
+      encoded.put(mediaType, data);
+      return data;
+   }
+
+   /**
+    * @return number of events broadcast
+    */
+   public long getBroadcastCount()
+   {
+      return broadcasts.sum();
+   }
+
+   /**
+    * @return number of events queued for all the sinks and not written yet
+    */
+   public long getQueuedCount()
+   {
+      return queued.sum();
+   }
+
+   /**
+    * @return largest number of events queued for a single sink, i.e. how far the slowest client is behind
+    */
+   public int getMaxLag()
+   {
+      int lag = 0;
+      for (Subscriber subscriber : subscribers.values())
+      {
+         lag = Math.max(lag, subscriber.size());
+      }
+      return lag;
+   }
+
+   /**
+    * @return number of events not written to a sink because its queue was full or it was disconnected
+    */
+   public long getDroppedCount()
+   {
+      return dropped.sum();
+   }
+
+   /**
+    * @return number of sinks closed because their queue was full
+    */
+   public long getDisconnectedCount()
+   {
+      return disconnected.sum();
+   }
+
+   public int getQueueSize()
+   {
+      return queueSize;
+   }
+
+   public OverflowPolicy getOverflowPolicy()
+   {
+      return overflowPolicy;
+   }
+
+   private static final class Pending
+   {
+      final OutboundSseEvent event;
+      final byte[] data;
+      final CompletableFuture<Void> future = new CompletableFuture<>();
+
+      private Pending(final OutboundSseEvent event, final byte[] data)
+      {
+         this.event = event;
+         this.data = data;
+      }
+   }
+
+   /**
+    * Queue of the events of a sink, written one after the other.
+    */
+   private final class Subscriber
+   {
+      private final SseEventSink sink;
+      private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+      private boolean writing;
+      private boolean discarded;
+
+      private Subscriber(final SseEventSink sink)
+      {
+         this.sink = sink;
+      }
+
+      CompletableFuture<Void> offer(Pending pending)
+      {
+         Pending drop = null;
+         List<Pending> disconnect = null;
+         boolean start = false;
+         synchronized (this)
+         {
+            if (discarded)
             {
-               // do not propagate the exception to the returned CF
-               // apparently, the goal is to close this sink and not report the error
-               // of the broadcast operation
-               notifyOnErrorListeners(eventSink, e);
-               return CompletableFuture.completedFuture(null);
+               drop = pending;
             }
-         });
+            else if (queue.size() < queueSize)
+            {
+               queue.addLast(pending);
+               queued.increment();
+               start = !writing;
+               writing = true;
+            }
+            else if (overflowPolicy == OverflowPolicy.DROP_OLDEST)
+            {
+               drop = queue.pollFirst();
+               queue.addLast(pending);
+            }
+            else if (overflowPolicy == OverflowPolicy.DROP_NEWEST)
+            {
+               drop = pending;
+            }
+            else
+            {
+               disconnect = drain();
+               disconnect.add(pending);
+               discarded = true;
+            }
+         }
+         if (drop != null)
+         {
+            dropped.increment();
+            drop.future.complete(null);
+         }
+         else if (disconnect != null)
+         {
+            disconnected.increment();
+            dropped.add(disconnect.size());
+            try
+            {
+               sink.close();
+            }
+            catch (RuntimeException e)
+            {
+               LogMessages.LOGGER.debug(e.getLocalizedMessage());
+            }
+            notifyOnCloseListeners(sink);
+            disconnect.forEach(p -> p.future.complete(null));
+         }
+         else if (start)
+         {
+            if (executor != null)
+            {
+               executor.execute(this::write);
+            }
+            else
+            {
+               write();
+            }
+         }
+         return pending.future;
+      }
+
+      synchronized int size()
+      {
+         return queue.size();
+      }
+
+      /**
+       * Drops the queued events once the sink is closed.
+       */
+      void discard()
+      {
+         List<Pending> pending;
+         synchronized (this)
+         {
+            discarded = true;
+            pending = drain();
+         }
+         pending.forEach(p -> p.future.complete(null));
+      }
+
+      private List<Pending> drain()
+      {
+         List<Pending> pending = new ArrayList<>(queue);
+         queued.add(-queue.size());
+         queue.clear();
+         return pending;
+      }
+
+      /**
+       * Writes the queued events until one cannot be written synchronously, the write is then resumed by the thread
+       * completing it.
+       */
+      private void write()
+      {
+         for (;;)
+         {
+            Pending pending;
+            synchronized (this)
+            {
+               pending = queue.pollFirst();
+               if (pending == null)
+               {
+                  writing = false;
+                  return;
+               }
+               queued.decrement();
+            }
+            CompletableFuture<?> sent = send(pending);
+            if (!sent.isDone())
+            {
+               sent.whenComplete((v, t) -> {
+                  complete(pending, t);
+                  write();
+               });
+               return;
+            }
+            complete(pending, sent.isCompletedExceptionally() ? sent.handle((v, t) -> t).join() : null);
+         }
+      }
+
+      private CompletableFuture<?> send(Pending pending)
+      {
+         try
+         {
+            CompletionStage<?> sent = pending.data != null
+                  ? ((SseEventOutputImpl) sink).send(pending.event, pending.data)
+                  : sink.send(pending.event);
+            return sent.toCompletableFuture();
+         }
+         catch (Exception e)
+         {
+            CompletableFuture<?> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+         }
+      }
+
+      private void complete(Pending pending, Throwable error)
+      {
+         if (error != null)
+         {
+            if (error instanceof CompletionException && error.getCause() != null)
+            {
+               error = error.getCause();
+            }
+            // do not propagate the exception to the returned CF
+            // apparently, the goal is to close this sink and not report the error
+            // of the broadcast operation
+            notifyOnErrorListeners(sink, error);
+         }
+         pending.future.complete(null);
       }
-      return ret;
    }
 }
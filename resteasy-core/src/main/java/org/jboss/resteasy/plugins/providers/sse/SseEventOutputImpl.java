@@ -217,6 +217,15 @@ public class SseEventOutputImpl extends GenericType<OutboundSseEvent> implements
 
    @Override
    public CompletionStage<?> send(OutboundSseEvent event)
+   {
+      return send(event, null);
+   }
+
+   /**
+    * @param event the event
+    * @param data the event as encoded by {@link #encode(OutboundSseEvent, MediaType)}, or null to encode it
+    */
+   CompletionStage<?> send(OutboundSseEvent event, byte[] data)
    {
       final int state = this.state.get();
       if (state == CLOSED) {
@@ -229,15 +238,15 @@ public class SseEventOutputImpl extends GenericType<OutboundSseEvent> implements
       }
       if (state == PASSTHROUGH) {
          synchronized (lock) {
-            return internalWriteEvent(event);
+            return internalWriteEvent(event, data);
          }
       } else if (state == PROCESSING) {
-         final FutureEvent futureEvent = new FutureEvent(event);
+         final FutureEvent futureEvent = new FutureEvent(event, data);
          events.addLast(futureEvent);
          return futureEvent.future
                  .thenRun(this::drainQueue);
       }
-      final FutureEvent futureEvent = new FutureEvent(event);
+      final FutureEvent futureEvent = new FutureEvent(event, data);
       events.addLast(futureEvent);
       return internalFlushResponseToClient(true)
               .thenRun(this::drainQueue)
@@ -258,65 +267,100 @@ public class SseEventOutputImpl extends GenericType<OutboundSseEvent> implements
    {
       synchronized (lock)
       {
-         return internalWriteEvent(event);
+         return internalWriteEvent(event, null);
       }
    }
 
+   /**
+    * @return true once the response headers, which may define the media type of the events, have been written
+    */
+   boolean isResponseFlushed()
+   {
+      return responseFlushed;
+   }
 
-
-   private CompletionStage<Void> internalWriteEvent(final OutboundSseEvent event)
+   /**
+    * @return the media type the data of the event is written with by this sink
+    */
+   MediaType getEventMediaType(OutboundSseEvent event)
    {
-      synchronized (lock)
+      MediaType mediaType = event.getMediaType();
+      boolean mediaTypeSet = !(event instanceof OutboundSseEventImpl) || ((OutboundSseEventImpl) event).isMediaTypeSet();
+      if (mediaType == null || !mediaTypeSet)
       {
-         try(CloseableContext c = ResteasyContext.addCloseableContextDataLevel(contextDataMap))
+         Object o = response.getOutputHeaders().getFirst("Content-Type");
+         if (o != null)
          {
-            if (event != null)
+            if (o instanceof MediaType)
             {
-               //// Check media type?
-               ByteArrayOutputStream bout = new ByteArrayOutputStream();
-               MediaType mediaType = event.getMediaType();
-               boolean mediaTypeSet = !(event instanceof OutboundSseEventImpl) || ((OutboundSseEventImpl) event).isMediaTypeSet();
-               if (mediaType == null || !mediaTypeSet)
+               MediaType mt = (MediaType) o;
+               String s = mt.getParameters().get(SseConstants.SSE_ELEMENT_MEDIA_TYPE);
+               if (s != null)
                {
-                  Object o = response.getOutputHeaders().getFirst("Content-Type");
-                  if (o != null)
-                  {
-                     if (o instanceof MediaType)
-                     {
-                        MediaType mt = (MediaType) o;
-                        String s = mt.getParameters().get(SseConstants.SSE_ELEMENT_MEDIA_TYPE);
-                        if (s != null)
-                        {
-                           mediaType = MediaType.valueOf(s);
-                        }
-                     }
-                     else if (o instanceof String)
-                     {
-                        MediaType mt = MediaType.valueOf((String) o);
-                        String s = mt.getParameters().get(SseConstants.SSE_ELEMENT_MEDIA_TYPE);
-                        if (s != null)
-                        {
-                           mediaType = MediaType.valueOf(s);
-                        }
-                     }
-                     else
-                     {
-                        throw new RuntimeException(Messages.MESSAGES.expectedStringOrMediaType(o));
-                     }
-                  }
-               }
-               if (mediaType == null)
-               {
-                  mediaType = MediaType.TEXT_PLAIN_TYPE;
+                  mediaType = MediaType.valueOf(s);
                }
-               if (event instanceof OutboundSseEventImpl)
+            }
+            else if (o instanceof String)
+            {
+               MediaType mt = MediaType.valueOf((String) o);
+               String s = mt.getParameters().get(SseConstants.SSE_ELEMENT_MEDIA_TYPE);
+               if (s != null)
                {
-                  ((OutboundSseEventImpl) event).setMediaType(mediaType);
+                  mediaType = MediaType.valueOf(s);
                }
-               writer.writeTo(event, event.getClass(), null, new Annotation[]{}, mediaType, null, bout);
+            }
+            else
+            {
+               throw new RuntimeException(Messages.MESSAGES.expectedStringOrMediaType(o));
+            }
+         }
+      }
+      if (mediaType == null)
+      {
+         mediaType = MediaType.TEXT_PLAIN_TYPE;
+      }
+      return mediaType;
+   }
+
+   /**
+    * Writes the event with the writer of this sink, in the context of the request of this sink.
+    *
+    * @param event the event
+    * @param mediaType media type of the data of the event, see {@link #getEventMediaType(OutboundSseEvent)}
+    * @return the event as written to the response
+    * @throws IOException if the event cannot be written
+    */
+   byte[] encode(OutboundSseEvent event, MediaType mediaType) throws IOException
+   {
+      try (CloseableContext c = ResteasyContext.addCloseableContextDataLevel(contextDataMap))
+      {
+         return writeEvent(event, mediaType);
+      }
+   }
+
+   private byte[] writeEvent(OutboundSseEvent event, MediaType mediaType) throws IOException
+   {
+      if (event instanceof OutboundSseEventImpl)
+      {
+         ((OutboundSseEventImpl) event).setMediaType(mediaType);
+      }
+      ByteArrayOutputStream bout = new ByteArrayOutputStream();
+      writer.writeTo(event, event.getClass(), null, new Annotation[]{}, mediaType, null, bout);
+      return bout.toByteArray();
+   }
+
+   private CompletionStage<Void> internalWriteEvent(final OutboundSseEvent event, final byte[] data)
+   {
+      synchronized (lock)
+      {
+         try(CloseableContext c = ResteasyContext.addCloseableContextDataLevel(contextDataMap))
+         {
+            if (event != null)
+            {
+               byte[] bytes = data != null ? data : writeEvent(event, getEventMediaType(event));
                AsyncOutputStream aos = response.getAsyncOutputStream();
                // eager composition to guarantee ordering
-               return aos.asyncWrite(bout.toByteArray())
+               return aos.asyncWrite(bytes)
                        .thenCompose(v ->  aos.asyncFlush())
                        .exceptionally(e -> {
                           if(e instanceof CompletionException)
@@ -510,7 +554,7 @@ public class SseEventOutputImpl extends GenericType<OutboundSseEvent> implements
          } else {
             final OutboundSseEvent e = event.event;
             final CompletableFuture<Void> future = event.future;
-            internalWriteEvent(e)
+            internalWriteEvent(e, event.data)
                     .thenRun(() -> future.complete(null))
                     .exceptionally((error) -> {
                        LOG.debugf("Failed to process event %s - %s", future, e);
@@ -526,9 +570,11 @@ public class SseEventOutputImpl extends GenericType<OutboundSseEvent> implements
    private static class FutureEvent {
       final CompletableFuture<Void> future;
       final OutboundSseEvent event;
+      final byte[] data;
 
-      private FutureEvent(final OutboundSseEvent event) {
+      private FutureEvent(final OutboundSseEvent event, final byte[] data) {
          this.event = event;
+         this.data = data;
          future = new CompletableFuture<>();
       }
    }
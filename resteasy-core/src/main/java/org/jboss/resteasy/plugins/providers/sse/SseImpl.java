@@ -1,9 +1,16 @@
 package org.jboss.resteasy.plugins.providers.sse;
 
+import java.util.Locale;
+
 import jakarta.ws.rs.sse.OutboundSseEvent;
 import jakarta.ws.rs.sse.Sse;
 import jakarta.ws.rs.sse.SseBroadcaster;
 
+import org.jboss.resteasy.concurrent.ContextualExecutors;
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.spi.config.Configuration;
+import org.jboss.resteasy.spi.config.ConfigurationFactory;
+
 public class SseImpl implements Sse
 {
 
@@ -16,6 +23,14 @@ public class SseImpl implements Sse
    @Override
    public SseBroadcaster newBroadcaster()
    {
-      return new SseBroadcasterImpl();
+      Configuration config = ConfigurationFactory.getInstance().getConfiguration();
+      int queueSize = config.getOptionalValue(ResteasyContextParameters.RESTEASY_SSE_BROADCASTER_QUEUE_SIZE, int.class)
+            .orElse(SseBroadcasterImpl.DEFAULT_QUEUE_SIZE);
+      SseBroadcasterImpl.OverflowPolicy overflowPolicy = config.getOptionalValue(
+            ResteasyContextParameters.RESTEASY_SSE_BROADCASTER_OVERFLOW_POLICY, String.class)
+            .map(policy -> SseBroadcasterImpl.OverflowPolicy.valueOf(policy.trim().toUpperCase(Locale.ROOT)))
+            .orElse(SseBroadcasterImpl.OverflowPolicy.DISCONNECT);
+      // a sink writing synchronously would otherwise hold the broadcasting thread and the sinks after it
+      return new SseBroadcasterImpl(queueSize, overflowPolicy, ContextualExecutors.threadPool(), true);
    }
 }
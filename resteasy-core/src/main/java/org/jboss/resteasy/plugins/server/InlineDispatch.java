@@ -0,0 +1,77 @@
+package org.jboss.resteasy.plugins.server;
+
+import org.jboss.resteasy.annotations.NonBlocking;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.ResourceInvoker;
+
+/**
+ * Which requests a container receiving them on an I/O event loop dispatches directly on the event loop, instead of
+ * handing them over to a worker thread. The requests dispatched on the event loop save a thread hand-off, but must
+ * never block as the other connections of the event loop would wait for them.
+ */
+public enum InlineDispatch
+{
+   /**
+    * Every request is dispatched on a worker thread.
+    */
+   NONE,
+   /**
+    * The requests of the resource methods annotated with {@link NonBlocking}, or of their classes, are dispatched on
+    * the event loop.
+    */
+   ANNOTATED,
+   /**
+    * As {@link #ANNOTATED}, and the requests of the resource methods returning an asynchronous type, e.g. a
+    * {@link java.util.concurrent.CompletionStage}, are dispatched on the event loop.
+    */
+   ASYNC,
+   /**
+    * Every request is dispatched on the event loop.
+    */
+   ALL;
+
+   /**
+    * Matches the request ahead of its dispatch, see {@link SynchronousDispatcher#matchAhead(HttpRequest)}, and tells
+    * whether it is dispatched on the event loop.
+    *
+    * @param dispatcher the dispatcher of the request
+    * @param request the request, not dispatched yet
+    * @return true if the request is dispatched on the event loop
+    */
+   public boolean isInline(SynchronousDispatcher dispatcher, HttpRequest request)
+   {
+      switch (this)
+      {
+         case NONE:
+            return false;
+         case ALL:
+            return true;
+         default:
+            return isInline(dispatcher.matchAhead(request));
+      }
+   }
+
+   /**
+    * @param invoker the invoker of a request, may be null
+    * @return true if the request is dispatched on the event loop
+    */
+   public boolean isInline(ResourceInvoker invoker)
+   {
+      switch (this)
+      {
+         case NONE:
+            return false;
+         case ALL:
+            return true;
+         default:
+            if (!(invoker instanceof ResourceMethodInvoker))
+            {
+               return false;
+            }
+            ResourceMethodInvoker methodInvoker = (ResourceMethodInvoker) invoker;
+            return methodInvoker.isNonBlocking() || (this == ASYNC && methodInvoker.hasAsyncResult());
+      }
+   }
+}
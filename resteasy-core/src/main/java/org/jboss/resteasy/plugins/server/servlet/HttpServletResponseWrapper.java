@@ -2,6 +2,7 @@ package org.jboss.resteasy.plugins.server.servlet;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.PriorityQueue;
@@ -20,6 +21,7 @@ import jakarta.ws.rs.core.NewCookie;
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.core.ResteasyContext.CloseableContext;
 import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.FileTransfer;
 import org.jboss.resteasy.spi.HttpRequest;
 import org.jboss.resteasy.spi.HttpResponse;
 import org.jboss.resteasy.spi.ResteasyProviderFactory;
@@ -236,7 +238,7 @@ public class HttpServletResponseWrapper implements HttpResponse
     * </p>
     *
     */
-   protected class DeferredOutputStream extends AsyncOutputStream implements WriteListener
+   protected class DeferredOutputStream extends AsyncOutputStream implements WriteListener, FileTransfer
    {
       // Guarded by this
       private final Queue<AsyncOperation> asyncQueue;
@@ -298,6 +300,17 @@ public class HttpServletResponseWrapper implements HttpResponse
          return op.future;
       }
 
+      @Override
+      public CompletionStage<Void> transferFile(Path file, long position, long count) throws IOException
+      {
+         // the transfers block, they can't be queued after the asynchronous writes
+         if (asyncRegistered.get())
+         {
+            return null;
+         }
+         return HttpServletResponseWrapper.this.transferFile(getServletOutputStream(), file, position, count);
+      }
+
       private void queue(AsyncOperation op)
       {
          // fetch it from the context directly to avoid having to restore the context just in case we're invoked on a context-less thread
@@ -457,6 +470,24 @@ public class HttpServletResponseWrapper implements HttpResponse
       outputHeaders = new HttpServletResponseHeaders(response, factory);
    }
 
+   /**
+    * Sends a region of a file with the output stream of the servlet response, without copying it through the JVM.
+    * The Servlet API has no way to do it, so this returns null for the region to be written to the stream instead;
+    * the integrations of servlet containers which can do it override this method.
+    *
+    * @param out the output stream of the servlet response
+    * @param file the file to send
+    * @param position the position of the region in the file
+    * @param count the length of the region
+    * @return a stage completed when the region is sent, or null if it must be written to the stream
+    * @throws IOException if the file can't be read
+    * @see FileTransfer
+    */
+   protected CompletionStage<Void> transferFile(ServletOutputStream out, Path file, long position, long count) throws IOException
+   {
+      return null;
+   }
+
    @Override
    public void flushBuffer() throws IOException
    {
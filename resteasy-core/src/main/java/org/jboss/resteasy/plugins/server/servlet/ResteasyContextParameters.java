@@ -76,6 +76,31 @@ public interface ResteasyContextParameters {
    String RESTEASY_TRACING_LEVEL_TRACE = "TRACE";
    String RESTEASY_TRACING_LEVEL_VERBOSE = "VERBOSE";
 
+   /**
+    * Enables the timing of the phases of the requests, for a sample of the requests which are not traced otherwise.
+    * <p>
+    * The durations of the phases (matching, filters, reading, invocation, writing...) are recorded without
+    * formatting any message, and reported once the response is written, in a single log line of the
+    * {@code org.jboss.resteasy.tracing.phases} logger or in the {@code X-RESTEasy-Phase-Timing} response header.
+    * <p>
+    * Type of the property value is {@code Double}, the percentage of the requests which are timed. The default value
+    * is {@code 0}.
+    * <p>
+    * The name of the configuration property is <code>{@value}</code>.
+    * </p>
+    */
+   String RESTEASY_TRACING_PHASES = "resteasy.server.tracing.phases";
+
+   /**
+    * Output of the timing of the phases of the requests, {@code LOG}, {@code HEADER} or {@code ALL}.
+    * <p>
+    * Type of the property value is {@code String}. The default value is {@code "LOG"}.
+    * <p>
+    * The name of the configuration property is <code>{@value}</code>.
+    * </p>
+    */
+   String RESTEASY_TRACING_PHASES_OUTPUT = "resteasy.server.tracing.phases.output";
+
 
    // used to store an instance of tracing logger
    String RESTEASY_TRACING_INSTANCE = "resteasy.server.tracing.instance";
@@ -101,6 +126,15 @@ public interface ResteasyContextParameters {
     String RESTEASY_FAIL_FAST_ON_MULTIPLE_RESOURCES_MATCHING = "resteasy.fail.fast.on.multiple.resources.matching";
     String RESTEASY_MATCH_CACHE_ENABLED = "resteasy.match.cache.enabled";
     String RESTEASY_MATCH_CACHE_SIZE = "resteasy.match.cache.size";
+    String RESTEASY_MATCH_COMPILED_ROUTER_ENABLED = "resteasy.match.compiled.router.enabled";
+    String RESTEASY_GENERATED_INVOKERS_ENABLED = "resteasy.generated.invokers.enabled";
+    String RESTEASY_PARAMETER_CONVERSION_CACHE_SIZE = "resteasy.parameter.conversion.cache.size";
+    String RESTEASY_SSE_BROADCASTER_QUEUE_SIZE = "resteasy.sse.broadcaster.queue.size";
+    String RESTEASY_SSE_BROADCASTER_OVERFLOW_POLICY = "resteasy.sse.broadcaster.overflow.policy";
+    String RESTEASY_VIRTUAL_THREADS = "resteasy.virtual.threads";
+    // Above 1, DynamicFeature.configure is called concurrently for different resources and must be thread safe.
+    String RESTEASY_DEPLOYMENT_PARALLELISM = "resteasy.deployment.parallelism";
+    String RESTEASY_DEPLOYMENT_INDEX = "resteasy.deployment.index";
 
     // Added for non-quarkus servers - to enable generated proxies to implement all interfaces of delegate object.
     String RESTEASY_PROXY_IMPLEMENT_ALL_INTERFACES = "resteasy.proxy.implement.all.interfaces"; // default is false
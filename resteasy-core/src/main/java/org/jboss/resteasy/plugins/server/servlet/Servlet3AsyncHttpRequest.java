@@ -359,6 +359,7 @@ public class Servlet3AsyncHttpRequest extends HttpServletInputMessage
          {
             throw new IllegalStateException(Messages.MESSAGES.alreadySuspended());
          }
+         loadHeaders();
          asynchronousResponse = new Servlet3AsynchronousResponse();
          AsyncContext asyncContext = servletRequest.startAsync();
          asyncContext.addListener(asynchronousResponse);
@@ -1,6 +1,7 @@
 package org.jboss.resteasy.plugins.server.servlet;
 
 import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.core.LazyHeaders;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.util.HttpHeaderNames;
@@ -16,6 +17,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -69,15 +71,19 @@ public class ServletUtil
    public static ResteasyHttpHeaders extractHttpHeaders(HttpServletRequest request)
    {
 
-      MultivaluedMap<String, String> requestHeaders = extractRequestHeaders(request);
-      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders);
+      MultivaluedMap<String, String> requestHeaders = new LazyHeaders(
+            () -> Collections.list(request.getHeaderNames()),
+            name -> {
+               Enumeration<String> values = request.getHeaders(name);
+               return values == null ? null : Collections.list(values);
+            });
+      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders, false);
 
       String contentType = request.getContentType();
       if (contentType != null)
          headers.getMutableHeaders().putSingle(HttpHeaders.CONTENT_TYPE, contentType);
 
-      Map<String, Cookie> cookies = extractCookies(request);
-      headers.setCookies(cookies);
+      headers.setCookieSupplier(() -> extractCookies(request));
 
       // test parsing should throw an exception on error
       headers.testParsing();
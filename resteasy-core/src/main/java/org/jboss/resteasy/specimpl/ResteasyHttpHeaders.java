@@ -1,5 +1,6 @@
 package org.jboss.resteasy.specimpl;
 
+import org.jboss.resteasy.core.LazyHeaders;
 import org.jboss.resteasy.util.CookieParser;
 import org.jboss.resteasy.util.DateUtil;
 import org.jboss.resteasy.util.MediaTypeHelper;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.function.Supplier;
 
 /**
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
@@ -28,15 +30,18 @@ public class ResteasyHttpHeaders implements HttpHeaders
    private MultivaluedMap<String, String> requestHeaders;
    private MultivaluedMap<String, String> unmodifiableRequestHeaders;
    private Map<String, Cookie> cookies;
+   private Supplier<Map<String, Cookie>> cookieSupplier;
+   // Cookie header values already merged in the cookies
+   private String[] mergedCookieHeader;
 
    public ResteasyHttpHeaders(final MultivaluedMap<String, String> requestHeaders)
    {
-      this(requestHeaders, new HashMap<String, Cookie>());
+      this(requestHeaders, (Map<String, Cookie>) null);
    }
 
    public ResteasyHttpHeaders(final MultivaluedMap<String, String> requestHeaders, final boolean eagerlyInitializeEntrySet)
    {
-      this(requestHeaders, new HashMap<String, Cookie>(), eagerlyInitializeEntrySet);
+      this(requestHeaders, null, eagerlyInitializeEntrySet);
    }
 
    public ResteasyHttpHeaders(final MultivaluedMap<String, String> requestHeaders, final Map<String, Cookie> cookies)
@@ -48,7 +53,7 @@ public class ResteasyHttpHeaders implements HttpHeaders
    {
       this.requestHeaders = requestHeaders;
       this.unmodifiableRequestHeaders = new UnmodifiableMultivaluedMap<>(requestHeaders, eagerlyInitializeEntrySet);
-      this.cookies = (cookies == null ? new HashMap<>() : cookies);
+      this.cookies = cookies;
    }
 
    @Override
@@ -95,6 +100,35 @@ public class ResteasyHttpHeaders implements HttpHeaders
    public void setCookies(Map<String, Cookie> cookies)
    {
       this.cookies = cookies;
+      this.cookieSupplier = null;
+      this.mergedCookieHeader = null;
+   }
+
+   /**
+    * @param cookieSupplier the cookies of the container, only created when the cookies are first accessed
+    */
+   public void setCookieSupplier(Supplier<Map<String, Cookie>> cookieSupplier)
+   {
+      this.cookies = null;
+      this.cookieSupplier = cookieSupplier;
+      this.mergedCookieHeader = null;
+   }
+
+   /**
+    * Copies the headers and cookies still read from the container, so that they remain available to other threads
+    * once the request of the container is completed or recycled.
+    */
+   public void loadFromContainer()
+   {
+      if (requestHeaders instanceof LazyHeaders)
+      {
+         ((LazyHeaders) requestHeaders).loadAll();
+      }
+      if (cookies == null && cookieSupplier != null)
+      {
+         cookies = cookieSupplier.get();
+         cookieSupplier = null;
+      }
    }
 
    @Override
@@ -152,12 +186,20 @@ public class ResteasyHttpHeaders implements HttpHeaders
       return cachedMediaType;
    }
 
+   // as for the media type, only a single Accept or Accept-Language header is cached
+   private String cachedAcceptString;
+   private List<MediaType> cachedAcceptableMediaTypes;
+   private String cachedAcceptLanguageString;
+   private List<Locale> cachedAcceptableLanguages;
+
    @Override
    public List<MediaType> getAcceptableMediaTypes()
    {
       List<String> vals = requestHeaders.get(ACCEPT);
       if (vals == null || vals.isEmpty()) {
          return Collections.singletonList(MediaType.WILDCARD_TYPE);
+      } else if (vals.size() == 1 && vals.get(0) == cachedAcceptString) {
+         return cachedAcceptableMediaTypes;
       } else {
          List<MediaType> list = new ArrayList<MediaType>();
          for (String v : vals) {
@@ -168,7 +210,12 @@ public class ResteasyHttpHeaders implements HttpHeaders
             }
          }
          MediaTypeHelper.sortByWeight(list);
-         return Collections.unmodifiableList(list);
+         List<MediaType> result = Collections.unmodifiableList(list);
+         if (vals.size() == 1) {
+            cachedAcceptString = vals.get(0);
+            cachedAcceptableMediaTypes = result;
+         }
+         return result;
       }
    }
 
@@ -179,6 +226,9 @@ public class ResteasyHttpHeaders implements HttpHeaders
       if (vals == null || vals.isEmpty()) {
          return Collections.singletonList(Locale.forLanguageTag("*"));
       }
+      if (vals.size() == 1 && vals.get(0) == cachedAcceptLanguageString) {
+         return cachedAcceptableLanguages;
+      }
       List<WeightedLanguage> languages = new ArrayList<WeightedLanguage>();
       for (String v : vals) {
          StringTokenizer tokenizer = new StringTokenizer(v, ",");
@@ -190,14 +240,25 @@ public class ResteasyHttpHeaders implements HttpHeaders
       Collections.sort(languages);
       List<Locale> list = new ArrayList<Locale>(languages.size());
       for (WeightedLanguage language : languages) list.add(language.getLocale());
-      return Collections.unmodifiableList(list);
+      List<Locale> result = Collections.unmodifiableList(list);
+      if (vals.size() == 1) {
+         cachedAcceptLanguageString = vals.get(0);
+         cachedAcceptableLanguages = result;
+      }
+      return result;
    }
 
    private void mergeCookies()
    {
+      if (cookies == null)
+      {
+         cookies = cookieSupplier == null ? new HashMap<String, Cookie>() : cookieSupplier.get();
+         cookieSupplier = null;
+      }
       List<String> cookieHeader = requestHeaders.get(HttpHeaders.COOKIE);
-      if (cookieHeader != null && !cookieHeader.isEmpty())
+      if (cookieHeader != null && !cookieHeader.isEmpty() && !isMerged(cookieHeader))
       {
+         mergedCookieHeader = cookieHeader.toArray(new String[0]);
          for (String s : cookieHeader)
          {
             List<Cookie> list = CookieParser.parseCookies(s);
@@ -208,4 +269,14 @@ public class ResteasyHttpHeaders implements HttpHeaders
          }
       }
    }
+
+   private boolean isMerged(List<String> cookieHeader)
+   {
+      if (mergedCookieHeader == null || mergedCookieHeader.length != cookieHeader.size()) return false;
+      for (int i = 0; i < mergedCookieHeader.length; i++)
+      {
+         if (mergedCookieHeader[i] != cookieHeader.get(i)) return false;
+      }
+      return true;
+   }
 }
@@ -12,6 +12,7 @@ import jakarta.ws.rs.core.UriBuilderException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -69,6 +70,8 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    private String fragment;
    private String ssp;
    private String authority;
+   // compiled path, shared by the clones, if it was compiled along with the path
+   private UriTemplate pathTemplate;
 
    public ResteasyUriBuilderImpl(){}
    /*
@@ -101,6 +104,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
       impl.fragment = fragment;
       impl.ssp = ssp;
       impl.authority = authority;
+      impl.pathTemplate = pathTemplate;
 
       return impl;
    }
@@ -394,6 +398,8 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
       {
          String[] segments = new String[]{ann.value()};
          path = paths(true, path, segments);
+         // resources are the templates of the client proxies, compiled once for all the invocations
+         pathTemplate = UriTemplate.compile(path);
       }
       else
       {
@@ -434,6 +440,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
       if (ann != null)
       {
          path = paths(true, path, ann.value());
+         pathTemplate = UriTemplate.compile(path);
       }
       else
       {
@@ -606,13 +613,15 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
       {
          return builder.append(string);
       }
-      Matcher matcher = createUriParamMatcher(string);
-      int start = 0;
-      while (matcher.find())
+      UriTemplate template = compile(string);
+      builder.append(template.getLiteral(0));
+      for (int i = 0; i < template.getParameterCount(); i++)
       {
-         String param = matcher.group(1);
-         if (!param.equals(name)) continue;
-         builder.append(string, start, matcher.start());
+         if (!template.getName(i).equals(name))
+         {
+            builder.append(template.getParameter(i)).append(template.getLiteral(i + 1));
+            continue;
+         }
          if (!isEncoded)
          {
             if (encodeSlash) value = Encode.encodePath(value);
@@ -623,13 +632,17 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
          {
             value = Encode.encodeNonCodes(value);
          }
-         builder.append(value);
-         start = matcher.end();
+         builder.append(value).append(template.getLiteral(i + 1));
       }
-      builder.append(string, start, string.length());
       return builder;
    }
 
+   private UriTemplate compile(String string)
+   {
+      if (pathTemplate != null && pathTemplate.getTemplate().equals(string)) return pathTemplate;
+      return UriTemplate.compile(string);
+   }
+
    public static Matcher createUriParamMatcher(String string)
    {
       Matcher matcher = PathHelper.URI_PARAM_PATTERN.matcher(PathHelper.replaceEnclosedCurlyBracesCS(string));
@@ -642,19 +655,25 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
       {
          return builder.append(string);
       }
-      Matcher matcher = createUriParamMatcher(string);
-      int start = 0;
-      while (matcher.find())
+      return replaceParameter(paramMap, fromEncodedMap, isTemplate, compile(string), builder, encodeSlash, null);
+   }
+
+   /**
+    * @param resolved if not {@code null}, receives the encoded value of each parameter of the template, or
+    *                 {@code null} if the parameter is not resolved
+    */
+   private StringBuilder replaceParameter(Map<String, ? extends Object> paramMap, boolean fromEncodedMap, boolean isTemplate, UriTemplate template, StringBuilder builder, boolean encodeSlash, String[] resolved)
+   {
+      builder.append(template.getLiteral(0));
+      for (int i = 0; i < template.getParameterCount(); i++)
       {
-         builder.append(string, start, matcher.start());
-         String param = matcher.group(1);
+         String param = template.getName(i);
          boolean containsValueForParam = paramMap.containsKey(param);
          if (!containsValueForParam)
          {
             if (isTemplate)
             {
-               builder.append(matcher.group());
-               start = matcher.end();
+               builder.append(template.getParameter(i)).append(template.getLiteral(i + 1));
                continue;
             }
             throw new IllegalArgumentException(Messages.MESSAGES.pathParameterNotProvided(param));
@@ -673,15 +692,14 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
                if (encodeSlash) stringValue = Encode.encodePathSegmentSaveEncodings(stringValue);
                else stringValue = Encode.encodePathSaveEncodings(stringValue);
             }
-            builder.append(stringValue);
-            start = matcher.end();
+            builder.append(stringValue).append(template.getLiteral(i + 1));
+            if (resolved != null) resolved[i] = stringValue;
          }
          else
          {
             throw new IllegalArgumentException(Messages.MESSAGES.templateParameterNull(param));
          }
       }
-      builder.append(string, start, string.length());
       return builder;
    }
 
@@ -691,19 +709,17 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
       {
          return builder.append(string);
       }
-      Matcher matcher = createUriParamMatcher(string);
-      int start = 0;
-      while (matcher.find())
+      UriTemplate template = compile(string);
+      builder.append(template.getLiteral(0));
+      for (int i = 0; i < template.getParameterCount(); i++)
       {
-         builder.append(string, start, matcher.start());
-         String param = matcher.group(1);
+         String param = template.getName(i);
          boolean containsValueForParam = paramMap.containsKey(param);
          if (!containsValueForParam)
          {
             if (isTemplate)
             {
-               builder.append(matcher.group());
-               start = matcher.end();
+               builder.append(template.getParameter(i)).append(template.getLiteral(i + 1));
                continue;
             }
             throw new IllegalArgumentException(Messages.MESSAGES.pathParameterNotProvided(param));
@@ -720,15 +736,13 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
             {
                stringValue = Encode.encodeQueryParamSaveEncodings(stringValue);
             }
-            builder.append(stringValue);
-            start = matcher.end();
+            builder.append(stringValue).append(template.getLiteral(i + 1));
          }
          else
          {
             throw new IllegalArgumentException(Messages.MESSAGES.templateParameterNull(param));
          }
       }
-      builder.append(string, start, string.length());
       return builder;
    }
 
@@ -754,10 +768,14 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
 
    private void addToPathParamList(List<String> params, HashSet<String> set, String string)
    {
-      Matcher matcher = PathHelper.URI_PARAM_PATTERN.matcher(PathHelper.replaceEnclosedCurlyBracesCS(string));
-      while (matcher.find())
+      if (string.indexOf('{') == -1)
       {
-         String param = matcher.group(1);
+         return;
+      }
+      UriTemplate template = compile(string);
+      for (int i = 0; i < template.getParameterCount(); i++)
+      {
+         String param = template.getName(i);
          if (set.contains(param)) continue;
          else
          {
@@ -1110,9 +1128,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    {
       if (name == null) throw new IllegalArgumentException(Messages.MESSAGES.nameParamIsNull());
       if (value == null) throw new IllegalArgumentException(Messages.MESSAGES.valueParamIsNull());
-      HashMap<String, Object> vals = new HashMap<String, Object>();
-      vals.put(name, value);
-      return resolveTemplates(vals);
+      return resolve(Collections.singletonMap(name, value), false, true);
    }
 
    @Override
@@ -1120,7 +1136,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    {
       if (templateValues == null) throw new IllegalArgumentException(Messages.MESSAGES.templateValuesParamNull());
       if (templateValues.containsKey(null)) throw new IllegalArgumentException(Messages.MESSAGES.mapKeyNull());
-      return uriTemplate(buildCharSequence(templateValues, false, true, true));
+      return resolve(templateValues, false, true);
    }
 
    @Override
@@ -1128,9 +1144,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    {
       if (name == null) throw new IllegalArgumentException(Messages.MESSAGES.nameParamIsNull());
       if (value == null) throw new IllegalArgumentException(Messages.MESSAGES.valueParamIsNull());
-      HashMap<String, Object> vals = new HashMap<String, Object>();
-      vals.put(name, value);
-      return uriTemplate(buildCharSequence(vals, false, true, encodeSlashInPath));
+      return resolve(Collections.singletonMap(name, value), false, encodeSlashInPath);
    }
 
    @Override
@@ -1138,9 +1152,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    {
       if (name == null) throw new IllegalArgumentException(Messages.MESSAGES.nameParamIsNull());
       if (value == null) throw new IllegalArgumentException(Messages.MESSAGES.valueParamIsNull());
-      HashMap<String, Object> vals = new HashMap<String, Object>();
-      vals.put(name, value);
-      return uriTemplate(buildCharSequence(vals, true, true, true));
+      return resolve(Collections.singletonMap(name, value), true, true);
    }
 
    @Override
@@ -1148,7 +1160,7 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    {
       if (templateValues == null) throw new IllegalArgumentException(Messages.MESSAGES.templateValuesParamNull());
       if (templateValues.containsKey(null)) throw new IllegalArgumentException(Messages.MESSAGES.mapKeyNull());
-      return uriTemplate(buildCharSequence(templateValues, false, true, encodeSlashInPath));
+      return resolve(templateValues, false, encodeSlashInPath);
    }
 
    @Override
@@ -1156,6 +1168,60 @@ public class ResteasyUriBuilderImpl extends ResteasyUriBuilder
    {
       if (templateValues == null) throw new IllegalArgumentException(Messages.MESSAGES.templateValuesParamNull());
       if (templateValues.containsKey(null)) throw new IllegalArgumentException(Messages.MESSAGES.mapKeyNull());
-      return uriTemplate(buildCharSequence(templateValues, true, true, true));
+      return resolve(templateValues, true, true);
+   }
+
+   private UriBuilder resolve(Map<String, ? extends Object> templateValues, boolean fromEncodedMap, boolean encodeSlash)
+   {
+      // The resolved values are encoded so they cannot change the structure of a URI whose scheme and host are
+      // known, its path, query and fragment are then resolved in place instead of building and parsing the URI.
+      if (ssp != null || authority != null || userInfo != null || scheme == null || host == null || host.isEmpty()
+            || host.startsWith("[") || scheme.indexOf('{') > -1 || host.indexOf('{') > -1)
+      {
+         return uriTemplate(buildCharSequence(templateValues, fromEncodedMap, true, encodeSlash));
+      }
+      String resolvedPath = null;
+      UriTemplate resolvedPathTemplate = null;
+      if (path != null)
+      {
+         UriTemplate template = compile(path);
+         String[] resolved = new String[template.getParameterCount()];
+         resolvedPath = replaceParameter(templateValues, fromEncodedMap, true, template, new StringBuilder(), encodeSlash, resolved).toString();
+         // a path given as encoded may hold a query or a fragment, that parsing the URI separates
+         if (resolvedPath.isEmpty() || resolvedPath.indexOf('?') > -1 || resolvedPath.indexOf('#') > -1)
+         {
+            return uriTemplate(buildCharSequence(templateValues, fromEncodedMap, true, encodeSlash));
+         }
+         String prefix = resolvedPath.charAt(0) == '/' ? "" : "/";
+         resolvedPath = prefix + resolvedPath;
+         resolvedPathTemplate = template.resolvePath(prefix, resolved);
+      }
+      String resolvedQuery = null;
+      if (query != null)
+      {
+         resolvedQuery = replaceQueryStringParameter(templateValues, fromEncodedMap, true, query, new StringBuilder()).toString();
+         if (resolvedQuery.indexOf('#') > -1)
+         {
+            return uriTemplate(buildCharSequence(templateValues, fromEncodedMap, true, encodeSlash));
+         }
+      }
+      String resolvedFragment = null;
+      if (fragment != null)
+      {
+         resolvedFragment = replaceParameter(templateValues, fromEncodedMap, true, fragment, new StringBuilder(), encodeSlash).toString();
+      }
+
+      if (resolvedPathTemplate != null)
+      {
+         path = resolvedPathTemplate.getTemplate();
+         pathTemplate = resolvedPathTemplate;
+      }
+      else if (resolvedPath != null)
+      {
+         replacePath(resolvedPath);
+      }
+      if (resolvedQuery != null) replaceQuery(resolvedQuery);
+      if (resolvedFragment != null) fragment(resolvedFragment);
+      return this;
    }
 }
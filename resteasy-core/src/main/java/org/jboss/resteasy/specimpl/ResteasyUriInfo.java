@@ -21,6 +21,10 @@ import jakarta.ws.rs.ext.RuntimeDelegate;
 
 /**
  * UriInfo implementation with some added extra methods to help process requests.
+ * <p>
+ * Only the encoded path and the matching path are computed when it is created, the URIs, the decoded path, the path
+ * segments and the query parameters are computed from the request URI when they are first accessed.
+ * </p>
  *
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
  * @version $Revision: 1 $
@@ -50,6 +54,7 @@ public class ResteasyUriInfo implements UriInfo
    private String contextPath;
    private int queryIdx;
    private int pathStart;
+   private InitData initData;
 
 
    public ResteasyUriInfo(final String absoluteUri, final String contextPath) {
@@ -72,12 +77,13 @@ public class ResteasyUriInfo implements UriInfo
       if (initData == null) {
          initData = new InitData(absoluteUri, contextPath);
       }
+      this.initData = initData;
       this.queryIdx = initData.getQueryIdx();
       this.pathStart = initData.getPathStart();
       this.encodedPath = initData.getEncodedPath();
-      this.path = initData.getPath();
-      this.encodedPathSegments = initData.getEncodedPathSegments();
-      this.pathSegments = initData.getPathSegments();
+      this.path = null;
+      this.encodedPathSegments = null;
+      this.pathSegments = null;
       this.matchingPath = initData.getMatchingPath();
    }
 
@@ -88,6 +94,8 @@ public class ResteasyUriInfo implements UriInfo
             .createUriBuilder()).uriFromCharSequence((CharSequence)absoluteUri);
       absolutePath = absoluteBuilder.build();
       requestURI = absoluteBuilder.replaceQuery(queryString).build();
+      absoluteString = null;
+      initData = null;
       encodedPath = PathHelper.getEncodedPathInfo(absolutePath.getRawPath(), contextPath);
       baseURI = absolutePath;
       if (!encodedPath.trim().equals(""))
@@ -105,7 +113,7 @@ public class ResteasyUriInfo implements UriInfo
       {
          encodedPath = "/" + encodedPath;
       }
-      path = UriBuilder.fromPath(encodedPath).build().getPath();
+      path = null;
       processPath();
    }
 
@@ -126,9 +134,7 @@ public class ResteasyUriInfo implements UriInfo
          encodedPath = "/" + r;
          path = "/" + relative.getPath();
       }
-      UriBuilder requestUriBuilder = UriBuilder.fromUri(base).path(relative.getRawPath()).replaceQuery(relative.getRawQuery());
-      requestURI = requestUriBuilder.build();
-      absolutePath = requestUriBuilder.replaceQuery(null).build();
+      requestURI = UriBuilder.fromUri(base).path(relative.getRawPath()).replaceQuery(relative.getRawQuery()).build();
       baseURI = base;
       processPath();
    }
@@ -145,10 +151,38 @@ public class ResteasyUriInfo implements UriInfo
 
    protected void processPath()
    {
-      ProcessPathResult processPathResult = doProcessPath(encodedPath);
-      this.encodedPathSegments = processPathResult.getEncodedPathSegments();
-      this.pathSegments = processPathResult.getPathSegments();
-      this.matchingPath = processPathResult.getMatchingPath();
+      this.encodedPathSegments = null;
+      this.pathSegments = null;
+      this.matchingPath = extractMatchingPath(encodedPath);
+   }
+
+   private void processPathSegments()
+   {
+      if (initData != null)
+      {
+         this.encodedPathSegments = initData.getEncodedPathSegments();
+         this.pathSegments = initData.getPathSegments();
+      }
+      else
+      {
+         ProcessPathResult processPathResult = doProcessPath(encodedPath);
+         this.encodedPathSegments = processPathResult.getEncodedPathSegments();
+         this.pathSegments = processPathResult.getPathSegments();
+      }
+   }
+
+   private static String extractMatchingPath(String encodedPath)
+   {
+      // without matrix parameters, the segments do not need to be parsed
+      if (encodedPath.indexOf(';') >= 0)
+      {
+         return doProcessPath(encodedPath).getMatchingPath();
+      }
+      if (encodedPath.length() > 1 && encodedPath.endsWith("/"))
+      {
+         return encodedPath.substring(0, encodedPath.length() - 1);
+      }
+      return encodedPath;
    }
 
    private static ProcessPathResult doProcessPath(String encodedPath) {
@@ -221,8 +255,10 @@ public class ResteasyUriInfo implements UriInfo
          path = "/" + requestURI.getPath();
       }
       this.requestURI = requestURI;
-      baseURI = UriBuilder.fromUri(requestURI).replacePath("").build();
-      absolutePath = UriBuilder.fromUri(requestURI).replaceQuery(null).build();
+      absoluteString = null;
+      initData = null;
+      baseURI = null;
+      absolutePath = null;
       processPath();
    }
 
@@ -267,6 +303,10 @@ public class ResteasyUriInfo implements UriInfo
 
    public String getPath()
    {
+      if (path == null)
+      {
+         path = initData != null ? initData.getPath() : Encode.decodePath(encodedPath);
+      }
       return path;
    }
 
@@ -278,12 +318,14 @@ public class ResteasyUriInfo implements UriInfo
 
    public List<PathSegment> getPathSegments()
    {
+      if (pathSegments == null) processPathSegments();
       return pathSegments;
    }
 
    public List<PathSegment> getPathSegments(boolean decode)
    {
       if (decode) return getPathSegments();
+      if (encodedPathSegments == null) processPathSegments();
       return encodedPathSegments;
    }
 
@@ -303,7 +345,11 @@ public class ResteasyUriInfo implements UriInfo
    public URI getAbsolutePath()
    {
       if (absolutePath == null) {
-          absolutePath = queryIdx < 0 ? getRequestUri() : URI.create(absoluteString.substring(0, queryIdx));
+          if (absoluteString == null) {
+             absolutePath = UriBuilder.fromUri(getRequestUri()).replaceQuery(null).build();
+          } else {
+             absolutePath = queryIdx < 0 ? getRequestUri() : URI.create(absoluteString.substring(0, queryIdx));
+          }
       }
       return absolutePath;
    }
@@ -315,7 +361,10 @@ public class ResteasyUriInfo implements UriInfo
 
    public URI getBaseUri()
    {
-       if (baseURI == null) {
+      if (baseURI == null && absoluteString == null) {
+         baseURI = UriBuilder.fromUri(getRequestUri()).replacePath("").build();
+      }
+      if (baseURI == null) {
          String tmpContextPath = contextPath;
          if (!tmpContextPath.endsWith("/")) tmpContextPath += "/";
          if (!tmpContextPath.startsWith("/")) tmpContextPath = "/" + tmpContextPath;
@@ -412,7 +461,21 @@ public class ResteasyUriInfo implements UriInfo
    {
       queryParameters = new MultivaluedMapImpl<>();
       encodedQueryParameters = new MultivaluedMapImpl<>();
-      String queryString = getRequestUri().getRawQuery();
+      String queryString;
+      if (absoluteString == null)
+      {
+         queryString = getRequestUri().getRawQuery();
+      }
+      else if (queryIdx < 0)
+      {
+         queryString = null;
+      }
+      else
+      {
+         // the query of the request line, without creating its URI
+         int fragmentIdx = absoluteString.indexOf('#', queryIdx);
+         queryString = absoluteString.substring(queryIdx + 1, fragmentIdx < 0 ? absoluteString.length() : fragmentIdx);
+      }
       if (queryString == null || queryString.equals("")) return;
 
       String[] params = queryString.split("&");
@@ -548,10 +611,10 @@ public class ResteasyUriInfo implements UriInfo
       private final int queryIdx;
       private final int pathStart;
       private final String encodedPath;
-      private final String path;
-      private final List<PathSegment> encodedPathSegments;
-      private final List<PathSegment> pathSegments;
       private final String matchingPath;
+      // computed on first access, an InitData may be cached and shared between requests
+      private volatile String path;
+      private volatile ProcessPathResult processPathResult;
 
       public InitData(final String absoluteUri, final String contextPath) {
          int pathIdx = absoluteUri.indexOf('/');
@@ -573,12 +636,16 @@ public class ResteasyUriInfo implements UriInfo
             tmpEncodedPath = "/" + tmpEncodedPath;
          }
          encodedPath = tmpEncodedPath;
+         matchingPath = extractMatchingPath(encodedPath);
+      }
 
-         path = Encode.decodePath(encodedPath);
-         ProcessPathResult processPathResult = doProcessPath(encodedPath);
-         this.encodedPathSegments = processPathResult.getEncodedPathSegments();
-         this.pathSegments = processPathResult.getPathSegments();
-         this.matchingPath = processPathResult.getMatchingPath();
+      private ProcessPathResult getProcessPathResult() {
+         ProcessPathResult result = processPathResult;
+         if (result == null) {
+            result = doProcessPath(encodedPath);
+            processPathResult = result;
+         }
+         return result;
       }
 
       public int getQueryIdx() {
@@ -594,15 +661,20 @@ public class ResteasyUriInfo implements UriInfo
       }
 
       public String getPath() {
-         return path;
+         String result = path;
+         if (result == null) {
+            result = Encode.decodePath(encodedPath);
+            path = result;
+         }
+         return result;
       }
 
       public List<PathSegment> getEncodedPathSegments() {
-         return encodedPathSegments;
+         return getProcessPathResult().getEncodedPathSegments();
       }
 
       public List<PathSegment> getPathSegments() {
-         return pathSegments;
+         return getProcessPathResult().getPathSegments();
       }
 
       public String getMatchingPath() {
@@ -0,0 +1,170 @@
+package org.jboss.resteasy.specimpl;
+
+import org.jboss.resteasy.util.BoundedCache;
+import org.jboss.resteasy.util.Encode;
+import org.jboss.resteasy.util.PathHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * A URI template compiled in its literal parts and its parameters, so that it is expanded without matching it
+ * against {@link PathHelper#URI_PARAM_PATTERN} again. The compiled templates holding parameters are cached per
+ * template string, in a {@link BoundedCache} which keeps the most used ones.
+ *
+ * @see ResteasyUriBuilderImpl
+ */
+public final class UriTemplate
+{
+   private static final int MAX_CACHE_SIZE = 2048;
+   private static final BoundedCache<String, UriTemplate> cache = new BoundedCache<String, UriTemplate>(MAX_CACHE_SIZE);
+
+   private final String template;
+   // literals[i] precedes the parameter i, the last literal follows the last parameter
+   private final String[] literals;
+   private final String[] names;
+   // the parameters as written in the template, with their regular expression
+   private final String[] parameters;
+
+   private UriTemplate(final String template, final String[] literals, final String[] names, final String[] parameters)
+   {
+      this.template = template;
+      this.literals = literals;
+      this.names = names;
+      this.parameters = parameters;
+   }
+
+   /**
+    * @param template URI template or component of a URI template
+    * @return the compiled template
+    */
+   public static UriTemplate compile(String template)
+   {
+      // the strings without parameters, such as the resolved URIs, are not worth caching
+      if (template.indexOf('{') == -1)
+      {
+         return parse(template);
+      }
+      UriTemplate compiled = cache.get(template);
+      if (compiled == null)
+      {
+         compiled = parse(template);
+         cache.put(template, compiled);
+      }
+      return compiled;
+   }
+
+   private static UriTemplate parse(String template)
+   {
+      List<String> literals = new ArrayList<String>();
+      List<String> names = new ArrayList<String>();
+      List<String> parameters = new ArrayList<String>();
+      if (template.indexOf('{') > -1)
+      {
+         Matcher matcher = PathHelper.URI_PARAM_PATTERN.matcher(PathHelper.replaceEnclosedCurlyBracesCS(template));
+         int start = 0;
+         while (matcher.find())
+         {
+            literals.add(template.substring(start, matcher.start()));
+            names.add(matcher.group(1));
+            parameters.add(template.substring(matcher.start(), matcher.end()));
+            start = matcher.end();
+         }
+         literals.add(template.substring(start));
+      }
+      else
+      {
+         literals.add(template);
+      }
+      return new UriTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]),
+            parameters.toArray(new String[0]));
+   }
+
+   public String getTemplate()
+   {
+      return template;
+   }
+
+   public int getParameterCount()
+   {
+      return names.length;
+   }
+
+   /**
+    * @param i index of a parameter, or the number of parameters for the end of the template
+    * @return the literal part preceding the parameter
+    */
+   public String getLiteral(int i)
+   {
+      return literals[i];
+   }
+
+   public String getName(int i)
+   {
+      return names[i];
+   }
+
+   /**
+    * @param i index of a parameter
+    * @return the parameter as written in the template, i.e. "{id: [0-9]+}"
+    */
+   public String getParameter(int i)
+   {
+      return parameters[i];
+   }
+
+   /**
+    * Compiles the path resulting from the resolution of some parameters of this path template, without parsing it.
+    *
+    * @param prefix prepended to the path
+    * @param values the encoded values of the resolved parameters, {@code null} for the unresolved ones
+    * @return the compiled path, its literal parts encoded as by {@link Encode#encodePath(String)}, or {@code null}
+    * if a literal part or a value contains a curly brace, in which case the path must be parsed
+    */
+   UriTemplate resolvePath(String prefix, String[] values)
+   {
+      List<String> resolvedLiterals = new ArrayList<String>();
+      List<String> resolvedNames = new ArrayList<String>();
+      List<String> resolvedParameters = new ArrayList<String>();
+      StringBuilder literal = new StringBuilder(prefix);
+      for (int i = 0; i <= names.length; i++)
+      {
+         if (i > 0)
+         {
+            String value = values[i - 1];
+            if (value == null)
+            {
+               resolvedLiterals.add(literal.toString());
+               resolvedNames.add(names[i - 1]);
+               resolvedParameters.add(parameters[i - 1]);
+               literal.setLength(0);
+            }
+            else
+            {
+               if (hasCurlyBrace(value)) return null;
+               literal.append(value);
+            }
+         }
+         if (hasCurlyBrace(literals[i])) return null;
+         literal.append(literals[i]);
+      }
+      resolvedLiterals.add(literal.toString());
+
+      // the template parameters are kept as they are, and the rest encoded
+      StringBuilder path = new StringBuilder();
+      for (int i = 0; i < resolvedLiterals.size(); i++)
+      {
+         resolvedLiterals.set(i, Encode.encodePath(resolvedLiterals.get(i)));
+         if (i > 0) path.append(resolvedParameters.get(i - 1));
+         path.append(resolvedLiterals.get(i));
+      }
+      return new UriTemplate(path.toString(), resolvedLiterals.toArray(new String[0]),
+            resolvedNames.toArray(new String[0]), resolvedParameters.toArray(new String[0]));
+   }
+
+   private static boolean hasCurlyBrace(String string)
+   {
+      return string.indexOf('{') > -1 || string.indexOf('}') > -1;
+   }
+}
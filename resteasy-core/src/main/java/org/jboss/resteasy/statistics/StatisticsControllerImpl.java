@@ -6,6 +6,7 @@ import org.jboss.resteasy.spi.statistics.StatisticsController;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 public class StatisticsControllerImpl implements StatisticsController {
 
@@ -14,17 +15,34 @@ public class StatisticsControllerImpl implements StatisticsController {
       // use all no-op methods
    };
 
-   boolean isEnabled = false;
+   volatile boolean isEnabled = false;
+   volatile Function<ResourceInvoker, MethodStatisticsLogger> factory = invoker -> new MethodStatisticsLoggerImpl();
    List<ResourceInvoker> registry = new CopyOnWriteArrayList<>();
 
    @Override
    public void register(ResourceInvoker invoker) {
       if(isEnabled) {
-         invoker.setMethodStatisticsLogger(new MethodStatisticsLoggerImpl());
+         invoker.setMethodStatisticsLogger(factory.apply(invoker));
       }
       registry.add(invoker);
    }
 
+   @Override
+   public boolean isEnabled() {
+      return isEnabled;
+   }
+
+   @Override
+   public boolean setMethodStatisticsLoggerFactory(Function<ResourceInvoker, MethodStatisticsLogger> factory) {
+      this.factory = factory;
+      if (isEnabled) {
+         for (ResourceInvoker invoker : registry) {
+            invoker.setMethodStatisticsLogger(factory.apply(invoker));
+         }
+      }
+      return true;
+   }
+
    @Override
    public void setEnabled(boolean b) {
       if (isEnabled == b)
@@ -35,7 +53,7 @@ public class StatisticsControllerImpl implements StatisticsController {
       isEnabled = b;
       if (isEnabled) {
          for (ResourceInvoker invoker : registry) {
-            invoker.setMethodStatisticsLogger(new MethodStatisticsLoggerImpl());
+            invoker.setMethodStatisticsLogger(factory.apply(invoker));
          }
       } else {
          for (ResourceInvoker invoker : registry) {
@@ -0,0 +1,144 @@
+package org.jboss.resteasy.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.spi.HttpRequest;
+
+/**
+ * {@link RESTEasyTracingLogger} of the requests sampled by {@link ResteasyContextParameters#RESTEASY_TRACING_PHASES},
+ * which only records the durations of the summary events of the pipeline in a ring sized for a request, without
+ * formatting their arguments. The durations are reported in nanoseconds once, when the logger is flushed:
+ * <pre>
+ * X-RESTEasy-Phase-Timing: total=412093;prematch=1532;match=8120;reqfilter=2310;read=40211;invoke=290311;write=60022
+ * </pre>
+ */
+class PhaseTimingTracingLogger implements RESTEasyTracingLogger {
+
+   static final String HEADER = "X-RESTEasy-Phase-Timing";
+
+   private static final Logger LOGGER = Logger.getLogger("org.jboss.resteasy.tracing.phases");
+   private static final String[] PHASES = {"prematch", "match", "reqfilter", "read", "invoke", "respfilter", "write",
+         "exception"};
+   // a power of 2, more than the phases of a request, the oldest phases being overwritten otherwise
+   private static final int CAPACITY = 16;
+
+   private final HttpRequest request;
+   private final boolean log;
+   private final boolean header;
+   private final long start = System.nanoTime();
+   private final byte[] phases = new byte[CAPACITY];
+   private final long[] durations = new long[CAPACITY];
+   private int count;
+   private boolean flushed;
+
+   PhaseTimingTracingLogger(final HttpRequest request, final String output) {
+      this.request = request;
+      this.log = !"HEADER".equals(output);
+      this.header = "HEADER".equals(output) || "ALL".equals(output);
+   }
+
+   /**
+    * @return a logger if the request is sampled for the timing of its phases, {@code null} otherwise
+    */
+   static RESTEasyTracingLogger sample(Configuration configuration, HttpRequest request) {
+      double percentage = percentage(configuration);
+      if (percentage <= 0 || (percentage < 100 && ThreadLocalRandom.current().nextDouble(100) >= percentage)) {
+         return null;
+      }
+      Object output = configuration.getProperty(ResteasyContextParameters.RESTEASY_TRACING_PHASES_OUTPUT);
+      return new PhaseTimingTracingLogger(request, output == null ? "LOG" : output.toString());
+   }
+
+   /**
+    * @return whether some requests are sampled for the timing of their phases
+    */
+   static boolean isEnabled(Configuration configuration) {
+      return percentage(configuration) > 0;
+   }
+
+   private static double percentage(Configuration configuration) {
+      Object sample = configuration.getProperty(ResteasyContextParameters.RESTEASY_TRACING_PHASES);
+      if (sample == null) {
+         return 0;
+      }
+      return sample instanceof Number ? ((Number) sample).doubleValue() : Double.parseDouble(sample.toString());
+   }
+
+   private static int phase(String eventName) {
+      switch (eventName) {
+         case "PRE_MATCH_SUMMARY":
+            return 0;
+         case "MATCH_SUMMARY":
+            return 1;
+         case "REQUEST_FILTER_SUMMARY":
+            return 2;
+         case "RI_SUMMARY":
+            return 3;
+         case "METHOD_INVOKE":
+            return 4;
+         case "RESPONSE_FILTER_SUMMARY":
+            return 5;
+         case "WI_SUMMARY":
+            return 6;
+         case "EXCEPTION_MAPPING":
+            return 7;
+         default:
+            return -1;
+      }
+   }
+
+   @Override
+   public boolean isLogEnabled(String eventName) {
+      return false;
+   }
+
+   @Override
+   public void log(String eventName, Object... args) {
+      // no-op
+   }
+
+   @Override
+   public long timestamp(String eventName) {
+      return phase(eventName) < 0 ? -1 : System.nanoTime();
+   }
+
+   @Override
+   public void logDuration(String eventName, long fromTimestamp, Object... args) {
+      if (fromTimestamp == -1) {
+         return;
+      }
+      int phase = phase(eventName);
+      if (phase >= 0) {
+         int i = count++ & (CAPACITY - 1);
+         phases[i] = (byte) phase;
+         durations[i] = System.nanoTime() - fromTimestamp;
+      }
+   }
+
+   @Override
+   public void flush(MultivaluedMap<String, Object> headers) {
+      if (flushed) {
+         return;
+      }
+      flushed = true;
+      if (!header && !LOGGER.isInfoEnabled()) {
+         return;
+      }
+      StringBuilder text = new StringBuilder(160).append("total=").append(System.nanoTime() - start);
+      for (int i = Math.max(0, count - CAPACITY); i < count; i++) {
+         int j = i & (CAPACITY - 1);
+         text.append(';').append(PHASES[phases[j]]).append('=').append(durations[j]);
+      }
+      if (header) {
+         headers.putSingle(HEADER, text.toString());
+      }
+      if (log) {
+         LOGGER.infof("%s %s %s", request.getHttpMethod(), request.getUri().getPath(), text);
+      }
+   }
+}
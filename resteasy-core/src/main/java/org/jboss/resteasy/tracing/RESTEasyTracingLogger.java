@@ -7,13 +7,17 @@ import jakarta.ws.rs.core.SecurityContext;
 
 import org.jboss.resteasy.core.ResteasyContext;
 import org.jboss.resteasy.spi.HttpRequest;
-import org.jboss.resteasy.tracing.api.RESTEasyTracing;
 import org.jboss.resteasy.tracing.api.RESTEasyTracingConfig;
 import org.jboss.resteasy.tracing.api.RESTEasyTracingLevel;
 
 public interface RESTEasyTracingLogger
 {
    class TRACING {
+      /**
+       * Name of the request attribute of the logger, the value of {@code RESTEasyTracing.PROPERTY_NAME}, which is
+       * also used when the tracing API is not available to time the phases of the requests.
+       */
+      public static final String PROPERTY_NAME = "org.jboss.resteasy.tracing.api.RESTEasyTracing";
       public static final boolean AVAILABLE;
       static {
          boolean b;
@@ -89,12 +93,12 @@ public interface RESTEasyTracingLogger
     */
    static RESTEasyTracingLogger getInstance(HttpRequest request)
    {
-      if (request == null || !TRACING.AVAILABLE)
+      if (request == null)
       {
          return EMPTY;
       }
 
-      final RESTEasyTracingLogger tracingLogger = (RESTEasyTracingLogger) request.getAttribute(RESTEasyTracing.PROPERTY_NAME);
+      final RESTEasyTracingLogger tracingLogger = (RESTEasyTracingLogger) request.getAttribute(TRACING.PROPERTY_NAME);
 
       return tracingLogger == null ? EMPTY : tracingLogger;
    }
@@ -140,6 +144,8 @@ public interface RESTEasyTracingLogger
 
    /**
     * According to configuration/request header it initialize {@link RESTEasyTracingLogger} and put it to the request properties.
+    * The requests which are not traced may be sampled to time their phases, see
+    * {@link org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters#RESTEASY_TRACING_PHASES}.
     *
     * @param configuration application-wide tracing configuration type and tracing level threshold.
     * @param request       request instance to get runtime properties to store {@link RESTEasyTracingLogger} instance to
@@ -147,20 +153,37 @@ public interface RESTEasyTracingLogger
     */
    static void initTracingSupport(Configuration configuration,
                                          HttpRequest request) {
-      if (!TRACING.AVAILABLE || request.getAttribute(RESTEasyTracing.PROPERTY_NAME) != null)
+      initTracingSupport(configuration, request, isTracingSupportEnabled(configuration));
+   }
+
+   /**
+    * Same as {@link #initTracingSupport(Configuration, HttpRequest)}, with whether tracing or the timing of the phases
+    * is enabled resolved once from the configuration by the caller, see {@link #isTracingSupportEnabled(Configuration)}.
+    *
+    * @param configuration application-wide tracing configuration type and tracing level threshold.
+    * @param request       request instance to get runtime properties to store {@link RESTEasyTracingLogger} instance to
+    *                      if tracing support is enabled for the request.
+    * @param enabled       whether tracing or the timing of the phases is enabled, the request being left untouched
+    *                      otherwise.
+    */
+   static void initTracingSupport(Configuration configuration, HttpRequest request, boolean enabled) {
+      if (!enabled || request.getAttribute(TRACING.PROPERTY_NAME) != null)
          return;
 
-      final RESTEasyTracingLogger tracingLogger;
-      if (RESTEasyTracingUtils.isTracingSupportEnabled(RESTEasyTracingUtils.getRESTEasyTracingConfig(configuration), request)) {
+      RESTEasyTracingLogger tracingLogger;
+      if (TRACING.AVAILABLE && RESTEasyTracingUtils.isTracingSupportEnabled(RESTEasyTracingUtils.getRESTEasyTracingConfig(configuration), request)) {
          tracingLogger = RESTEasyTracingLogger.create(request.toString(),
                  RESTEasyTracingUtils.getTracingThreshold(RESTEasyTracingUtils.getRESTEasyTracingThreshold(configuration), request),
                  RESTEasyTracingUtils.getTracingLoggerNameSuffix(request),
                    RESTEasyTracingUtils.getTracingInfoFormat(request));
       } else {
-         tracingLogger = RESTEasyTracingLogger.empty();
+         tracingLogger = PhaseTimingTracingLogger.sample(configuration, request);
+         if (tracingLogger == null) {
+            tracingLogger = RESTEasyTracingLogger.empty();
+         }
       }
 
-      request.setAttribute(RESTEasyTracing.PROPERTY_NAME, tracingLogger);
+      request.setAttribute(TRACING.PROPERTY_NAME, tracingLogger);
 
    }
 
@@ -173,7 +196,7 @@ public interface RESTEasyTracingLogger
     *                to check if tracing support is enabled for the request.
     */
    static void logStart(HttpRequest request) {
-      if (!TRACING.AVAILABLE || request == null) {
+      if (request == null) {
          return;
       }
 
@@ -207,6 +230,15 @@ public interface RESTEasyTracingLogger
    }
 
 
+   /**
+    * @param configuration application-wide tracing configuration.
+    * @return whether the requests may be traced or have their phases timed, {@code false} if both are disabled.
+    */
+   static boolean isTracingSupportEnabled(Configuration configuration) {
+      return (TRACING.AVAILABLE && RESTEasyTracingUtils.getRESTEasyTracingConfig(configuration) != RESTEasyTracingConfig.OFF)
+            || PhaseTimingTracingLogger.isEnabled(configuration);
+   }
+
    static boolean isTracingConfigALL(Configuration configuration) {
       return TRACING.AVAILABLE && RESTEasyTracingUtils.getRESTEasyTracingConfig(configuration) == RESTEasyTracingConfig.ALL;
    }
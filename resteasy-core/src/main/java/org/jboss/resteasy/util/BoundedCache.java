@@ -0,0 +1,201 @@
+package org.jboss.resteasy.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size bounded cache, used by the router for its matches and by the {@code UriTemplate}s for their compiled
+ * templates.
+ * <p>
+ * Lookups are a single {@link ConcurrentHashMap} read.  Once the cache is full, a new entry has to win a
+ * TinyLFU style admission check against a victim sampled from the resident entries: the victim is the least
+ * frequently used of a small window of slots scanned by a clock hand, and the candidate is only admitted if it has
+ * been requested at least as often as that victim.  Request frequencies are tracked by an approximate, periodically
+ * aged count-min sketch so that one-off keys (scanned paths, unique ids) cannot flush the hot entries out of the
+ * cache.
+ */
+public class BoundedCache<K, V>
+{
+   private static final int SAMPLE_SIZE = 8;
+
+   private final ConcurrentHashMap<K, V> map;
+   private final FrequencySketch sketch;
+   private final Object[] slots;
+   private final int maximumSize;
+   private int used;
+   private int hand;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+   private final LongAdder rejections = new LongAdder();
+
+   public BoundedCache(final int maximumSize)
+   {
+      this.maximumSize = Math.max(1, maximumSize);
+      this.map = new ConcurrentHashMap<>(Math.min(this.maximumSize, 1024));
+      this.slots = new Object[this.maximumSize];
+      this.sketch = new FrequencySketch(this.maximumSize);
+   }
+
+   public V get(K key)
+   {
+      sketch.increment(key.hashCode());
+      V value = map.get(key);
+      if (value != null)
+      {
+         hits.increment();
+      }
+      else
+      {
+         misses.increment();
+      }
+      return value;
+   }
+
+   public synchronized void put(K key, V value)
+   {
+      if (map.containsKey(key)) return;
+      if (used < maximumSize)
+      {
+         slots[used++] = key;
+         map.put(key, value);
+         return;
+      }
+
+      int victim = -1;
+      int victimFrequency = Integer.MAX_VALUE;
+      for (int i = 0; i < SAMPLE_SIZE && i < maximumSize; i++)
+      {
+         int idx = (hand + i) % maximumSize;
+         int frequency = sketch.frequency(slots[idx].hashCode());
+         if (frequency < victimFrequency)
+         {
+            victim = idx;
+            victimFrequency = frequency;
+         }
+      }
+      hand = (victim + 1) % maximumSize;
+
+      if (sketch.frequency(key.hashCode()) < victimFrequency)
+      {
+         rejections.increment();
+         return;
+      }
+      map.remove(slots[victim]);
+      slots[victim] = key;
+      map.put(key, value);
+      evictions.increment();
+   }
+
+   public synchronized void clear()
+   {
+      map.clear();
+      for (int i = 0; i < used; i++) slots[i] = null;
+      used = 0;
+      hand = 0;
+   }
+
+   public int size()
+   {
+      return map.size();
+   }
+
+   public int getMaximumSize()
+   {
+      return maximumSize;
+   }
+
+   public long getHits()
+   {
+      return hits.sum();
+   }
+
+   public long getMisses()
+   {
+      return misses.sum();
+   }
+
+   /**
+    * @return number of resident entries that were replaced by a more frequently requested one
+    */
+   public long getEvictions()
+   {
+      return evictions.sum();
+   }
+
+   /**
+    * @return number of candidates that were not cached because they were requested less often than the victim
+    */
+   public long getRejections()
+   {
+      return rejections.sum();
+   }
+
+   /**
+    * Count-min sketch with four hash functions over a single table of counters saturating at 15.  All counters are
+    * halved once the number of recorded increments reaches ten times the table size, so that stale popularity fades.
+    * Updates are deliberately unsynchronized; the estimate only needs to be approximately right.
+    */
+   static final class FrequencySketch
+   {
+      private static final int MAX_COUNT = 15;
+      private static final int[] SEEDS = {0x97cb3127, 0xb3ef7a4d, 0x5bd1e995, 0x27d4eb2f};
+
+      private final byte[] table;
+      private final int mask;
+      private final int sampleSize;
+      private int additions;
+
+      FrequencySketch(final int maximumSize)
+      {
+         int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 20)) * 4 - 1) << 1;
+         table = new byte[length];
+         mask = length - 1;
+         sampleSize = 10 * length;
+      }
+
+      void increment(int hash)
+      {
+         boolean added = false;
+         for (int seed : SEEDS)
+         {
+            int idx = index(hash, seed);
+            if (table[idx] < MAX_COUNT)
+            {
+               table[idx]++;
+               added = true;
+            }
+         }
+         if (added && ++additions >= sampleSize)
+         {
+            reset();
+         }
+      }
+
+      int frequency(int hash)
+      {
+         int frequency = MAX_COUNT;
+         for (int seed : SEEDS)
+         {
+            frequency = Math.min(frequency, table[index(hash, seed)]);
+         }
+         return frequency;
+      }
+
+      private int index(int hash, int seed)
+      {
+         int h = (hash ^ (hash >>> 16)) * seed;
+         return (h ^ (h >>> 15)) & mask;
+      }
+
+      private void reset()
+      {
+         additions = 0;
+         for (int i = 0; i < table.length; i++)
+         {
+            table[i] = (byte) (table[i] >>> 1);
+         }
+      }
+   }
+}
@@ -1,11 +1,13 @@
 package org.jboss.resteasy.util;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.CompletionStage;
 
 import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.FileTransfer;
 
-public class CommitHeaderAsyncOutputStream extends AsyncOutputStream
+public class CommitHeaderAsyncOutputStream extends AsyncOutputStream implements FileTransfer
 {
    protected AsyncOutputStream delegate;
    protected boolean isHeadersCommitted;
@@ -94,4 +96,12 @@ public class CommitHeaderAsyncOutputStream extends AsyncOutputStream
       return delegate.asyncWrite(bytes, offset, length);
    }
 
+   @Override
+   public CompletionStage<Void> transferFile(Path file, long position, long count) throws IOException
+   {
+      if (!(delegate instanceof FileTransfer)) return null;
+      commit();
+      return ((FileTransfer) delegate).transferFile(file, position, count);
+   }
+
 }
@@ -2,12 +2,16 @@ package org.jboss.resteasy.util;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.resteasy.spi.FileTransfer;
 
 /**
  * @author <a href="mailto:bill@burkecentral.com">Bill Burke</a>
  * @version $Revision: 1 $
  */
-public class CommitHeaderOutputStream extends OutputStream
+public class CommitHeaderOutputStream extends OutputStream implements FileTransfer
 {
    protected OutputStream delegate;
    protected boolean isHeadersCommitted;
@@ -78,7 +82,13 @@ public class CommitHeaderOutputStream extends OutputStream
       delegate.flush();
    }
 
-
+   @Override
+   public CompletionStage<Void> transferFile(Path file, long position, long count) throws IOException
+   {
+      if (!(delegate instanceof FileTransfer)) return null;
+      commit();
+      return ((FileTransfer) delegate).transferFile(file, position, count);
+   }
 
    @Override
    public void close() throws IOException
@@ -26,7 +26,7 @@ public class Encode
 {
    private static final String UTF_8 = StandardCharsets.UTF_8.name();
 
-   private static final Pattern PARAM_REPLACEMENT = Pattern.compile("_resteasy_uri_parameter");
+   private static final String PARAM_REPLACEMENT = "_resteasy_uri_parameter";
 
    private static final String[] pathEncoding = new String[128];
    private static final String[] pathSegmentEncoding = new String[128];
@@ -207,8 +207,6 @@ public class Encode
       return encodeValue(value, queryNameValueEncoding);
    }
 
-   //private static final Pattern nonCodes = Pattern.compile("%([^a-fA-F0-9]|$)");
-   private static final Pattern nonCodes = Pattern.compile("%([^a-fA-F0-9]|[a-fA-F0-9]$|$|[a-fA-F0-9][^a-fA-F0-9])");
    private static final Pattern encodedChars = Pattern.compile("%([a-fA-F0-9][a-fA-F0-9])");
    private static final Pattern encodedCharsMulti = Pattern.compile("((%[a-fA-F0-9][a-fA-F0-9])+)");
 
@@ -261,27 +259,31 @@ public class Encode
     */
    public static String encodeNonCodes(String string)
    {
-      Matcher matcher = nonCodes.matcher(string);
-      StringBuilder builder = new StringBuilder();
-
-
-      // FYI: we do not use the no-arg matcher.find()
-      //      coupled with matcher.appendReplacement()
-      //      because the matched text may contain
-      //      a second % and we must make sure we
-      //      encode it (if necessary).
-      int idx = 0;
-      while (matcher.find(idx))
+      // every '%' not followed by two hexadecimal digits is encoded
+      int idx = string.indexOf('%');
+      if (idx == -1) return string;
+      StringBuilder builder = null;
+      int start = 0;
+      for (; idx > -1; idx = string.indexOf('%', idx + 1))
       {
-         int start = matcher.start();
-         builder.append(string.substring(idx, start));
-         builder.append("%25");
-         idx = start + 1;
+         if (idx + 2 < string.length() && isHexDigit(string.charAt(idx + 1)) && isHexDigit(string.charAt(idx + 2)))
+         {
+            continue;
+         }
+         if (builder == null) builder = new StringBuilder(string.length() + 8);
+         builder.append(string, start, idx).append("%25");
+         start = idx + 1;
       }
-      builder.append(string.substring(idx));
+      if (builder == null) return string;
+      builder.append(string, start, string.length());
       return builder.toString();
    }
 
+   private static boolean isHexDigit(char c)
+   {
+      return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+   }
+
    public static boolean savePathParams(String segmentString, StringBuilder newSegment, List<String> params)
    {
       boolean foundParam = false;
@@ -296,7 +298,7 @@ public class Encode
          String group = matcher.group();
          // Regular expressions can have '{' and '}' characters.  Recover earlier replacement
          params.add(PathHelper.recoverEnclosedCurlyBraces(group));
-         newSegment.append("_resteasy_uri_parameter");
+         newSegment.append(PARAM_REPLACEMENT);
          start = matcher.end();
       }
       newSegment.append(segment, start, segment.length());
@@ -312,6 +314,11 @@ public class Encode
     */
    public static String encodeValue(String segment, String[] encoding)
    {
+      if (segment.indexOf('{') == -1)
+      {
+         // no template parameter to keep
+         return encodeNonCodes(encodeFromArray(segment, encoding, false));
+      }
       ArrayList<String> params = new ArrayList<String>();
       boolean foundParam = false;
       StringBuilder newSegment = new StringBuilder();
@@ -418,8 +425,19 @@ public class Encode
 
    protected static String encodeFromArray(String segment, String[] encodingMap, boolean encodePercent)
    {
-      StringBuilder result = new StringBuilder();
-      for (int i = 0; i < segment.length(); i++)
+      // nothing is allocated when no character needs to be encoded
+      int length = segment.length();
+      int first = 0;
+      while (first < length)
+      {
+         char c = segment.charAt(first);
+         if (c >= encodingMap.length || (encodingMap[c] != null && (encodePercent || c != '%'))) break;
+         first++;
+      }
+      if (first == length) return segment;
+      StringBuilder result = new StringBuilder(length + 16);
+      result.append(segment, 0, first);
+      for (int i = first; i < length; i++)
       {
          char currentChar = segment.charAt(i);
          if (!encodePercent && currentChar == '%')
@@ -489,15 +507,14 @@ public class Encode
    public static String pathParamReplacement(String segment, List<String> params)
    {
       StringBuilder newSegment = new StringBuilder();
-      Matcher matcher = PARAM_REPLACEMENT.matcher(segment);
       int i = 0;
       int start = 0;
-      while (matcher.find())
+      for (int idx = segment.indexOf(PARAM_REPLACEMENT); idx > -1; idx = segment.indexOf(PARAM_REPLACEMENT, start))
       {
-         newSegment.append(segment, start, matcher.start());
+         newSegment.append(segment, start, idx);
          String replacement = params.get(i++);
          newSegment.append(replacement);
-         start = matcher.end();
+         start = idx + PARAM_REPLACEMENT.length();
       }
       newSegment.append(segment, start, segment.length());
       segment = newSegment.toString();
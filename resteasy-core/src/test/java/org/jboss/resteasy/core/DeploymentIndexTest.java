@@ -0,0 +1,208 @@
+package org.jboss.resteasy.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.spi.metadata.DeploymentIndex;
+import org.jboss.resteasy.spi.metadata.ResourceBuilder;
+import org.jboss.resteasy.spi.metadata.ResourceClass;
+import org.jboss.resteasy.spi.metadata.ResourceLocator;
+import org.jboss.resteasy.spi.metadata.ResourceMethod;
+import org.junit.After;
+import org.junit.Test;
+
+public class DeploymentIndexTest {
+
+   @Path("/items")
+   public interface Items {
+      @GET
+      @Produces("text/plain")
+      String list();
+
+      @GET
+      @Path("{id}")
+      String get(@PathParam("id") int id);
+   }
+
+   public abstract static class BaseItems implements Items {
+      @Path("sub")
+      public Sub sub() {
+         return new Sub();
+      }
+   }
+
+   public static class ItemsImpl extends BaseItems {
+      @Override
+      public String list() {
+         return "list";
+      }
+
+      @Override
+      public String get(int id) {
+         return "item" + id;
+      }
+
+      public String notResource() {
+         return null;
+      }
+   }
+
+   public static class Sub {
+      @GET
+      public String get() {
+         return "sub";
+      }
+   }
+
+   @Provider
+   public static class IndexedFilter implements ContainerResponseFilter {
+      @Override
+      public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+         responseContext.getHeaders().putSingle("X-Indexed", "true");
+      }
+   }
+
+   @After
+   public void cleanup() {
+      System.clearProperty(ResteasyContextParameters.RESTEASY_DEPLOYMENT_INDEX);
+      ResteasyProviderFactory.setInstance(null);
+   }
+
+   private static DeploymentIndex roundTrip() throws Exception {
+      DeploymentIndex index = DeploymentIndex.create(Collections.singletonList(ItemsImpl.class),
+            Collections.singletonList(IndexedFilter.class), new ResourceBuilder());
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      index.write(os);
+      return DeploymentIndex.read(new ByteArrayInputStream(os.toByteArray()));
+   }
+
+   private static Set<String> describe(ResourceClass resourceClass) {
+      Set<String> methods = new TreeSet<>();
+      for (ResourceMethod method : resourceClass.getResourceMethods()) {
+         methods.add(method.getMethod() + " " + method.getAnnotatedMethod() + " " + method.getFullpath() + " "
+               + method.getHttpMethods() + " " + Arrays.toString(method.getProduces()));
+      }
+      for (ResourceLocator locator : resourceClass.getResourceLocators()) {
+         methods.add(locator.getMethod() + " " + locator.getAnnotatedMethod() + " " + locator.getFullpath());
+      }
+      return methods;
+   }
+
+   @Test
+   public void testIndexedResourceClass() throws Exception {
+      DeploymentIndex index = roundTrip();
+      assertEquals(Collections.singletonList(ItemsImpl.class.getName()), index.getResourceClasses());
+      assertEquals(Collections.singletonList(IndexedFilter.class.getName()), index.getProviderClasses());
+
+      ResourceBuilder builder = new ResourceBuilder();
+      builder.setDeploymentIndex(index);
+      for (Class<?> clazz : new Class<?>[] {ItemsImpl.class, Items.class}) {
+         Set<String> expected = describe(new ResourceBuilder().getRootResourceFromAnnotations(clazz));
+         assertEquals(expected, describe(builder.getRootResourceFromAnnotations(clazz)));
+      }
+      assertEquals(3, describe(builder.getRootResourceFromAnnotations(ItemsImpl.class)).size());
+   }
+
+   @Test
+   public void testIndexedMethodsAreProcessedByTheHook() throws Exception {
+      List<String> processed = new ArrayList<>();
+      ResourceBuilder builder = new ResourceBuilder() {
+         @Override
+         protected void processMethod(boolean isLocator, ResourceClassBuilder resourceClassBuilder, Class<?> root,
+                                      Method implementation) {
+            processed.add(implementation.getName());
+            super.processMethod(isLocator, resourceClassBuilder, root, implementation);
+         }
+      };
+      builder.setDeploymentIndex(roundTrip());
+      assertEquals(3, describe(builder.getRootResourceFromAnnotations(ItemsImpl.class)).size());
+      Collections.sort(processed);
+      assertEquals(Arrays.asList("get", "list", "sub"), processed);
+   }
+
+   @Test
+   public void testIndexOfParentClassLoaderIsIgnored() throws Exception {
+      java.nio.file.Path directory = Files.createTempDirectory("resteasy-index");
+      java.nio.file.Path file = directory.resolve(DeploymentIndex.LOCATION);
+      Files.createDirectories(file.getParent());
+      try (OutputStream os = Files.newOutputStream(file)) {
+         roundTrip().write(os);
+      }
+      try (URLClassLoader parent = new URLClassLoader(new URL[] {directory.toUri().toURL()}, getClass().getClassLoader());
+           URLClassLoader child = new URLClassLoader(new URL[0], parent)) {
+         assertNotNull(DeploymentIndex.load(parent));
+         assertNull(DeploymentIndex.load(child));
+      } finally {
+         Files.delete(file);
+      }
+   }
+
+   @Test
+   public void testDeploymentFromIndex() throws Exception {
+      java.nio.file.Path directory = Files.createTempDirectory("resteasy-index");
+      java.nio.file.Path file = directory.resolve(DeploymentIndex.LOCATION);
+      Files.createDirectories(file.getParent());
+      try (OutputStream os = Files.newOutputStream(file)) {
+         roundTrip().write(os);
+      }
+      Thread thread = Thread.currentThread();
+      ClassLoader classLoader = thread.getContextClassLoader();
+      try (URLClassLoader indexLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, classLoader)) {
+         thread.setContextClassLoader(indexLoader);
+         ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+         deployment.start();
+         try {
+            // the index is only used when it is enabled
+            assertNull(deployment.getProviderFactory().getResourceBuilder().getDeploymentIndex());
+         } finally {
+            deployment.stop();
+         }
+         ResteasyProviderFactory.setInstance(null);
+         System.setProperty(ResteasyContextParameters.RESTEASY_DEPLOYMENT_INDEX, "true");
+         deployment = new ResteasyDeploymentImpl();
+         deployment.start();
+         try {
+            assertNotNull(deployment.getProviderFactory().getResourceBuilder().getDeploymentIndex());
+            MockHttpResponse response = new MockHttpResponse();
+            deployment.getDispatcher().invoke(MockHttpRequest.get("/items/3"), response);
+            assertEquals(200, response.getStatus());
+            assertEquals("item3", response.getContentAsString());
+            assertEquals("true", response.getOutputHeaders().getFirst("X-Indexed"));
+         } finally {
+            deployment.stop();
+         }
+      } finally {
+         thread.setContextClassLoader(classLoader);
+         Files.delete(file);
+      }
+   }
+}
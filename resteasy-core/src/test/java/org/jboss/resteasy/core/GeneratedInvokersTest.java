@@ -0,0 +1,103 @@
+package org.jboss.resteasy.core;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class GeneratedInvokersTest {
+
+    public static class Resource {
+        private int count;
+        private String name;
+
+        public Resource() {
+        }
+
+        Resource(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        public String greet(String greeting, int times) {
+            return greeting + " " + name + " x" + (count + times);
+        }
+
+        private void reset() {
+            count = 0;
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("checked");
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public Resource withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public String many(Object a, Object b, Object c, Object d, Object e) {
+            return "too many";
+        }
+    }
+
+    @Test
+    public void testInvokers() throws Throwable {
+        Resource resource = (Resource) GeneratedInvokers.forConstructor(
+                Resource.class.getDeclaredConstructor(String.class, int.class)).newInstance(new Object[]{"bill", 1});
+        assertEquals("hi bill x3",
+                GeneratedInvokers.forMethod(Resource.class.getMethod("greet", String.class, int.class))
+                        .invoke(resource, new Object[]{"hi", 2}));
+
+        GeneratedInvokers.forSetter(Resource.class.getMethod("setCount", int.class)).set(resource, 5);
+        GeneratedInvokers.forSetter(Resource.class.getMethod("withName", String.class)).set(resource, "monica");
+        assertEquals("hi monica x5", resource.greet("hi", 0));
+
+        assertNull(GeneratedInvokers.forMethod(Resource.class.getDeclaredMethod("reset")).invoke(resource, null));
+        assertEquals("hi monica x0", resource.greet("hi", 0));
+        assertNotNull(GeneratedInvokers.forConstructor(Resource.class.getConstructor()).newInstance(null));
+    }
+
+    @Test
+    public void testExceptionsAndFallback() throws Throwable {
+        try {
+            GeneratedInvokers.forMethod(Resource.class.getMethod("fail")).invoke(new Resource(), null);
+            fail();
+        } catch (InvocationTargetException e) {
+            assertEquals("checked", e.getCause().getMessage());
+        }
+
+        // arguments the lambda cannot take are converted or rejected by reflection
+        GeneratedInvokers.MethodInvoker greet = GeneratedInvokers.forMethod(
+                Resource.class.getMethod("greet", String.class, int.class));
+        Resource resource = new Resource("bill", 0);
+        for (Object[] args : new Object[][]{{"hi", null}, {"hi", "2"}, {"hi"}}) {
+            try {
+                greet.invoke(resource, args);
+                fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            greet.invoke("not a resource", new Object[]{"hi", 2});
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals("hi bill x2", greet.invoke(resource, new Object[]{"hi", (short) 2}));
+
+        assertNull(GeneratedInvokers.forMethod(Resource.class.getMethod("many",
+                Object.class, Object.class, Object.class, Object.class, Object.class)));
+        assertNull(GeneratedInvokers.forMethod(String.class.getMethod("valueOf", int.class)));
+    }
+}
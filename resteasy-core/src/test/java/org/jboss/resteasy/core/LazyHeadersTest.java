@@ -0,0 +1,92 @@
+package org.jboss.resteasy.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.util.CaseInsensitiveMap;
+import org.junit.Test;
+
+public class LazyHeadersTest {
+
+   private final Map<String, List<String>> container = new LinkedHashMap<>();
+   private final Set<String> read = new TreeSet<>(CaseInsensitiveMap.CASE_INSENSITIVE_ORDER);
+
+   private LazyHeaders headers() {
+      container.put("Accept", Collections.singletonList("text/plain;q=0.5, application/json"));
+      container.put("X-Values", Arrays.asList("a", "b"));
+      container.put("Cookie", Collections.singletonList("c=1"));
+      return new LazyHeaders(container::keySet, name -> {
+         read.add(name);
+         for (Map.Entry<String, List<String>> entry : container.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) {
+               return entry.getValue();
+            }
+         }
+         return null;
+      });
+   }
+
+   @Test
+   public void testReadThrough() {
+      LazyHeaders headers = headers();
+      assertEquals(Arrays.asList("a", "b"), headers.get("x-values"));
+      assertNull(headers.get("X-Missing"));
+      assertEquals(new TreeSet<>(Arrays.asList("x-values", "X-Missing")), read);
+
+      headers.add("X-Values", "c");
+      headers.remove("Accept");
+      headers.putSingle("X-Other", "d");
+      assertEquals(Arrays.asList("a", "b"), container.get("X-Values"));
+      assertEquals(Arrays.asList("a", "b", "c"), headers.get("X-Values"));
+      assertFalse(headers.containsKey("accept"));
+      assertEquals(3, headers.size());
+      assertTrue(headers.keySet().contains("cookie"));
+   }
+
+   @Test
+   public void testLoadFromContainer() {
+      ResteasyHttpHeaders httpHeaders = new ResteasyHttpHeaders(headers(), false);
+      httpHeaders.setCookieSupplier(() -> new HashMap<>(Collections.singletonMap("d",
+            new Cookie.Builder("d").value("2").build())));
+      httpHeaders.loadFromContainer();
+      container.clear();
+      read.clear();
+
+      // the container, possibly recycled, is no longer read
+      assertEquals(Arrays.asList("a", "b"), httpHeaders.getRequestHeader("X-Values"));
+      assertEquals("2", httpHeaders.getCookies().get("d").getValue());
+      assertEquals("1", httpHeaders.getCookies().get("c").getValue());
+      assertTrue(read.isEmpty());
+   }
+
+   @Test
+   public void testParsedOnFirstAccess() {
+      ResteasyHttpHeaders httpHeaders = new ResteasyHttpHeaders(headers(), false);
+      assertTrue(read.isEmpty());
+
+      List<MediaType> accepts = httpHeaders.getAcceptableMediaTypes();
+      assertEquals(MediaType.APPLICATION_JSON_TYPE, accepts.get(0));
+      assertSame(accepts, httpHeaders.getAcceptableMediaTypes());
+      assertEquals("1", httpHeaders.getCookies().get("c").getValue());
+
+      httpHeaders.getMutableHeaders().putSingle("Accept", "text/xml");
+      assertEquals(Collections.singletonList(MediaType.TEXT_XML_TYPE), httpHeaders.getAcceptableMediaTypes());
+      assertEquals(new TreeSet<>(Arrays.asList("Accept", "Cookie")), read);
+   }
+}
@@ -0,0 +1,144 @@
+package org.jboss.resteasy.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelRegistrationTest {
+
+   @Path("/a")
+   public static class A {
+      @GET
+      public String get() {
+         return "a";
+      }
+
+      @GET
+      @Path("{id}")
+      public String get(@PathParam("id") String id) {
+         return "a" + id;
+      }
+
+      @Path("sub")
+      public Sub sub() {
+         return new Sub();
+      }
+   }
+
+   @Path("/b")
+   public static class B {
+      @GET
+      public String get() {
+         return "b";
+      }
+   }
+
+   // same expression as A, registered afterwards
+   @Path("/a")
+   public static class C {
+      @GET
+      @Path("{name}/c")
+      public String get(@PathParam("name") String name) {
+         return "c" + name;
+      }
+   }
+
+   public static class Sub {
+      @GET
+      public String get() {
+         return "sub";
+      }
+   }
+
+   @After
+   public void cleanup() {
+      System.clearProperty(ResteasyContextParameters.RESTEASY_DEPLOYMENT_PARALLELISM);
+      ResteasyProviderFactory.setInstance(null);
+   }
+
+   private static ResteasyDeployment start(String parallelism) {
+      System.setProperty(ResteasyContextParameters.RESTEASY_DEPLOYMENT_PARALLELISM, parallelism);
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      deployment.setActualResourceClasses(new ArrayList<>(Arrays.asList(A.class, B.class)));
+      deployment.setResourceClasses(new ArrayList<>(Arrays.asList(C.class.getName())));
+      deployment.setResources(new ArrayList<>(Arrays.asList(new B())));
+      deployment.start();
+      return deployment;
+   }
+
+   private static String bindings(ResteasyDeployment deployment) {
+      StringBuilder bindings = new StringBuilder();
+      for (Map.Entry<String, List<ResourceInvoker>> entry : ((ResourceMethodRegistry) deployment.getRegistry()).getBounded()
+            .entrySet()) {
+         bindings.append(entry.getKey());
+         for (ResourceInvoker invoker : entry.getValue()) {
+            bindings.append(' ').append(invoker.getMethod().getDeclaringClass().getSimpleName())
+                  .append('.').append(invoker.getMethod().getName());
+         }
+         bindings.append('\n');
+      }
+      return bindings.toString();
+   }
+
+   private static String get(ResteasyDeployment deployment, String uri) throws Exception {
+      MockHttpResponse response = new MockHttpResponse();
+      deployment.getDispatcher().invoke(MockHttpRequest.get(uri), response);
+      assertEquals(200, response.getStatus());
+      return response.getContentAsString();
+   }
+
+   @Test
+   public void testSameRegistrations() throws Exception {
+      ResteasyDeployment serial = start("1");
+      String expected = bindings(serial);
+      serial.stop();
+
+      ResteasyDeployment parallel = start("4");
+      try {
+         assertTrue(expected, expected.contains("B.get B.get"));
+         assertEquals(expected, bindings(parallel));
+         assertEquals(6, parallel.getRegistry().getSize());
+         assertEquals("a1", get(parallel, "/a/1"));
+         assertEquals("cx", get(parallel, "/a/x/c"));
+         assertEquals("sub", get(parallel, "/a/sub"));
+      } finally {
+         parallel.stop();
+      }
+   }
+
+   @Test
+   public void testFailedRegistrationEndsDeferral() {
+      System.setProperty(ResteasyContextParameters.RESTEASY_DEPLOYMENT_PARALLELISM, "4");
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      deployment.setActualResourceClasses(new ArrayList<>(Arrays.asList(A.class)));
+      deployment.setResourceClasses(new ArrayList<>(Arrays.asList("org.jboss.resteasy.core.Missing")));
+      try {
+         deployment.start();
+         fail("the missing resource class must fail the start");
+      } catch (RuntimeException expected) {
+         // the resources registered afterwards are no longer deferred
+         deployment.getRegistry().addPerRequestResource(B.class);
+         assertEquals(1, deployment.getRegistry().getSize());
+      } finally {
+         deployment.stop();
+      }
+   }
+}
@@ -0,0 +1,111 @@
+package org.jboss.resteasy.core;
+
+import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriInfo;
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RequestContextDataTest {
+
+    @After
+    public void tearDown() {
+        ResteasyContext.clearContextData();
+    }
+
+    @Test
+    public void testSlotsAndOverflow() throws Exception {
+        RequestContextData data = new RequestContextData();
+        HttpRequest request = MockHttpRequest.get("/");
+        assertNull(data.put(HttpRequest.class, request));
+        assertNull(data.put(String.class, "custom"));
+        assertNull(data.put(SecurityContext.class, null));
+
+        assertEquals(3, data.size());
+        assertSame(request, data.get(HttpRequest.class));
+        assertEquals("custom", data.get(String.class));
+        assertTrue(data.containsKey(SecurityContext.class));
+        assertFalse(data.containsKey(UriInfo.class));
+
+        Map<Class<?>, Object> expected = new HashMap<>();
+        expected.put(HttpRequest.class, request);
+        expected.put(String.class, "custom");
+        expected.put(SecurityContext.class, null);
+        assertEquals(expected, data);
+        assertEquals(expected, new HashMap<>(data));
+
+        assertSame(request, data.remove(HttpRequest.class));
+        assertEquals(2, data.size());
+        for (Iterator<Map.Entry<Class<?>, Object>> it = data.entrySet().iterator(); it.hasNext(); ) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(data.isEmpty());
+    }
+
+    @Test
+    public void testInjectionFollowsResumedContext() throws Exception {
+        ResteasyProviderFactory factory = new ResteasyProviderFactoryImpl();
+        HttpRequest request = MockHttpRequest.get("/");
+        new SynchronousDispatcher(factory).pushContextObjects(request, new MockHttpResponse());
+        ResteasyContext.pushContext(Token.class, new Token("dispatched"));
+        ContextParameterInjector injector = new ContextParameterInjector(null, Token.class, Token.class,
+                new Annotation[0], factory);
+        assertEquals("dispatched", ((Token) injector.inject(request, null, false)).name);
+
+        Map<Class<?>, Object> dispatched = ResteasyContext.getContextDataMap();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the request is resumed by another thread, on a level of its own changed by a filter
+            String resumed = executor.submit(() -> {
+                ResteasyContext.addContextDataLevel().putAll(dispatched);
+                ResteasyContext.pushContext(Token.class, new Token("resumed"));
+                try {
+                    return ((Token) injector.inject(request, null, false)).name;
+                } finally {
+                    ResteasyContext.clearContextData();
+                }
+            }).get();
+            assertEquals("resumed", resumed);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("dispatched", ((Token) injector.inject(request, null, false)).name);
+    }
+
+    public static class Token {
+        final String name;
+
+        Token(final String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testContextLevels() {
+        ResteasyContext.pushContext(String.class, "outer");
+        assertTrue(ResteasyContext.getContextDataMap() instanceof RequestContextData);
+        ResteasyContext.addContextDataLevel();
+        assertNull(ResteasyContext.getContextData(String.class));
+        assertEquals("outer", ResteasyContext.searchContextData(String.class));
+        ResteasyContext.removeContextDataLevel();
+        assertEquals("outer", ResteasyContext.getContextData(String.class));
+    }
+}
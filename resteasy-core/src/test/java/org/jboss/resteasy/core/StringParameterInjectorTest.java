@@ -0,0 +1,115 @@
+package org.jboss.resteasy.core;
+
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.junit.Test;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class StringParameterInjectorTest {
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    public enum Level {
+        LOW, HIGH;
+
+        static final AtomicInteger CONVERSIONS = new AtomicInteger();
+
+        public static Level fromString(String level) {
+            CONVERSIONS.incrementAndGet();
+            return valueOf(level.toUpperCase());
+        }
+    }
+
+    public static class TenantId {
+        private final String id;
+
+        private TenantId(final String id) {
+            this.id = id;
+        }
+
+        public static TenantId valueOf(String id) {
+            return new TenantId(id);
+        }
+    }
+
+    public static class Holder {
+        public List<Integer> ids;
+    }
+
+    private static StringParameterInjector injector(Class<?> type, Type genericType, String defaultValue) {
+        return new StringParameterInjector(type, genericType, "p", QueryParam.class, defaultValue, null,
+                new Annotation[0], ResteasyProviderFactory.newInstance());
+    }
+
+    @Test
+    public void testSpecializedConversions() throws Exception {
+        assertEquals(42, injector(int.class, int.class, null).extractValue("42"));
+        assertEquals(0, injector(int.class, int.class, null).extractValue(null));
+        assertEquals(7L, injector(Long.class, Long.class, "7").extractValue(null));
+        assertEquals(Boolean.TRUE, injector(Boolean.class, Boolean.class, null).extractValue("true"));
+        assertEquals("a", injector(String.class, String.class, null).extractValue("a"));
+        assertEquals(Color.GREEN, injector(Color.class, Color.class, null).extractValue("GREEN"));
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, injector(UUID.class, UUID.class, null).extractValue(uuid.toString()));
+        Type listType = Holder.class.getField("ids").getGenericType();
+        assertEquals(Arrays.asList(1, 2), injector(List.class, listType, null).extractValues(Arrays.asList("1", "2")));
+    }
+
+    @Test
+    public void testInvalidValue() {
+        for (Class<?> type : new Class<?>[]{int.class, Integer.class, Color.class, UUID.class}) {
+            try {
+                injector(type, type, null).extractValue("blue");
+                fail(type.getName());
+            } catch (BadRequestException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testConversionCache() {
+        StringParameterInjector uncached = injector(BigDecimal.class, BigDecimal.class, null);
+        assertNotSame(uncached.extractValue("1.5"), uncached.extractValue("1.5"));
+
+        System.setProperty(ResteasyContextParameters.RESTEASY_PARAMETER_CONVERSION_CACHE_SIZE, "2");
+        try {
+            StringParameterInjector decimals = injector(BigDecimal.class, BigDecimal.class, null);
+            assertSame(decimals.extractValue("1.5"), decimals.extractValue("1.5"));
+
+            StringParameterInjector injector = injector(Level.class, Level.class, null);
+            Level.CONVERSIONS.set(0);
+            assertEquals(Level.LOW, injector.extractValue("low"));
+            assertEquals(Level.LOW, injector.extractValue("low"));
+            assertEquals(1, Level.CONVERSIONS.get());
+            injector.extractValue("high");
+            injector.extractValue("High");
+            assertEquals(3, Level.CONVERSIONS.get());
+            assertEquals(Level.LOW, injector.extractValue("low"));
+            assertEquals(4, Level.CONVERSIONS.get());
+
+            // instances of other types could be modified by the request they are injected in
+            StringParameterInjector tenants = injector(TenantId.class, TenantId.class, null);
+            Object acme = tenants.extractValue("acme");
+            assertNotSame(acme, tenants.extractValue("acme"));
+            assertEquals("acme", ((TenantId) acme).id);
+        } finally {
+            System.clearProperty(ResteasyContextParameters.RESTEASY_PARAMETER_CONVERSION_CACHE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.jboss.resteasy.core.providerfactory;
+
+import org.jboss.resteasy.core.MediaTypeMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MessageBodyResolutionCacheTest
+{
+   @Test
+   public void testResolutionIsCachedUntilRegistration()
+   {
+      CountingReader.calls.set(0);
+      ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl();
+      factory.setRegisterBuiltins(false);
+      CountingReader reader = new CountingReader();
+      factory.registerProviderInstance(reader);
+      MediaType mediaType = MediaType.valueOf("application/x-counting");
+
+      for (int i = 0; i < 3; i++)
+      {
+         Assert.assertSame(reader, factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], mediaType));
+      }
+      Assert.assertEquals(1, CountingReader.calls.get());
+
+      for (int i = 0; i < 3; i++)
+      {
+         Assert.assertNull(factory.getMessageBodyReader(String.class, String.class, new Annotation[0], mediaType));
+      }
+      Assert.assertEquals(2, CountingReader.calls.get());
+
+      factory.registerProviderInstance(new OtherCountingReader());
+      factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], mediaType);
+      Assert.assertEquals("registering a provider must invalidate the cache", 3, CountingReader.calls.get());
+   }
+
+   @Test
+   public void testAnnotationsAreComparedByValue() throws Exception
+   {
+      CountingReader.calls.set(0);
+      ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl();
+      factory.setRegisterBuiltins(false);
+      factory.registerProviderInstance(new CountingReader());
+      MediaType mediaType = MediaType.valueOf("application/x-counting");
+
+      // distinct but equal annotation instances, in fresh arrays
+      for (String method : new String[] {"first", "second", "first"})
+      {
+         Annotation[] annotations = Widget.class.getMethod(method).getAnnotations();
+         Assert.assertNotNull(factory.getMessageBodyReader(Widget.class, Widget.class, annotations, mediaType));
+      }
+      Assert.assertEquals(1, CountingReader.calls.get());
+   }
+
+   @Test
+   public void testFullCacheIsEvicted()
+   {
+      CountingReader.calls.set(0);
+      ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl();
+      factory.setRegisterBuiltins(false);
+      factory.registerProviderInstance(new CountingReader());
+      MediaType mediaType = MediaType.valueOf("application/x-counting");
+
+      for (int i = 0; i <= MediaTypeMap.RESOLUTION_CACHE_SIZE; i++)
+      {
+         MediaType oneOff = new MediaType("application", "x-counting", "charset-" + i);
+         factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], oneOff);
+      }
+      CountingReader.calls.set(0);
+      for (int i = 0; i < 3; i++)
+      {
+         factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], mediaType);
+      }
+      Assert.assertEquals("a full cache must still admit new entries", 1, CountingReader.calls.get());
+   }
+
+   @Test
+   public void testParametersDoNotClearTheCache()
+   {
+      CountingReader.calls.set(0);
+      ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl();
+      factory.setRegisterBuiltins(false);
+      factory.registerProviderInstance(new CountingReader());
+      MediaType mediaType = MediaType.valueOf("application/x-counting");
+      factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], mediaType);
+
+      for (int i = 0; i <= MediaTypeMap.RESOLUTION_CACHE_SIZE; i++)
+      {
+         MediaType multipart = new MediaType("application", "x-counting", Collections.singletonMap("boundary", "b" + i));
+         Assert.assertNotNull(factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], multipart));
+      }
+      CountingReader.calls.set(0);
+      factory.getMessageBodyReader(Widget.class, Widget.class, new Annotation[0], mediaType);
+      Assert.assertEquals("a boundary must not evict the cached resolutions", 0, CountingReader.calls.get());
+   }
+
+   public static class Widget
+   {
+      @Deprecated
+      public void first()
+      {
+      }
+
+      @Deprecated
+      public void second()
+      {
+      }
+   }
+
+   public static class OtherCountingReader extends CountingReader
+   {
+   }
+
+   @Consumes("application/x-counting")
+   public static class CountingReader implements MessageBodyReader<Widget>
+   {
+      static final AtomicInteger calls = new AtomicInteger();
+
+      @Override
+      public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType)
+      {
+         calls.incrementAndGet();
+         return Widget.class.equals(type);
+      }
+
+      @Override
+      public Widget readFrom(Class<Widget> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                             MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+      {
+         return new Widget();
+      }
+   }
+}
@@ -0,0 +1,102 @@
+package org.jboss.resteasy.core.registry;
+
+import org.jboss.resteasy.core.InjectorFactoryImpl;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.plugins.server.resourcefactory.POJOResourceFactory;
+import org.jboss.resteasy.spi.HttpRequest;
+import org.jboss.resteasy.spi.metadata.DefaultResourceClass;
+import org.jboss.resteasy.spi.metadata.DefaultResourceMethod;
+import org.jboss.resteasy.spi.metadata.ResourceBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.ws.rs.NotFoundException;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class CompiledRouterTest {
+
+    private RootNode rootNode;
+
+    @Before
+    public void setUp() {
+        rootNode = new RootNode();
+        rootNode.router = new CompiledRouter(rootNode.root);
+    }
+
+    @Test
+    public void testCompile() throws Exception {
+        assertArrayEquals(new String[] {"orders", null, "items"}, CompiledRouter.compile(expression("orders/{ id }/items")));
+        assertArrayEquals(new String[0], CompiledRouter.compile(expression("")));
+        assertNull(CompiledRouter.compile(expression("orders/{id: [0-9]+}")));
+        assertNull(CompiledRouter.compile(expression("orders/item-{id}")));
+    }
+
+    @Test
+    public void testBind() {
+        assertArrayEquals(new int[] {8, 10}, CompiledRouter.bind(new String[] {"orders", null}, "/orders/42", 0));
+        assertNull(CompiledRouter.bind(new String[] {"orders", null}, "/orders/", 0));
+        assertNull(CompiledRouter.bind(new String[] {"orders", null}, "/orders/42/items", 0));
+        assertNull(CompiledRouter.bind(new String[] {"orders"}, "/items", 0));
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        ResourceMethodInvoker byId = add("orders/{id}");
+        ResourceMethodInvoker literal = add("orders/latest");
+        ResourceMethodInvoker items = add("orders/{id}/items/{item}");
+        ResourceMethodInvoker regex = add("orders/{id: [0-9]+}/lines");
+
+        HttpRequest request = MockHttpRequest.get("/orders/42");
+        assertEquals(byId, rootNode.matchUncached(request, 0).invoker);
+        assertEquals("42", request.getUri().getPathParameters().getFirst("id"));
+
+        assertEquals(literal, rootNode.matchUncached(MockHttpRequest.get("/orders/latest"), 0).invoker);
+
+        request = MockHttpRequest.get("/orders/7/items/abc");
+        assertEquals(items, rootNode.matchUncached(request, 0).invoker);
+        assertEquals("7", request.getUri().getPathParameters().getFirst("id"));
+        assertEquals("abc", request.getUri().getPathParameters().getFirst("item"));
+
+        request = MockHttpRequest.get("/orders/9/lines");
+        assertEquals(regex, rootNode.matchUncached(request, 0).invoker);
+        assertEquals("9", request.getUri().getPathParameters().getFirst("id"));
+        assertNotNull(request.getUri().getPathParameters().getFirst("id"));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void testNotFound() throws Exception {
+        add("orders/{id}");
+        rootNode.matchUncached(MockHttpRequest.get("/orders/"), 0);
+    }
+
+    private MethodExpression expression(String path) throws Exception {
+        return new MethodExpression(rootNode.root, path, invoker());
+    }
+
+    private ResourceMethodInvoker add(String path) throws Exception {
+        ResourceMethodInvoker invoker = invoker();
+        rootNode.addInvoker(path, invoker);
+        return invoker;
+    }
+
+    private ResourceMethodInvoker invoker() throws Exception {
+        Method method = Orders.class.getMethod("get");
+        DefaultResourceMethod resourceMethod = new DefaultResourceMethod(new DefaultResourceClass(Orders.class, "orders"), method, method);
+        resourceMethod.getHttpMethods().add("GET");
+        return new ResourceMethodInvoker(resourceMethod, new InjectorFactoryImpl(),
+                new POJOResourceFactory(new ResourceBuilder(), Orders.class), new ResteasyProviderFactoryImpl());
+    }
+
+    public static class Orders {
+        public String get() {
+            return "order";
+        }
+    }
+}
@@ -17,8 +17,11 @@ import org.junit.Test;
 
 import jakarta.ws.rs.core.MediaType;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 public class RootNodeCacheSizeTest {
 
@@ -32,12 +35,66 @@ public class RootNodeCacheSizeTest {
         }
 
         // Default in RootNode is CACHE_SIZE = 2048;
-        assertEquals("Cache is expected to be cleared when size exceeded 2048 items", 2, rootNode.cacheSize());
+        assertEquals("Cache is expected to stay bounded at 2048 items", 2048, rootNode.cacheSize());
+        assertEquals(2050, rootNode.getCache().getMisses());
+        assertEquals(2, rootNode.getCache().getEvictions() + rootNode.getCache().getRejections());
         for (int i = 0; i < 10; i++) {
            rootNode.match(MockHttpRequest.get("" + i).contentType(MediaType.valueOf("text/html;boundary=from" + i)), 0);
         }
         //MediaType with parameters won't be cached
-        assertEquals("Unexpected cache item", 2, rootNode.cacheSize());
+        assertEquals("Unexpected cache item", 2048, rootNode.cacheSize());
+    }
+
+    @Test
+    public void testTemplatedRouteCache() throws Exception {
+        RootNode rootNode = new RootNode();
+        Method method = Orders.class.getMethod("get", String.class);
+        ResourceClass resourceClass = new DefaultResourceClass(Orders.class, "orders/{id}");
+        DefaultResourceMethod resourceMethod = new DefaultResourceMethod(resourceClass, method, method);
+        resourceMethod.getHttpMethods().add("GET");
+        ResourceMethodInvoker invoker = new ResourceMethodInvoker(resourceMethod, new InjectorFactoryImpl(),
+                new POJOResourceFactory(new ResourceBuilder(), Orders.class), new ResteasyProviderFactoryImpl());
+        rootNode.addInvoker("orders/{id}", invoker);
+
+        for (int i = 0; i < 3; i++) {
+            for (String id : new String[] {"1", "2"}) {
+                HttpRequest request = MockHttpRequest.get("/orders/" + id);
+                assertEquals(invoker, rootNode.match(request, 0));
+                assertEquals(id, request.getUri().getPathParameters().getFirst("id"));
+            }
+        }
+        assertEquals(2, rootNode.getCache().size());
+        assertEquals(2, rootNode.getCache().getMisses());
+        assertEquals(4, rootNode.getCache().getHits());
+    }
+
+    @Test
+    public void testKeyOfSeveralAcceptHeaders() throws Exception {
+        HttpRequest request = MockHttpRequest.get("/orders/1").accept("text/plain").accept("application/json");
+        MatchCache.Key stored = new MatchCache.Key(request, 0);
+        assertEquals(2, stored.accepts.size());
+        assertEquals(Arrays.asList("text/plain", "application/json"), stored.acceptHeaders);
+
+        MatchCache.Key lookup = MatchCache.Key.lookup(request, 0);
+        try {
+            assertEquals(stored, lookup);
+            assertEquals(stored.hashCode(), lookup.hashCode());
+            assertSame(lookup, MatchCache.Key.lookup(request, 0));
+        } finally {
+            lookup.release();
+        }
+        lookup = MatchCache.Key.lookup(MockHttpRequest.get("/orders/1").accept("text/plain"), 0);
+        try {
+            assertNotEquals(stored, lookup);
+        } finally {
+            lookup.release();
+        }
+    }
+
+    public static class Orders {
+        public String get(String id) {
+            return id;
+        }
     }
 
     public class MyRootNode extends RootNode {
@@ -0,0 +1,174 @@
+package org.jboss.resteasy.plugins.providers.sse;
+
+import org.junit.Test;
+
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.SseEventSink;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SseBroadcasterImplTest {
+
+    private static class Sink implements SseEventSink {
+        final boolean slow;
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<Void>> writes = new CopyOnWriteArrayList<>();
+        boolean closed;
+
+        Sink(final boolean slow) {
+            this.slow = slow;
+        }
+
+        @Override
+        public CompletionStage<?> send(OutboundSseEvent event) {
+            received.add((String) event.getData());
+            CompletableFuture<Void> write = new CompletableFuture<>();
+            writes.add(write);
+            if (!slow) {
+                write.complete(null);
+            }
+            return write;
+        }
+
+        void completeWrites() {
+            for (int i = 0; i < writes.size(); i++) {
+                writes.get(i).complete(null);
+            }
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static OutboundSseEvent event(String data) {
+        return new OutboundSseEventImpl.BuilderImpl().data(data).build();
+    }
+
+    @Test
+    public void testSlowSinkDoesNotDelayOthers() {
+        SseBroadcasterImpl broadcaster = new SseBroadcasterImpl();
+        Sink slow = new Sink(true);
+        Sink fast = new Sink(false);
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        CompletionStage<?> first = broadcaster.broadcast(event("1"));
+        broadcaster.broadcast(event("2"));
+        broadcaster.broadcast(event("3"));
+
+        assertEquals(List.of("1", "2", "3"), fast.received);
+        assertEquals(List.of("1"), slow.received);
+        assertEquals(2, broadcaster.getMaxLag());
+        assertFalse(first.toCompletableFuture().isDone());
+
+        slow.completeWrites();
+        assertEquals(List.of("1", "2", "3"), slow.received);
+        assertTrue(first.toCompletableFuture().isDone());
+        assertEquals(0, broadcaster.getQueuedCount());
+        assertEquals(3, broadcaster.getBroadcastCount());
+    }
+
+    @Test
+    public void testUnboundedByDefault() {
+        SseBroadcasterImpl broadcaster = new SseBroadcasterImpl();
+        Sink slow = new Sink(true);
+        broadcaster.register(slow);
+        for (int i = 1; i <= 2000; i++) {
+            broadcaster.broadcast(event(Integer.toString(i)));
+        }
+        assertEquals(1999, broadcaster.getQueuedCount());
+        assertEquals(0, broadcaster.getDroppedCount());
+        assertFalse(slow.isClosed());
+    }
+
+    @Test
+    public void testBlockingSinkWithExecutor() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        CountDownLatch release = new CountDownLatch(1);
+        SseBroadcasterImpl broadcaster = new SseBroadcasterImpl(SseBroadcasterImpl.DEFAULT_QUEUE_SIZE,
+                SseBroadcasterImpl.OverflowPolicy.DISCONNECT, executor, true);
+        try {
+            Sink blocking = new Sink(false) {
+                @Override
+                public CompletionStage<?> send(OutboundSseEvent event) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.send(event);
+                }
+            };
+            Sink fast = new Sink(false);
+            broadcaster.register(blocking);
+            broadcaster.register(fast);
+
+            CompletionStage<?> sent = broadcaster.broadcast(event("1"));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (fast.writes.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, fast.writes.size());
+            assertFalse(sent.toCompletableFuture().isDone());
+
+            release.countDown();
+            sent.toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("1"), blocking.received);
+        } finally {
+            release.countDown();
+            broadcaster.close();
+        }
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void testDropOldest() {
+        SseBroadcasterImpl broadcaster = new SseBroadcasterImpl(2, SseBroadcasterImpl.OverflowPolicy.DROP_OLDEST, null);
+        Sink slow = new Sink(true);
+        broadcaster.register(slow);
+        for (int i = 1; i <= 4; i++) {
+            broadcaster.broadcast(event(Integer.toString(i)));
+        }
+        assertEquals(1, broadcaster.getDroppedCount());
+
+        slow.completeWrites();
+        assertEquals(List.of("1", "3", "4"), slow.received);
+    }
+
+    @Test
+    public void testDisconnect() {
+        SseBroadcasterImpl broadcaster = new SseBroadcasterImpl(1, SseBroadcasterImpl.OverflowPolicy.DISCONNECT, null);
+        AtomicInteger closed = new AtomicInteger();
+        broadcaster.onClose(sink -> closed.incrementAndGet());
+        Sink slow = new Sink(true);
+        broadcaster.register(slow);
+        broadcaster.broadcast(event("1"));
+        broadcaster.broadcast(event("2"));
+        CompletionStage<?> overflow = broadcaster.broadcast(event("3"));
+
+        assertTrue(slow.isClosed());
+        assertEquals(1, closed.get());
+        assertEquals(1, broadcaster.getDisconnectedCount());
+        assertEquals(2, broadcaster.getDroppedCount());
+        assertTrue(overflow.toCompletableFuture().isDone());
+        assertEquals(0, broadcaster.getQueuedCount());
+    }
+}
@@ -1,7 +1,11 @@
 package org.jboss.resteasy.specimpl;
 
+import java.net.URI;
+import java.util.Arrays;
+
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -33,5 +37,33 @@ public class ResteasyUriInfoTest {
         assertNotEquals(key1, key2);
     }
 
+    @Test
+    public void testLazyInitialization() {
+        ResteasyUriInfo uriInfo = new ResteasyUriInfo("http://localhost:8080/app/a%20b/c;m=1/?x=1&y=a%20b&x=2", "/app");
+        assertEquals("/a%20b/c", uriInfo.getMatchingPath());
+        assertEquals("/a%20b/c;m=1/", uriInfo.getPath(false));
+        assertEquals("/a b/c;m=1/", uriInfo.getPath());
+        assertEquals(Arrays.asList("1", "2"), uriInfo.getQueryParameters().get("x"));
+        assertEquals("a b", uriInfo.getQueryParameters().getFirst("y"));
+        assertEquals("a%20b", uriInfo.getQueryParameters(false).getFirst("y"));
+        assertEquals("a b", uriInfo.getPathSegments().get(0).getPath());
+        assertEquals("a%20b", uriInfo.getPathSegments(false).get(0).getPath());
+        assertEquals("1", uriInfo.getPathSegments().get(1).getMatrixParameters().getFirst("m"));
+        assertEquals(URI.create("http://localhost:8080/app/a%20b/c;m=1/"), uriInfo.getAbsolutePath());
+        assertEquals(URI.create("http://localhost:8080/app/"), uriInfo.getBaseUri());
+
+        uriInfo.setRequestUri(URI.create("d/e?z=3"));
+        assertEquals("/d/e", uriInfo.getMatchingPath());
+        assertEquals("/d/e", uriInfo.getPath());
+        assertEquals(2, uriInfo.getPathSegments().size());
+        assertEquals("3", uriInfo.getQueryParameters().getFirst("z"));
+        assertEquals(URI.create("http://localhost:8080/app/d/e"), uriInfo.getAbsolutePath());
+
+        uriInfo = new ResteasyUriInfo(URI.create("http://localhost/x/y/?q=1"));
+        assertEquals("/x/y", uriInfo.getMatchingPath());
+        assertEquals("1", uriInfo.getQueryParameters().getFirst("q"));
+        assertEquals(URI.create("http://localhost/x/y/"), uriInfo.getAbsolutePath());
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package org.jboss.resteasy.specimpl;
+
+import java.net.URI;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class UriTemplateTest {
+
+    @Path("/items")
+    public interface Items {
+        @GET
+        @Path("{id: [0-9]{1,3}}/{name}")
+        String get();
+    }
+
+    @Test
+    public void testCompile() {
+        UriTemplate template = UriTemplate.compile("/a/{id: [0-9]{1,3}}/b{ name }");
+        assertSame(template, UriTemplate.compile("/a/{id: [0-9]{1,3}}/b{ name }"));
+        assertEquals(2, template.getParameterCount());
+        assertEquals("/a/", template.getLiteral(0));
+        assertEquals("id", template.getName(0));
+        assertEquals("{id: [0-9]{1,3}}", template.getParameter(0));
+        assertEquals("/b", template.getLiteral(1));
+        assertEquals("name", template.getName(1));
+        assertEquals("", template.getLiteral(2));
+    }
+
+    @Test
+    public void testCache() {
+        // the strings without parameters are not cached
+        assertNotSame(UriTemplate.compile("/a/b"), UriTemplate.compile("/a/b"));
+        assertEquals(0, UriTemplate.compile("/a/b").getParameterCount());
+
+        String hot = "/hot/{id}";
+        UriTemplate template = UriTemplate.compile(hot);
+        for (int i = 0; i < 10; i++) {
+            assertSame(template, UriTemplate.compile(hot));
+        }
+        // the templates used once do not evict the used ones
+        for (int i = 0; i < 5000; i++) {
+            UriTemplate.compile("/once/" + i + "/{id}");
+        }
+        assertSame(template, UriTemplate.compile(hot));
+    }
+
+    @Test
+    public void testResolvePath() {
+        UriTemplate template = UriTemplate.compile("a b/{x}/{y}");
+        UriTemplate resolved = template.resolvePath("/", new String[] {"c%2Fd", null});
+        assertEquals("/a%20b/c%2Fd/{y}", resolved.getTemplate());
+        assertEquals(1, resolved.getParameterCount());
+        assertEquals("/a%20b/c%2Fd/", resolved.getLiteral(0));
+        assertNull(template.resolvePath("/", new String[] {"{z}", null}));
+    }
+
+    @Test
+    public void testResolveInPlace() {
+        UriBuilder builder = new ResteasyUriBuilderImpl().uri("http://localhost:8080/app").path(Items.class)
+                .path(Items.class, "get").queryParam("q", "{q}").fragment("{f}");
+        UriBuilder resolved = builder.clone().resolveTemplate("id", "12").resolveTemplate("q", "a b");
+        assertEquals("http://localhost:8080/app/items/12/{name}?q=a+b#{f}", resolved.toTemplate());
+        assertEquals(URI.create("http://localhost:8080/app/items/12/x%2Fy?q=a+b#z"), resolved.build("x/y", "z"));
+        assertEquals(URI.create("http://localhost:8080/app/items/1/2?q=3#4"), builder.build("1", "2", "3", "4"));
+        // a value given as encoded may change the structure of the URI
+        ResteasyUriBuilderImpl items = (ResteasyUriBuilderImpl) new ResteasyUriBuilderImpl().uri("http://localhost")
+                .path(Items.class).path(Items.class, "get");
+        assertEquals(URI.create("http://localhost/items/1/2?q=3#4"),
+                items.substitutePathParam("name", "2?q=3#4", true).resolveTemplate("id", "1").build());
+    }
+}
@@ -0,0 +1,77 @@
+package org.jboss.resteasy.tracing;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
+import org.jboss.resteasy.specimpl.MultivaluedMapImpl;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PhaseTimingTracingLoggerTest {
+
+   @Path("/")
+   public static class Resource {
+      @GET
+      @Path("/hello")
+      public String hello() {
+         return "hello";
+      }
+   }
+
+   private static MockHttpResponse get(Dispatcher dispatcher) throws Exception {
+      MockHttpResponse response = new MockHttpResponse();
+      dispatcher.invoke(MockHttpRequest.get("/hello"), response);
+      assertEquals(200, response.getStatus());
+      return response;
+   }
+
+   @Test
+   public void testSampled() throws Exception {
+      Dispatcher dispatcher = MockDispatcherFactory.createDispatcher();
+      dispatcher.getProviderFactory().property(ResteasyContextParameters.RESTEASY_TRACING_PHASES, 100.0);
+      dispatcher.getProviderFactory().property(ResteasyContextParameters.RESTEASY_TRACING_PHASES_OUTPUT, "HEADER");
+      dispatcher.getRegistry().addPerRequestResource(Resource.class);
+
+      String timing = (String) get(dispatcher).getOutputHeaders().getFirst(PhaseTimingTracingLogger.HEADER);
+      assertTrue(timing, timing.matches("total=\\d+(;\\w+=\\d+)+"));
+      assertTrue(timing, timing.contains(";match="));
+      assertTrue(timing, timing.contains(";invoke="));
+      assertTrue(timing, timing.contains(";write="));
+   }
+
+   @Test
+   public void testNotSampled() throws Exception {
+      Dispatcher dispatcher = MockDispatcherFactory.createDispatcher();
+      dispatcher.getProviderFactory().property(ResteasyContextParameters.RESTEASY_TRACING_PHASES_OUTPUT, "HEADER");
+      dispatcher.getRegistry().addPerRequestResource(Resource.class);
+
+      assertNull(get(dispatcher).getOutputHeaders().getFirst(PhaseTimingTracingLogger.HEADER));
+   }
+
+   @Test
+   public void testRing() throws Exception {
+      PhaseTimingTracingLogger logger = new PhaseTimingTracingLogger(MockHttpRequest.create("GET", "/"), "HEADER");
+      // formatting is skipped
+      assertEquals(false, logger.isLogEnabled("MATCH_PATH_NOT_MATCHED"));
+      assertEquals(-1, logger.timestamp("MATCH_PATH_FIND"));
+      for (int i = 0; i < 20; i++) {
+         logger.logDuration("REQUEST_FILTER_SUMMARY", logger.timestamp("REQUEST_FILTER_SUMMARY"));
+      }
+      logger.logDuration("WI_SUMMARY", logger.timestamp("WI_SUMMARY"));
+      MultivaluedMapImpl<String, Object> headers = new MultivaluedMapImpl<>();
+      logger.flush(headers);
+      logger.flush(headers);
+      String timing = (String) headers.getFirst(PhaseTimingTracingLogger.HEADER);
+      // the 16 latest phases
+      assertEquals(timing, 17, timing.split(";").length);
+      assertTrue(timing, timing.contains(";write="));
+   }
+}
@@ -0,0 +1,127 @@
+package org.jboss.resteasy.plugins.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds. The values are counted in buckets of a log-linear scale, as in
+ * HDR histograms: each power of two is split in 8 buckets, so the percentiles are accurate to
+ * 12.5% whatever the magnitude of the values, in a fixed footprint of a few kilobytes.
+ */
+public class LatencyHistogram
+{
+   private static final int SUB_BUCKET_BITS = 3;
+   private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+   private static final int BUCKETS = bucket(Long.MAX_VALUE) + 1;
+
+   private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+   private final LongAdder total = new LongAdder();
+   private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+   static int bucket(long value)
+   {
+      if (value < SUB_BUCKETS)
+      {
+         return (int) value;
+      }
+      int exponent = 63 - Long.numberOfLeadingZeros(value);
+      int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+   }
+
+   static long lowestValue(int bucket)
+   {
+      if (bucket < SUB_BUCKETS)
+      {
+         return bucket;
+      }
+      int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+      return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+   }
+
+   static long highestValue(int bucket)
+   {
+      return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowestValue(bucket + 1) - 1;
+   }
+
+   /**
+    * @param nanos duration to record, negative durations are recorded as 0
+    */
+   public void record(long nanos)
+   {
+      long value = Math.max(nanos, 0);
+      counts.incrementAndGet(bucket(value));
+      total.add(value);
+      max.accumulate(value);
+   }
+
+   public long getCount()
+   {
+      long count = 0;
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         count += counts.get(i);
+      }
+      return count;
+   }
+
+   public long getTotal()
+   {
+      return total.sum();
+   }
+
+   public long getMax()
+   {
+      return max.get();
+   }
+
+   public long getMean()
+   {
+      long count = getCount();
+      return count == 0 ? 0 : getTotal() / count;
+   }
+
+   /**
+    * @param percentile percentile between 0 and 100
+    * @return highest value of the bucket of the percentile, not more than the maximum, or 0 if nothing was recorded
+    */
+   public long getValueAtPercentile(double percentile)
+   {
+      long[] snapshot = new long[BUCKETS];
+      long count = 0;
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         snapshot[i] = counts.get(i);
+         count += snapshot[i];
+      }
+      if (count == 0)
+      {
+         return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         seen += snapshot[i];
+         if (seen >= rank)
+         {
+            return Math.min(highestValue(i), getMax());
+         }
+      }
+      return getMax();
+   }
+
+   /**
+    * Clears the histogram, the values recorded meanwhile may be partially cleared.
+    */
+   public void reset()
+   {
+      for (int i = 0; i < BUCKETS; i++)
+      {
+         counts.set(i, 0);
+      }
+      total.reset();
+      max.reset();
+   }
+}
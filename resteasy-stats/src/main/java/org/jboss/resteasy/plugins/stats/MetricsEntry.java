@@ -0,0 +1,105 @@
+package org.jboss.resteasy.plugins.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+
+/**
+ * <pre>
+ * {@literal <}metrics inFlight="2" failures="0" informational="0" successful="5550" redirection="0" clientErrors="5" serverErrors="0"{@literal >}
+ *     {@literal <}phase name="routing" count="5555" mean="850" p50="831" p90="1023" p99="2047" max="40310"/{@literal >}
+ *     ...
+ * {@literal <}/metrics{@literal >}
+ * </pre>
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+public class MetricsEntry
+{
+   @XmlAttribute
+   private long inFlight;
+
+   @XmlAttribute
+   private long failures;
+
+   @XmlAttribute
+   private long informational;
+
+   @XmlAttribute
+   private long successful;
+
+   @XmlAttribute
+   private long redirection;
+
+   @XmlAttribute
+   private long clientErrors;
+
+   @XmlAttribute
+   private long serverErrors;
+
+   @XmlElement(name = "phase")
+   private List<PhaseEntry> phases = new ArrayList<PhaseEntry>();
+
+   public MetricsEntry()
+   {
+   }
+
+   public MetricsEntry(final ResourceMethodMetrics metrics)
+   {
+      inFlight = metrics.getInFlight();
+      failures = metrics.getFailedInvocationCnt();
+      informational = metrics.getResponses(1);
+      successful = metrics.getResponses(2);
+      redirection = metrics.getResponses(3);
+      clientErrors = metrics.getResponses(4);
+      serverErrors = metrics.getResponses(5);
+      for (ResourceMethodMetrics.Phase phase : ResourceMethodMetrics.Phase.values())
+      {
+         phases.add(new PhaseEntry(phase.name().toLowerCase(Locale.ROOT), metrics.getHistogram(phase)));
+      }
+   }
+
+   public long getInFlight()
+   {
+      return inFlight;
+   }
+
+   public long getFailures()
+   {
+      return failures;
+   }
+
+   public long getInformational()
+   {
+      return informational;
+   }
+
+   public long getSuccessful()
+   {
+      return successful;
+   }
+
+   public long getRedirection()
+   {
+      return redirection;
+   }
+
+   public long getClientErrors()
+   {
+      return clientErrors;
+   }
+
+   public long getServerErrors()
+   {
+      return serverErrors;
+   }
+
+   public List<PhaseEntry> getPhases()
+   {
+      return phases;
+   }
+}
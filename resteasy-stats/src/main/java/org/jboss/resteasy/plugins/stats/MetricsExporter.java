@@ -0,0 +1,20 @@
+package org.jboss.resteasy.plugins.stats;
+
+import org.jboss.resteasy.spi.ResourceInvoker;
+
+/**
+ * Exports the {@link ResourceMethodMetrics} to a monitoring system. The exporters are loaded with the
+ * {@link java.util.ServiceLoader} by the {@link ResourceMethodMetricsFeature}, unless they are given to its constructor.
+ */
+public interface MetricsExporter
+{
+   /**
+    * Called for each resource method when its metrics are created, which replace the former metrics of the method
+    * if the statistics were disabled then enabled again. The exporter reads the live metrics when the monitoring
+    * system asks for them.
+    *
+    * @param invoker invoker of the resource method
+    * @param metrics metrics of the resource method
+    */
+   void register(ResourceInvoker invoker, ResourceMethodMetrics metrics);
+}
@@ -0,0 +1,83 @@
+package org.jboss.resteasy.plugins.stats;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+
+/**
+ * Durations of a {@link ResourceMethodMetrics.Phase}, in nanoseconds.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+public class PhaseEntry
+{
+   @XmlAttribute
+   private String name;
+
+   @XmlAttribute
+   private long count;
+
+   @XmlAttribute
+   private long mean;
+
+   @XmlAttribute
+   private long p50;
+
+   @XmlAttribute
+   private long p90;
+
+   @XmlAttribute
+   private long p99;
+
+   @XmlAttribute
+   private long max;
+
+   public PhaseEntry()
+   {
+   }
+
+   public PhaseEntry(final String name, final LatencyHistogram histogram)
+   {
+      this.name = name;
+      this.count = histogram.getCount();
+      this.mean = histogram.getMean();
+      this.p50 = histogram.getValueAtPercentile(50);
+      this.p90 = histogram.getValueAtPercentile(90);
+      this.p99 = histogram.getValueAtPercentile(99);
+      this.max = histogram.getMax();
+   }
+
+   public String getName()
+   {
+      return name;
+   }
+
+   public long getCount()
+   {
+      return count;
+   }
+
+   public long getMean()
+   {
+      return mean;
+   }
+
+   public long getP50()
+   {
+      return p50;
+   }
+
+   public long getP90()
+   {
+      return p90;
+   }
+
+   public long getP99()
+   {
+      return p99;
+   }
+
+   public long getMax()
+   {
+      return max;
+   }
+}
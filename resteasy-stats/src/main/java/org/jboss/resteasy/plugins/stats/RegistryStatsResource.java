@@ -60,6 +60,10 @@ public class RegistryStatsResource
                   AtomicLong stat = rm.getStats().get(httpMethod);
                   if (stat != null) method.setInvocations(stat.longValue());
                   else method.setInvocations(0);
+                  if (rm.getMethodStatisticsLogger() instanceof ResourceMethodMetrics)
+                  {
+                     method.setMetrics(new MetricsEntry((ResourceMethodMetrics) rm.getMethodStatisticsLogger()));
+                  }
 
                   if (rm.getProduces() != null)
                   {
@@ -34,6 +34,9 @@ public class ResourceMethodEntry
    @XmlElement
    private List<String> consumes = new ArrayList<String>();
 
+   @XmlElement
+   private MetricsEntry metrics;
+
 
    public String getClazz()
    {
@@ -75,4 +78,14 @@ public class ResourceMethodEntry
    {
       return consumes;
    }
+
+   public MetricsEntry getMetrics()
+   {
+      return metrics;
+   }
+
+   public void setMetrics(MetricsEntry metrics)
+   {
+      this.metrics = metrics;
+   }
 }
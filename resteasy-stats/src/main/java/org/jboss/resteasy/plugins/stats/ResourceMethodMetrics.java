@@ -0,0 +1,214 @@
+package org.jboss.resteasy.plugins.stats;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.resteasy.spi.statistics.MethodStatisticsLogger;
+
+/**
+ * Runtime metrics of a resource method, installed by the {@link ResourceMethodMetricsFeature}. The counters and
+ * {@link LatencyHistogram}s are lock-free, recording a request costs a few {@link System#nanoTime()} calls and
+ * uncontended increments.
+ */
+public class ResourceMethodMetrics implements MethodStatisticsLogger
+{
+   /**
+    * Phases of the processing of a request, timed separately.
+    */
+   public enum Phase
+   {
+      /**
+       * Matching of the request to the method.
+       */
+      ROUTING,
+      /**
+       * Request filters bound to the method.
+       */
+      FILTERS,
+      /**
+       * Injection of the parameters, including the reading of the request body.
+       */
+      READING,
+      /**
+       * Method itself, up to the return of a CompletionStage for the asynchronous methods.
+       */
+      INVOCATION,
+      /**
+       * Writing of the response, from the response filters to the end of the body.
+       */
+      WRITING,
+      /**
+       * Filters, reading and invocation.
+       */
+      EXECUTION
+   }
+
+   private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+   private final LatencyHistogram routing;
+   private final LatencyHistogram filters;
+   private final LatencyHistogram reading;
+   private final LatencyHistogram invocation;
+   private final LatencyHistogram writing;
+   private final LatencyHistogram execution;
+   private final LongAdder failures = new LongAdder();
+   private final LongAdder inFlight = new LongAdder();
+   // by status class, from 1xx to 5xx
+   private final LongAdder[] responses = new LongAdder[5];
+
+   public ResourceMethodMetrics()
+   {
+      for (Phase phase : Phase.values())
+      {
+         histograms.put(phase, new LatencyHistogram());
+      }
+      routing = histograms.get(Phase.ROUTING);
+      filters = histograms.get(Phase.FILTERS);
+      reading = histograms.get(Phase.READING);
+      invocation = histograms.get(Phase.INVOCATION);
+      writing = histograms.get(Phase.WRITING);
+      execution = histograms.get(Phase.EXECUTION);
+      for (int i = 0; i < responses.length; i++)
+      {
+         responses[i] = new LongAdder();
+      }
+   }
+
+   @Override
+   public long timestamp()
+   {
+      return System.nanoTime();
+   }
+
+   @Override
+   public void duration(final long fromTimestamp)
+   {
+      execution.record(System.nanoTime() - fromTimestamp);
+   }
+
+   @Override
+   public void routingDuration(final long fromTimestamp)
+   {
+      routing.record(System.nanoTime() - fromTimestamp);
+   }
+
+   @Override
+   public void filtersDuration(final long fromTimestamp)
+   {
+      filters.record(System.nanoTime() - fromTimestamp);
+   }
+
+   @Override
+   public void readingDuration(final long fromTimestamp)
+   {
+      reading.record(System.nanoTime() - fromTimestamp);
+   }
+
+   @Override
+   public void invocationDuration(final long fromTimestamp)
+   {
+      invocation.record(System.nanoTime() - fromTimestamp);
+   }
+
+   @Override
+   public void writingDuration(final long fromTimestamp, final int status)
+   {
+      writing.record(System.nanoTime() - fromTimestamp);
+      int statusClass = status / 100;
+      if (statusClass >= 1 && statusClass <= responses.length)
+      {
+         responses[statusClass - 1].increment();
+      }
+   }
+
+   @Override
+   public void incFailureCnt()
+   {
+      failures.increment();
+   }
+
+   @Override
+   public void requestStarted()
+   {
+      inFlight.increment();
+   }
+
+   @Override
+   public void requestEnded()
+   {
+      inFlight.decrement();
+   }
+
+   @Override
+   public void reset()
+   {
+      for (LatencyHistogram histogram : histograms.values())
+      {
+         histogram.reset();
+      }
+      failures.reset();
+      for (LongAdder count : responses)
+      {
+         count.reset();
+      }
+   }
+
+   @Override
+   public long getInvocationCnt()
+   {
+      return execution.getCount();
+   }
+
+   @Override
+   public long getFailedInvocationCnt()
+   {
+      return failures.sum();
+   }
+
+   @Override
+   public long getAvgExecutionTime()
+   {
+      return execution.getMean();
+   }
+
+   @Override
+   public long getTotalExecutionTime()
+   {
+      return execution.getTotal();
+   }
+
+   public LatencyHistogram getHistogram(Phase phase)
+   {
+      return histograms.get(phase);
+   }
+
+   /**
+    * @return number of requests being processed by the method, not counting the asynchronous responses once the
+    * method returned
+    */
+   public long getInFlight()
+   {
+      return inFlight.sum();
+   }
+
+   /**
+    * @param statusClass class of the status, from 1 for 1xx to 5 for 5xx
+    * @return number of responses written with a status of the class
+    */
+   public long getResponses(int statusClass)
+   {
+      if (statusClass < 1 || statusClass > responses.length)
+      {
+         throw new IllegalArgumentException(String.valueOf(statusClass));
+      }
+      return responses[statusClass - 1].sum();
+   }
+
+   /**
+    * @return number of responses written with a 4xx or 5xx status
+    */
+   public long getErrors()
+   {
+      return getResponses(4) + getResponses(5);
+   }
+}
@@ -0,0 +1,72 @@
+package org.jboss.resteasy.plugins.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.core.FeatureContext;
+
+import org.jboss.resteasy.plugins.stats.i18n.LogMessages;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+import org.jboss.resteasy.spi.statistics.StatisticsController;
+
+/**
+ * Enables the statistics of the deployment and records them as {@link ResourceMethodMetrics}, which the
+ * {@link RegistryStatsResource} shows and the {@link MetricsExporter}s export.
+ */
+public class ResourceMethodMetricsFeature implements Feature
+{
+   private final List<MetricsExporter> exporters;
+
+   // applying the feature again would create new metrics and register every method with the exporters again
+   private StatisticsController configured;
+
+   /**
+    * Exports the metrics with the {@link MetricsExporter}s found by the {@link ServiceLoader}.
+    */
+   public ResourceMethodMetricsFeature()
+   {
+      exporters = new ArrayList<>();
+      for (MetricsExporter exporter : ServiceLoader.load(MetricsExporter.class))
+      {
+         exporters.add(exporter);
+      }
+   }
+
+   public ResourceMethodMetricsFeature(final MetricsExporter... exporters)
+   {
+      this.exporters = Arrays.asList(exporters);
+   }
+
+   @Override
+   public synchronized boolean configure(FeatureContext context)
+   {
+      if (!(context.getConfiguration() instanceof ResteasyProviderFactory))
+      {
+         return false;
+      }
+      StatisticsController controller = ((ResteasyProviderFactory) context.getConfiguration()).getStatisticsController();
+      if (controller == configured)
+      {
+         return true;
+      }
+      boolean supported = controller.setMethodStatisticsLoggerFactory(invoker -> {
+         ResourceMethodMetrics metrics = new ResourceMethodMetrics();
+         for (MetricsExporter exporter : exporters)
+         {
+            exporter.register(invoker, metrics);
+         }
+         return metrics;
+      });
+      if (!supported)
+      {
+         LogMessages.LOGGER.metricsNotSupported(controller.getClass().getName());
+         return false;
+      }
+      controller.setEnabled(true);
+      configured = controller;
+      return true;
+   }
+}
@@ -0,0 +1,19 @@
+package org.jboss.resteasy.plugins.stats.i18n;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "RESTEASY")
+public interface LogMessages extends BasicLogger
+{
+   LogMessages LOGGER = Logger.getMessageLogger(LogMessages.class, LogMessages.class.getPackage().getName());
+   int BASE = 23000;
+
+   @LogMessage(level = Level.WARN)
+   @Message(id = BASE, value = "Resource method metrics are not recorded, %s does not support them")
+   void metricsNotSupported(String statisticsController);
+}
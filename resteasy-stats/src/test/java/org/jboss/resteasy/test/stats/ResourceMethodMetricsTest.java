@@ -0,0 +1,188 @@
+package org.jboss.resteasy.test.stats;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.FeatureContext;
+
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.core.providerfactory.ResteasyProviderFactoryImpl;
+import org.jboss.resteasy.mock.MockDispatcherFactory;
+import org.jboss.resteasy.mock.MockHttpRequest;
+import org.jboss.resteasy.mock.MockHttpResponse;
+import org.jboss.resteasy.plugins.stats.LatencyHistogram;
+import org.jboss.resteasy.plugins.stats.ResourceMethodMetrics;
+import org.jboss.resteasy.plugins.stats.ResourceMethodMetricsFeature;
+import org.jboss.resteasy.spi.Dispatcher;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.spi.statistics.StatisticsController;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Metrics recorded by the {@link ResourceMethodMetricsFeature}.
+ */
+public class ResourceMethodMetricsTest
+{
+   @Path("/")
+   public static class Resource
+   {
+      @GET
+      @Path("/hello")
+      public String hello()
+      {
+         return "hello";
+      }
+
+      @POST
+      @Path("/echo")
+      public String echo(String body)
+      {
+         if (body.isEmpty())
+         {
+            throw new WebApplicationException(400);
+         }
+         return body;
+      }
+   }
+
+   @Test
+   public void testMetrics() throws Exception
+   {
+      List<ResourceMethodMetrics> exported = new ArrayList<>();
+      Dispatcher dispatcher = MockDispatcherFactory.createDispatcher();
+      dispatcher.getProviderFactory().register(new ResourceMethodMetricsFeature((invoker, metrics) -> exported.add(metrics)));
+      dispatcher.getRegistry().addPerRequestResource(Resource.class);
+      Assert.assertEquals(2, exported.size());
+
+      for (int i = 0; i < 3; i++)
+      {
+         MockHttpResponse response = new MockHttpResponse();
+         dispatcher.invoke(MockHttpRequest.get("/hello"), response);
+         Assert.assertEquals(200, response.getStatus());
+      }
+      MockHttpResponse response = new MockHttpResponse();
+      dispatcher.invoke(MockHttpRequest.post("/echo").content(new byte[0]), response);
+      Assert.assertEquals(400, response.getStatus());
+
+      ResourceMethodMetrics hello = metrics(dispatcher, "/hello");
+      Assert.assertEquals(3, hello.getInvocationCnt());
+      Assert.assertEquals(3, hello.getResponses(2));
+      Assert.assertEquals(0, hello.getErrors());
+      Assert.assertEquals(0, hello.getInFlight());
+      for (ResourceMethodMetrics.Phase phase : new ResourceMethodMetrics.Phase[] {ResourceMethodMetrics.Phase.ROUTING,
+            ResourceMethodMetrics.Phase.READING, ResourceMethodMetrics.Phase.INVOCATION, ResourceMethodMetrics.Phase.WRITING})
+      {
+         Assert.assertEquals(phase.name(), 3, hello.getHistogram(phase).getCount());
+      }
+
+      ResourceMethodMetrics echo = metrics(dispatcher, "/echo");
+      Assert.assertEquals(1, echo.getInvocationCnt());
+      Assert.assertEquals(1, echo.getFailedInvocationCnt());
+      Assert.assertEquals(1, echo.getResponses(4));
+      Assert.assertEquals(1, echo.getErrors());
+   }
+
+   @Test
+   public void testAppliedAgain()
+   {
+      List<ResourceMethodMetrics> exported = new ArrayList<>();
+      ResourceMethodMetricsFeature feature = new ResourceMethodMetricsFeature((invoker, metrics) -> exported.add(metrics));
+      Dispatcher dispatcher = MockDispatcherFactory.createDispatcher();
+      dispatcher.getRegistry().addPerRequestResource(Resource.class);
+      FeatureContext context = (FeatureContext) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {FeatureContext.class}, (proxy, method, args) -> {
+               Assert.assertEquals("getConfiguration", method.getName());
+               return dispatcher.getProviderFactory();
+            });
+      Assert.assertTrue(feature.configure(context));
+      Assert.assertEquals(2, exported.size());
+      Assert.assertTrue(feature.configure(context));
+      Assert.assertEquals(2, exported.size());
+   }
+
+   @Test
+   public void testRoutingMatchedAhead() throws Exception
+   {
+      Dispatcher dispatcher = MockDispatcherFactory.createDispatcher();
+      dispatcher.getProviderFactory().register(new ResourceMethodMetricsFeature());
+      dispatcher.getRegistry().addPerRequestResource(Resource.class);
+
+      MockHttpRequest request = MockHttpRequest.get("/hello");
+      Assert.assertNotNull(((SynchronousDispatcher) dispatcher).matchAhead(request));
+      dispatcher.invoke(request, new MockHttpResponse());
+      ResourceMethodMetrics hello = metrics(dispatcher, "/hello");
+      Assert.assertEquals(1, hello.getHistogram(ResourceMethodMetrics.Phase.ROUTING).getCount());
+      Assert.assertEquals(1, hello.getInvocationCnt());
+   }
+
+   @Test
+   public void testUnsupportedStatisticsController()
+   {
+      StatisticsController controller = new StatisticsController()
+      {
+         @Override
+         public void register(ResourceInvoker invoker)
+         {
+         }
+
+         @Override
+         public void setEnabled(boolean b)
+         {
+            Assert.fail("the statistics must not be enabled without the metrics");
+         }
+
+         @Override
+         public void reset()
+         {
+         }
+      };
+      ResteasyProviderFactoryImpl factory = new ResteasyProviderFactoryImpl()
+      {
+         @Override
+         public StatisticsController getStatisticsController()
+         {
+            return controller;
+         }
+      };
+      factory.register(new ResourceMethodMetricsFeature());
+      Assert.assertFalse(factory.isEnabled(ResourceMethodMetricsFeature.class));
+   }
+
+   @Test
+   public void testHistogram()
+   {
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (int i = 1; i <= 1000; i++)
+      {
+         histogram.record(i * 1000L);
+      }
+      Assert.assertEquals(1000, histogram.getCount());
+      Assert.assertEquals(500500, histogram.getMean());
+      Assert.assertEquals(1000000, histogram.getMax());
+      assertNear(500000, histogram.getValueAtPercentile(50));
+      assertNear(990000, histogram.getValueAtPercentile(99));
+      Assert.assertEquals(1000000, histogram.getValueAtPercentile(100));
+      histogram.reset();
+      Assert.assertEquals(0, histogram.getCount());
+      Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+   }
+
+   private static void assertNear(long expected, long actual)
+   {
+      Assert.assertTrue(expected + " ~ " + actual, actual >= expected && actual <= expected * 1.125);
+   }
+
+   private static ResourceMethodMetrics metrics(Dispatcher dispatcher, String path) throws Exception
+   {
+      MockHttpRequest request = MockHttpRequest.create(path.equals("/hello") ? "GET" : "POST", path);
+      ResourceMethodInvoker invoker = (ResourceMethodInvoker) dispatcher.getRegistry().getResourceInvoker(request);
+      return (ResourceMethodMetrics) invoker.getMethodStatisticsLogger();
+   }
+}
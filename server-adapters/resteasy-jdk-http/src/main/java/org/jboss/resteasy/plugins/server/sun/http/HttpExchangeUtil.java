@@ -3,6 +3,7 @@ package org.jboss.resteasy.plugins.server.sun.http;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpsServer;
 import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.core.LazyHeaders;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.util.CookieParser;
@@ -68,11 +69,10 @@ public class HttpExchangeUtil
    public static ResteasyHttpHeaders extractHttpHeaders(HttpExchange request)
    {
 
-      MultivaluedMap<String, String> requestHeaders = extractRequestHeaders(request);
-      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders);
+      // the cookies are parsed from the Cookie header when they are first accessed
+      MultivaluedMap<String, String> requestHeaders = new LazyHeaders(request.getRequestHeaders()::keySet, request.getRequestHeaders()::get);
+      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders, false);
 
-      Map<String, Cookie> cookies = extractCookies(requestHeaders);
-      headers.setCookies(cookies);
       // test parsing should throw an exception on error
       headers.testParsing();
       return headers;
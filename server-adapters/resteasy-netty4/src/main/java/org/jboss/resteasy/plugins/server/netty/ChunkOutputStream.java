@@ -1,17 +1,27 @@
 package org.jboss.resteasy.plugins.server.netty;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.jboss.resteasy.plugins.server.netty.i18n.Messages;
 import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.FileTransfer;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContentEncoder;
+import io.netty.handler.ssl.SslHandler;
 /**
  * Class to help application that are built to write to an
  * OutputStream to chunk the content
@@ -28,12 +38,19 @@ import io.netty.handler.codec.http.DefaultHttpContent;
  * ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT).addListener(ChannelFutureListener.CLOSE);
  * }
  * </pre>
+ * The chunks are written to buffers of the channel allocator, pooled and direct by default, which are handed over
+ * to the channel when flushed instead of being copied.
+ * <p>
+ * A file sent as the whole response body is written as a {@link DefaultFileRegion}, which the NIO and epoll
+ * transports send with {@code sendfile}, unless the pipeline encrypts or compresses the content.
+ *
  * @author tbussier
  *
  */
-public class ChunkOutputStream extends AsyncOutputStream {
+public class ChunkOutputStream extends AsyncOutputStream implements FileTransfer {
    private final Object writeLock = new Object();
-   private final ByteBuf buffer;
+   private final int chunkSize;
+   private ByteBuf buffer;
    private final ChannelHandlerContext ctx;
    private final NettyHttpResponse response;
 
@@ -42,17 +59,17 @@ public class ChunkOutputStream extends AsyncOutputStream {
       if (chunksize < 1) {
          throw new IllegalArgumentException(Messages.MESSAGES.chunkSizeMustBeAtLeastOne());
       }
-      this.buffer = Unpooled.buffer(0, chunksize);
+      this.chunkSize = chunksize;
       this.ctx = ctx;
    }
 
    @Override
    public void write(int b) throws IOException {
       synchronized (writeLock) {
-         if (buffer.maxWritableBytes() < 1) {
+         if (buffer().maxWritableBytes() < 1) {
             flush();
          }
-         buffer.writeByte(b);
+         buffer().writeByte(b);
       }
    }
 
@@ -60,7 +77,10 @@ public class ChunkOutputStream extends AsyncOutputStream {
    {
       if (response.isCommitted()) throw new IllegalStateException(Messages.MESSAGES.responseIsCommitted());
       synchronized (writeLock) {
-         buffer.clear();
+         if (buffer != null) {
+            buffer.release();
+            buffer = null;
+         }
       }
    }
 
@@ -82,7 +102,7 @@ public class ChunkOutputStream extends AsyncOutputStream {
       int spaceLeftInCurrentChunk;
       MultiPromise mp = new MultiPromise(ctx, promise);
       synchronized (writeLock) {
-         while ((spaceLeftInCurrentChunk = buffer.maxWritableBytes()) < dataLengthLeftToWrite) {
+         while ((spaceLeftInCurrentChunk = buffer().maxWritableBytes()) < dataLengthLeftToWrite) {
             buffer.writeBytes(b, dataToWriteOffset, spaceLeftInCurrentChunk);
             dataToWriteOffset = dataToWriteOffset + spaceLeftInCurrentChunk;
             dataLengthLeftToWrite = dataLengthLeftToWrite - spaceLeftInCurrentChunk;
@@ -103,18 +123,57 @@ public class ChunkOutputStream extends AsyncOutputStream {
 
    private void flush(ChannelPromise promise) throws IOException {
       synchronized (writeLock) {
-         int readable = buffer.readableBytes();
-         if (readable == 0) {
+         if (buffer == null || !buffer.isReadable()) {
+            if (buffer != null) {
+               buffer.release();
+               buffer = null;
+            }
             promise.setSuccess();
             return;
          }
          if (!response.isCommitted()) response.prepareChunkStream();
-         ctx.writeAndFlush(new DefaultHttpContent(buffer.copy()), promise);
-         buffer.clear();
+         ctx.writeAndFlush(new DefaultHttpContent(buffer), promise);
+         buffer = null;
       }
       super.flush();
    }
 
+   @Override
+   public CompletionStage<Void> transferFile(Path file, long position, long count) throws IOException {
+      if (!isFileRegionSupported() || file.getFileSystem() != FileSystems.getDefault()) {
+         return null;
+      }
+      CompletableFuture<Void> ret = new CompletableFuture<>();
+      synchronized (writeLock) {
+         if (response.isCommitted() || (buffer != null && buffer.isReadable())) {
+            return null;
+         }
+         FileChannel channel = FileChannel.open(file);
+         response.prepareFileRegion(count);
+         ctx.writeAndFlush(new DefaultFileRegion(channel, position, count)).addListener(v -> {
+            if(v.isSuccess())
+               ret.complete(null);
+            else
+               ret.completeExceptionally(v.cause());
+         });
+      }
+      return ret;
+   }
+
+   private boolean isFileRegionSupported() {
+      Channel channel = ctx.channel();
+      ChannelPipeline pipeline = channel.pipeline();
+      return (channel instanceof NioSocketChannel || channel instanceof EpollSocketChannel)
+            && pipeline.get(SslHandler.class) == null && pipeline.get(HttpContentEncoder.class) == null;
+   }
+
+   private ByteBuf buffer() {
+      if (buffer == null) {
+         buffer = ctx.alloc().ioBuffer(chunkSize, chunkSize);
+      }
+      return buffer;
+   }
+
    @Override
    public CompletionStage<Void> asyncFlush()
    {
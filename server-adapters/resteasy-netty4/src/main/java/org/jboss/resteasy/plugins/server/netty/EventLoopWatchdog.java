@@ -0,0 +1,105 @@
+package org.jboss.resteasy.plugins.server.netty;
+
+import io.netty.util.concurrent.FastThreadLocal;
+import org.jboss.resteasy.plugins.server.netty.i18n.LogMessages;
+import org.jboss.resteasy.plugins.server.netty.i18n.Messages;
+import org.jboss.resteasy.spi.HttpRequest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warns, with the stack trace of the event loop, when a request dispatched on an event loop blocks it for longer than
+ * a given time, as the blocked thread checker of Vert.x does. Each dispatch is only warned about once.
+ *
+ * @see InlineRequestHandler
+ */
+final class EventLoopWatchdog implements Runnable
+{
+   /**
+    * Dispatch running on an event loop, one per event loop thread.
+    */
+   private static final class Dispatch
+   {
+      final Thread thread = Thread.currentThread();
+      volatile long start;
+      volatile HttpRequest request;
+      // start of the last dispatch warned about, only accessed by the watchdog
+      long warned;
+   }
+
+   private final long warningTime;
+   private final Queue<Dispatch> dispatches = new ConcurrentLinkedQueue<>();
+   private final FastThreadLocal<Dispatch> dispatch = new FastThreadLocal<Dispatch>()
+   {
+      @Override
+      protected Dispatch initialValue()
+      {
+         Dispatch dispatch = new Dispatch();
+         dispatches.add(dispatch);
+         return dispatch;
+      }
+   };
+   private final ScheduledExecutorService executor;
+
+   /**
+    * @param warningTime time in milliseconds an event loop may be blocked without warning
+    */
+   EventLoopWatchdog(final long warningTime)
+   {
+      this.warningTime = TimeUnit.MILLISECONDS.toNanos(warningTime);
+      executor = Executors.newSingleThreadScheduledExecutor(r -> {
+         Thread thread = new Thread(r, "resteasy-netty-event-loop-watchdog");
+         thread.setDaemon(true);
+         return thread;
+      });
+      long period = Math.max(warningTime / 2, 10);
+      executor.scheduleAtFixedRate(this, period, period, TimeUnit.MILLISECONDS);
+   }
+
+   void enter(HttpRequest request)
+   {
+      Dispatch current = dispatch.get();
+      current.request = request;
+      current.start = System.nanoTime();
+   }
+
+   void exit()
+   {
+      Dispatch current = dispatch.get();
+      current.start = 0;
+      current.request = null;
+   }
+
+   void stop()
+   {
+      executor.shutdownNow();
+   }
+
+   @Override
+   public void run()
+   {
+      long now = System.nanoTime();
+      for (Dispatch dispatch : dispatches)
+      {
+         long start = dispatch.start;
+         if (start == 0 || start == dispatch.warned || now - start < warningTime)
+         {
+            continue;
+         }
+         HttpRequest request = dispatch.request;
+         if (request == null)
+         {
+            continue;
+         }
+         dispatch.warned = start;
+         Exception blocked = new Exception(dispatch.thread.getName());
+         blocked.setStackTrace(dispatch.thread.getStackTrace());
+         LogMessages.LOGGER.warn(Messages.MESSAGES.eventLoopBlocked(dispatch.thread.getName(),
+               TimeUnit.NANOSECONDS.toMillis(now - start), request.getHttpMethod(), request.getUri().getPath()), blocked);
+      }
+   }
+}
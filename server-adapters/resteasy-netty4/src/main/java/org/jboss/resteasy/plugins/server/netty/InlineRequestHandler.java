@@ -0,0 +1,56 @@
+package org.jboss.resteasy.plugins.server.netty;
+
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import org.jboss.resteasy.plugins.server.InlineDispatch;
+
+/**
+ * {@link RequestHandler} of the event loop, which dispatches the requests that {@link InlineDispatch} tells to
+ * dispatch on the event loop, and passes the other ones on to the {@link RequestHandler} of the executor group.
+ * The requests with a streamed body are always passed on, as reading their body would block the event loop.
+ *
+ * This class is {@link Sharable}.
+ */
+@Sharable
+public class InlineRequestHandler extends RequestHandler
+{
+   private final InlineDispatch inlineDispatch;
+   private final EventLoopWatchdog watchdog;
+
+   InlineRequestHandler(final RequestDispatcher dispatcher, final InlineDispatch inlineDispatch, final EventLoopWatchdog watchdog)
+   {
+      super(dispatcher);
+      this.inlineDispatch = inlineDispatch;
+      this.watchdog = watchdog;
+   }
+
+   @Override
+   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception
+   {
+      if (!(msg instanceof NettyHttpRequest))
+      {
+         ctx.fireChannelRead(msg);
+         return;
+      }
+      NettyHttpRequest request = (NettyHttpRequest) msg;
+      if (request.hasContentStream() || !inlineDispatch.isInline(dispatcher.getDispatcher(), request))
+      {
+         ctx.fireChannelRead(msg);
+         return;
+      }
+      if (watchdog == null)
+      {
+         super.channelRead(ctx, msg);
+         return;
+      }
+      watchdog.enter(request);
+      try
+      {
+         super.channelRead(ctx, msg);
+      }
+      finally
+      {
+         watchdog.exit();
+      }
+   }
+}
@@ -61,6 +61,7 @@ public class NettyHttpRequest extends BaseHttpRequest
    private final ChannelHandlerContext ctx;
    private volatile boolean flushed;
    private ByteBuf content;
+   private RequestBodyInputStream contentStream;
 
    public NettyHttpRequest(final ChannelHandlerContext ctx, final ResteasyHttpHeaders httpHeaders, final ResteasyUriInfo uri, final String httpMethod, final SynchronousDispatcher dispatcher, final NettyHttpResponse response, final boolean is100ContinueExpected)
    {
@@ -177,9 +178,30 @@ public class NettyHttpRequest extends BaseHttpRequest
       this.inputStream = new ByteBufInputStream(content);
    }
 
-   public void releaseContentBuffer() {
+   void setContentStream(RequestBodyInputStream contentStream) {
+      this.contentStream = contentStream;
+      this.inputStream = contentStream;
+   }
+
+   /**
+    * @return true if the body of the request is streamed, i.e. read while it is received
+    */
+   boolean hasContentStream() {
+      return contentStream != null;
+   }
+
+   /**
+    * Releases the body of the request, once the request is processed or, if it was suspended, once the response is
+    * sent. Releasing it again does nothing.
+    */
+   public synchronized void releaseContentBuffer() {
+      if (contentStream != null) {
+         contentStream.close();
+         contentStream = null;
+      }
       if (content != null) {
          this.content.release();
+         content = null;
       }
    }
 
@@ -225,6 +247,7 @@ public class NettyHttpRequest extends BaseHttpRequest
          {
             throw new IllegalStateException(Messages.MESSAGES.alreadySuspended());
          }
+         loadHeaders();
          wasSuspended = true;
          return asyncResponse;
       }
@@ -376,6 +399,10 @@ public class NettyHttpRequest extends BaseHttpRequest
             {
                throw new RuntimeException(e);
             }
+            finally
+            {
+               releaseContentBuffer();
+            }
          }
 
          @Override
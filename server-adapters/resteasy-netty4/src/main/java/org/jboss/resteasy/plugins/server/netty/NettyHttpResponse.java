@@ -193,6 +193,16 @@ public class NettyHttpResponse implements HttpResponse
       ctx.write(response);
    }
 
+   /**
+    * Commits the response with a body of the given length, which is written as a {@link io.netty.channel.FileRegion}.
+    */
+   void prepareFileRegion(long contentLength) {
+      committed = true;
+      DefaultHttpResponse response = getDefaultHttpResponse();
+      HttpUtil.setContentLength(response, contentLength);
+      ctx.write(response);
+   }
+
    public void finish() throws IOException {
       if (os != null)
          os.flush();
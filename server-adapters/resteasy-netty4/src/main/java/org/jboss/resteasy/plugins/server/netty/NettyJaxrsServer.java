@@ -9,7 +9,6 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
@@ -20,6 +19,9 @@ import io.netty.util.concurrent.EventExecutor;
 import jakarta.ws.rs.SeBootstrap.Configuration;
 import org.jboss.resteasy.core.ResteasyDeploymentImpl;
 import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.plugins.server.netty.i18n.LogMessages;
+import org.jboss.resteasy.plugins.server.netty.i18n.Messages;
+import org.jboss.resteasy.plugins.server.InlineDispatch;
 import org.jboss.resteasy.plugins.server.embedded.EmbeddedJaxrsServer;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
 import org.jboss.resteasy.spi.ResteasyDeployment;
@@ -63,6 +65,11 @@ public class NettyJaxrsServer implements EmbeddedJaxrsServer<NettyJaxrsServer>
    private int maxInitialLineLength = 4096;
    private int maxHeaderSize = 8192;
    private int maxChunkSize = 8192;
+   private boolean streamingRequestBody;
+   private NettyTransport transport = NettyTransport.NIO;
+   private InlineDispatch inlineDispatch = InlineDispatch.NONE;
+   private long blockedEventLoopWarningTime = 2000;
+   private EventLoopWatchdog watchdog;
    private int backlog = 128;
    // default no idle timeout.
    private int idleTimeout = -1;
@@ -98,8 +105,15 @@ public class NettyJaxrsServer implements EmbeddedJaxrsServer<NettyJaxrsServer>
       String contextPath = configuration.rootPath();
       serverHelper.checkDeployment(deployment);
 
-      eventLoopGroup = new NioEventLoopGroup(ioWorkerCount);
+      NettyTransport resolvedTransport = transport.resolve();
+      if (resolvedTransport != transport && transport != NettyTransport.AUTO) {
+         LogMessages.LOGGER.warn(Messages.MESSAGES.transportNotAvailable(transport, resolvedTransport));
+      }
+      eventLoopGroup = resolvedTransport.newEventLoopGroup(ioWorkerCount);
       eventExecutor = new NioEventLoopGroup(executorThreadCount);
+      if (inlineDispatch != InlineDispatch.NONE && blockedEventLoopWarningTime > 0) {
+         watchdog = new EventLoopWatchdog(blockedEventLoopWarningTime);
+      }
 
       // dynamically set the root path (the user can rewrite it by calling setRootResourcePath)
       String appPath = serverHelper.checkAppDeployment(deployment);
@@ -112,7 +126,7 @@ public class NettyJaxrsServer implements EmbeddedJaxrsServer<NettyJaxrsServer>
 
       // Configure the server.
       bootstrap.group(eventLoopGroup)
-         .channel(NioServerSocketChannel.class)
+         .channel(resolvedTransport.serverChannelClass())
          .childHandler(createChannelInitializer(configuration, contextPath))
          .option(ChannelOption.SO_BACKLOG, backlog)
          .childOption(ChannelOption.SO_KEEPALIVE, true);
@@ -142,6 +156,10 @@ public class NettyJaxrsServer implements EmbeddedJaxrsServer<NettyJaxrsServer>
       runtimePort = -1;
       eventLoopGroup.shutdownGracefully();
       eventExecutor.shutdownGracefully();
+      if (watchdog != null) {
+         watchdog.stop();
+         watchdog = null;
+      }
 
       if (deployment != null) {
          deployment.stop();
@@ -257,6 +275,73 @@ public class NettyJaxrsServer implements EmbeddedJaxrsServer<NettyJaxrsServer>
       return this;
    }
 
+   /**
+    * Stream the request bodies instead of aggregating them in memory before dispatching the requests.
+    * <p>
+    * The requests are then dispatched as soon as their headers are received and their entity is read while it is
+    * received, reading from the connection being suspended while the resource does not keep up, so that uploads of
+    * any size use a bounded amount of memory. The max request size remains a limit of the request bodies. The
+    * handlers added with {@link #setHttpChannelHandlers(List)} then receive the requests without their content.
+    *
+    * @param streamingRequestBody true to stream the request bodies, false by default
+    */
+   public NettyJaxrsServer setStreamingRequestBody(boolean streamingRequestBody) {
+      this.streamingRequestBody = streamingRequestBody;
+      return this;
+   }
+
+   public boolean isStreamingRequestBody() {
+      return streamingRequestBody;
+   }
+
+   /**
+    * Set the transport of the connections: NIO by default, the native epoll or io_uring transports of Linux, or the
+    * best one available. A transport which is not available falls back to the next one available, see
+    * {@link NettyTransport}.
+    *
+    * @param transport the transport
+    */
+   public NettyJaxrsServer setTransport(NettyTransport transport) {
+      this.transport = transport;
+      return this;
+   }
+
+   public NettyTransport getTransport() {
+      return transport;
+   }
+
+   /**
+    * Set which requests are dispatched directly on the I/O event loop which received them, saving the hand-off to
+    * the executor threads: none by default, the ones of the resource methods annotated with
+    * {@link org.jboss.resteasy.annotations.NonBlocking}, also the ones of the methods returning an asynchronous type,
+    * or all of them. See {@link InlineDispatch}.
+    *
+    * @param inlineDispatch the requests dispatched on the event loop
+    */
+   public NettyJaxrsServer setInlineDispatch(InlineDispatch inlineDispatch) {
+      this.inlineDispatch = inlineDispatch;
+      return this;
+   }
+
+   public InlineDispatch getInlineDispatch() {
+      return inlineDispatch;
+   }
+
+   /**
+    * Set the time a request dispatched on an event loop may block it before a warning, with the stack trace of the
+    * event loop, is logged. See {@link #setInlineDispatch(InlineDispatch)}.
+    *
+    * @param blockedEventLoopWarningTime time in milliseconds, 2000 by default, 0 to disable the warnings
+    */
+   public NettyJaxrsServer setBlockedEventLoopWarningTime(long blockedEventLoopWarningTime) {
+      this.blockedEventLoopWarningTime = blockedEventLoopWarningTime;
+      return this;
+   }
+
+   public long getBlockedEventLoopWarningTime() {
+      return blockedEventLoopWarningTime;
+   }
+
    public NettyJaxrsServer setMaxInitialLineLength(int maxInitialLineLength) {
       this.maxInitialLineLength = maxInitialLineLength;
       return this;
@@ -395,10 +480,17 @@ public class NettyJaxrsServer implements EmbeddedJaxrsServer<NettyJaxrsServer>
       }
       channelPipeline.addLast(new HttpRequestDecoder(maxInitialLineLength, maxHeaderSize, maxChunkSize));
       channelPipeline.addLast(new HttpResponseEncoder());
-      channelPipeline.addLast(new HttpObjectAggregator(maxRequestSize));
+      if (streamingRequestBody) {
+         channelPipeline.addLast(new RequestBodyStreamHandler(maxRequestSize));
+      } else {
+         channelPipeline.addLast(new HttpObjectAggregator(maxRequestSize));
+      }
       channelPipeline.addLast(httpChannelHandlers.toArray(new ChannelHandler[httpChannelHandlers.size()]));
       channelPipeline.addLast(new RestEasyHttpRequestDecoder(dispatcher.getDispatcher(), contextPath, protocol));
       channelPipeline.addLast(new RestEasyHttpResponseEncoder());
+      if (inlineDispatch != InlineDispatch.NONE) {
+         channelPipeline.addLast(new InlineRequestHandler(dispatcher, inlineDispatch, watchdog));
+      }
       channelPipeline.addLast(eventExecutor, new RequestHandler(dispatcher));
    }
 
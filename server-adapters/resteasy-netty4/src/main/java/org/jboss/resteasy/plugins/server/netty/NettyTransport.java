@@ -0,0 +1,135 @@
+package org.jboss.resteasy.plugins.server.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * Transport of the channels accepted by {@link NettyJaxrsServer}.
+ * <p>
+ * The native transports are only available on Linux: epoll with the native library shipped with Netty, io_uring
+ * (kernel 5.9+) when the netty-incubator-transport-native-io_uring artifact is on the class path. A transport which
+ * is not available falls back to the next one in the order io_uring, epoll, NIO.
+ */
+public enum NettyTransport
+{
+   /**
+    * The best transport available.
+    */
+   AUTO,
+   IO_URING,
+   EPOLL,
+   NIO;
+
+   private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+   /**
+    * @return the transport used when this one is requested
+    */
+   public NettyTransport resolve()
+   {
+      switch (this)
+      {
+         case AUTO:
+         case IO_URING:
+            if (IoUring.AVAILABLE)
+            {
+               return IO_URING;
+            }
+            // fall through
+         case EPOLL:
+            if (Epoll.isAvailable())
+            {
+               return EPOLL;
+            }
+            // fall through
+         default:
+            return NIO;
+      }
+   }
+
+   /**
+    * @param threads number of threads, 0 for the Netty default
+    * @return a new event loop group of this transport, which must have been {@link #resolve() resolved}
+    */
+   EventLoopGroup newEventLoopGroup(int threads)
+   {
+      switch (this)
+      {
+         case IO_URING:
+            return IoUring.newInstance("IOUringEventLoopGroup", threads);
+         case EPOLL:
+            return new EpollEventLoopGroup(threads);
+         case NIO:
+            return new NioEventLoopGroup(threads);
+         default:
+            throw new IllegalStateException(name());
+      }
+   }
+
+   /**
+    * @return the server channel class of this transport, which must have been {@link #resolve() resolved}
+    */
+   Class<? extends ServerChannel> serverChannelClass()
+   {
+      switch (this)
+      {
+         case IO_URING:
+            return IoUring.loadClass("IOUringServerSocketChannel").asSubclass(ServerChannel.class);
+         case EPOLL:
+            return EpollServerSocketChannel.class;
+         case NIO:
+            return NioServerSocketChannel.class;
+         default:
+            throw new IllegalStateException(name());
+      }
+   }
+
+   /**
+    * The io_uring transport, looked up reflectively as it is an optional dependency.
+    */
+   private static final class IoUring
+   {
+      static final boolean AVAILABLE = isAvailable();
+
+      private static boolean isAvailable()
+      {
+         try
+         {
+            return (Boolean) loadClass("IOUring").getMethod("isAvailable").invoke(null);
+         }
+         catch (RuntimeException | LinkageError | ReflectiveOperationException e)
+         {
+            return false;
+         }
+      }
+
+      static Class<?> loadClass(String name)
+      {
+         try
+         {
+            return Class.forName(IO_URING_PACKAGE + name, true, NettyTransport.class.getClassLoader());
+         }
+         catch (ClassNotFoundException e)
+         {
+            throw new IllegalStateException(e);
+         }
+      }
+
+      static EventLoopGroup newInstance(String name, int threads)
+      {
+         try
+         {
+            return (EventLoopGroup) loadClass(name).getConstructor(int.class).newInstance(threads);
+         }
+         catch (ReflectiveOperationException e)
+         {
+            throw new IllegalStateException(e);
+         }
+      }
+   }
+}
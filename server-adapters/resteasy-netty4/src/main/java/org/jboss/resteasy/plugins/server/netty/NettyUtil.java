@@ -4,6 +4,7 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.util.concurrent.FastThreadLocalThread;
 
 import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.core.LazyHeaders;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.util.CookieParser;
@@ -47,12 +48,10 @@ public class NettyUtil
    public static ResteasyHttpHeaders extractHttpHeaders(HttpRequest request)
    {
 
-      MultivaluedMap<String, String> requestHeaders = extractRequestHeaders(request);
-      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders);
-
-      Map<String, Cookie> cookies = extractCookies(requestHeaders);
-      headers.setCookies(cookies);
-      return headers;
+      // the cookies are parsed from the Cookie header when they are first accessed
+      MultivaluedMap<String, String> requestHeaders = new LazyHeaders(request.headers()::names,
+            request.headers()::getAll);
+      return new ResteasyHttpHeaders(requestHeaders, false);
 
    }
 
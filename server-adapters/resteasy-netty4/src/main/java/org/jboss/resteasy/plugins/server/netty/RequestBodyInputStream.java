@@ -0,0 +1,199 @@
+package org.jboss.resteasy.plugins.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+
+/**
+ * Body of a request, fed with the content chunks received by the event loop and read by the thread dispatching the
+ * request.  Reading from the channel is suspended while more than {@link #HIGH_WATER_MARK} bytes are waiting to be
+ * read, and resumed once they are down to {@link #LOW_WATER_MARK}, so that a request body only ever occupies a
+ * bounded amount of memory.
+ *
+ * @see RequestBodyStreamHandler
+ */
+public class RequestBodyInputStream extends InputStream
+{
+   static final int HIGH_WATER_MARK = 64 * 1024;
+   static final int LOW_WATER_MARK = 16 * 1024;
+
+   private final Channel channel;
+   private final long maxRequestSize;
+   private final ArrayDeque<ByteBuf> buffers = new ArrayDeque<>();
+   private int buffered;
+   private long received;
+   private boolean complete;
+   private boolean closed;
+   private boolean paused;
+   private Throwable failure;
+
+   public RequestBodyInputStream(final Channel channel, final long maxRequestSize)
+   {
+      this.channel = channel;
+      this.maxRequestSize = maxRequestSize;
+   }
+
+   /**
+    * @param buf content chunk, released by the stream
+    */
+   synchronized void offer(ByteBuf buf)
+   {
+      if (closed || failure != null)
+      {
+         buf.release();
+         return;
+      }
+      received += buf.readableBytes();
+      if (received > maxRequestSize)
+      {
+         buf.release();
+         fail(new ClientErrorException(Response.Status.REQUEST_ENTITY_TOO_LARGE));
+         return;
+      }
+      if (!buf.isReadable())
+      {
+         buf.release();
+         return;
+      }
+      buffers.add(buf);
+      buffered += buf.readableBytes();
+      if (buffered > HIGH_WATER_MARK && !paused)
+      {
+         paused = true;
+         channel.config().setAutoRead(false);
+      }
+      notifyAll();
+   }
+
+   synchronized void end()
+   {
+      complete = true;
+      notifyAll();
+   }
+
+   synchronized void fail(Throwable cause)
+   {
+      if (failure == null)
+      {
+         failure = cause;
+      }
+      release();
+      notifyAll();
+   }
+
+   @Override
+   public synchronized int read() throws IOException
+   {
+      ByteBuf buf = next();
+      if (buf == null)
+      {
+         return -1;
+      }
+      int b = buf.readUnsignedByte();
+      consumed(buf, 1);
+      return b;
+   }
+
+   @Override
+   public synchronized int read(byte[] b, int off, int len) throws IOException
+   {
+      if (len == 0)
+      {
+         return 0;
+      }
+      ByteBuf buf = next();
+      if (buf == null)
+      {
+         return -1;
+      }
+      int n = Math.min(len, buf.readableBytes());
+      buf.readBytes(b, off, n);
+      consumed(buf, n);
+      return n;
+   }
+
+   @Override
+   public synchronized int available()
+   {
+      return buffered;
+   }
+
+   /**
+    * Releases the chunks not read yet, the chunks still to be received are discarded.
+    */
+   @Override
+   public synchronized void close()
+   {
+      closed = true;
+      release();
+      notifyAll();
+   }
+
+   private ByteBuf next() throws IOException
+   {
+      while (buffers.isEmpty())
+      {
+         if (failure != null)
+         {
+            if (failure instanceof RuntimeException)
+            {
+               throw (RuntimeException) failure;
+            }
+            throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+         }
+         if (complete || closed)
+         {
+            return null;
+         }
+         try
+         {
+            wait();
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+         }
+      }
+      return buffers.peek();
+   }
+
+   private void consumed(ByteBuf buf, int n)
+   {
+      buffered -= n;
+      if (!buf.isReadable())
+      {
+         buffers.poll().release();
+      }
+      if (paused && buffered <= LOW_WATER_MARK)
+      {
+         resume();
+      }
+   }
+
+   private void release()
+   {
+      ByteBuf buf;
+      while ((buf = buffers.poll()) != null)
+      {
+         buf.release();
+      }
+      buffered = 0;
+      if (paused)
+      {
+         resume();
+      }
+   }
+
+   private void resume()
+   {
+      paused = false;
+      channel.config().setAutoRead(true);
+   }
+}
@@ -0,0 +1,125 @@
+package org.jboss.resteasy.plugins.server.netty;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
+import org.jboss.resteasy.plugins.server.netty.i18n.Messages;
+
+import java.io.IOException;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.CONTINUE;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+
+/**
+ * Replaces the {@link io.netty.handler.codec.http.HttpObjectAggregator} when the request bodies are streamed: the
+ * request is passed on as soon as its headers are received, and its content chunks are fed to a
+ * {@link RequestBodyInputStream} that {@link RestEasyHttpRequestDecoder} sets as the input stream of the request.
+ * <p>
+ * The max request size is a limit and not a buffer size: a request whose Content-Length exceeds it is answered
+ * with "413 Request Entity Too Large" before being dispatched, and reading a chunked body fails once it exceeds it.
+ * Requests expecting "100 Continue" are answered as by the aggregator.
+ * <p>
+ * This handler holds the state of the request being received and so is not sharable.
+ */
+public class RequestBodyStreamHandler extends ChannelInboundHandlerAdapter
+{
+   static final AttributeKey<RequestBodyInputStream> REQUEST_BODY = AttributeKey.valueOf(RequestBodyStreamHandler.class, "REQUEST_BODY");
+
+   private final long maxRequestSize;
+   private RequestBodyInputStream body;
+   private boolean discarding;
+
+   public RequestBodyStreamHandler(final long maxRequestSize)
+   {
+      this.maxRequestSize = maxRequestSize;
+   }
+
+   @Override
+   public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception
+   {
+      if (msg instanceof HttpRequest && !(msg instanceof FullHttpRequest))
+      {
+         HttpRequest request = (HttpRequest) msg;
+         body = null;
+         discarding = false;
+         boolean expectContinue = HttpUtil.is100ContinueExpected(request);
+         if (HttpUtil.getContentLength(request, -1L) > maxRequestSize)
+         {
+            // as HttpObjectAggregator, the body is discarded if the connection is kept alive
+            discarding = true;
+            ReferenceCountUtil.release(msg);
+            FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, REQUEST_ENTITY_TOO_LARGE);
+            response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+            if (!expectContinue && !HttpUtil.isKeepAlive(request))
+            {
+               ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+            }
+            else
+            {
+               ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+            }
+            return;
+         }
+         if (expectContinue)
+         {
+            ctx.writeAndFlush(new DefaultFullHttpResponse(HTTP_1_1, CONTINUE)).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+            request.headers().remove(HttpHeaderNames.EXPECT);
+         }
+         if (HttpUtil.isContentLengthSet(request)
+               ? HttpUtil.getContentLength(request, 0L) > 0
+               : HttpUtil.isTransferEncodingChunked(request))
+         {
+            body = new RequestBodyInputStream(ctx.channel(), maxRequestSize);
+            ctx.channel().attr(REQUEST_BODY).set(body);
+         }
+         ctx.fireChannelRead(msg);
+      }
+      else if (msg instanceof HttpContent && !(msg instanceof FullHttpRequest))
+      {
+         HttpContent content = (HttpContent) msg;
+         if (body != null && !discarding)
+         {
+            body.offer(content.content());
+         }
+         else
+         {
+            content.release();
+         }
+         if (msg instanceof LastHttpContent)
+         {
+            if (body != null)
+            {
+               body.end();
+            }
+            body = null;
+            discarding = false;
+         }
+      }
+      else
+      {
+         ctx.fireChannelRead(msg);
+      }
+   }
+
+   @Override
+   public void channelInactive(ChannelHandlerContext ctx) throws Exception
+   {
+      if (body != null)
+      {
+         body.fail(new IOException(Messages.MESSAGES.connectionClosedBeforeRequestBody()));
+         body = null;
+      }
+      super.channelInactive(ctx);
+   }
+}
@@ -62,7 +62,10 @@ public class RequestHandler extends SimpleChannelInboundHandler
                response.finish();
             }
          } finally {
-            request.releaseContentBuffer();
+            // the body of a suspended request may still be read, e.g. by the invocation executor of the dispatcher
+            if (!request.getAsyncContext().isSuspended()) {
+               request.releaseContentBuffer();
+            }
          }
 
       }
@@ -57,10 +57,17 @@ public class RestEasyHttpRequestDecoder extends MessageToMessageDecoder<io.netty
    {
       boolean keepAlive = HttpUtil.isKeepAlive(request);
       final NettyHttpResponse response = new NettyHttpResponse(ctx, keepAlive, dispatcher.getProviderFactory(), request.method());
+      // streamed body, see RequestBodyStreamHandler
+      final RequestBodyInputStream body = ctx.channel().hasAttr(RequestBodyStreamHandler.REQUEST_BODY)
+            ? ctx.channel().attr(RequestBodyStreamHandler.REQUEST_BODY).getAndSet(null) : null;
 
       DecoderResult decoderResult = request.decoderResult();
       if (decoderResult.isFailure())
       {
+         if (body != null)
+         {
+            body.close();
+         }
          Throwable t = decoderResult.cause();
          if (t != null && t.getLocalizedMessage() != null)
          {
@@ -94,9 +101,21 @@ public class RestEasyHttpRequestDecoder extends MessageToMessageDecoder<io.netty
 
             out.add(nettyRequest);
          }
+         else
+         {
+            if (body != null)
+            {
+               nettyRequest.setContentStream(body);
+            }
+            out.add(nettyRequest);
+         }
       }
       catch (Exception e)
       {
+         if (body != null)
+         {
+            body.close();
+         }
          response.sendError(400);
          // made it warn so that people can filter this.
          LogMessages.LOGGER.warn(Messages.MESSAGES.failedToParseRequest(), e);
@@ -2,6 +2,7 @@ package org.jboss.resteasy.plugins.server.netty.i18n;
 
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageBundle;
+import org.jboss.resteasy.plugins.server.netty.NettyTransport;
 
 /**
  *
@@ -36,4 +37,13 @@ public interface Messages
 
    @Message(id = BASE + 25, value = "Unexpected")
    String unexpected();
+
+   @Message(id = BASE + 30, value = "Connection closed before the request body was received")
+   String connectionClosedBeforeRequestBody();
+
+   @Message(id = BASE + 35, value = "The %s transport is not available, using %s")
+   String transportNotAvailable(NettyTransport requested, NettyTransport used);
+
+   @Message(id = BASE + 40, value = "Event loop %s blocked for %d ms by %s %s")
+   String eventLoopBlocked(String thread, long millis, String method, String path);
 }
@@ -0,0 +1,118 @@
+package org.jboss.resteasy.test;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.plugins.server.netty.NettyJaxrsServer;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.util.PortProvider;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Files sent as {@link io.netty.channel.FileRegion}s, which are not chunked.
+ */
+public class FileTransferTest
+{
+   private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+   private static NettyJaxrsServer server;
+   private static Client client;
+   private static File file;
+
+   @Path("/")
+   @Produces("text/plain")
+   public static class Resource
+   {
+      @GET
+      @Path("/file")
+      public File file()
+      {
+         return file;
+      }
+
+      @GET
+      @Path("/path")
+      public java.nio.file.Path path()
+      {
+         return file.toPath();
+      }
+   }
+
+   @BeforeClass
+   public static void start() throws IOException
+   {
+      file = File.createTempFile("resteasy-file-transfer", ".txt");
+      Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.US_ASCII));
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      server = new NettyJaxrsServer();
+      server.setDeployment(deployment);
+      server.setPort(PortProvider.getPort());
+      server.setRootResourcePath("");
+      server.start();
+      deployment.getRegistry().addPerRequestResource(Resource.class);
+      client = ClientBuilder.newClient();
+   }
+
+   @AfterClass
+   public static void stop()
+   {
+      client.close();
+      server.stop();
+      file.delete();
+   }
+
+   @Test
+   public void testFile()
+   {
+      try (Response response = client.target(generateURL("/file")).request().get())
+      {
+         Assert.assertEquals(200, response.getStatus());
+         Assert.assertEquals(CONTENT.length(), response.getLength());
+         Assert.assertNull(response.getHeaderString("Transfer-Encoding"));
+         Assert.assertEquals(CONTENT, response.readEntity(String.class));
+      }
+   }
+
+   @Test
+   public void testPath()
+   {
+      try (Response response = client.target(generateURL("/path")).request().get())
+      {
+         Assert.assertEquals(200, response.getStatus());
+         Assert.assertEquals(CONTENT.length(), response.getLength());
+         Assert.assertEquals(CONTENT, response.readEntity(String.class));
+      }
+   }
+
+   @Test
+   public void testRange()
+   {
+      try (Response response = client.target(generateURL("/file")).request().header("Range", "bytes=10-15").get())
+      {
+         Assert.assertEquals(206, response.getStatus());
+         Assert.assertEquals("bytes 10-15/" + CONTENT.length(), response.getHeaderString("Content-Range"));
+         Assert.assertEquals(6, response.getLength());
+         Assert.assertEquals("abcdef", response.readEntity(String.class));
+      }
+      try (Response response = client.target(generateURL("/path")).request().header("Range", "bytes=-4").get())
+      {
+         Assert.assertEquals(206, response.getStatus());
+         Assert.assertEquals("wxyz", response.readEntity(String.class));
+      }
+   }
+}
@@ -0,0 +1,117 @@
+package org.jboss.resteasy.test;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.netty.channel.ChannelHandlerContext;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Context;
+
+import org.jboss.resteasy.annotations.NonBlocking;
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.plugins.server.InlineDispatch;
+import org.jboss.resteasy.plugins.server.netty.NettyJaxrsServer;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.util.PortProvider;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Requests dispatched on the event loop, see {@link NettyJaxrsServer#setInlineDispatch(InlineDispatch)}.
+ */
+public class InlineDispatchTest
+{
+   @Path("/")
+   public static class Resource
+   {
+      @GET
+      @Path("/blocking")
+      public String blocking(@Context ChannelHandlerContext ctx)
+      {
+         return Boolean.toString(ctx.channel().eventLoop().inEventLoop());
+      }
+
+      @NonBlocking
+      @GET
+      @Path("/non-blocking/{id}")
+      public String nonBlocking(@Context ChannelHandlerContext ctx, @PathParam("id") List<String> id)
+      {
+         return ctx.channel().eventLoop().inEventLoop() + " " + id;
+      }
+
+      @GET
+      @Path("/async")
+      public CompletionStage<String> async(@Context ChannelHandlerContext ctx)
+      {
+         return CompletableFuture.completedFuture(Boolean.toString(ctx.channel().eventLoop().inEventLoop()));
+      }
+   }
+
+   private NettyJaxrsServer server;
+   private Client client;
+
+   private void start(InlineDispatch inlineDispatch)
+   {
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      server = new NettyJaxrsServer();
+      server.setDeployment(deployment);
+      server.setPort(PortProvider.getPort());
+      server.setRootResourcePath("");
+      server.setInlineDispatch(inlineDispatch);
+      server.start();
+      deployment.getRegistry().addPerRequestResource(Resource.class);
+      client = ClientBuilder.newClient();
+   }
+
+   @After
+   public void stop()
+   {
+      client.close();
+      server.stop();
+   }
+
+   private String get(String path)
+   {
+      return client.target(generateURL(path)).request().get(String.class);
+   }
+
+   @Test
+   public void testNone()
+   {
+      start(InlineDispatch.NONE);
+      Assert.assertEquals("false", get("/blocking"));
+      Assert.assertEquals("false [1]", get("/non-blocking/1"));
+      Assert.assertEquals("false", get("/async"));
+   }
+
+   @Test
+   public void testAnnotated()
+   {
+      start(InlineDispatch.ANNOTATED);
+      for (int i = 0; i < 3; i++)
+      {
+         Assert.assertEquals("false", get("/blocking"));
+         // matched once, the path parameters are not extracted twice
+         Assert.assertEquals("true [" + i + "]", get("/non-blocking/" + i));
+         Assert.assertEquals("false", get("/async"));
+      }
+      Assert.assertEquals(404, client.target(generateURL("/missing")).request().get().getStatus());
+   }
+
+   @Test
+   public void testAsync()
+   {
+      start(InlineDispatch.ASYNC);
+      Assert.assertEquals("false", get("/blocking"));
+      Assert.assertEquals("true [1]", get("/non-blocking/1"));
+      Assert.assertEquals("true", get("/async"));
+   }
+}
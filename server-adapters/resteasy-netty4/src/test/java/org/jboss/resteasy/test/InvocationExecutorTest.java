@@ -0,0 +1,121 @@
+package org.jboss.resteasy.test;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.plugins.server.netty.NettyJaxrsServer;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.util.PortProvider;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Resource methods invoked by the invocation executor of the dispatcher, see
+ * {@link SynchronousDispatcher#setInvocationExecutor(ExecutorService)}.
+ */
+public class InvocationExecutorTest
+{
+   private static final String THREAD_NAME = "invocation-executor";
+
+   @Path("/")
+   public static class Resource
+   {
+      @GET
+      @Path("/blocking")
+      public String blocking(@Context UriInfo uriInfo)
+      {
+         return Thread.currentThread().getName() + " " + uriInfo.getPath();
+      }
+
+      @POST
+      @Path("/echo")
+      public String echo(String body)
+      {
+         return Thread.currentThread().getName() + " " + body;
+      }
+
+      @GET
+      @Path("/suspended")
+      public void suspended(@Suspended AsyncResponse response)
+      {
+         response.resume(Thread.currentThread().getName());
+      }
+
+      @GET
+      @Path("/failure")
+      public String failure()
+      {
+         throw new IllegalStateException();
+      }
+   }
+
+   private static NettyJaxrsServer server;
+   private static Client client;
+   private static ExecutorService executor;
+
+   @BeforeClass
+   public static void start()
+   {
+      executor = Executors.newCachedThreadPool(r -> new Thread(r, THREAD_NAME));
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      server = new NettyJaxrsServer();
+      server.setDeployment(deployment);
+      server.setPort(PortProvider.getPort());
+      server.setRootResourcePath("");
+      server.start();
+      ((SynchronousDispatcher) deployment.getDispatcher()).setInvocationExecutor(executor);
+      deployment.getRegistry().addPerRequestResource(Resource.class);
+      client = ClientBuilder.newClient();
+   }
+
+   @AfterClass
+   public static void stop()
+   {
+      client.close();
+      server.stop();
+      executor.shutdownNow();
+   }
+
+   @Test
+   public void testBlocking()
+   {
+      Assert.assertEquals(THREAD_NAME + " /blocking", client.target(generateURL("/blocking")).request().get(String.class));
+   }
+
+   @Test
+   public void testBody()
+   {
+      String body = client.target(generateURL("/echo")).request().post(Entity.text("hello"), String.class);
+      Assert.assertEquals(THREAD_NAME + " hello", body);
+   }
+
+   @Test
+   public void testSuspended()
+   {
+      String thread = client.target(generateURL("/suspended")).request().get(String.class);
+      Assert.assertNotEquals(THREAD_NAME, thread);
+   }
+
+   @Test
+   public void testFailure()
+   {
+      Assert.assertEquals(500, client.target(generateURL("/failure")).request().get().getStatus());
+   }
+}
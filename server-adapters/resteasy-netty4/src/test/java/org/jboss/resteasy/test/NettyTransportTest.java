@@ -0,0 +1,82 @@
+package org.jboss.resteasy.test;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.util.Arrays;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.plugins.server.netty.NettyJaxrsServer;
+import org.jboss.resteasy.plugins.server.netty.NettyTransport;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.util.PortProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Servers started with each transport, falling back to the available ones, see {@link NettyJaxrsServer#setTransport(NettyTransport)}.
+ */
+public class NettyTransportTest
+{
+   private static final int SIZE = 100000;
+
+   @Path("/")
+   public static class Resource
+   {
+      @GET
+      @Path("/bytes")
+      public byte[] bytes()
+      {
+         byte[] bytes = new byte[SIZE];
+         Arrays.fill(bytes, (byte) 'x');
+         return bytes;
+      }
+   }
+
+   @Test
+   public void testResolve()
+   {
+      for (NettyTransport transport : NettyTransport.values())
+      {
+         Assert.assertNotEquals(NettyTransport.AUTO, transport.resolve());
+      }
+      Assert.assertEquals(NettyTransport.NIO, NettyTransport.NIO.resolve());
+   }
+
+   @Test
+   public void testTransports() throws Exception
+   {
+      Client client = ClientBuilder.newClient();
+      try
+      {
+         for (NettyTransport transport : NettyTransport.values())
+         {
+            ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+            NettyJaxrsServer server = new NettyJaxrsServer();
+            server.setDeployment(deployment);
+            server.setPort(PortProvider.getPort());
+            server.setRootResourcePath("");
+            server.setTransport(transport);
+            server.start();
+            try
+            {
+               deployment.getRegistry().addPerRequestResource(Resource.class);
+               byte[] bytes = client.target(generateURL("/bytes")).request().get(byte[].class);
+               Assert.assertEquals(transport.name(), SIZE, bytes.length);
+            }
+            finally
+            {
+               server.stop();
+            }
+         }
+      }
+      finally
+      {
+         client.close();
+      }
+   }
+}
@@ -0,0 +1,157 @@
+package org.jboss.resteasy.test;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.plugins.server.netty.NettyJaxrsServer;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.jboss.resteasy.util.PortProvider;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Request bodies streamed to the resources instead of aggregated, see {@link NettyJaxrsServer#setStreamingRequestBody(boolean)}.
+ */
+public class StreamingRequestBodyTest
+{
+   private static final int MAX_REQUEST_SIZE = 4 * 1024 * 1024;
+
+   @Path("/")
+   public static class Resource
+   {
+      @POST
+      @Path("/count")
+      public String count(InputStream body) throws IOException
+      {
+         byte[] buf = new byte[8192];
+         long count = 0;
+         for (int n; (n = body.read(buf)) != -1; )
+         {
+            count += n;
+         }
+         return Long.toString(count);
+      }
+
+      @POST
+      @Path("/echo")
+      public String echo(String body)
+      {
+         return body;
+      }
+
+      @GET
+      @Path("/hello")
+      public String hello()
+      {
+         return "hello";
+      }
+   }
+
+   /**
+    * Body of the given size sent without Content-Length.
+    */
+   private static class Body extends InputStream
+   {
+      private long remaining;
+
+      Body(final long size)
+      {
+         remaining = size;
+      }
+
+      @Override
+      public int read()
+      {
+         return remaining-- > 0 ? 'x' : -1;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len)
+      {
+         if (remaining <= 0)
+         {
+            return -1;
+         }
+         int n = (int) Math.min(len, remaining);
+         for (int i = 0; i < n; i++)
+         {
+            b[off + i] = 'x';
+         }
+         remaining -= n;
+         return n;
+      }
+   }
+
+   private static NettyJaxrsServer server;
+   private static Client client;
+
+   @BeforeClass
+   public static void setup() throws Exception
+   {
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      server = new NettyJaxrsServer();
+      server.setDeployment(deployment);
+      server.setPort(PortProvider.getPort());
+      server.setRootResourcePath("");
+      server.setMaxRequestSize(MAX_REQUEST_SIZE);
+      server.setStreamingRequestBody(true);
+      server.start();
+      deployment.getRegistry().addPerRequestResource(Resource.class);
+      client = ClientBuilder.newClient();
+   }
+
+   @AfterClass
+   public static void end() throws Exception
+   {
+      client.close();
+      server.stop();
+   }
+
+   @Test
+   public void testChunkedBody() throws Exception
+   {
+      long size = MAX_REQUEST_SIZE - 1024;
+      try (Response response = client.target(generateURL("/count")).request()
+            .post(Entity.entity(new Body(size), MediaType.APPLICATION_OCTET_STREAM)))
+      {
+         Assert.assertEquals(200, response.getStatus());
+         Assert.assertEquals(Long.toString(size), response.readEntity(String.class));
+      }
+   }
+
+   @Test
+   public void testSmallBodies() throws Exception
+   {
+      for (int i = 0; i < 3; i++)
+      {
+         String body = "hello " + i;
+         Assert.assertEquals(body, client.target(generateURL("/echo")).request()
+               .post(Entity.text(body), String.class));
+         Assert.assertEquals("hello", client.target(generateURL("/hello")).request().get(String.class));
+      }
+   }
+
+   @Test
+   public void testTooLarge() throws Exception
+   {
+      try (Response response = client.target(generateURL("/count")).request()
+            .post(Entity.entity(new byte[MAX_REQUEST_SIZE + 1], MediaType.APPLICATION_OCTET_STREAM)))
+      {
+         Assert.assertEquals(413, response.getStatus());
+      }
+   }
+}
@@ -0,0 +1,62 @@
+package org.jboss.resteasy.plugins.server.undertow;
+
+import io.undertow.io.BufferWritableOutputStream;
+import org.jboss.resteasy.plugins.server.servlet.HttpServlet30Dispatcher;
+import org.jboss.resteasy.plugins.server.servlet.HttpServletResponseWrapper;
+import org.jboss.resteasy.spi.HttpResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.NewCookie;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link HttpServlet30Dispatcher} of {@link UndertowJaxrsServer}, which sends the files with the
+ * {@link BufferWritableOutputStream#transferFrom(FileChannel)} of Undertow, using {@code sendfile} when the connection
+ * is not encrypted. Undertow transfers the files up to their end, so the byte ranges ending before the end of the file
+ * are written to the stream.
+ */
+public class UndertowHttpServletDispatcher extends HttpServlet30Dispatcher
+{
+   @Override
+   protected HttpResponse createServletResponse(HttpServletResponse response, HttpServletRequest request)
+   {
+      return new HttpServletResponseWrapper(response, request, getDispatcher().getProviderFactory()) {
+         @Override
+         public void addNewCookie(NewCookie cookie)
+         {
+            outputHeaders.add(HttpHeaders.SET_COOKIE, cookie);
+         }
+
+         @Override
+         protected CompletionStage<Void> transferFile(ServletOutputStream out, Path file, long position, long count) throws IOException
+         {
+            if (!(out instanceof BufferWritableOutputStream) || file.getFileSystem() != FileSystems.getDefault())
+            {
+               return null;
+            }
+            try (FileChannel channel = FileChannel.open(file))
+            {
+               if (position + count != channel.size())
+               {
+                  return null;
+               }
+               if (!response.isCommitted() && !response.containsHeader(HttpHeaders.CONTENT_LENGTH))
+               {
+                  response.setContentLengthLong(count);
+               }
+               channel.position(position);
+               ((BufferWritableOutputStream) out).transferFrom(channel);
+            }
+            return CompletableFuture.completedFuture(null);
+         }
+      };
+   }
+}
@@ -10,7 +10,6 @@ import io.undertow.servlet.api.ServletInfo;
 import org.jboss.resteasy.core.ResteasyDeploymentImpl;
 import org.jboss.resteasy.plugins.server.embedded.EmbeddedJaxrsServer;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
-import org.jboss.resteasy.plugins.server.servlet.HttpServlet30Dispatcher;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 import org.jboss.resteasy.util.EmbeddedServerHelper;
 import org.jboss.resteasy.util.PortProvider;
@@ -215,7 +214,7 @@ public class UndertowJaxrsServer implements EmbeddedJaxrsServer<UndertowJaxrsSer
       }
       mapping = mapping + "*";
 
-      ServletInfo resteasyServlet = servlet("ResteasyServlet", HttpServlet30Dispatcher.class)
+      ServletInfo resteasyServlet = servlet("ResteasyServlet", UndertowHttpServletDispatcher.class)
               .setAsyncSupported(true)
               .setLoadOnStartup(1)
               .addMapping(mapping);
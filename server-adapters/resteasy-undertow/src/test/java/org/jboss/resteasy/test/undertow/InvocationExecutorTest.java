@@ -0,0 +1,126 @@
+package org.jboss.resteasy.test.undertow;
+
+import static org.jboss.resteasy.test.TestPortProvider.generateURL;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.core.ResteasyDeploymentImpl;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.plugins.server.undertow.UndertowJaxrsServer;
+import org.jboss.resteasy.spi.ResteasyDeployment;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Responses of resource methods invoked by the invocation executor of the dispatcher, see
+ * {@link SynchronousDispatcher#setInvocationExecutor(ExecutorService)}, are written asynchronously by the servlet
+ * container and must be complete.
+ */
+public class InvocationExecutorTest
+{
+   private static final String THREAD_NAME = "invocation-executor";
+
+   private static final String LARGE = large();
+
+   private static String large()
+   {
+      char[] chars = new char[4 * 1024 * 1024];
+      Arrays.fill(chars, 'x');
+      return new String(chars);
+   }
+
+   @Path("/")
+   public static class Resource
+   {
+      @GET
+      @Path("/thread")
+      @Produces("text/plain")
+      public String thread()
+      {
+         return Thread.currentThread().getName();
+      }
+
+      @GET
+      @Path("/large")
+      @Produces("text/plain")
+      public String large()
+      {
+         return LARGE;
+      }
+   }
+
+   public static class AbortFilter implements ContainerRequestFilter
+   {
+      @Override
+      public void filter(ContainerRequestContext requestContext)
+      {
+         if (requestContext.getHeaderString("abort") != null)
+         {
+            requestContext.abortWith(Response.ok(LARGE, "text/plain").build());
+         }
+      }
+   }
+
+   private static UndertowJaxrsServer server;
+   private static Client client;
+   private static ExecutorService executor;
+
+   @BeforeClass
+   public static void start()
+   {
+      executor = Executors.newCachedThreadPool(r -> new Thread(r, THREAD_NAME));
+      ResteasyDeployment deployment = new ResteasyDeploymentImpl();
+      deployment.getActualResourceClasses().add(Resource.class);
+      deployment.getActualProviderClasses().add(AbortFilter.class);
+      server = new UndertowJaxrsServer().start();
+      server.deploy(deployment);
+      ((SynchronousDispatcher) deployment.getDispatcher()).setInvocationExecutor(executor);
+      client = ClientBuilder.newClient();
+   }
+
+   @AfterClass
+   public static void stop()
+   {
+      client.close();
+      server.stop();
+      executor.shutdownNow();
+   }
+
+   @Test
+   public void testInvokedByExecutor()
+   {
+      Assert.assertEquals(THREAD_NAME, client.target(generateURL("/thread")).request().get(String.class));
+   }
+
+   @Test
+   public void testLargeResponse()
+   {
+      for (int i = 0; i < 5; i++)
+      {
+         Assert.assertEquals(LARGE.length(), client.target(generateURL("/large")).request().get(String.class).length());
+      }
+   }
+
+   @Test
+   public void testLargeAbortedResponse()
+   {
+      for (int i = 0; i < 5; i++)
+      {
+         String body = client.target(generateURL("/large")).request().header("abort", "true").get(String.class);
+         Assert.assertEquals(LARGE.length(), body.length());
+      }
+   }
+}
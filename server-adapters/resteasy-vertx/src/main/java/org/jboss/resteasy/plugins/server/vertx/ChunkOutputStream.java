@@ -1,6 +1,8 @@
 package org.jboss.resteasy.plugins.server.vertx;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -9,6 +11,7 @@ import java.util.concurrent.CompletionStage;
 import io.vertx.core.Promise;
 import org.jboss.resteasy.plugins.server.vertx.i18n.Messages;
 import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.spi.FileTransfer;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -31,10 +34,11 @@ import io.vertx.core.buffer.Buffer;
  * ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT).addListener(ChannelFutureListener.CLOSE);
  * }
  * </pre>
+ * A file sent as the whole response body is sent with {@link io.vertx.core.http.HttpServerResponse#sendFile}.
  *
  * @author tbussier
  */
-public class ChunkOutputStream extends AsyncOutputStream
+public class ChunkOutputStream extends AsyncOutputStream implements FileTransfer
 {
    private Buffer buffer;
    private final VertxHttpResponse response;
@@ -136,6 +140,17 @@ public class ChunkOutputStream extends AsyncOutputStream
       super.flush();
    }
 
+   @Override
+   public CompletionStage<Void> transferFile(Path file, long position, long count) throws IOException
+   {
+      if (response.isCommitted() || buffer.length() > 0 || file.getFileSystem() != FileSystems.getDefault())
+      {
+         return null;
+      }
+      response.checkException();
+      return response.sendFile(file.toString(), position, count);
+   }
+
    @Override
    public CompletionStage<Void> asyncFlush()
    {
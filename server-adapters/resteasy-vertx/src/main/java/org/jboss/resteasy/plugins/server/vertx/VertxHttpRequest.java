@@ -228,6 +228,7 @@ public class VertxHttpRequest extends BaseHttpRequest
          {
             throw new IllegalStateException(Messages.MESSAGES.alreadySuspended());
          }
+         loadHeaders();
          wasSuspended = true;
          return asyncResponse;
       }
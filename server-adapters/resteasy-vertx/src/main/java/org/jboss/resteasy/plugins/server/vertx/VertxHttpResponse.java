@@ -16,6 +16,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public class VertxHttpResponse implements HttpResponse
 {
@@ -171,6 +173,26 @@ public class VertxHttpResponse implements HttpResponse
       });
    }
 
+   /**
+    * Ends the response with a region of a file, which Vert.x sends with {@code sendfile} unless the connection is
+    * encrypted or compressed.
+    */
+   CompletionStage<Void> sendFile(String filename, long offset, long length)
+   {
+      committed = true;
+      ended = true;
+      response.setStatusCode(getStatus());
+      transformHeaders(this, response, providerFactory);
+      CompletableFuture<Void> ret = new CompletableFuture<>();
+      response.sendFile(filename, offset, length, res -> {
+         if(res.succeeded())
+            ret.complete(null);
+         else
+            ret.completeExceptionally(res.cause());
+      });
+      return ret;
+   }
+
    public void finish() throws IOException
    {
       if (ended) return;
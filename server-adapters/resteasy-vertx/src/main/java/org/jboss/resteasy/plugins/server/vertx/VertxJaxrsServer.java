@@ -10,6 +10,7 @@ import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
+import org.jboss.resteasy.plugins.server.InlineDispatch;
 import org.jboss.resteasy.plugins.server.embedded.EmbeddedJaxrsServer;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
 import org.jboss.resteasy.spi.ResteasyDeployment;
@@ -44,6 +45,7 @@ public class VertxJaxrsServer implements EmbeddedJaxrsServer<VertxJaxrsServer>
    protected String root = "";
    protected SecurityDomain domain;
    private String deploymentID;
+   private InlineDispatch inlineDispatch = InlineDispatch.ALL;
    private EmbeddedServerHelper serverHelper = new EmbeddedServerHelper();
    // default no idle timeout.
 
@@ -77,7 +79,7 @@ public class VertxJaxrsServer implements EmbeddedJaxrsServer<VertxJaxrsServer>
       vertx = Vertx.vertx(vertxOptions);
       //deployment.start();
       String key = UUID.randomUUID().toString();
-      deploymentMap.put(key, new Helper(root, serverOptions, deployment, domain));
+      deploymentMap.put(key, new Helper(root, serverOptions, deployment, domain, inlineDispatch));
       // Configure the server.
       CompletableFuture<String> fut = new CompletableFuture<>();
       DeploymentOptions deploymentOptions = new DeploymentOptions()
@@ -226,6 +228,23 @@ public class VertxJaxrsServer implements EmbeddedJaxrsServer<VertxJaxrsServer>
       return serverOptions;
    }
 
+   /**
+    * Set which requests are dispatched on the event loop which received them, the other ones being dispatched on a
+    * worker thread: all of them by default. See {@link VertxRequestHandler#setInlineDispatch(InlineDispatch)}.
+    *
+    * @param inlineDispatch the requests dispatched on the event loop
+    */
+   public VertxJaxrsServer setInlineDispatch(InlineDispatch inlineDispatch)
+   {
+      this.inlineDispatch = inlineDispatch;
+      return this;
+   }
+
+   public InlineDispatch getInlineDispatch()
+   {
+      return inlineDispatch;
+   }
+
 
 
    private static class Helper
@@ -234,18 +253,21 @@ public class VertxJaxrsServer implements EmbeddedJaxrsServer<VertxJaxrsServer>
       final HttpServerOptions serverOptions;
       final ResteasyDeployment deployment;
       final SecurityDomain domain;
+      final InlineDispatch inlineDispatch;
 
-      Helper(final String root, final HttpServerOptions serverOptions, final ResteasyDeployment deployment, final SecurityDomain domain)
+      Helper(final String root, final HttpServerOptions serverOptions, final ResteasyDeployment deployment, final SecurityDomain domain,
+             final InlineDispatch inlineDispatch)
       {
          this.root = root;
          this.serverOptions = serverOptions;
          this.deployment = deployment;
          this.domain = domain;
+         this.inlineDispatch = inlineDispatch;
       }
 
       public Handler<HttpServerRequest> createHandler(Vertx vertx)
       {
-         return new VertxRequestHandler(vertx, deployment, root, domain);
+         return new VertxRequestHandler(vertx, deployment, root, domain).setInlineDispatch(inlineDispatch);
       }
    }
 
@@ -259,7 +281,7 @@ public class VertxJaxrsServer implements EmbeddedJaxrsServer<VertxJaxrsServer>
       {
          Helper helper = deploymentMap.get(config().getString("helper"));
          server = vertx.createHttpServer(helper.serverOptions);
-         server.requestHandler(new VertxRequestHandler(vertx, helper.deployment, helper.root, helper.domain));
+         server.requestHandler(helper.createHandler(vertx));
          server.listen(ar -> {
             if (ar.succeeded())
             {
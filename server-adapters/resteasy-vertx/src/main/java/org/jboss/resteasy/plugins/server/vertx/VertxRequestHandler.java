@@ -7,6 +7,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.plugins.server.InlineDispatch;
 import org.jboss.resteasy.plugins.server.embedded.SecurityDomain;
 import org.jboss.resteasy.plugins.server.vertx.i18n.LogMessages;
 import org.jboss.resteasy.plugins.server.vertx.i18n.Messages;
@@ -25,6 +26,7 @@ public class VertxRequestHandler implements Handler<HttpServerRequest>
    private final Vertx vertx;
    protected final RequestDispatcher dispatcher;
    private final String servletMappingPrefix;
+   private InlineDispatch inlineDispatch = InlineDispatch.ALL;
 
    public VertxRequestHandler(final Vertx vertx, final RequestDispatcher dispatcher, final String servletMappingPrefix)
    {
@@ -48,6 +50,25 @@ public class VertxRequestHandler implements Handler<HttpServerRequest>
       this(vertx, deployment, "");
    }
 
+   /**
+    * Set which requests are dispatched on the event loop which received them: all of them by default, the other
+    * ones being dispatched on a worker thread. The blocked thread checker of Vert.x warns when a request blocks the
+    * event loop for too long, see {@link io.vertx.core.VertxOptions#setMaxEventLoopExecuteTime(long)}.
+    *
+    * @param inlineDispatch the requests dispatched on the event loop
+    * @return this handler
+    */
+   public VertxRequestHandler setInlineDispatch(InlineDispatch inlineDispatch)
+   {
+      this.inlineDispatch = inlineDispatch;
+      return this;
+   }
+
+   public InlineDispatch getInlineDispatch()
+   {
+      return inlineDispatch;
+   }
+
    @Override
    public void handle(HttpServerRequest request)
    {
@@ -63,28 +84,44 @@ public class VertxRequestHandler implements Handler<HttpServerRequest>
             vertxRequest.setInputStream(in);
          }
 
-         try
-         {
-            dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true);
-         } catch (Failure e1)
+         if (inlineDispatch.isInline(dispatcher.getDispatcher(), vertxRequest))
          {
-            vertxResponse.setStatus(e1.getErrorCode());
-         } catch (Exception ex)
+            dispatch(ctx, request, response, vertxRequest, vertxResponse);
+         }
+         else
          {
-            vertxResponse.setStatus(500);
-            LogMessages.LOGGER.error(Messages.MESSAGES.unexpected(), ex);
+            ctx.executeBlocking(promise -> {
+               dispatch(ctx, request, response, vertxRequest, vertxResponse);
+               promise.complete();
+            }, false);
          }
+      });
+   }
+
+   private void dispatch(Context ctx, HttpServerRequest request, HttpServerResponse response,
+                         VertxHttpRequest vertxRequest, VertxHttpResponse vertxResponse)
+   {
+      try
+      {
+         dispatcher.service(ctx, request, response, vertxRequest, vertxResponse, true);
+      } catch (Failure e1)
+      {
+         vertxResponse.setStatus(e1.getErrorCode());
+      } catch (Exception ex)
+      {
+         vertxResponse.setStatus(500);
+         LogMessages.LOGGER.error(Messages.MESSAGES.unexpected(), ex);
+      }
 
-         if (!vertxRequest.getAsyncContext().isSuspended())
+      if (!vertxRequest.getAsyncContext().isSuspended())
+      {
+         try
          {
-            try
-            {
-               vertxResponse.finish();
-            } catch (IOException e)
-            {
-               LogMessages.LOGGER.error(Messages.MESSAGES.unexpected(), e);
-            }
+            vertxResponse.finish();
+         } catch (IOException e)
+         {
+            LogMessages.LOGGER.error(Messages.MESSAGES.unexpected(), e);
          }
-      });
+      }
    }
 }
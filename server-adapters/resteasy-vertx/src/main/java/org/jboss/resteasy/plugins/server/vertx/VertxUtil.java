@@ -2,6 +2,7 @@ package org.jboss.resteasy.plugins.server.vertx;
 
 import io.vertx.core.http.HttpServerRequest;
 import org.jboss.resteasy.core.Headers;
+import org.jboss.resteasy.core.LazyHeaders;
 import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
 import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.util.CookieParser;
@@ -50,11 +51,10 @@ public class VertxUtil
    public static ResteasyHttpHeaders extractHttpHeaders(HttpServerRequest request)
    {
 
-      MultivaluedMap<String, String> requestHeaders = extractRequestHeaders(request);
-      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders);
+      // the cookies are parsed from the Cookie header when they are first accessed
+      MultivaluedMap<String, String> requestHeaders = new LazyHeaders(request.headers()::names, request.headers()::getAll);
+      ResteasyHttpHeaders headers = new ResteasyHttpHeaders(requestHeaders, false);
 
-      Map<String, Cookie> cookies = extractCookies(requestHeaders);
-      headers.setCookies(cookies);
       // test parsing should throw an exception on error
       headers.testParsing();
       return headers;
@@ -18,6 +18,8 @@ import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Context;
 
+import org.jboss.resteasy.annotations.NonBlocking;
+import org.jboss.resteasy.plugins.server.InlineDispatch;
 import org.jboss.resteasy.plugins.server.vertx.VertxContainer;
 import org.jboss.resteasy.plugins.server.vertx.VertxRequestHandler;
 import org.jboss.resteasy.plugins.server.vertx.VertxResteasyDeployment;
@@ -50,6 +52,15 @@ public class DeploymentTest
             return "fail";
          }
       }
+
+      @NonBlocking
+      @GET
+      @Path("/non-blocking")
+      @Produces("text/plain")
+      public String nonBlocking()
+      {
+         return Thread.currentThread().getName();
+      }
    }
 
    @Test
@@ -123,4 +134,43 @@ public class DeploymentTest
          deployment.stop();
       }
    }
+
+   @Test
+   public void testInlineDispatch() throws Exception
+   {
+      VertxResteasyDeployment deployment = new VertxResteasyDeployment();
+      deployment.start();
+      deployment.getRegistry().addPerInstanceResource(Resource.class);
+      Vertx vertx = Vertx.vertx();
+      Client client = ClientBuilder.newClient();
+      HttpServer server = null;
+      try
+      {
+         server = vertx.createHttpServer();
+         server.requestHandler(new VertxRequestHandler(vertx, deployment).setInlineDispatch(InlineDispatch.ANNOTATED));
+         CompletableFuture<Void> listenLatch = new CompletableFuture<>();
+         server.listen(TestPortProvider.getPort(), ar -> {
+            if (ar.succeeded())
+            {
+               listenLatch.complete(null);
+            } else
+            {
+               listenLatch.completeExceptionally(ar.cause());
+            }
+         });
+         listenLatch.get(10, TimeUnit.SECONDS);
+         String val = client.target(generateURL("/test")).request().get(String.class);
+         Assert.assertTrue(val, val.startsWith("vert.x-worker-thread-"));
+         val = client.target(generateURL("/non-blocking")).request().get(String.class);
+         Assert.assertTrue(val, val.startsWith("vert.x-eventloop-thread-"));
+      } finally
+      {
+         client.close();
+         if (server != null) {
+            server.close();
+         }
+         vertx.close();
+         deployment.stop();
+      }
+   }
 }